@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.changetracking;
+
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.FieldSnapshotChangeDetectionPolicy;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.changesets.DirectToFieldChangeRecord;
+import org.eclipse.persistence.sessions.changesets.ObjectChangeSet;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the change detection of objects against the snapshot of their attributes.
+ */
+public class FieldSnapshotChangeDetectionTest extends EmulatedSessionBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project project) {
+        project.getDescriptor(Address.class).setObjectChangePolicy(new FieldSnapshotChangeDetectionPolicy());
+        project.addDescriptor(Item.descriptor());
+        return project.createDatabaseSession();
+    }
+
+    @Test
+    public void noBackupCloneTest() {
+        UnitOfWorkImpl uow = (UnitOfWorkImpl) this.session.acquireUnitOfWork();
+        List<?> addresses = uow.readAllObjects(Address.class);
+        Assert.assertFalse(addresses.isEmpty());
+        for (Object address : addresses) {
+            Assert.assertSame(address, uow.getBackupClone(address));
+            Assert.assertNotNull(uow.getCloneSnapshot(address));
+        }
+        Assert.assertFalse(uow.getCurrentChanges().hasChanges());
+        uow.release();
+    }
+
+    @Test
+    public void changeDetectionTest() {
+        UnitOfWorkImpl uow = (UnitOfWorkImpl) this.session.acquireUnitOfWork();
+        List<?> addresses = uow.readAllObjects(Address.class);
+        Address address = (Address) addresses.get(0);
+        String city = address.city;
+        address.city = "Ottawa";
+        // Replaced by an equal value.
+        address.country = new String(address.country);
+        ObjectChangeSet changes = uow.getCurrentChanges().getObjectChangeSetForClone(address);
+        Assert.assertNotNull(changes);
+        Assert.assertEquals(1, changes.getChanges().size());
+        DirectToFieldChangeRecord record = (DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("city");
+        Assert.assertEquals("Ottawa", record.getNewValue());
+        Assert.assertEquals(city, record.getOldValue());
+        Assert.assertFalse(uow.getCurrentChanges().getObjectChangeSetForClone(addresses.get(1)).hasChanges());
+        uow.release();
+    }
+
+    @Test
+    public void primitiveChangeDetectionTest() {
+        UnitOfWorkImpl uow = (UnitOfWorkImpl) this.session.acquireUnitOfWork();
+        Item item = new Item();
+        item.id = 1;
+        item.quantity = 2;
+        item.price = 1.5;
+        item.active = true;
+        item.name = "item";
+        Item clone = (Item) uow.registerExistingObject(item);
+        Assert.assertSame(clone, uow.getBackupClone(clone));
+        Assert.assertFalse(uow.getCurrentChanges().hasChanges());
+
+        clone.price = 2.5;
+        clone.active = false;
+        ObjectChangeSet changes = uow.getCurrentChanges().getObjectChangeSetForClone(clone);
+        Assert.assertEquals(2, changes.getChanges().size());
+        DirectToFieldChangeRecord price = (DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("price");
+        Assert.assertEquals(2.5, price.getNewValue());
+        Assert.assertEquals(1.5, price.getOldValue());
+        DirectToFieldChangeRecord active = (DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("active");
+        Assert.assertEquals(Boolean.FALSE, active.getNewValue());
+        Assert.assertEquals(Boolean.TRUE, active.getOldValue());
+        uow.release();
+    }
+
+    /**
+     * Object with primitive attributes.
+     */
+    public static final class Item {
+        public long id;
+        public int quantity;
+        public double price;
+        public boolean active;
+        public String name;
+
+        static RelationalDescriptor descriptor() {
+            RelationalDescriptor descriptor = new RelationalDescriptor();
+            descriptor.setJavaClass(Item.class);
+            descriptor.addTableName("ITEM");
+            descriptor.addPrimaryKeyFieldName("ITEM.ID");
+            descriptor.setObjectChangePolicy(new FieldSnapshotChangeDetectionPolicy());
+            descriptor.addDirectMapping("id", "ITEM.ID");
+            descriptor.addDirectMapping("quantity", "ITEM.QUANTITY");
+            descriptor.addDirectMapping("price", "ITEM.PRICE");
+            descriptor.addDirectMapping("active", "ITEM.ACTIVE");
+            descriptor.addDirectMapping("name", "ITEM.NAME");
+            return descriptor;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.CollectionChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.mappings.ManyToManyMapping;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.BinaryChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the binary serialization of cache coordination change sets.
+ */
+public class BinaryChangeSetSerializerTest extends EmulatedSessionBase<DatabaseSession> {
+
+    public static class Resident {
+        public long id;
+        public List<Address> addresses = new ArrayList<>();
+    }
+
+    @Override
+    protected DatabaseSession createSession(Project project) {
+        project.getDescriptor(Address.class).setCacheSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Resident.class);
+        descriptor.setTableName("RESIDENT");
+        descriptor.addPrimaryKeyFieldName("RESIDENT.ID");
+        descriptor.addDirectMapping("id", "RESIDENT.ID");
+        ManyToManyMapping addresses = new ManyToManyMapping();
+        addresses.setAttributeName("addresses");
+        addresses.setReferenceClass(Address.class);
+        addresses.dontUseIndirection();
+        addresses.setRelationTableName("RESIDENT_ADDRESS");
+        addresses.addSourceRelationKeyFieldName("RESIDENT_ADDRESS.RESIDENT_ID", "RESIDENT.ID");
+        addresses.addTargetRelationKeyFieldName("RESIDENT_ADDRESS.ADDRESS_ID", "ADDRESS.ID");
+        descriptor.addMapping(addresses);
+        descriptor.setCacheSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+        project.addDescriptor(descriptor);
+        return project.createDatabaseSession();
+    }
+
+    @Test
+    public void changeSetTest() {
+        List<?> addresses = this.session.readAllObjects(Address.class);
+        Address address = (Address) addresses.get(0);
+        MergeChangeSetCommand command = buildCommand(addresses, "Ottawa");
+        BinaryChangeSetSerializer serializer = new BinaryChangeSetSerializer();
+        byte[] bytes = (byte[]) serializer.serialize(command, this.session);
+        byte[] javaBytes = (byte[]) JavaSerializer.instance.serialize(command, this.session);
+        Assert.assertEquals(1, bytes[0]);
+        Assert.assertTrue(bytes.length * 5 < javaBytes.length);
+
+        MergeChangeSetCommand received = (MergeChangeSetCommand) serializer.deserialize(bytes, this.session);
+        Assert.assertEquals("node1", received.getServiceId().getId());
+        UnitOfWorkChangeSet changeSet = received.getChangeSet(null);
+        Assert.assertEquals(addresses.size(), changeSet.getAllChangeSets().size());
+        ObjectChangeSet objectChangeSet = null;
+        for (ObjectChangeSet next : changeSet.getAllChangeSets().keySet()) {
+            if (next.getId().equals(address.id)) {
+                objectChangeSet = next;
+            }
+        }
+        Assert.assertNotNull(objectChangeSet);
+        DirectToFieldChangeRecord record = (DirectToFieldChangeRecord) objectChangeSet.getChangesForAttributeNamed("city");
+        Assert.assertEquals("Ottawa", record.getNewValue());
+
+        // The received changes are merged into the cache.
+        received.executeWithSession((AbstractSession) this.session);
+        Assert.assertEquals("Ottawa", address.city);
+    }
+
+    @Test
+    public void collectionChangeSetTest() {
+        List<?> addresses = this.session.readAllObjects(Address.class);
+        Resident resident = new Resident();
+        resident.id = 1;
+        resident.addresses.add((Address) addresses.get(0));
+        this.session.getIdentityMapAccessor().putInIdentityMap(resident);
+        UnitOfWork uow = this.session.acquireUnitOfWork();
+        Resident clone = (Resident) uow.registerObject(resident);
+        clone.addresses.remove(0);
+        clone.addresses.add((Address) uow.registerObject(addresses.get(1)));
+        clone.addresses.add((Address) uow.registerObject(addresses.get(2)));
+        MergeChangeSetCommand command = buildCommand(uow);
+        // The unchanged addresses are only written as the targets of the collection record,
+        // so they follow the resident in the change set table.
+        command.getChangeSet(null).getAllChangeSets().keySet().removeIf(next -> next.getClassType() != Resident.class);
+        BinaryChangeSetSerializer serializer = new BinaryChangeSetSerializer();
+        byte[] bytes = (byte[]) serializer.serialize(command, this.session);
+        Assert.assertEquals(1, bytes[0]);
+
+        MergeChangeSetCommand received = (MergeChangeSetCommand) serializer.deserialize(bytes, this.session);
+        ObjectChangeSet objectChangeSet = null;
+        for (ObjectChangeSet next : received.getChangeSet(null).getAllChangeSets().keySet()) {
+            if (next.getClassType() == Resident.class) {
+                objectChangeSet = next;
+            }
+        }
+        Assert.assertNotNull(objectChangeSet);
+        CollectionChangeRecord record = (CollectionChangeRecord) objectChangeSet.getChangesForAttributeNamed("addresses");
+        Assert.assertEquals(2, record.getAddObjectList().size());
+        for (ObjectChangeSet added : new ArrayList<>(record.getAddObjectList().keySet())) {
+            Assert.assertTrue(record.getAddObjectList().containsKey(added));
+        }
+        Assert.assertEquals(1, record.getRemoveObjectList().size());
+        ObjectChangeSet removed = record.getRemoveObjectList().keySet().iterator().next();
+        Assert.assertEquals(((Address) addresses.get(0)).id, removed.getId());
+        Assert.assertTrue(record.getRemoveObjectList().containsKey(removed));
+
+        // The received changes are merged into the cached collection.
+        received.executeWithSession((AbstractSession) this.session);
+        Assert.assertEquals(Set.of(addresses.get(1), addresses.get(2)), new HashSet<>(resident.addresses));
+    }
+
+    @Test
+    public void compressionTest() {
+        List<?> addresses = this.session.readAllObjects(Address.class);
+        String city = "Ottawa".repeat(100);
+        BinaryChangeSetSerializer serializer = new BinaryChangeSetSerializer();
+        byte[] bytes = (byte[]) serializer.serialize(buildCommand(addresses, city), this.session);
+        serializer.setShouldCompress(false);
+        byte[] uncompressedBytes = (byte[]) serializer.serialize(buildCommand(addresses, city), this.session);
+        Assert.assertEquals(3, bytes[0]);
+        Assert.assertEquals(1, uncompressedBytes[0]);
+        Assert.assertTrue(bytes.length < uncompressedBytes.length);
+
+        MergeChangeSetCommand received = (MergeChangeSetCommand) serializer.deserialize(bytes, this.session);
+        received.executeWithSession((AbstractSession) this.session);
+        for (Object address : addresses) {
+            Assert.assertEquals(city, ((Address) address).city);
+        }
+    }
+
+    @Test
+    public void javaSerializationTest() {
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setServiceId(new ServiceId("channel", "node1", "url"));
+        BinaryChangeSetSerializer serializer = new BinaryChangeSetSerializer();
+        byte[] bytes = (byte[]) serializer.serialize(command, this.session);
+        Assert.assertEquals(0, bytes[0]);
+        MergeChangeSetCommand received = (MergeChangeSetCommand) serializer.deserialize(bytes, this.session);
+        Assert.assertEquals("node1", received.getServiceId().getId());
+        Assert.assertNull(received.getChangeSet(null));
+    }
+
+    private MergeChangeSetCommand buildCommand(List<?> addresses, String city) {
+        UnitOfWork uow = this.session.acquireUnitOfWork();
+        for (Object address : addresses) {
+            ((Address) uow.registerObject(address)).city = city;
+        }
+        return buildCommand(uow);
+    }
+
+    private MergeChangeSetCommand buildCommand(UnitOfWork uow) {
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) uow.getCurrentChanges();
+        uow.release();
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            objectChangeSet.setSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+        }
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet.buildCacheCoordinationMergeChangeSet((AbstractSession) this.session));
+        command.setServiceId(new ServiceId("channel", "node1", "url"));
+        return command;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatch;
+import org.eclipse.persistence.internal.sessions.coordination.CommandCoalescer;
+import org.eclipse.persistence.internal.sessions.coordination.MetadataRefreshCommand;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the coalescing of cache coordination commands into batches.
+ */
+public class CommandCoalescingTest extends EmulatedSessionBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project project) {
+        project.getDescriptor(Address.class).setCacheSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+        return project.createDatabaseSession();
+    }
+
+    @Test
+    public void coalesceChangesTest() {
+        List<?> addresses = this.session.readAllObjects(Address.class);
+        Address address = (Address) addresses.get(0);
+        RemoteCommandManager rcm = createCommandManager();
+        RecordingConnection connection = addConnection(rcm);
+        CommandCoalescer coalescer = new CommandCoalescer(rcm, 60000, 100, 1000);
+        coalescer.submit(buildCommand(addresses, "city", "Ottawa"));
+        coalescer.submit(buildCommand(addresses.subList(0, 1), "country", "Peru"));
+        coalescer.submit(buildCommand(addresses.subList(0, 1), "city", "Kanata"));
+        coalescer.flush();
+
+        // The changes to the same object are combined into a single message.
+        Assert.assertEquals(1, connection.messages.size());
+        Assert.assertEquals(1, coalescer.getSentMessages());
+        Assert.assertEquals(3, coalescer.getSubmittedCommands());
+        Assert.assertEquals(2, coalescer.getCoalescedChangeSets());
+        Command command = connection.receive(this.session);
+        Assert.assertTrue(command instanceof MergeChangeSetCommand);
+        UnitOfWorkChangeSet changeSet = ((MergeChangeSetCommand) command).getChangeSet(null);
+        Assert.assertEquals(addresses.size(), changeSet.getAllChangeSets().size());
+
+        rcm.processCommandFromRemoteConnection(connection.messages.get(0));
+        Assert.assertEquals("Kanata", address.city);
+        Assert.assertEquals("Peru", address.country);
+        for (Object next : addresses.subList(1, addresses.size())) {
+            Assert.assertEquals("Ottawa", ((Address) next).city);
+        }
+    }
+
+    @Test
+    public void batchTest() {
+        List<?> addresses = this.session.readAllObjects(Address.class);
+        RemoteCommandManager rcm = createCommandManager();
+        RecordingConnection connection = addConnection(rcm);
+        CommandCoalescer coalescer = new CommandCoalescer(rcm, 60000, 3, 1000);
+        coalescer.submit(buildCommand(addresses, "city", "Ottawa"));
+        coalescer.submit(new MetadataRefreshCommand(Collections.emptyMap()));
+        coalescer.submit(buildCommand(addresses, "city", "Kanata"));
+        // The batch is full, so sent without waiting for the delay.
+        coalescer.flush();
+
+        Assert.assertEquals(1, connection.messages.size());
+        Command command = connection.receive(this.session);
+        Assert.assertTrue(command instanceof CommandBatch);
+        Assert.assertEquals(3, ((CommandBatch) command).getCommands().size());
+        rcm.processCommandFromRemoteConnection(connection.messages.get(0));
+        for (Object next : addresses) {
+            Assert.assertEquals("Kanata", ((Address) next).city);
+        }
+    }
+
+    @Test
+    public void backpressureTest() throws Exception {
+        List<?> addresses = this.session.readAllObjects(Address.class);
+        RemoteCommandManager rcm = createCommandManager();
+        RecordingConnection connection = addConnection(rcm);
+        CommandCoalescer coalescer = new CommandCoalescer(rcm, 0, 1, 1);
+        List<Runnable> workers = new ArrayList<>();
+        coalescer.setExecutor(runnable -> {
+            // The first worker is held, the following ones run.
+            if (workers.isEmpty()) {
+                workers.add(runnable);
+            } else {
+                new Thread(runnable).start();
+            }
+        });
+        coalescer.submit(buildCommand(addresses, "city", "Ottawa"));
+        Assert.assertEquals(1, workers.size());
+
+        // The queue is full, so the next command waits for the worker.
+        MergeChangeSetCommand command = buildCommand(addresses, "city", "Kanata");
+        Thread thread = new Thread(() -> coalescer.submit(command));
+        thread.start();
+        while (coalescer.getBackpressureWaits() == 0) {
+            Thread.sleep(1);
+        }
+        Assert.assertEquals(1, coalescer.getPendingCommands());
+        Thread worker = new Thread(workers.get(0));
+        worker.start();
+        thread.join(10000);
+        worker.join(10000);
+        Assert.assertFalse(thread.isAlive());
+        // The second command may be sent by a new worker, if the first one was done.
+        coalescer.flush();
+        Assert.assertEquals(2, connection.messages.size());
+        Assert.assertEquals(0, coalescer.getPendingCommands());
+        Assert.assertEquals(1, coalescer.getPeakPendingCommands());
+    }
+
+    private RemoteCommandManager createCommandManager() {
+        AbstractSession session = (AbstractSession) this.session;
+        RemoteCommandManager rcm = new RemoteCommandManager(session);
+        // The commands are sent by the test, not on commit.
+        session.setCommandManager(null);
+        return rcm;
+    }
+
+    private RecordingConnection addConnection(RemoteCommandManager rcm) {
+        RecordingConnection connection = new RecordingConnection();
+        connection.setServiceId(new ServiceId("channel", "node2", "url"));
+        rcm.getTransportManager().getConnectionsToExternalServices().put("node2", connection);
+        return connection;
+    }
+
+    private MergeChangeSetCommand buildCommand(List<?> addresses, String attribute, String value) {
+        UnitOfWork uow = this.session.acquireUnitOfWork();
+        for (Object address : addresses) {
+            Address clone = (Address) uow.registerObject(address);
+            if (attribute.equals("city")) {
+                clone.city = value;
+            } else {
+                clone.country = value;
+            }
+        }
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) uow.getCurrentChanges();
+        uow.release();
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            objectChangeSet.setSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+        }
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet.buildCacheCoordinationMergeChangeSet((AbstractSession) this.session));
+        command.setServiceId(new ServiceId("channel", "node1", "url"));
+        return command;
+    }
+
+    /**
+     * Connection recording the messages sent.
+     */
+    static class RecordingConnection extends RemoteConnection {
+        final List<byte[]> messages = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Object executeCommand(Command command) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object executeCommand(byte[] command) {
+            this.messages.add(command);
+            return null;
+        }
+
+        Command receive(DatabaseSession session) {
+            return (Command) JavaSerializer.instance.deserialize(this.messages.get(0), (AbstractSession) session);
+        }
+    }
+}
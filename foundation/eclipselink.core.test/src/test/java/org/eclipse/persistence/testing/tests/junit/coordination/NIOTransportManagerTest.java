@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.nio.NIOTransportManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the NIO cache coordination transport between services on the local host.
+ */
+public class NIOTransportManagerTest {
+
+    static final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+    /** Released to let the blocking commands complete. */
+    static volatile CountDownLatch released = new CountDownLatch(0);
+
+    private final List<RemoteCommandManager> managers = new ArrayList<>();
+
+    @After
+    public void shutdown() {
+        for (RemoteCommandManager rcm : this.managers) {
+            rcm.shutdown();
+        }
+        received.clear();
+    }
+
+    @Test
+    public void discoveryTest() throws Exception {
+        RemoteCommandManager rcm1 = createCommandManager("node1", "tcp://localhost:0");
+        RemoteCommandManager rcm2 = createCommandManager("node2", "tcp://localhost:0");
+        rcm1.getTransportManager().createLocalConnection();
+        rcm2.getTransportManager().createLocalConnection();
+        Assert.assertNotEquals("tcp://localhost:0", rcm1.getUrl());
+
+        // As done by the discovery manager on receiving the announcement of node2.
+        rcm1.newServiceDiscovered(rcm2.getServiceId());
+        waitForConnection(rcm2, "node1");
+        RemoteConnection connection = rcm2.getTransportManager().getConnectionsToExternalServices().get("node1");
+        rcm2.newServiceDiscovered(rcm1.getServiceId());
+        // The connection back from node2 is reused.
+        Assert.assertSame(connection, rcm2.getTransportManager().getConnectionsToExternalServices().get("node1"));
+        Assert.assertEquals(1, rcm1.getTransportManager().getConnectionsToExternalServices().size());
+
+        rcm1.propagateCommand(new RecordingCommand("a"));
+        rcm2.propagateCommand(new RecordingCommand("b"));
+        List<String> values = new ArrayList<>(List.of(receive(), receive()));
+        values.sort(null);
+        Assert.assertEquals(List.of("node1:b", "node2:a"), values);
+    }
+
+    @Test
+    public void peersTest() throws Exception {
+        String url1 = "tcp://localhost:" + freePort();
+        String url2 = "tcp://localhost:" + freePort();
+        RemoteCommandManager rcm1 = createCommandManager("node1", url1);
+        ((NIOTransportManager)rcm1.getTransportManager()).setConfig(url1 + ", " + url2);
+        Assert.assertNull(rcm1.getDiscoveryManager());
+        // node2 is not started, so is not connected to.
+        rcm1.initialize();
+        Assert.assertTrue(rcm1.getTransportManager().getConnectionsToExternalServices().isEmpty());
+
+        RemoteCommandManager rcm2 = createCommandManager("node2", url2);
+        ((NIOTransportManager)rcm2.getTransportManager()).setConfig(url1 + "," + url2);
+        rcm2.initialize();
+        // node2 connects to node1, that connects back.
+        waitForConnection(rcm1, "node2");
+        // node2 is told the id of node1.
+        waitForConnection(rcm2, "node1");
+        Assert.assertEquals(1, rcm2.getTransportManager().getConnectionsToExternalServices().size());
+
+        rcm2.propagateCommand(new RecordingCommand("b"));
+        Assert.assertEquals("node1:b", receive());
+        rcm1.propagateCommand(new RecordingCommand("a"));
+        Assert.assertEquals("node2:a", receive());
+    }
+
+    @Test
+    public void pipeliningTest() throws Exception {
+        RemoteCommandManager rcm1 = createCommandManager("node1", "tcp://localhost:0");
+        RemoteCommandManager rcm2 = createCommandManager("node2", "tcp://localhost:0");
+        // Senders wait for every few commands to be written.
+        ((NIOTransportManager)rcm1.getTransportManager()).setMaxQueuedBytes(1024);
+        rcm1.getTransportManager().createLocalConnection();
+        rcm2.getTransportManager().createLocalConnection();
+        rcm1.newServiceDiscovered(rcm2.getServiceId());
+
+        int count = 1000;
+        for (int index = 0; index < count; index++) {
+            rcm1.propagateCommand(new RecordingCommand(String.valueOf(index)));
+        }
+        // The commands are processed in the order they were sent.
+        for (int index = 0; index < count; index++) {
+            Assert.assertEquals("node2:" + index, receive());
+        }
+    }
+
+    @Test
+    public void slowCommandTest() throws Exception {
+        RemoteCommandManager rcm1 = createCommandManager("node1", "tcp://localhost:0");
+        RemoteCommandManager rcm2 = createCommandManager("node2", "tcp://localhost:0");
+        RemoteCommandManager rcm3 = createCommandManager("node3", "tcp://localhost:0");
+        rcm1.getTransportManager().createLocalConnection();
+        rcm2.getTransportManager().createLocalConnection();
+        rcm3.getTransportManager().createLocalConnection();
+        rcm1.newServiceDiscovered(rcm2.getServiceId());
+        rcm3.newServiceDiscovered(rcm2.getServiceId());
+
+        released = new CountDownLatch(1);
+        rcm1.propagateCommand(new BlockingCommand("slow"));
+        rcm1.propagateCommand(new RecordingCommand("a"));
+        // The commands of the other channels are processed while the slow command runs.
+        rcm3.propagateCommand(new RecordingCommand("c"));
+        try {
+            Assert.assertEquals("node2:c", receive());
+        } finally {
+            released.countDown();
+        }
+        // The commands of a channel are still processed in order.
+        Assert.assertEquals("node2:slow", receive());
+        Assert.assertEquals("node2:a", receive());
+    }
+
+    @Test
+    public void closedConnectionTest() throws Exception {
+        RemoteCommandManager rcm1 = createCommandManager("node1", "tcp://localhost:0");
+        RemoteCommandManager rcm2 = createCommandManager("node2", "tcp://localhost:0");
+        rcm1.getTransportManager().createLocalConnection();
+        rcm2.getTransportManager().createLocalConnection();
+        rcm1.newServiceDiscovered(rcm2.getServiceId());
+        rcm1.propagateCommand(new RecordingCommand("a"));
+        Assert.assertEquals("node2:a", receive());
+
+        rcm2.shutdown();
+        // The connection is removed once the sender finds it closed.
+        long timeout = System.currentTimeMillis() + 10000;
+        while (!rcm1.getTransportManager().getConnectionsToExternalServices().isEmpty() && (System.currentTimeMillis() < timeout)) {
+            rcm1.propagateCommand(new RecordingCommand("b"));
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(rcm1.getTransportManager().getConnectionsToExternalServices().isEmpty());
+        Assert.assertTrue(received.isEmpty());
+    }
+
+    private RemoteCommandManager createCommandManager(String name, String url) {
+        DatabaseSession session = new Project(new DatabaseLogin()).createDatabaseSession();
+        session.setName(name);
+        RemoteCommandManager rcm = new RemoteCommandManager((AbstractSession)session);
+        rcm.setTransportManager(new NIOTransportManager(rcm));
+        rcm.getServiceId().setId(name);
+        rcm.setUrl(url);
+        rcm.setShouldPropagateAsynchronously(false);
+        this.managers.add(rcm);
+        return rcm;
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String receive() throws InterruptedException {
+        String value = received.poll(10, TimeUnit.SECONDS);
+        Assert.assertNotNull("command not received", value);
+        return value;
+    }
+
+    private static void waitForConnection(RemoteCommandManager rcm, String id) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 10000;
+        while (!rcm.getTransportManager().getConnectionsToExternalServices().containsKey(id) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(rcm.getTransportManager().getConnectionsToExternalServices().containsKey(id));
+    }
+
+    /**
+     * Command recording the session it was executed on.
+     */
+    static class RecordingCommand extends Command {
+        private final String value;
+
+        RecordingCommand(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void executeWithSession(AbstractSession session) {
+            received.add(session.getName() + ":" + this.value);
+        }
+    }
+
+    /**
+     * Command waiting to be released before it is recorded.
+     */
+    static class BlockingCommand extends RecordingCommand {
+
+        BlockingCommand(String value) {
+            super(value);
+        }
+
+        @Override
+        public void executeWithSession(AbstractSession session) {
+            try {
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            super.executeWithSession(session);
+        }
+    }
+}
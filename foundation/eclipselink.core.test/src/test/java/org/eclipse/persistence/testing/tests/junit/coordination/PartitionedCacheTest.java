@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.coordination.PartitionedCache;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.nio.NIOTransportManager;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDatabase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the lookup of objects in the partitioned shared cache of the service owning them.
+ * The emulated database of a service only has the rows put by the test.
+ */
+public class PartitionedCacheTest {
+
+    private DatabaseSession session1;
+    private DatabaseSession session2;
+
+    @Before
+    public void prepare() throws Exception {
+        String url1 = "tcp://localhost:" + freePort();
+        String url2 = "tcp://localhost:" + freePort();
+        this.session1 = createSession("node1", url1, url1 + "," + url2);
+        this.session2 = createSession("node2", url2, url1 + "," + url2);
+        waitForConnection(this.session1, "node2");
+        waitForConnection(this.session2, "node1");
+    }
+
+    @After
+    public void reset() {
+        for (DatabaseSession session : List.of(this.session1, this.session2)) {
+            if (session.isConnected()) {
+                session.logout();
+            }
+            session.getCommandManager().shutdown();
+        }
+    }
+
+    @Test
+    public void ownershipTest() {
+        PartitionedCache cache1 = getPartitionedCache(this.session1);
+        PartitionedCache cache2 = getPartitionedCache(this.session2);
+        ClassDescriptor descriptor = this.session1.getDescriptor(Address.class);
+        List<String> owners = new ArrayList<>();
+        for (int id = 0; id < 1000; id++) {
+            String owner = cache1.getOwner(BigDecimal.valueOf(id), descriptor);
+            // All services agree on the owner.
+            Assert.assertEquals(owner, cache2.getOwner(BigDecimal.valueOf(id), descriptor));
+            owners.add(owner);
+        }
+        int count = (int)owners.stream().filter("node1"::equals).count();
+        Assert.assertTrue(String.valueOf(count), (count > 250) && (count < 750));
+    }
+
+    @Test
+    public void remoteHitTest() {
+        BigDecimal id = findIdOwnedBy("node1");
+        putInCache(this.session1, id);
+
+        // Not in the database, returned by the owner.
+        Address address = readAddress(this.session2, id);
+        Assert.assertNotNull(address);
+        Assert.assertEquals("Ottawa", address.city);
+        Assert.assertTrue(this.session2.getIdentityMapAccessor().containsObjectInIdentityMap(address));
+    }
+
+    @Test
+    public void localOwnerTest() {
+        BigDecimal id = findIdOwnedBy("node2");
+        putInCache(this.session1, id);
+        putInDatabase(this.session2, id);
+
+        // Owned by the reading service, so selected from the database.
+        Assert.assertEquals("Edmonton", readAddress(this.session2, id).city);
+    }
+
+    @Test
+    public void ownerReadTest() {
+        BigDecimal id = findIdOwnedBy("node1");
+        // Only the owner can read it from the database.
+        putInDatabase(this.session1, id);
+
+        Assert.assertEquals("Edmonton", readAddress(this.session2, id).city);
+        // Kept in the cache of the owner.
+        Assert.assertTrue(this.session1.getIdentityMapAccessor().containsObjectInIdentityMap(id, Address.class));
+    }
+
+    @Test
+    public void ringRebuiltOnConnectionChangeTest() {
+        RemoteCommandManager rcm = (RemoteCommandManager)this.session1.getCommandManager();
+        RingCache cache = new RingCache(rcm);
+        Object ring = cache.ring();
+        // Not rebuilt while the connections do not change.
+        Assert.assertSame(ring, cache.ring());
+
+        Map<String, RemoteConnection> connections = rcm.getTransportManager().getConnectionsToExternalServices();
+        RemoteConnection connection = connections.remove("node2");
+        Object localRing = cache.ring();
+        Assert.assertNotSame(ring, localRing);
+        ClassDescriptor descriptor = this.session1.getDescriptor(Address.class);
+        for (int id = 0; id < 100; id++) {
+            Assert.assertEquals("node1", cache.getOwner(BigDecimal.valueOf(id), descriptor));
+        }
+
+        connections.put("node2", connection);
+        Assert.assertNotSame(localRing, cache.ring());
+        Assert.assertEquals("node2", cache.getOwner(findIdOwnedBy("node2"), descriptor));
+    }
+
+    private DatabaseSession createSession(String name, String url, String peers) {
+        Project project = EmulatedSessionBase.createProject();
+        project.getDescriptor(Address.class).setCacheSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+        DatabaseSession session = project.createDatabaseSession();
+        session.setName(name);
+        RemoteCommandManager rcm = new RemoteCommandManager((AbstractSession)session);
+        NIOTransportManager transport = new NIOTransportManager(rcm);
+        rcm.setTransportManager(transport);
+        transport.setConfig(peers);
+        rcm.getServiceId().setId(name);
+        rcm.setUrl(url);
+        rcm.setShouldPropagateAsynchronously(false);
+        rcm.setPartitionedCacheTimeout(10000);
+        session.setShouldPropagateChanges(true);
+        session.login();
+        return session;
+    }
+
+    private BigDecimal findIdOwnedBy(String owner) {
+        ClassDescriptor descriptor = this.session1.getDescriptor(Address.class);
+        for (int id = 100; ; id++) {
+            if (owner.equals(getPartitionedCache(this.session1).getOwner(BigDecimal.valueOf(id), descriptor))) {
+                return BigDecimal.valueOf(id);
+            }
+        }
+    }
+
+    private static void putInCache(DatabaseSession session, BigDecimal id) {
+        Address address = new Address();
+        address.id = id;
+        address.city = "Ottawa";
+        session.getIdentityMapAccessor().putInIdentityMap(address);
+    }
+
+    private static void putInDatabase(DatabaseSession session, BigDecimal id) {
+        Vector<DatabaseField> fields = session.getDescriptor(Address.class).getAllFields();
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(new ArrayRecord(fields, fields.toArray(new DatabaseField[0]), new Object[] {id, "Edmonton", "Canada", "T5J0N3", "ALB", "1 Jasper Ave." }));
+        EmulatedDatabase.putRows(session, Address.getSQL() + " WHERE (ADDRESS_ID = ?)", rows);
+    }
+
+    private static Address readAddress(DatabaseSession session, BigDecimal id) {
+        ReadObjectQuery query = new ReadObjectQuery(Address.class);
+        query.setSelectionId(id);
+        return (Address)session.executeQuery(query);
+    }
+
+    private static PartitionedCache getPartitionedCache(DatabaseSession session) {
+        return ((RemoteCommandManager)session.getCommandManager()).getPartitionedCache();
+    }
+
+    /**
+     * Exposes the hash ring of the partitioned cache.
+     */
+    private static class RingCache extends PartitionedCache {
+        RingCache(RemoteCommandManager rcm) {
+            super(rcm, 10000);
+        }
+
+        Object ring() {
+            return getRing();
+        }
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void waitForConnection(DatabaseSession session, String id) throws InterruptedException {
+        RemoteCommandManager rcm = (RemoteCommandManager)session.getCommandManager();
+        long timeout = System.currentTimeMillis() + 10000;
+        while (!rcm.getTransportManager().getConnectionsToExternalServices().containsKey(id) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(rcm.getTransportManager().getConnectionsToExternalServices().containsKey(id));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.MergeManager;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the distributed merge skips the change sets not needing a merge before locking.
+ */
+public class RemoteMergeSkipTest extends EmulatedSessionBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project project) {
+        ClassDescriptor descriptor = project.getDescriptor(Address.class);
+        descriptor.setCacheSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+        descriptor.useVersionLocking("VERSION", true);
+        return project.createDatabaseSession();
+    }
+    @Override
+    protected void putRows() {
+        // The objects and their versions are only put in the cache by the tests.
+    }
+
+    @Test
+    public void staleChangeTest() {
+        Address address = putInCache(5L);
+        ObjectChangeSet changeSet = buildChangeSet(address);
+        // Refreshed since the change.
+        getCacheKey(address).setWriteLockValue(6L);
+        MergeManager manager = merge(changeSet);
+
+        // The cache already has the version of the change.
+        Assert.assertTrue(manager.isSkippedChangeSet(changeSet));
+        Assert.assertNotEquals("Ottawa", address.city);
+        Assert.assertEquals(6L, getCacheKey(address).getWriteLockValue());
+    }
+
+    @Test
+    public void currentChangeTest() {
+        Address address = putInCache(5L);
+        ObjectChangeSet changeSet = buildChangeSet(address);
+        MergeManager manager = merge(changeSet);
+
+        Assert.assertFalse(manager.isSkippedChangeSet(changeSet));
+        Assert.assertEquals("Ottawa", address.city);
+        Assert.assertEquals(6L, getCacheKey(address).getWriteLockValue());
+        Assert.assertFalse(getCacheKey(address).isAcquired());
+    }
+
+    @Test
+    public void uncachedObjectTest() {
+        Address address = putInCache(5L);
+        ObjectChangeSet changeSet = buildChangeSet(address);
+        this.session.getIdentityMapAccessor().removeFromIdentityMap(address);
+        MergeManager manager = merge(changeSet);
+
+        // Not locked, so not put in the cache.
+        Assert.assertTrue(manager.isSkippedChangeSet(changeSet));
+        Assert.assertNull(getCacheKey(address));
+    }
+
+    private Address putInCache(long version) {
+        // The version is only stored in the cache.
+        Address address = new Address();
+        address.id = BigDecimal.valueOf(51);
+        address.city = "Calgary";
+        this.session.getIdentityMapAccessor().putInIdentityMap(address, address.id, version);
+        return address;
+    }
+
+    private CacheKey getCacheKey(Address address) {
+        AbstractSession session = (AbstractSession) this.session;
+        ClassDescriptor descriptor = session.getDescriptor(Address.class);
+        return session.getIdentityMapAccessorInstance().getCacheKeyForObject(address.id, Address.class, descriptor, false);
+    }
+
+    private ObjectChangeSet buildChangeSet(Address address) {
+        UnitOfWork uow = this.session.acquireUnitOfWork();
+        ((Address) uow.registerObject(address)).city = "Ottawa";
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) uow.getCurrentChanges();
+        uow.release();
+        ObjectChangeSet objectChangeSet = changeSet.getAllChangeSets().keySet().iterator().next();
+        objectChangeSet.setSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+        objectChangeSet.setWriteLockValue(((Long) objectChangeSet.getInitialWriteLockValue()) + 1);
+        // As received by the remote command manager.
+        UnitOfWorkChangeSet mergeChangeSet = changeSet.buildCacheCoordinationMergeChangeSet((AbstractSession) this.session);
+        return mergeChangeSet.getAllChangeSets().keySet().iterator().next();
+    }
+
+    private MergeManager merge(ObjectChangeSet objectChangeSet) {
+        MergeManager manager = new MergeManager((AbstractSession) this.session);
+        manager.mergeIntoDistributedCache();
+        manager.mergeChangesFromChangeSet((UnitOfWorkChangeSet) objectChangeSet.getUOWChangeSet());
+        return manager;
+    }
+}
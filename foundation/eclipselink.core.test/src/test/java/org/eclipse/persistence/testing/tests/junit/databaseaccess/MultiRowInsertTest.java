@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DB2ZPlatform;
+import org.eclipse.persistence.platform.database.DerbyPlatform;
+import org.eclipse.persistence.platform.database.MySQLPlatform;
+import org.eclipse.persistence.platform.database.OraclePlatform;
+import org.eclipse.persistence.platform.database.PostgreSQLPlatform;
+import org.eclipse.persistence.platform.database.SQLServerPlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDatabase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the multi-row inserts of the platforms.
+ */
+public class MultiRowInsertTest {
+
+    private static final String INSERT = "INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?)";
+
+    public static class Employee {
+        public long id;
+        public String name;
+    }
+
+    /**
+     * Platform writing multi-row inserts of at most 6 parameters.
+     */
+    public static class MultiRowPlatform extends org.eclipse.persistence.platform.database.DatabasePlatform {
+        @Override
+        public int getMaxMultiRowInsertParameters() {
+            return 6;
+        }
+    }
+
+    @Test
+    public void testBuildMultiRowInsert() {
+        DatabasePlatform platform = new MySQLPlatform();
+        assertEquals("INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?), (?, ?), (?, ?)", platform.buildMultiRowInsertSQL(INSERT, 2, 3));
+        assertEquals(INSERT, platform.buildMultiRowInsertSQL(INSERT, 2, 1));
+    }
+
+    @Test
+    public void testNotMultiRowInsert() {
+        DatabasePlatform platform = new PostgreSQLPlatform();
+        // Not the parameters of the row.
+        assertNull(platform.buildMultiRowInsertSQL(INSERT, 3, 2));
+        assertNull(platform.buildMultiRowInsertSQL("INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, 'Bob')", 1, 2));
+        assertNull(platform.buildMultiRowInsertSQL("INSERT INTO EMPLOYEE (ID, NAME) VALUES (NEXTVAL('SEQ'), ?)", 1, 2));
+        assertNull(platform.buildMultiRowInsertSQL("INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?) RETURNING ID", 2, 2));
+        assertNull(platform.buildMultiRowInsertSQL("INSERT /*+ APPEND */ INTO EMPLOYEE (ID, NAME) VALUES (?, ?)", 2, 2));
+        assertNull(platform.buildMultiRowInsertSQL("UPDATE EMPLOYEE SET NAME = ? WHERE (ID = ?)", 2, 2));
+    }
+
+    @Test
+    public void testPlatformSupport() {
+        DatabasePlatform oracle = new OraclePlatform();
+        oracle.setShouldUseMultiRowInsert(true);
+        assertFalse(oracle.shouldUseMultiRowInsert());
+        assertFalse(new DB2ZPlatform().supportsMultiRowInsert());
+
+        DatabasePlatform derby = new DerbyPlatform();
+        assertFalse(derby.shouldUseMultiRowInsert());
+        derby.setShouldUseMultiRowInsert(true);
+        assertTrue(derby.shouldUseMultiRowInsert());
+
+        DatabasePlatform sqlServer = new SQLServerPlatform();
+        assertTrue(sqlServer.getMaxMultiRowInsertParameters() < 2100);
+        assertEquals(1000, sqlServer.getMaxMultiRowInsertRows());
+    }
+
+    @Test
+    public void testExecuteBulkInsert() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("name", "EMPLOYEE.NAME");
+        DatabasePlatform platform = new MultiRowPlatform();
+        DatabaseLogin login = EmulatedDatabase.createLogin();
+        login.usePlatform(platform);
+        platform.setShouldUseMultiRowInsert(true);
+        login.useBatchWriting();
+        login.setShouldBindAllParameters(true);
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        DatabaseSession session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+        try {
+            session.beginTransaction();
+            for (int id = 1; id <= 8; id++) {
+                Employee employee = new Employee();
+                employee.id = id;
+                employee.name = "Employee " + id;
+                session.insertObject(employee);
+            }
+            session.commitTransaction();
+
+            // 3 rows of 2 parameters per statement, then the 2 rows remaining in a smaller statement.
+            String threeRows = "INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?), (?, ?), (?, ?)";
+            String twoRows = "INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?), (?, ?)";
+            EmulatedConnection connection = (EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection();
+            List<Map.Entry<String, List<Object>>> updates = connection.getUpdates();
+            assertEquals(List.of(threeRows, threeRows, twoRows), updates.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+            List<Object> values = new ArrayList<>();
+            for (Map.Entry<String, List<Object>> update : updates) {
+                values.addAll(update.getValue());
+            }
+            assertEquals(16, values.size());
+            for (int id = 1; id <= 8; id++) {
+                assertEquals(((Number) values.get((id - 1) * 2)).longValue(), id);
+                assertEquals("Employee " + id, values.get((id - 1) * 2 + 1));
+            }
+        } finally {
+            session.logout();
+        }
+    }
+}
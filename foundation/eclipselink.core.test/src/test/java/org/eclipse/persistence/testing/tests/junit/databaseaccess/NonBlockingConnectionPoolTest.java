@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.server.NonBlockingConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDatabase;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the NonBlockingConnectionPool allocation, waiting and failover support.
+ */
+public class NonBlockingConnectionPoolTest extends EmulatedSessionBase<ServerSession> {
+
+    @Override
+    protected ServerSession createSession(Project project) {
+        DatabaseLogin login = project.getLogin();
+        // Detects the broken connections.
+        login.getPlatform().setPingSQL("SELECT 1");
+        ServerSession session = (ServerSession) project.createServerSession(4, 4);
+        NonBlockingConnectionPool pool = new NonBlockingConnectionPool(ServerSession.DEFAULT_POOL, login, 4, 4, session);
+        session.addConnectionPool(pool);
+        session.setReadConnectionPool(pool);
+        return session;
+    }
+
+    @Override
+    protected void putRows() {
+        Vector<DatabaseField> pingFields = new Vector<>(List.of(new DatabaseField("1")));
+        Vector<DatabaseRecord> pingRows = new Vector<>(List.of(new ArrayRecord(pingFields, pingFields.toArray(new DatabaseField[0]), new Object[] {"1"})));
+        EmulatedDatabase.putRows(this.session, "SELECT 1", pingRows);
+        super.putRows();
+    }
+
+    private NonBlockingConnectionPool getPool() {
+        return (NonBlockingConnectionPool) this.session.getDefaultConnectionPool();
+    }
+
+    @Test
+    public void acquireReleaseTest() {
+        NonBlockingConnectionPool pool = getPool();
+        pool.resetStatistics();
+        List<Accessor> connections = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            connections.add(pool.acquireConnection());
+        }
+        Assert.assertEquals(4, pool.getTotalNumberOfConnections());
+        Assert.assertFalse(pool.hasConnectionAvailable());
+        Accessor last = connections.get(3);
+        for (Accessor accessor : connections) {
+            pool.releaseConnection(accessor);
+        }
+        Assert.assertEquals(4, pool.getConnectionsAvailable().size());
+        // The most recently released connection should be reused first.
+        Assert.assertSame(last, pool.acquireConnection());
+        Assert.assertEquals(5, pool.getAcquireCount());
+        Assert.assertEquals(0, pool.getWaitCount());
+    }
+
+    @Test
+    public void waitForConnectionTest() throws Exception {
+        NonBlockingConnectionPool pool = getPool();
+        pool.resetStatistics();
+        PerformanceMonitor profiler = new PerformanceMonitor();
+        this.session.setProfiler(profiler);
+        List<Accessor> connections = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            connections.add(pool.acquireConnection());
+        }
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<Accessor> acquired = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            started.countDown();
+            acquired.set(pool.acquireConnection());
+        });
+        waiter.start();
+        started.await();
+        long timeout = System.currentTimeMillis() + 10000;
+        while ((pool.getNumberOfWaiters() == 0) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, pool.getNumberOfWaiters());
+        pool.releaseConnection(connections.get(0));
+        waiter.join(TimeUnit.SECONDS.toMillis(10));
+        Assert.assertSame(connections.get(0), acquired.get());
+        Assert.assertEquals(1, pool.getWaitCount());
+        Assert.assertTrue(pool.getMaxWaitTime() > 0);
+        Assert.assertEquals(4, pool.getTotalNumberOfConnections());
+        Assert.assertTrue(profiler.getOperationTimings().containsKey(SessionProfiler.ConnectionAcquireWait));
+    }
+
+    @Test
+    public void connectionPoolFailureTest() {
+        List<Accessor> connections = new ArrayList<>();
+        // prime connection pools.
+        for (int i = 0; i < 4; ++i) {
+            connections.add(getPool().acquireConnection());
+        }
+        for (Accessor accessor : connections) {
+            getPool().releaseConnection(accessor);
+        }
+        List<Accessor> list = getPool().getConnectionsAvailable();
+        for (Accessor accessor : list) {
+            ((EmulatedConnection) accessor.getConnection()).causeCommError();
+        }
+
+        for (int i = 0; i < 4; ++i) {
+            try {
+                this.session.acquireClientSession().readObject(Address.class);
+            } catch (DatabaseException ex) {
+                Assert.fail("Should have reconnected an not thrown exception.");
+            }
+        }
+    }
+}
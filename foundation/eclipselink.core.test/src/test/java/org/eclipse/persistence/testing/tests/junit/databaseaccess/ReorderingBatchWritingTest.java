@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.ReorderingSQLBatchWritingMechanism;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the grouping of the statements of a flush by the reordering batch writing.
+ */
+public class ReorderingBatchWritingTest {
+
+    private static final String INSERT_ORDER = "INSERT INTO ORDERS (ID) VALUES (?)";
+    private static final String INSERT_LINE = "INSERT INTO ORDER_LINE (ID, ORDER_ID) VALUES (?, ?)";
+    private static final String INSERT_CUSTOMER = "INSERT INTO CUSTOMER (ID) VALUES (?)";
+    private static final String DELETE_ORDER = "DELETE FROM ORDERS WHERE (ID = ?)";
+    private static final String DELETE_LINE = "DELETE FROM ORDER_LINE WHERE (ID = ?)";
+    private static final String INSERT_AUDIT = "INSERT INTO AUDIT (ID) VALUES (?)";
+
+    public static class Order {
+        public long id;
+    }
+
+    public static class OrderLine {
+        public long id;
+        public Order order;
+    }
+
+    public static class Customer {
+        public long id;
+    }
+
+    private DatabaseSessionImpl session;
+    private ReorderingSQLBatchWritingMechanism mechanism;
+
+    @Before
+    public void setUp() {
+        RelationalDescriptor order = new RelationalDescriptor();
+        order.setJavaClass(Order.class);
+        order.setTableName("ORDERS");
+        order.addPrimaryKeyFieldName("ORDERS.ID");
+        order.addDirectMapping("id", "ORDERS.ID");
+
+        RelationalDescriptor line = new RelationalDescriptor();
+        line.setJavaClass(OrderLine.class);
+        line.setTableName("ORDER_LINE");
+        line.addPrimaryKeyFieldName("ORDER_LINE.ID");
+        line.addDirectMapping("id", "ORDER_LINE.ID");
+        OneToOneMapping orderMapping = new OneToOneMapping();
+        orderMapping.setAttributeName("order");
+        orderMapping.setReferenceClass(Order.class);
+        orderMapping.dontUseIndirection();
+        orderMapping.addForeignKeyFieldName("ORDER_LINE.ORDER_ID", "ORDERS.ID");
+        line.addMapping(orderMapping);
+
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.setTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(order);
+        project.addDescriptor(line);
+        project.addDescriptor(customer);
+        this.session = (DatabaseSessionImpl) project.createDatabaseSession();
+        this.session.initializeDescriptors();
+        this.mechanism = new ReorderingSQLBatchWritingMechanism().clone();
+        this.mechanism.setAccessor(new DatabaseAccessor(), this.session);
+        this.mechanism.initialize(this.session);
+    }
+
+    private void append(String sql, Object... parameters) {
+        SQLCall call = new SQLCall(sql);
+        call.setParameters(List.of(parameters));
+        call.setQuery(new DataModifyQuery());
+        this.mechanism.appendCall(this.session, call);
+    }
+
+    private List<String> batchTables() {
+        return this.mechanism.getBatches().stream()
+                .map(batch -> batch.getTableName() + ":" + batch.getParameters().size())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testInterleavedStatementsGrouped() {
+        append(INSERT_ORDER, 1);
+        append(INSERT_LINE, 1, 1);
+        append(INSERT_ORDER, 2);
+        append(INSERT_LINE, 2, 2);
+        append(INSERT_LINE, 3, 2);
+        assertEquals(List.of("ORDERS:2", "ORDER_LINE:3"), batchTables());
+        assertEquals(List.of(List.of(1, 1), List.of(2, 2), List.of(3, 2)), this.mechanism.getBatches().get(1).getParameters());
+    }
+
+    @Test
+    public void testDependentStatementsKeepOrder() {
+        append(INSERT_LINE, 1, 1);
+        append(INSERT_ORDER, 2);
+        // May reference the order inserted before it.
+        append(INSERT_LINE, 2, 2);
+        assertEquals(List.of("ORDER_LINE:1", "ORDERS:1", "ORDER_LINE:1"), batchTables());
+        append(INSERT_LINE, 3, 2);
+        assertEquals(List.of("ORDER_LINE:1", "ORDERS:1", "ORDER_LINE:2"), batchTables());
+    }
+
+    @Test
+    public void testDeletesGrouped() {
+        append(DELETE_LINE, 1);
+        append(DELETE_ORDER, 1);
+        append(DELETE_LINE, 2);
+        append(DELETE_ORDER, 2);
+        assertEquals(List.of("ORDER_LINE:2", "ORDERS:2"), batchTables());
+    }
+
+    @Test
+    public void testDependentDeletesKeepOrder() {
+        append(DELETE_ORDER, 1);
+        append(DELETE_LINE, 2);
+        // May be referenced by the line deleted before it.
+        append(DELETE_ORDER, 2);
+        assertEquals(List.of("ORDERS:1", "ORDER_LINE:1", "ORDERS:1"), batchTables());
+    }
+
+    @Test
+    public void testIndependentStatementsGrouped() {
+        append(INSERT_CUSTOMER, 1);
+        append(INSERT_ORDER, 1);
+        append(INSERT_LINE, 1, 1);
+        append(INSERT_CUSTOMER, 2);
+        assertEquals(List.of("CUSTOMER:2", "ORDERS:1", "ORDER_LINE:1"), batchTables());
+    }
+
+    @Test
+    public void testUnmappedTableKeepsOrder() {
+        append(INSERT_CUSTOMER, 1);
+        append(INSERT_AUDIT, 1);
+        append(INSERT_CUSTOMER, 2);
+        append(INSERT_AUDIT, 2);
+        assertEquals(List.of("CUSTOMER:1", "AUDIT:1", "CUSTOMER:1", "AUDIT:1"), batchTables());
+    }
+
+    @Test
+    public void testMaxBatchSize() {
+        this.mechanism.setMaxBatchSize(2);
+        append(INSERT_ORDER, 1);
+        append(INSERT_ORDER, 2);
+        append(INSERT_ORDER, 3);
+        assertEquals(List.of("ORDERS:2", "ORDERS:1"), batchTables());
+        this.mechanism.clear();
+        assertTrue(this.mechanism.getBatches().isEmpty());
+    }
+
+    @Test
+    public void testTableName() {
+        assertEquals("ORDERS", ReorderingSQLBatchWritingMechanism.getTableName(INSERT_ORDER));
+        assertEquals("APP.ORDERS", ReorderingSQLBatchWritingMechanism.getTableName("UPDATE APP.ORDERS SET ID = ? WHERE (ID = ?)"));
+        assertEquals("ORDERS", ReorderingSQLBatchWritingMechanism.getTableName("delete from ORDERS WHERE (ID = ?)"));
+        assertNull(ReorderingSQLBatchWritingMechanism.getTableName("{CALL UPDATE_ORDER(?)}"));
+    }
+}
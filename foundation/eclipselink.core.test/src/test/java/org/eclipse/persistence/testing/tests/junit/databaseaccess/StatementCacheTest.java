@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.databaseaccess.StatementCache;
+import org.eclipse.persistence.internal.databaseaccess.StatementCacheStatistics;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedStatement;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the eviction and statistics of the statement cache, and its warmup on a new connection.
+ */
+public class StatementCacheTest {
+
+    private final EmulatedConnection connection = new EmulatedConnection(new EmulatedDriver());
+
+    private Statement newStatement(String sql) {
+        return new EmulatedStatement(sql, this.connection);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        StatementCache cache = new StatementCache(2, 0);
+        Statement first = newStatement("SELECT 1");
+        Statement second = newStatement("SELECT 2");
+        assertTrue(cache.checkIn("SELECT 1", first).isEmpty());
+        assertTrue(cache.checkIn("SELECT 2", second).isEmpty());
+        // Use the first statement, so the second is the least recently used.
+        assertSame(first, cache.checkOut("SELECT 1"));
+        assertTrue(cache.checkIn("SELECT 1", first).isEmpty());
+        List<Statement> evicted = cache.checkIn("SELECT 3", newStatement("SELECT 3"));
+        assertEquals(1, evicted.size());
+        assertSame(second, evicted.get(0));
+        assertNull(cache.checkOut("SELECT 2"));
+        assertEquals(2, cache.size());
+        // Already cached.
+        assertNull(cache.checkIn("SELECT 1", newStatement("SELECT 1")));
+    }
+
+    @Test
+    public void testMemoryBudget() {
+        String small = "SELECT 1";
+        String large = "SELECT " + "X, ".repeat(200) + "Y";
+        long budget = StatementCache.estimateSize(small) * 3;
+        StatementCache cache = new StatementCache(50, budget);
+        cache.checkIn("SELECT 1", newStatement("SELECT 1"));
+        cache.checkIn("SELECT 2", newStatement("SELECT 2"));
+        cache.checkIn("SELECT 3", newStatement("SELECT 3"));
+        assertEquals(budget, cache.getMemoryUsed());
+        List<Statement> evicted = cache.checkIn("SELECT 4", newStatement("SELECT 4"));
+        assertEquals(1, evicted.size());
+        assertTrue(cache.getMemoryUsed() <= budget);
+        // Larger than the budget.
+        assertNull(cache.checkIn(large, newStatement(large)));
+        cache.clear();
+        assertEquals(0, cache.getMemoryUsed());
+    }
+
+    @Test
+    public void testOneTimeStatements() {
+        StatementCacheStatistics statistics = new StatementCacheStatistics();
+        statistics.setMaxCountedStatements(4);
+        for (int index = 0; index < 5; index++) {
+            statistics.recordUse("SELECT 1");
+        }
+        // Statements used once do not replace the frequent ones, and the counted statements stay bounded.
+        for (int index = 0; index < 30; index++) {
+            statistics.recordUse("SELECT " + (index + 100));
+        }
+        List<String> statements = statistics.getMostFrequentStatements(10);
+        assertEquals(4, statements.size());
+        assertEquals("SELECT 1", statements.get(0));
+    }
+
+    @Test
+    public void testMostFrequentStatements() {
+        StatementCacheStatistics statistics = new StatementCacheStatistics();
+        statistics.setMaxCountedStatements(3);
+        for (int index = 0; index < 5; index++) {
+            statistics.recordUse("SELECT 1");
+        }
+        for (int index = 0; index < 3; index++) {
+            statistics.recordUse("SELECT 2");
+        }
+        statistics.recordUse("SELECT 3");
+        assertEquals(List.of("SELECT 1", "SELECT 2"), statistics.getMostFrequentStatements(2));
+        // Exceeding the counted statements forgets the least used ones.
+        statistics.recordUse("SELECT 4");
+        assertEquals(List.of("SELECT 1", "SELECT 2", "SELECT 4"), statistics.getMostFrequentStatements(5));
+        statistics.recordHit();
+        statistics.recordMiss();
+        statistics.recordMiss();
+        statistics.recordMiss();
+        assertEquals(0.25, statistics.getHitRatio(), 0.0001);
+    }
+
+    @Test
+    public void testAccessorCacheAndWarmup() throws Exception {
+        DatabaseLogin login = new DatabaseLogin();
+        login.setShouldCacheAllStatements(true);
+        login.setStatementCacheSize(10);
+        login.setStatementCacheWarmupSize(1);
+        AbstractSession session = (AbstractSession) new Project(login).createDatabaseSession();
+        DatabasePlatform platform = login.getPlatform();
+
+        DatabaseAccessor accessor = new DatabaseAccessor(this.connection);
+        accessor.setDatasourcePlatform(platform);
+        PreparedStatement statement = accessor.prepareStatement("SELECT 1", session, false);
+        accessor.releaseStatement(statement, "SELECT 1", null, session);
+        assertSame(statement, accessor.prepareStatement("SELECT 1", session, false));
+        accessor.releaseStatement(statement, "SELECT 1", null, session);
+        accessor.releaseStatement(accessor.prepareStatement("SELECT 2", session, false), "SELECT 2", null, session);
+        assertEquals(1, platform.getStatementCacheStatistics().getHits());
+        assertEquals(2, platform.getStatementCacheStatistics().getMisses());
+
+        // A new pooled connection prepares the most frequent statement on its first use.
+        DatabaseAccessor newAccessor = new DatabaseAccessor(new EmulatedConnection(new EmulatedDriver()));
+        newAccessor.setDatasourcePlatform(platform);
+        newAccessor.setShouldPrewarmStatementCache(true);
+        PreparedStatement prepared = newAccessor.prepareStatement("SELECT 1", session, false);
+        assertNotSame(statement, prepared);
+        assertEquals(2, platform.getStatementCacheStatistics().getHits());
+        newAccessor.prepareStatement("SELECT 2", session, false);
+        assertEquals(3, platform.getStatementCacheStatistics().getMisses());
+    }
+}
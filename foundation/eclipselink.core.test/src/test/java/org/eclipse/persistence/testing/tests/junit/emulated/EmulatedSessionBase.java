@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.emulated;
+
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDatabase;
+import org.junit.After;
+import org.junit.Before;
+
+/**
+ * Base of the tests of a session connected to the emulated driver, reading the Address rows.
+ */
+public abstract class EmulatedSessionBase<T extends DatabaseSession> {
+
+    protected T session;
+
+    /**
+     * Return a project connecting to a new emulated driver, with the Address descriptor.
+     */
+    public static Project createProject() {
+        Project project = new Project(EmulatedDatabase.createLogin());
+        project.addDescriptor(Address.descriptor());
+        return project;
+    }
+
+    @Before
+    public void prepare() {
+        this.session = createSession(createProject());
+        this.session.setLogLevel(SessionLog.WARNING);
+        this.session.login();
+        putRows();
+    }
+
+    /**
+     * Create the session of the project, customizing its login and descriptors as required.
+     */
+    protected abstract T createSession(Project project);
+
+    /**
+     * Set the rows returned by the emulated driver, the Address rows by default.
+     */
+    protected void putRows() {
+        EmulatedDatabase.putRows(this.session, Address.getSQL(), Address.getData(this.session.getDescriptor(Address.class)));
+    }
+
+    @After
+    public void reset() {
+        if ((this.session != null) && this.session.isConnected()) {
+            this.session.logout();
+        }
+    }
+}
@@ -28,6 +28,9 @@
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Vector;
 import java.util.concurrent.Executor;
@@ -37,6 +40,8 @@ public class EmulatedConnection implements Connection {
 
     protected boolean inFailureState = false;
 
+    protected List<Map.Entry<String, List<Object>>> updates = new ArrayList<>();
+
     public void causeCommError() {
         this.inFailureState = true;
     }
@@ -115,6 +120,20 @@ public void putRows(String sql, Vector rows) {
         this.driver.getRows().put(sql, rows);
     }
 
+    /**
+     * Return the sql and bound parameters of the updates executed, in order.
+     */
+    public List<Map.Entry<String, List<Object>>> getUpdates() {
+        return this.updates;
+    }
+
+    /**
+     * Record the update executed.
+     */
+    public void addUpdate(String sql, List<Object> parameters) {
+        this.updates.add(Map.entry(sql, parameters));
+    }
+
     @Override
     public CallableStatement prepareCall(String sql) {
         return null;
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.failover.emulateddriver;
+
+import java.util.Vector;
+
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+
+/**
+ * Logs sessions in to the emulated driver, and sets the rows returned for its SQL.
+ */
+public final class EmulatedDatabase {
+
+    private EmulatedDatabase() {
+    }
+
+    /**
+     * Return a login connecting to a new emulated driver.
+     */
+    public static DatabaseLogin createLogin() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        return login;
+    }
+
+    /**
+     * Set the rows returned for the SQL by the connections of the logged in session.
+     */
+    public static void putRows(DatabaseSession session, String sql, Vector<DatabaseRecord> rows) {
+        EmulatedConnection connection = (EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection();
+        connection.putRows(sql, rows);
+    }
+}
@@ -31,12 +31,16 @@
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 
 public class EmulatedStatement implements PreparedStatement {
 
     protected EmulatedConnection connection;
     protected String sql;
+    protected List<Object> parameters = new ArrayList<>();
+    protected List<List<Object>> batch = new ArrayList<>();
 
     public EmulatedStatement(EmulatedConnection connection) {
         this.connection = connection;
@@ -55,6 +59,16 @@ public void checkForError() throws SQLException{
         }
     }
 
+    /**
+     * Bind the value of the parameter, it is recorded with the update executed.
+     */
+    protected void bind(int parameterIndex, Object value) {
+        while (this.parameters.size() < parameterIndex) {
+            this.parameters.add(null);
+        }
+        this.parameters.set(parameterIndex - 1, value);
+    }
+
 
     @Override
     public boolean execute() throws SQLException {
@@ -108,6 +122,7 @@ public ResultSet executeQuery(String sql) throws SQLException {
     @Override
     public int executeUpdate() throws SQLException {
         checkForError();
+        this.connection.addUpdate(this.sql, new ArrayList<>(this.parameters));
         return 1;
     }
 
@@ -141,64 +156,78 @@ public int executeUpdate(String sql, String[] columnNames) throws SQLException {
 
     @Override
     public void setNull(int parameterIndex, int sqlType) {
+        bind(parameterIndex, null);
     }
 
     @Override
     public void setBoolean(int parameterIndex, boolean x) {
+        bind(parameterIndex, x);
     }
 
     @Override
     public void setByte(int parameterIndex, byte x) {
+        bind(parameterIndex, x);
     }
 
     @Override
     public void setShort(int parameterIndex, short x) {
+        bind(parameterIndex, x);
     }
 
     @Override
     public void setInt(int parameterIndex, int x) {
+        bind(parameterIndex, x);
     }
 
     @Override
     public void setLong(int parameterIndex, long x) {
+        bind(parameterIndex, x);
     }
 
     @Override
     public void setFloat(int parameterIndex, float x) {
+        bind(parameterIndex, x);
     }
 
     @Override
     public void setDouble(int parameterIndex, double x) {
+        bind(parameterIndex, x);
     }
 
 
     @Override
     public void setBigDecimal(int parameterIndex, BigDecimal x) {
+        bind(parameterIndex, x);
     }
 
 
     @Override
     public void setString(int parameterIndex, String x) {
+        bind(parameterIndex, x);
     }
 
 
     @Override
     public void setBytes(int parameterIndex, byte[] x) {
+        bind(parameterIndex, x);
     }
 
 
     @Override
     public void setDate(int parameterIndex, java.sql.Date x) {
+        bind(parameterIndex, x);
     }
 
 
     @Override
     public void setTime(int parameterIndex, java.sql.Time x) {
+        bind(parameterIndex, x);
     }
 
 
     @Override
     public void setTimestamp(int parameterIndex, java.sql.Timestamp x) {
+        bind(parameterIndex, x);
     }
 
 
@@ -219,24 +248,29 @@ public void setBinaryStream(int parameterIndex, java.io.InputStream x, int lengt
 
     @Override
     public void clearParameters() {
+        this.parameters.clear();
     }
 
     @Override
     public void setObject(int parameterIndex, Object x, int targetSqlType, int scale) {
+        bind(parameterIndex, x);
     }
 
 
     @Override
     public void setObject(int parameterIndex, Object x, int targetSqlType) {
+        bind(parameterIndex, x);
     }
 
 
     @Override
     public void setObject(int parameterIndex, Object x) {
+        bind(parameterIndex, x);
     }
 
     @Override
     public void addBatch() {
+        this.batch.add(new ArrayList<>(this.parameters));
     }
 
 
@@ -401,11 +435,18 @@ public void addBatch(String sql) {
 
     @Override
     public void clearBatch() {
+        this.batch.clear();
     }
 
     @Override
     public int[] executeBatch(){
-        return null;
+        int[] rowCounts = new int[this.batch.size()];
+        for (int index = 0; index < rowCounts.length; index++) {
+            this.connection.addUpdate(this.sql, this.batch.get(index));
+            rowCounts[index] = 1;
+        }
+        this.batch.clear();
+        return rowCounts;
     }
     @Override
     public Connection getConnection() {
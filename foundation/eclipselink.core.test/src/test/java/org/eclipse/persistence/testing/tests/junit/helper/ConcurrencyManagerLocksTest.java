@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the ConcurrencyManager when its state is guarded by a ReentrantLock instead of the object monitor.
+ */
+public class ConcurrencyManagerLocksTest {
+
+    private static final int NO_OF_THREADS = 16;
+    private static final int NO_OF_ITERATIONS = 2000;
+
+    private CacheKey newCacheKey() {
+        CacheKey cacheKey = new CacheKey(1L);
+        cacheKey.useLocks();
+        return cacheKey;
+    }
+
+    @Test
+    public void testAcquireRelease() {
+        CacheKey cacheKey = newCacheKey();
+        assertTrue(cacheKey.usesLocks());
+        cacheKey.acquire();
+        cacheKey.acquire();
+        assertTrue(cacheKey.isNested());
+        assertEquals(Thread.currentThread(), cacheKey.getActiveThread());
+        cacheKey.release();
+        cacheKey.release();
+        assertFalse(cacheKey.isAcquired());
+        assertTrue(cacheKey.acquireNoWait());
+        cacheKey.release();
+    }
+
+    @Test
+    public void testReadLockBlocksWriter() throws Exception {
+        CacheKey cacheKey = newCacheKey();
+        cacheKey.acquireReadLock();
+        AtomicBoolean acquired = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            assertFalse(cacheKey.acquireNoWait());
+            cacheKey.acquire();
+            acquired.set(true);
+            cacheKey.release();
+        });
+        writer.start();
+        writer.join(200);
+        assertFalse(acquired.get());
+        cacheKey.releaseReadLock();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        assertTrue(acquired.get());
+        assertFalse(cacheKey.isAcquired());
+    }
+
+    @Test
+    public void testWaitForRelease() throws Exception {
+        CacheKey cacheKey = newCacheKey();
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread builder = new Thread(() -> {
+            cacheKey.acquire();
+            locked.countDown();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException exception) {
+                // Ignore.
+            }
+            cacheKey.setObject("built");
+            cacheKey.release();
+        });
+        builder.start();
+        locked.await();
+        assertEquals("built", cacheKey.waitForObject());
+        builder.join();
+    }
+
+    @Test
+    public void testConcurrentReadersAndWriters() throws Exception {
+        CacheKey cacheKey = newCacheKey();
+        AtomicInteger value = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+        ExecutorService executorService = Executors.newFixedThreadPool(NO_OF_THREADS);
+        for (int thread = 0; thread < NO_OF_THREADS; thread++) {
+            final boolean isWriter = (thread % 4) == 0;
+            executorService.execute(() -> {
+                for (int i = 0; i < NO_OF_ITERATIONS; i++) {
+                    if (isWriter) {
+                        cacheKey.acquire();
+                        // No reader can see the odd value.
+                        value.incrementAndGet();
+                        value.incrementAndGet();
+                        cacheKey.release();
+                    } else {
+                        cacheKey.acquireReadLock();
+                        if ((value.get() % 2) != 0) {
+                            failed.set(true);
+                        }
+                        cacheKey.releaseReadLock();
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        assertFalse(failed.get());
+        assertEquals((NO_OF_THREADS / 4) * NO_OF_ITERATIONS * 2, value.get());
+        assertFalse(cacheKey.isAcquired());
+        assertEquals(0, cacheKey.getNumberOfReaders());
+    }
+
+    @Test
+    public void testDeferredLock() {
+        CacheKey cacheKey = newCacheKey();
+        cacheKey.acquireDeferredLock();
+        assertEquals(Thread.currentThread(), cacheKey.getActiveThread());
+        cacheKey.releaseDeferredLock();
+        assertFalse(cacheKey.isAcquired());
+    }
+
+    @Test
+    public void testIdentityMapUsesLocks() {
+        Project project = new Project(new DatabaseLogin());
+        project.setShouldUseLocksForCacheKeys(true);
+        AbstractSession session = (AbstractSession) project.createDatabaseSession();
+        FullIdentityMap identityMap = new FullIdentityMap(100, null, session, false);
+        CacheKey cacheKey = identityMap.acquireLock(1L, false, false);
+        assertTrue(cacheKey.usesLocks());
+        cacheKey.release();
+
+        project.setShouldUseLocksForCacheKeys(false);
+        identityMap = new FullIdentityMap(100, null, session, false);
+        cacheKey = identityMap.acquireLock(1L, false, false);
+        assertFalse(cacheKey.usesLocks());
+        cacheKey.release();
+    }
+
+    @Test
+    public void testClone() throws Exception {
+        CacheKey cacheKey = newCacheKey();
+        CacheKey clone = (CacheKey) cacheKey.clone();
+        assertTrue(clone.usesLocks());
+        // The clone is locked independently.
+        cacheKey.acquire();
+        Thread other = new Thread(() -> {
+            clone.acquire();
+            clone.release();
+        });
+        other.start();
+        try {
+            other.join(TimeUnit.SECONDS.toMillis(10));
+            assertFalse(other.isAlive());
+        } finally {
+            cacheKey.release();
+        }
+        assertNotSame(cacheKey, clone);
+    }
+
+    @Test
+    public void testAcquireLocksForClone() throws Exception {
+        Project project = EmulatedSessionBase.createProject();
+        project.setShouldUseLocksForCacheKeys(true);
+        DatabaseSession session = project.createDatabaseSession();
+        session.login();
+        try {
+            Address address = new Address();
+            address.id = BigDecimal.ONE;
+            session.getIdentityMapAccessor().putInIdentityMap(address);
+            AbstractSession cloningSession = (AbstractSession) session;
+            CacheKey cacheKey = cloningSession.getIdentityMapAccessorInstance().getCacheKeyForObject(address);
+            assertTrue(cacheKey.usesLocks());
+
+            // Another thread holds the lock of the object while it is cloned.
+            CountDownLatch locked = new CountDownLatch(1);
+            Thread holder = new Thread(() -> {
+                cacheKey.acquire();
+                locked.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException exception) {
+                    // Ignore.
+                }
+                cacheKey.release();
+            });
+            holder.start();
+            locked.await();
+            AtomicReference<Map> lockedObjects = new AtomicReference<>();
+            Thread cloner = new Thread(() -> lockedObjects.set(cloningSession.getIdentityMapAccessorInstance().getWriteLockManager()
+                    .acquireLocksForClone(address, cloningSession.getDescriptor(Address.class), cacheKey, cloningSession)));
+            cloner.start();
+            cloner.join(TimeUnit.SECONDS.toMillis(10));
+            assertFalse(cloner.isAlive());
+            holder.join();
+            assertSame(cacheKey, lockedObjects.get().get(address));
+            cacheKey.releaseReadLock();
+        } finally {
+            session.logout();
+        }
+    }
+}
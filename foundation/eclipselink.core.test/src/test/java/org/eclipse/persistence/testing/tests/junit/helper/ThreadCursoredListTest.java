@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.helper.ThreadCursoredList;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests the ThreadCursoredList read while it is populated by another thread.
+ */
+public class ThreadCursoredListTest {
+
+    private static final int NO_OF_ELEMENTS = 10000;
+
+    @Test
+    public void testConcurrentPopulation() throws Exception {
+        ThreadCursoredList<Integer> list = new ThreadCursoredList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            executor.execute(() -> {
+                for (int index = 0; index < NO_OF_ELEMENTS; index++) {
+                    list.add(index);
+                }
+                list.setIsComplete(true);
+            });
+            Future<List<Integer>> iterated = executor.submit(() -> {
+                List<Integer> elements = new ArrayList<>();
+                for (Iterator<Integer> iterator = list.iterator(); iterator.hasNext();) {
+                    elements.add(iterator.next());
+                }
+                return elements;
+            });
+            Future<Integer> sum = executor.submit(() -> {
+                // Reads the elements through the view while they are added.
+                List<Integer> view = list.subList(NO_OF_ELEMENTS / 2, NO_OF_ELEMENTS);
+                int total = 0;
+                for (int index = 0; index < view.size(); index++) {
+                    total += view.get(index);
+                }
+                return total;
+            });
+            assertFalse(list.isEmpty());
+            List<Integer> forEach = new ArrayList<>();
+            list.forEach(forEach::add);
+            assertEquals(NO_OF_ELEMENTS, forEach.size());
+            assertEquals(forEach, iterated.get(10, TimeUnit.SECONDS));
+            int expected = 0;
+            for (int index = NO_OF_ELEMENTS / 2; index < NO_OF_ELEMENTS; index++) {
+                expected += index;
+            }
+            assertEquals(expected, (int) sum.get(10, TimeUnit.SECONDS));
+            assertEquals(NO_OF_ELEMENTS, list.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
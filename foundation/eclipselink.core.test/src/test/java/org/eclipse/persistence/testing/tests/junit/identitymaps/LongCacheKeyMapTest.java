@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.LongCacheKeyMap;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the LongCacheKeyMap and its use by identity maps of single integral primary keys.
+ */
+public class LongCacheKeyMapTest {
+
+    public static class LongEntity {
+        public long id;
+        public String name;
+    }
+
+    public static class StringEntity {
+        public String id;
+        public String name;
+    }
+
+    private RelationalDescriptor newDescriptor(Class<?> javaClass) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.setTableName("ENTITY");
+        descriptor.addPrimaryKeyFieldName("ENTITY.ID");
+        descriptor.addDirectMapping("id", "ENTITY.ID");
+        descriptor.addDirectMapping("name", "ENTITY.NAME");
+        return descriptor;
+    }
+
+    private DatabaseSessionImpl newSession() {
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(newDescriptor(LongEntity.class));
+        project.addDescriptor(newDescriptor(StringEntity.class));
+        DatabaseSessionImpl session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        return session;
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        LongCacheKeyMap map = new LongCacheKeyMap(0);
+        CacheKey one = new CacheKey(1L);
+        assertNull(map.putIfAbsent(1L, one));
+        assertSame(one, map.putIfAbsent(1L, new CacheKey(1L)));
+        assertSame(one, map.get(1L));
+        assertSame(one, map.get(1));
+        assertNull(map.get(2L));
+        assertEquals(1, map.size());
+        assertFalse(map.remove(1L, new CacheKey(1L)));
+        assertSame(one, map.remove(1L));
+        assertNull(map.get(1L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testResize() {
+        LongCacheKeyMap map = new LongCacheKeyMap(0);
+        for (long id = 0; id < 10000; id++) {
+            map.putIfAbsent(id, new CacheKey(id));
+        }
+        // Negative and colliding keys.
+        map.putIfAbsent(-1L, new CacheKey(-1L));
+        map.putIfAbsent(Long.MIN_VALUE, new CacheKey(Long.MIN_VALUE));
+        assertEquals(10002, map.size());
+        for (long id = 0; id < 10000; id += 2) {
+            map.remove(id);
+        }
+        for (long id = 0; id < 10000; id++) {
+            assertEquals((id % 2) == 0, map.get(id) == null);
+        }
+        assertEquals(Long.MIN_VALUE, map.get(Long.MIN_VALUE).getKey());
+        assertEquals(5002, map.size());
+        int count = 0;
+        for (CacheKey cacheKey : map.values()) {
+            assertSame(cacheKey, map.get(cacheKey.getKey()));
+            count++;
+        }
+        assertEquals(5002, count);
+    }
+
+    @Test
+    public void testOtherKeys() {
+        LongCacheKeyMap map = new LongCacheKeyMap(16);
+        CacheId cacheId = new CacheId(new Object[] {1L, 2L});
+        CacheKey other = new CacheKey(cacheId);
+        map.putIfAbsent(cacheId, other);
+        map.putIfAbsent("1", new CacheKey("1"));
+        map.putIfAbsent(1L, new CacheKey(1L));
+        assertEquals(3, map.size());
+        assertSame(other, map.get(new CacheId(new Object[] {1L, 2L})));
+        assertEquals("1", map.get("1").getKey());
+        assertEquals(1L, map.get(1L).getKey());
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get("1"));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        LongCacheKeyMap map = new LongCacheKeyMap(16);
+        for (long id = 0; id < 100; id++) {
+            map.putIfAbsent(id, new CacheKey(id));
+        }
+        map.putIfAbsent("other", new CacheKey("other"));
+        for (Iterator<CacheKey> iterator = map.values().iterator(); iterator.hasNext();) {
+            Object key = iterator.next().getKey();
+            if (!(key instanceof Long) || (((Long)key) % 2 == 0)) {
+                iterator.remove();
+            }
+        }
+        assertEquals(50, map.size());
+        assertNull(map.get("other"));
+        assertNull(map.get(0L));
+        assertEquals(1L, map.get(1L).getKey());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        LongCacheKeyMap map = new LongCacheKeyMap(16);
+        AtomicBoolean failed = new AtomicBoolean();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            final long seed = thread;
+            executorService.execute(() -> {
+                try {
+                    for (long i = 0; i < 20000; i++) {
+                        long id = (i * 31 + seed) % 5000;
+                        CacheKey cacheKey = map.get(id);
+                        if (cacheKey == null) {
+                            CacheKey newKey = new CacheKey(id);
+                            cacheKey = map.putIfAbsent(id, newKey);
+                            if (cacheKey == null) {
+                                cacheKey = newKey;
+                            }
+                        } else if ((i % 7) == 0) {
+                            map.remove(id, cacheKey);
+                        }
+                        if (((Long)cacheKey.getKey()) != id) {
+                            failed.set(true);
+                        }
+                    }
+                } catch (Throwable error) {
+                    failed.set(true);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        assertFalse(failed.get());
+        int count = 0;
+        for (CacheKey cacheKey : map.values()) {
+            assertSame(cacheKey, map.get(cacheKey.getKey()));
+            count++;
+        }
+        assertEquals(map.size(), count);
+    }
+
+    @Test
+    public void testIdentityMapSelection() {
+        DatabaseSessionImpl session = newSession();
+        RelationalDescriptor longDescriptor = (RelationalDescriptor) session.getDescriptor(LongEntity.class);
+        RelationalDescriptor stringDescriptor = (RelationalDescriptor) session.getDescriptor(StringEntity.class);
+        assertTrue(LongCacheKeyMap.isLongKeyed(longDescriptor));
+        assertFalse(LongCacheKeyMap.isLongKeyed(stringDescriptor));
+        assertFalse(LongCacheKeyMap.isLongKeyed(null));
+
+        FullIdentityMap identityMap = new FullIdentityMap(100, longDescriptor, session, false);
+        assertTrue(identityMap.getCacheKeys() instanceof LongCacheKeyMap);
+        identityMap.put(1L, "object1", null, 0);
+        assertEquals("object1", identityMap.get(1L));
+        FullIdentityMap clone = (FullIdentityMap) identityMap.clone();
+        assertTrue(clone.getCacheKeys() instanceof LongCacheKeyMap);
+        assertEquals("object1", clone.get(1L));
+        assertFalse(new FullIdentityMap(100, stringDescriptor, session, false).getCacheKeys() instanceof LongCacheKeyMap);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.NoExpiryCacheInvalidationPolicy;
+import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCache;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the storage, eviction and invalidation of rows in the OffHeapCache.
+ */
+public class OffHeapCacheTest {
+
+    private static final NoExpiryCacheInvalidationPolicy NO_EXPIRY = new NoExpiryCacheInvalidationPolicy();
+
+    private AbstractRecord newRow(long id) {
+        DatabaseRecord row = new DatabaseRecord();
+        row.put("EMPLOYEE.ID", id);
+        row.put("EMPLOYEE.NAME", "name" + id);
+        row.put("EMPLOYEE.SALARY", new BigDecimal("1234.56"));
+        row.put("EMPLOYEE.MANAGER_ID", null);
+        return row;
+    }
+
+    @Test
+    public void testPutGet() {
+        OffHeapCache cache = new OffHeapCache(1024 * 1024);
+        cache.put(1L, newRow(1L), System.currentTimeMillis(), false);
+        AbstractRecord row = cache.get(1L, NO_EXPIRY);
+        assertNotNull(row);
+        assertEquals(1L, row.get("EMPLOYEE.ID"));
+        assertEquals("name1", row.get("EMPLOYEE.NAME"));
+        assertEquals(new BigDecimal("1234.56"), row.get("EMPLOYEE.SALARY"));
+        assertNull(row.get("EMPLOYEE.MANAGER_ID"));
+        assertNull(cache.get(2L, NO_EXPIRY));
+    }
+
+    @Test
+    public void testValueTypes() {
+        OffHeapCache cache = new OffHeapCache(1024 * 1024);
+        DatabaseRecord row = new DatabaseRecord();
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] values = {1, 2L, (short)3, (byte)4, 5.0d, 6.0f, Boolean.TRUE, new BigInteger("12345678901234567890"),
+            timestamp, new java.sql.Date(2000L), new java.sql.Time(3000L), new java.util.Date(4000L), 'c', Arrays.asList("serialized")};
+        for (int index = 0; index < values.length; index++) {
+            row.put("F" + index, values[index]);
+        }
+        row.put("BYTES", new byte[] {1, 2, 3});
+        cache.put(1L, row, 0, false);
+        AbstractRecord result = cache.get(1L, NO_EXPIRY);
+        for (int index = 0; index < values.length; index++) {
+            assertEquals(values[index], result.get("F" + index));
+        }
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[])result.get("BYTES"));
+    }
+
+    @Test
+    public void testOverwrite() {
+        OffHeapCache cache = new OffHeapCache(1024 * 1024);
+        cache.put(1L, newRow(1L), 0, false);
+        AbstractRecord row = newRow(1L);
+        row.put("EMPLOYEE.NAME", "changed");
+        cache.put(1L, row, 0, false);
+        assertEquals("name1", cache.get(1L, NO_EXPIRY).get("EMPLOYEE.NAME"));
+        cache.put(1L, row, 0, true);
+        assertEquals("changed", cache.get(1L, NO_EXPIRY).get("EMPLOYEE.NAME"));
+    }
+
+    @Test
+    public void testEviction() {
+        // Minimum segment size, a single segment.
+        OffHeapCache cache = new OffHeapCache(64 * 1024);
+        int evicted = 0;
+        for (long id = 0; id < 10000; id++) {
+            evicted += cache.put(id, newRow(id), 0, false);
+        }
+        assertTrue(evicted > 0);
+        assertEquals(10000 - evicted, cache.size());
+        assertTrue(cache.size() < 10000);
+        assertNull(cache.get(0L, NO_EXPIRY));
+        assertNotNull(cache.get(9999L, NO_EXPIRY));
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        OffHeapCache cache = new OffHeapCache(1024 * 1024);
+        cache.put(1L, newRow(1L), 0, false);
+        cache.put(2L, newRow(2L), 0, false);
+        cache.remove(1L);
+        assertNull(cache.get(1L, NO_EXPIRY));
+        assertNotNull(cache.get(2L, NO_EXPIRY));
+        cache.clear();
+        assertNull(cache.get(2L, NO_EXPIRY));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExpiry() {
+        OffHeapCache cache = new OffHeapCache(1024 * 1024);
+        cache.put(1L, newRow(1L), System.currentTimeMillis() - 10000, false);
+        assertNull(cache.get(1L, new TimeToLiveCacheInvalidationPolicy(1000)));
+        cache.put(2L, newRow(2L), System.currentTimeMillis(), false);
+        assertNotNull(cache.get(2L, new TimeToLiveCacheInvalidationPolicy(100000)));
+    }
+
+    @Test
+    public void testInvalidatedWhilePut() {
+        Project project = EmulatedSessionBase.createProject();
+        ClassDescriptor descriptor = project.getDescriptor(Address.class);
+        descriptor.getCachePolicy().setOffHeapCacheSize(1024 * 1024);
+        DatabaseSession session = project.createDatabaseSession();
+        session.login();
+        try {
+            IdentityMapManager manager = ((AbstractSession) session).getIdentityMapAccessorInstance().getIdentityMapManager();
+            AbstractRecord row = Address.getData(descriptor).get(0);
+            CacheKey cacheKey = new CacheKey(BigDecimal.ONE);
+            manager.putRowInOffHeapCache(BigDecimal.ONE, row, cacheKey, false, descriptor, null);
+            assertNotNull(manager.getOffHeapCache(descriptor).get(BigDecimal.ONE, NO_EXPIRY));
+
+            // Invalidated or removed from the cache while the row was read.
+            cacheKey = new CacheKey(BigDecimal.TEN);
+            cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+            manager.putRowInOffHeapCache(BigDecimal.TEN, row, cacheKey, false, descriptor, null);
+            assertNull(manager.getOffHeapCache(descriptor).get(BigDecimal.TEN, NO_EXPIRY));
+        } finally {
+            session.logout();
+        }
+    }
+}
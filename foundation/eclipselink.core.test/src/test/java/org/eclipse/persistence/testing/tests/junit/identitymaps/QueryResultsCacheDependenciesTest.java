@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the invalidation of the query results cache of queries tracking the fields they depend on.
+ */
+public class QueryResultsCacheDependenciesTest {
+
+    public static class Employee {
+        public long id;
+        public String name;
+        public long salary;
+    }
+
+    private DatabaseSessionImpl session;
+    private ClassDescriptor descriptor;
+
+    @Before
+    public void setUp() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("name", "EMPLOYEE.NAME");
+        descriptor.addDirectMapping("salary", "EMPLOYEE.SALARY");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        this.session = (DatabaseSessionImpl) project.createDatabaseSession();
+        this.session.initializeDescriptors();
+        this.descriptor = this.session.getDescriptor(Employee.class);
+    }
+
+    private ReadAllQuery newQuery(boolean trackDependencies) {
+        ReadAllQuery query = new ReadAllQuery(Employee.class);
+        // Equal queries share their cached results, so name them.
+        query.setName(trackDependencies ? "tracking" : "notTracking");
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("salary").greaterThan(1000));
+        query.addOrdering(builder.get("id"));
+        QueryResultsCachePolicy policy = new QueryResultsCachePolicy();
+        policy.setTrackDependencies(trackDependencies);
+        query.setQueryResultsCachePolicy(policy);
+        query.checkPrepare(this.session, new DatabaseRecord());
+        List<Object> results = new ArrayList<>();
+        results.add(new Employee());
+        this.session.getIdentityMapAccessorInstance().putQueryResult(query, null, results);
+        return query;
+    }
+
+    private boolean isCached(ReadAllQuery query) {
+        return this.session.getIdentityMapAccessorInstance().getQueryResult(query, null, true) != null;
+    }
+
+    private UnitOfWorkChangeSet newChangeSet(boolean isNew, String... attributes) {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet(this.session);
+        Employee employee = new Employee();
+        employee.id = 1;
+        ObjectChangeSet objectChangeSet = new ObjectChangeSet(1L, this.descriptor, employee, changeSet, isNew);
+        for (String attribute : attributes) {
+            DirectToFieldChangeRecord changeRecord = new DirectToFieldChangeRecord(objectChangeSet);
+            changeRecord.setAttribute(attribute);
+            changeRecord.setMapping(this.descriptor.getMappingForAttributeName(attribute));
+            changeRecord.setNewValue("value");
+            objectChangeSet.addChange(changeRecord);
+        }
+        changeSet.addObjectChangeSet(objectChangeSet, this.session, false);
+        return changeSet;
+    }
+
+    private void commit(UnitOfWorkChangeSet changeSet) {
+        this.session.getIdentityMapAccessorInstance().invalidateQueryCache(Employee.class, changeSet);
+    }
+
+    @Test
+    public void testDependencyFields() {
+        ReadAllQuery query = newQuery(true);
+        assertNotNull(query.getQueryResultsCachePolicy().getDependencyFields());
+        assertTrue(query.getQueryResultsCachePolicy().getDependencyFields().contains(new DatabaseField("EMPLOYEE.SALARY")));
+        assertTrue(query.getQueryResultsCachePolicy().getDependencyFields().contains(new DatabaseField("EMPLOYEE.ID")));
+        assertFalse(query.getQueryResultsCachePolicy().getDependencyFields().contains(new DatabaseField("EMPLOYEE.NAME")));
+        assertNull(newQuery(false).getQueryResultsCachePolicy().getDependencyFields());
+    }
+
+    @Test
+    public void testUpdateOfOtherField() {
+        ReadAllQuery tracking = newQuery(true);
+        ReadAllQuery notTracking = newQuery(false);
+        assertTrue(isCached(tracking));
+        assertTrue(isCached(notTracking));
+        commit(newChangeSet(false, "name"));
+        assertTrue(isCached(tracking));
+        assertFalse(isCached(notTracking));
+    }
+
+    @Test
+    public void testUpdateOfDependency() {
+        ReadAllQuery query = newQuery(true);
+        commit(newChangeSet(false, "name", "salary"));
+        assertFalse(isCached(query));
+    }
+
+    @Test
+    public void testInsert() {
+        ReadAllQuery query = newQuery(true);
+        commit(newChangeSet(true, "name"));
+        assertFalse(isCached(query));
+    }
+
+    @Test
+    public void testDelete() {
+        ReadAllQuery query = newQuery(true);
+        UnitOfWorkChangeSet changeSet = newChangeSet(false, "name");
+        ObjectChangeSet deleted = new ObjectChangeSet(2L, this.descriptor, new Employee(), changeSet, false);
+        changeSet.getDeletedObjects().put(deleted, deleted);
+        commit(changeSet);
+        assertFalse(isCached(query));
+    }
+
+    @Test
+    public void testClassInvalidation() {
+        ReadAllQuery query = newQuery(true);
+        this.session.getIdentityMapAccessorInstance().invalidateQueryCache(Employee.class);
+        assertFalse(isCached(query));
+    }
+}
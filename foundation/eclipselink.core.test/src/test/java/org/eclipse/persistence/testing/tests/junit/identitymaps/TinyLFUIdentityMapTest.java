@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FrequencySketch;
+import org.eclipse.persistence.internal.identitymaps.TinyLFUIdentityMap;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the size bound and the frequency based admission of the TinyLFUIdentityMap.
+ */
+public class TinyLFUIdentityMapTest {
+
+    private static final int SIZE = 100;
+
+    private TinyLFUIdentityMap newIdentityMap(int size) {
+        AbstractSession session = (AbstractSession) new Project(new DatabaseLogin()).createDatabaseSession();
+        return new TinyLFUIdentityMap(size, null, session, false);
+    }
+
+    @Test
+    public void testSketch() {
+        FrequencySketch sketch = new FrequencySketch(SIZE);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment(1L);
+        }
+        sketch.increment(2L);
+        assertEquals(5, sketch.frequency(1L));
+        assertTrue(sketch.frequency(2L) >= 1);
+        // Counters are saturated at 15.
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(3L);
+        }
+        assertTrue(sketch.frequency(3L) <= 15);
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        TinyLFUIdentityMap identityMap = newIdentityMap(SIZE);
+        for (long id = 0; id < SIZE * 10; id++) {
+            identityMap.put(id, "object" + id, null, 0);
+            assertTrue(identityMap.getSize() <= SIZE);
+        }
+        assertEquals(SIZE, identityMap.getSize());
+    }
+
+    @Test
+    public void testFrequentObjectsAreKept() {
+        TinyLFUIdentityMap identityMap = newIdentityMap(SIZE);
+        for (long id = 0; id < SIZE / 2; id++) {
+            identityMap.put(id, "object" + id, null, 0);
+        }
+        // Make the first half frequently used.
+        for (int i = 0; i < 10; i++) {
+            for (long id = 0; id < SIZE / 2; id++) {
+                assertNotNull(identityMap.get(id));
+            }
+        }
+        // Scan many objects read only once.
+        for (long id = SIZE; id < SIZE * 20; id++) {
+            identityMap.put(id, "object" + id, null, 0);
+        }
+        int kept = 0;
+        for (long id = 0; id < SIZE / 2; id++) {
+            if (identityMap.getCacheKey(id, false) != null) {
+                kept++;
+            }
+        }
+        assertTrue("Only " + kept + " frequent objects kept", kept >= (SIZE / 2) * 9 / 10);
+    }
+
+    @Test
+    public void testRemove() {
+        TinyLFUIdentityMap identityMap = newIdentityMap(SIZE);
+        for (long id = 0; id < SIZE; id++) {
+            identityMap.put(id, "object" + id, null, 0);
+        }
+        assertEquals("object1", identityMap.remove(1L, null));
+        assertNull(identityMap.get(1L));
+        assertEquals(SIZE - 1, identityMap.getSize());
+        identityMap.put(SIZE, "object" + SIZE, null, 0);
+        identityMap.put(SIZE + 1, "object" + (SIZE + 1), null, 0);
+        assertEquals(SIZE, identityMap.getSize());
+    }
+
+    @Test
+    public void testLockedObjectsAreNotEvicted() {
+        TinyLFUIdentityMap identityMap = newIdentityMap(SIZE);
+        CacheKey locked = identityMap.acquireLock(-1L, true, false);
+        for (long id = 0; id < SIZE * 10; id++) {
+            identityMap.put(id, "object" + id, null, 0);
+        }
+        assertTrue(identityMap.getCacheKey(-1L, false) == locked);
+        locked.release();
+    }
+
+    @Test
+    public void testUpdateMaxSize() {
+        TinyLFUIdentityMap identityMap = newIdentityMap(SIZE);
+        for (long id = 0; id < SIZE; id++) {
+            identityMap.put(id, "object" + id, null, 0);
+        }
+        identityMap.updateMaxSize(SIZE / 2);
+        assertEquals(SIZE / 2, identityMap.getSize());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        TinyLFUIdentityMap identityMap = newIdentityMap(SIZE);
+        AtomicBoolean failed = new AtomicBoolean();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            final long seed = thread;
+            executorService.execute(() -> {
+                try {
+                    for (long i = 0; i < 20000; i++) {
+                        long id = (i * 31 + seed) % (SIZE * 4);
+                        if (identityMap.get(id) == null) {
+                            identityMap.put(id, "object" + id, null, 0);
+                        }
+                    }
+                } catch (Throwable error) {
+                    failed.set(true);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+        assertFalse(failed.get());
+        assertTrue(identityMap.getSize() <= SIZE);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.profiler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDatabase;
+import org.eclipse.persistence.tools.profiler.jfr.JfrProfiler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the JFR events emitted by the JFR profiler.
+ */
+public class JfrProfilerTest {
+
+    public static class Employee {
+        public long id;
+        public String name;
+    }
+
+    private DatabaseSessionImpl session;
+    private JfrProfiler profiler;
+
+    @Before
+    public void setUp() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("name", "EMPLOYEE.NAME");
+        Project project = new Project(EmulatedDatabase.createLogin());
+        project.addDescriptor(descriptor);
+        this.session = (DatabaseSessionImpl) project.createDatabaseSession();
+        this.session.setName("jfr");
+        this.session.setLogLevel(SessionLog.WARNING);
+        this.profiler = new JfrProfiler();
+        this.session.setProfiler(this.profiler);
+        this.session.login();
+    }
+
+    @After
+    public void tearDown() {
+        if (this.session.isConnected()) {
+            this.session.logout();
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable operations) throws Exception {
+        Path file = Files.createTempFile("eclipselink", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.eclipse.persistence.*");
+            recording.start();
+            operations.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("org.eclipse.persistence."))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    private Employee cacheEmployee() {
+        Employee employee = new Employee();
+        employee.id = 1;
+        this.session.getIdentityMapAccessorInstance().putInIdentityMap(employee, 1L);
+        return employee;
+    }
+
+    @Test
+    public void testQueryAndCacheEvents() throws Exception {
+        Employee employee = cacheEmployee();
+        ReadObjectQuery query = new ReadObjectQuery(Employee.class);
+        query.setSelectionId(1L);
+        Object[] result = new Object[1];
+        List<RecordedEvent> events = record(() -> result[0] = this.session.executeQuery(query));
+        assertSame(employee, result[0]);
+
+        List<RecordedEvent> executions = eventsNamed(events, "org.eclipse.persistence.QueryExecution");
+        assertEquals(1, executions.size());
+        assertEquals("ReadObjectQuery", executions.get(0).getString("queryClass"));
+        assertEquals(Employee.class.getName(), executions.get(0).getString("referenceClass"));
+        assertEquals(1, executions.get(0).getInt("rowCount"));
+        assertEquals("jfr", executions.get(0).getString("session"));
+
+        List<RecordedEvent> accesses = eventsNamed(events, "org.eclipse.persistence.CacheAccess");
+        assertEquals(1, accesses.size());
+        assertEquals(Employee.class.getName(), accesses.get(0).getString("descriptor"));
+        assertTrue(accesses.get(0).getBoolean("hit"));
+    }
+
+    @Test
+    public void testOperationEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            this.session.startOperationProfile(SessionProfiler.UowCommit);
+            this.session.startOperationProfile(SessionProfiler.UowCalculateChanges);
+            this.session.endOperationProfile(SessionProfiler.UowCalculateChanges);
+            this.session.endOperationProfile(SessionProfiler.UowCommit);
+            this.session.startOperationProfile(SessionProfiler.ConnectionAcquireWait);
+            this.session.endOperationProfile(SessionProfiler.ConnectionAcquireWait);
+            // Not recorded.
+            this.session.startOperationProfile(SessionProfiler.SqlPrepare);
+            this.session.endOperationProfile(SessionProfiler.SqlPrepare);
+        });
+        List<String> phases = eventsNamed(events, "org.eclipse.persistence.CommitPhase").stream()
+                .map(event -> event.getString("phase")).collect(Collectors.toList());
+        assertEquals(List.of("CalculateChanges", "Commit"), phases);
+        assertEquals(1, eventsNamed(events, "org.eclipse.persistence.ConnectionAcquireWait").size());
+        assertEquals(3, events.size());
+    }
+
+    @Test
+    public void testNestedOperationEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            this.session.startOperationProfile(SessionProfiler.Merge);
+            this.session.startOperationProfile(SessionProfiler.Merge);
+            this.session.endOperationProfile(SessionProfiler.Merge);
+            this.session.endOperationProfile(SessionProfiler.Merge);
+        });
+        List<RecordedEvent> merges = eventsNamed(events, "org.eclipse.persistence.CommitPhase");
+        assertEquals(2, merges.size());
+        // The inner merge ends first, and is within the outer one.
+        assertTrue(merges.get(0).getStartTime().compareTo(merges.get(1).getStartTime()) >= 0);
+        assertTrue(merges.get(0).getEndTime().compareTo(merges.get(1).getEndTime()) <= 0);
+    }
+
+    @Test
+    public void testLockWaitEvents() throws Exception {
+        ConcurrencyManager lock = new ConcurrencyManager();
+        List<RecordedEvent> events = record(() -> {
+            lock.acquire();
+            Thread waiter = new Thread(() -> {
+                lock.acquire();
+                lock.release();
+            });
+            waiter.start();
+            try {
+                Thread.sleep(100);
+                lock.release();
+                waiter.join();
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+        });
+        List<RecordedEvent> waits = eventsNamed(events, "org.eclipse.persistence.LockWait");
+        assertFalse(waits.isEmpty());
+        assertEquals("ConcurrencyManager", waits.get(0).getString("lockClass"));
+        assertTrue(waits.get(0).getLong("waitTime") > 0);
+    }
+
+    @Test
+    public void testLockWaitsStoppedOnLogout() {
+        assertNotNull(ConcurrencyManager.getLockWaitListener());
+        this.session.logout();
+        assertNull(ConcurrencyManager.getLockWaitListener());
+        // Recorded again when logged in again.
+        this.session.login();
+        assertNotNull(ConcurrencyManager.getLockWaitListener());
+    }
+
+    @Test
+    public void testNotRecording() {
+        Employee employee = cacheEmployee();
+        ReadObjectQuery query = new ReadObjectQuery(Employee.class);
+        query.setSelectionId(1L);
+        assertSame(employee, this.profiler.profileExecutionOfQuery(query, new DatabaseRecord(), this.session));
+        this.profiler.startOperationProfile(SessionProfiler.UowCommit);
+        this.profiler.endOperationProfile(SessionProfiler.UowCommit);
+        assertFalse(this.profiler.shouldProfileCacheAccess());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.eclipse.persistence.internal.queries.JPQLParseCache;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the admission, eviction and statistics of the JPQL parse cache.
+ */
+public class JPQLParseCacheTest {
+
+    private static void parse(JPQLParseCache cache, String jpql) {
+        if (cache.get(jpql) == null) {
+            cache.put(jpql, new ReadAllQuery());
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        JPQLParseCache cache = new JPQLParseCache(2, 0);
+        parse(cache, "SELECT a FROM A a");
+        parse(cache, "SELECT b FROM B b");
+        // Use the first query, so the second is the least recently used.
+        parse(cache, "SELECT a FROM A a");
+        parse(cache, "SELECT c FROM C c");
+        assertNotNull(cache.get("SELECT a FROM A a"));
+        assertNull(cache.get("SELECT b FROM B b"));
+        assertEquals(2, cache.getCache().size());
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testFrequentQueriesKept() {
+        JPQLParseCache cache = new JPQLParseCache(120, 0);
+        // Each round uses all the hot queries, and queries used once.
+        for (int round = 0; round < 100; round++) {
+            for (int index = 0; index < 100; index++) {
+                parse(cache, "SELECT e FROM Hot e WHERE e.id = " + index);
+            }
+            for (int index = 0; index < 20; index++) {
+                parse(cache, "SELECT e FROM Cold e WHERE e.id = " + (round * 20 + index));
+            }
+        }
+        // The queries used once only evict each other.
+        assertEquals(100 * 99, cache.getHits());
+        assertEquals(120, cache.getCache().size());
+        assertEquals(99 * 20, cache.getEvictions());
+    }
+
+    @Test
+    public void testMemoryBudget() {
+        String small = "SELECT a FROM A a";
+        String large = "SELECT a FROM A a WHERE " + "a.x = 1 AND ".repeat(100) + "a.y = 1";
+        long budget = JPQLParseCache.estimateSize(small, null) * 3;
+        JPQLParseCache cache = new JPQLParseCache(50, budget);
+        parse(cache, small);
+        parse(cache, small + " ORDER BY a.x");
+        assertTrue(cache.getMemoryUsed() <= budget);
+        // Larger than the whole budget, not cached.
+        parse(cache, large);
+        assertNull(cache.get(large));
+        assertEquals(2, cache.getCache().size());
+
+        parse(cache, small + " ORDER BY a.y");
+        parse(cache, small + " ORDER BY a.z");
+        assertTrue(cache.getMemoryUsed() <= budget);
+        assertNull(cache.get(small));
+        cache.clear();
+        assertEquals(0, cache.getMemoryUsed());
+    }
+
+    @Test
+    public void testCacheView() {
+        JPQLParseCache cache = new JPQLParseCache(10, 0);
+        parse(cache, "SELECT a FROM A a");
+        parse(cache, "SELECT b FROM B b");
+        cache.getCache().remove("SELECT a FROM A a");
+        assertNull(cache.get("SELECT a FROM A a"));
+        assertEquals(JPQLParseCache.estimateSize("SELECT b FROM B b", null), cache.getMemoryUsed());
+        // Clearing the map clears the memory used.
+        cache.getCache().clear();
+        assertEquals(0, cache.getCache().size());
+        assertEquals(0, cache.getMemoryUsed());
+    }
+
+    @Test
+    public void testResize() {
+        JPQLParseCache cache = new JPQLParseCache(3, 0);
+        parse(cache, "SELECT a FROM A a");
+        parse(cache, "SELECT b FROM B b");
+        parse(cache, "SELECT c FROM C c");
+        // Use the first query, so the second is the least recently used.
+        parse(cache, "SELECT a FROM A a");
+        cache.setMaxSize(2);
+        assertEquals(2, cache.getCache().size());
+        assertNull(cache.get("SELECT b FROM B b"));
+        assertNotNull(cache.get("SELECT a FROM A a"));
+
+        cache.setMemoryBudget(JPQLParseCache.estimateSize("SELECT a FROM A a", null));
+        assertEquals(1, cache.getCache().size());
+        assertNotNull(cache.get("SELECT a FROM A a"));
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    public void testProjectSettings() {
+        Project project = new Project(new DatabaseLogin());
+        ConcurrentFixedCache cache = project.getJPQLParseCache();
+        cache.put("SELECT a FROM A a", new ReadAllQuery());
+        project.setJPQLParseCacheMemoryBudget(1000000);
+        // Only the cache is resized in place, keeping the cached queries.
+        cache.setMaxSize(100);
+        assertSame(cache, project.getJPQLParseCache());
+        assertNotNull(cache.get("SELECT a FROM A a"));
+        // The project recreates the cache, removing the cached queries.
+        project.setJPQLParseCacheMaxSize(500);
+        assertNotSame(cache, project.getJPQLParseCache());
+        assertNull(project.getJPQLParseCache().get("SELECT a FROM A a"));
+        assertEquals(500, project.getJPQLParseCacheWithStatistics().getMaxSize());
+        assertEquals(1000000, project.getJPQLParseCacheMemoryBudget());
+    }
+}
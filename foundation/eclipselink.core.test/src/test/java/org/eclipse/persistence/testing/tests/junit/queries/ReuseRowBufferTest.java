@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.CursoredStream;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.queries.ReportQueryResult;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDatabase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the reuse of a single row for the rows read by a report query cursor.
+ */
+public class ReuseRowBufferTest extends EmulatedSessionBase<DatabaseSession> {
+
+    @Override
+    protected DatabaseSession createSession(Project project) {
+        return project.createDatabaseSession();
+    }
+
+    @Test
+    public void reuseRowBufferTest() {
+        Assert.assertEquals(Arrays.asList("Calgary", "Canada", "Metcalfe", "Canada", "Montreal", "Canada"), readCursor(true));
+        Assert.assertEquals(readCursor(false), readCursor(true));
+    }
+
+    @Test
+    public void canReuseRowBufferTest() {
+        DatabaseSessionImpl session = (DatabaseSessionImpl) this.session;
+        ReportQuery query = buildQuery();
+        query.prepareCall(session, new DatabaseRecord());
+        Assert.assertTrue(query.canReuseRowBuffer());
+
+        // The objects built reference their row.
+        ReportQuery objectQuery = buildQuery();
+        objectQuery.addItem("address", objectQuery.getExpressionBuilder());
+        objectQuery.prepareCall(session, new DatabaseRecord());
+        Assert.assertFalse(objectQuery.canReuseRowBuffer());
+
+        query = buildQuery();
+        query.setShouldReuseRowBuffer(false);
+        query.prepareCall(session, new DatabaseRecord());
+        Assert.assertFalse(query.canReuseRowBuffer());
+    }
+
+    private ReportQuery buildQuery() {
+        ReportQuery query = new ReportQuery(Address.class, new ExpressionBuilder());
+        query.addAttribute("city");
+        query.addAttribute("country");
+        query.setShouldReuseRowBuffer(true);
+        return query;
+    }
+
+    private List<Object> readCursor(boolean shouldReuseRowBuffer) {
+        ReportQuery query = buildQuery();
+        query.setShouldReuseRowBuffer(shouldReuseRowBuffer);
+        query.useCursoredStream();
+        CursoredStream stream = (CursoredStream) this.session.executeQuery(query);
+        List<ReportQueryResult> results = new ArrayList<>();
+        try {
+            while (stream.hasMoreElements()) {
+                results.add((ReportQueryResult) stream.nextElement());
+            }
+        } finally {
+            stream.close();
+        }
+        // The results read before must not change with the next rows.
+        List<Object> values = new ArrayList<>();
+        for (ReportQueryResult result : results) {
+            values.addAll(result.getResults());
+        }
+        return values;
+    }
+
+    @Override
+    protected void putRows() {
+        Vector<DatabaseField> fields = new Vector<>(Arrays.asList(new DatabaseField("ADDRESS.CITY"), new DatabaseField("ADDRESS.COUNTRY")));
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {"Calgary", "Canada"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {"Metcalfe", "Canada"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {"Montreal", "Canada"}));
+        EmulatedDatabase.putRows(this.session, "SELECT CITY, COUNTRY FROM ADDRESS", rows);
+    }
+}
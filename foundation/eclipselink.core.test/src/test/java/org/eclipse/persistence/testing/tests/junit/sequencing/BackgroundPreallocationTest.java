@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sequencing;
+
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sequencing.Sequence;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the background preallocation of sequence values.
+ */
+public class BackgroundPreallocationTest extends EmulatedSessionBase<ServerSession> {
+
+    private AllocatingSequence sequence;
+
+    @Override
+    protected ServerSession createSession(Project project) {
+        // Allocates the values of the Address sequence.
+        this.sequence = new AllocatingSequence();
+        project.getLogin().getDatasourcePlatform().addSequence(this.sequence);
+        ServerSession session = (ServerSession) project.createServerSession(2, 2);
+        session.getSequencingControl().setShouldUseBackgroundPreallocation(true);
+        return session;
+    }
+
+    @Test
+    public void backgroundPreallocationTest() throws Exception {
+        // 10 values allocated, the next are allocated once 2 are left.
+        for (long value = 1; value <= 8; value++) {
+            Assert.assertEquals(value, this.session.getSequencing().getNextValue(Address.class));
+        }
+        waitForAllocations(2);
+        Assert.assertNotSame(Thread.currentThread(), this.sequence.threads.get(1));
+        // Used up in less than a second, so twice as many values allocated.
+        Assert.assertEquals(20, (int) this.sequence.sizes.get(1));
+        for (long value = 9; value <= 25; value++) {
+            Assert.assertEquals(value, this.session.getSequencing().getNextValue(Address.class));
+        }
+        waitForAllocations(3);
+        Assert.assertEquals(40, (int) this.sequence.sizes.get(2));
+        for (long value = 26; value <= 70; value++) {
+            Assert.assertEquals(value, this.session.getSequencing().getNextValue(Address.class));
+        }
+    }
+
+    @Test
+    public void maxPreallocationSizeTest() throws Exception {
+        this.session.getSequencingControl().setMaxPreallocationSize(15);
+        for (long value = 1; value <= 8; value++) {
+            Assert.assertEquals(value, this.session.getSequencing().getNextValue(Address.class));
+        }
+        waitForAllocations(2);
+        Assert.assertEquals(15, (int) this.sequence.sizes.get(1));
+    }
+
+    @Test
+    public void noBackgroundPreallocationTest() {
+        this.session.getSequencingControl().setShouldUseBackgroundPreallocation(false);
+        for (long value = 1; value <= 11; value++) {
+            Assert.assertEquals(value, this.session.getSequencing().getNextValue(Address.class));
+        }
+        Assert.assertEquals(2, this.sequence.sizes.size());
+        Assert.assertSame(Thread.currentThread(), this.sequence.threads.get(1));
+        Assert.assertEquals(10, (int) this.sequence.sizes.get(1));
+    }
+
+    private void waitForAllocations(int allocations) throws InterruptedException {
+        for (int i = 0; (i < 100) && (this.sequence.sizes.size() < allocations); i++) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(allocations, this.sequence.sizes.size());
+    }
+
+    /**
+     * Table like sequence allocating its values in memory.
+     */
+    static class AllocatingSequence extends Sequence {
+        long value;
+        final List<Integer> sizes = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        AllocatingSequence() {
+            super("ADDRESS_SEQ", 10);
+        }
+
+        @Override
+        public boolean isTable() {
+            return true;
+        }
+
+        @Override
+        public boolean shouldAcquireValueAfterInsert() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseTransaction() {
+            return false;
+        }
+
+        @Override
+        public Object getGeneratedValue(Accessor accessor, AbstractSession writeSession, String seqName) {
+            return null;
+        }
+
+        @Override
+        public synchronized Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+            Vector<Long> sequences = new Vector<>(size);
+            for (int i = 0; i < size; i++) {
+                sequences.add(++this.value);
+            }
+            this.threads.add(Thread.currentThread());
+            this.sizes.add(size);
+            return sequences;
+        }
+
+        @Override
+        public void onConnect() {
+        }
+
+        @Override
+        public void onDisconnect() {
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.internal.sessions.FuturePublisher;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDatabase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the asynchronous queries of a server session.
+ */
+public class AsyncQueryTest extends EmulatedSessionBase<ServerSession> {
+
+    @Override
+    protected ServerSession createSession(Project project) {
+        return (ServerSession) project.createServerSession(2, 2);
+    }
+
+    @Test
+    public void executeQueryAsyncTest() throws Exception {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            this.session.setAsyncQueryExecutor(command -> executor.execute(() -> {
+                thread.set(Thread.currentThread());
+                command.run();
+            }));
+            List<?> addresses = (List<?>) this.session.executeQueryAsync(new ReadAllQuery(Address.class)).get(10, TimeUnit.SECONDS);
+            Assert.assertFalse(addresses.isEmpty());
+            Assert.assertNotSame(Thread.currentThread(), thread.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentQueriesTest() throws Exception {
+        // Each query waits on its call for the other one, so both only complete if they run at the same time.
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        this.session.getEventManager().addListener(new SessionEventAdapter() {
+            @Override
+            public void preExecuteCall(SessionEvent event) {
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception exception) {
+                    throw new IllegalStateException("The queries did not run at the same time", exception);
+                }
+            }
+        });
+        CompletableFuture<Object> first = this.session.executeQueryAsync(new ReadAllQuery(Address.class));
+        CompletableFuture<Object> second = this.session.executeQueryAsync(new ReadAllQuery(Address.class));
+        Assert.assertFalse(((List<?>) first.get(20, TimeUnit.SECONDS)).isEmpty());
+        Assert.assertFalse(((List<?>) second.get(20, TimeUnit.SECONDS)).isEmpty());
+        Assert.assertFalse(barrier.isBroken());
+    }
+
+    @Test
+    public void unitOfWorkQueryAsyncTest() throws Exception {
+        Session client = this.session.acquireClientSession();
+        UnitOfWorkImpl uow = (UnitOfWorkImpl) client.acquireUnitOfWork();
+        CompletableFuture<Object> future = uow.executeQueryAsync(new ReadAllQuery(Address.class));
+        List<?> addresses = (List<?>) future.get(10, TimeUnit.SECONDS);
+        Assert.assertFalse(addresses.isEmpty());
+        // Read in a unit of work of its own.
+        Assert.assertFalse(uow.isObjectRegistered(addresses.get(0)));
+        Assert.assertTrue(uow.getCloneMapping().isEmpty());
+        uow.release();
+        client.release();
+    }
+
+    @Test
+    public void executeQueryPublisherTest() throws Exception {
+        int size = this.session.readAllObjects(Address.class).size();
+        PublishedResults results = subscribe(this.session);
+        Assert.assertTrue(results.done.await(10, TimeUnit.SECONDS));
+        Assert.assertNull(results.failure.get());
+        Assert.assertEquals(size, results.published.size());
+        Assert.assertTrue(results.published.get(0) instanceof Address);
+    }
+
+    @Test
+    public void singleConnectionPublisherTest() throws Exception {
+        DatabaseSession databaseSession = createProject().createDatabaseSession();
+        databaseSession.setLogLevel(SessionLog.WARNING);
+        databaseSession.login();
+        try {
+            EmulatedDatabase.putRows(databaseSession, Address.getSQL(), Address.getData(databaseSession.getDescriptor(Address.class)));
+            PublishedResults results = subscribe(databaseSession);
+            // The results are published on the executor, not on the subscriber's thread.
+            Assert.assertTrue(results.done.await(10, TimeUnit.SECONDS));
+            Assert.assertNull(results.failure.get());
+            Assert.assertFalse(results.published.isEmpty());
+            Assert.assertNotSame(Thread.currentThread(), results.thread.get());
+        } finally {
+            databaseSession.logout();
+        }
+    }
+
+    @Test
+    public void futurePublisherTest() throws Exception {
+        List<?> addresses = this.session.readAllObjects(Address.class);
+        PublishedResults results = subscribe(new FuturePublisher<>(() -> CompletableFuture.completedFuture(addresses)));
+        Assert.assertTrue(results.done.await(10, TimeUnit.SECONDS));
+        Assert.assertNull(results.failure.get());
+        Assert.assertEquals(addresses, results.published);
+
+        results = subscribe(new FuturePublisher<>(() -> CompletableFuture.failedFuture(new IllegalStateException())));
+        Assert.assertTrue(results.done.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(results.failure.get() instanceof IllegalStateException);
+        Assert.assertTrue(results.published.isEmpty());
+    }
+
+    @Test
+    public void modifyQueryAsyncTest() {
+        try {
+            this.session.executeQueryAsync(new DataModifyQuery("DELETE FROM ADDRESS"));
+            Assert.fail("Expected a QueryException");
+        } catch (QueryException expected) {
+            Assert.assertEquals(QueryException.INCORRECT_QUERY_FOUND, expected.getErrorCode());
+        }
+    }
+
+    /**
+     * Subscribe to the results of reading all addresses, requesting one at a time.
+     */
+    private static PublishedResults subscribe(Session session) {
+        return subscribe(session.executeQueryPublisher(new ReadAllQuery(Address.class), null));
+    }
+
+    /**
+     * Subscribe to the results of the publisher, requesting one at a time.
+     */
+    private static PublishedResults subscribe(Flow.Publisher<Object> publisher) {
+        PublishedResults results = new PublishedResults();
+        publisher.subscribe(new Flow.Subscriber<Object>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Object item) {
+                results.thread.set(Thread.currentThread());
+                results.published.add(item);
+                this.subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                results.failure.set(throwable);
+                results.done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                results.done.countDown();
+            }
+        });
+        return results;
+    }
+
+    private static final class PublishedResults {
+        final List<Object> published = new ArrayList<>();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(1);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.server;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.internal.helper.VirtualThreads;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.server.ServerPlatformBase;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ConnectionPolicy;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.NonBlockingConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests a server session configured to be used from virtual threads.
+ */
+public class VirtualThreadsModeTest extends EmulatedSessionBase<ServerSession> {
+
+    @Override
+    protected ServerSession createSession(Project project) {
+        project.setShouldUseVirtualThreads(true);
+        ServerSession session = (ServerSession) project.createServerSession(2, 2);
+        session.setMaxNumberOfNonPooledConnections(1);
+        return session;
+    }
+
+    @Test
+    public void nonBlockingConnectionPoolsTest() {
+        Assert.assertTrue(this.session.getDefaultConnectionPool() instanceof NonBlockingConnectionPool);
+        Assert.assertNotSame(ConnectionPool.class, this.session.getReadConnectionPool().getClass());
+        Assert.assertEquals(2, this.session.getDefaultConnectionPool().getMaxNumberOfConnections());
+    }
+
+    @Test
+    public void sequencingConnectionPoolTest() {
+        // The Address descriptor uses a sequence.
+        Project project = createProject();
+        project.setShouldUseVirtualThreads(true);
+        ServerSession session = (ServerSession) project.createServerSession(2, 2);
+        session.getSequencingControl().setShouldUseSeparateConnection(true);
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+        try {
+            Assert.assertTrue(session.getSequencingControl().getConnectionPool() instanceof NonBlockingConnectionPool);
+        } finally {
+            session.logout();
+        }
+    }
+
+    @Test
+    public void cacheKeysUseLocksTest() {
+        List<?> addresses = this.session.readAllObjects(Address.class);
+        Assert.assertFalse(addresses.isEmpty());
+        CacheKey cacheKey = this.session.getIdentityMapAccessorInstance().getCacheKeyForObject(addresses.get(0));
+        Assert.assertTrue(cacheKey.usesLocks());
+    }
+
+    @Test
+    public void asynchronousProcessingTest() throws Exception {
+        ServerPlatformBase platform = (ServerPlatformBase) this.session.getServerPlatform();
+        Assert.assertTrue(platform.shouldUseVirtualThreads());
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        platform.launchContainerRunnable(() -> {
+            thread.set(Thread.currentThread());
+            done.countDown();
+        });
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        if (VirtualThreads.isSupported()) {
+            Assert.assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread.get()));
+        }
+    }
+
+    @Test
+    public void nonPooledConnectionLimitTest() throws Exception {
+        // Non pooled client sessions acquire their connection eagerly.
+        ClientSession first = (ClientSession) this.session.acquireClientSession(new ConnectionPolicy(this.session.getDatasourceLogin()));
+        Assert.assertEquals(1, this.session.getNumberOfNonPooledConnectionsUsed());
+        AtomicReference<ClientSession> second = new AtomicReference<>();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            second.set((ClientSession) this.session.acquireClientSession(new ConnectionPolicy(this.session.getDatasourceLogin())));
+            acquired.countDown();
+        });
+        waiter.start();
+        // The limit of non pooled connections is reached.
+        Assert.assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        first.release();
+        Assert.assertTrue(acquired.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(1, this.session.getNumberOfNonPooledConnectionsUsed());
+        second.get().release();
+        Assert.assertEquals(0, this.session.getNumberOfNonPooledConnectionsUsed());
+    }
+
+    @Test
+    public void concurrentReadWriteTest() throws Exception {
+        int tasks = 200;
+        CountDownLatch done = new CountDownLatch(tasks);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = VirtualThreads.isSupported()
+                ? VirtualThreads.newThreadPerTaskExecutor("VirtualThreadsModeTest") : Executors.newFixedThreadPool(16);
+        try {
+            // Many more tasks than pooled connections, all updating the same cached objects.
+            for (int index = 0; index < tasks; index++) {
+                String city = "City " + index;
+                executor.execute(() -> {
+                    try {
+                        Session client = this.session.acquireClientSession();
+                        try {
+                            Assert.assertEquals(3, client.readAllObjects(Address.class).size());
+                            UnitOfWork unitOfWork = client.acquireUnitOfWork();
+                            Address address = (Address) unitOfWork.readObject(Address.class);
+                            address.city = city;
+                            unitOfWork.commit();
+                        } finally {
+                            client.release();
+                        }
+                    } catch (Throwable failure) {
+                        failures.add(failure);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            Assert.assertTrue("Concurrent transactions did not complete", done.await(60, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.peek());
+        }
+        Address address = (Address) this.session.readObject(Address.class);
+        Assert.assertTrue(address.city.startsWith("City "));
+        Assert.assertEquals(0, ((NonBlockingConnectionPool) this.session.getDefaultConnectionPool()).getNumberOfWaiters());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the merge of the committed changes into the shared cache in the background.
+ */
+public class DeferredMergeTest extends EmulatedSessionBase<ServerSession> {
+
+    private final List<Runnable> merges = new ArrayList<>();
+
+    @Override
+    protected ServerSession createSession(Project project) {
+        ServerSession session = (ServerSession) project.createServerSession(2, 2);
+        session.setShouldDeferMerge(true);
+        // The merges are run by the test.
+        session.getDeferredMergeQueue().setExecutor(this.merges::add);
+        return session;
+    }
+
+    @Test
+    public void deferredMergeTest() {
+        Address address = (Address) this.session.readAllObjects(Address.class).get(0);
+        String city = address.city;
+        commit(address, "Ottawa");
+
+        // Invalidated on commit, merged by the worker.
+        Assert.assertEquals(city, address.city);
+        Assert.assertFalse(this.session.getIdentityMapAccessor().isValid(address));
+        Assert.assertTrue(this.session.getDeferredMergeQueue().hasPendingMerges());
+        Assert.assertEquals(1, this.merges.size());
+        this.merges.get(0).run();
+        Assert.assertEquals("Ottawa", address.city);
+        Assert.assertTrue(this.session.getIdentityMapAccessor().isValid(address));
+        Assert.assertFalse(this.session.getDeferredMergeQueue().hasPendingMerges());
+    }
+
+    @Test
+    public void queuedMergesTest() {
+        List<?> addresses = this.session.readAllObjects(Address.class);
+        Address ottawa = (Address) addresses.get(0);
+        Address toronto = (Address) addresses.get(1);
+        commit(ottawa, "Ottawa");
+        commit(toronto, "Toronto");
+
+        // One worker merges the queued changes.
+        Assert.assertEquals(1, this.merges.size());
+        Assert.assertFalse(this.session.getIdentityMapAccessor().isValid(ottawa));
+        Assert.assertFalse(this.session.getIdentityMapAccessor().isValid(toronto));
+        this.merges.get(0).run();
+        Assert.assertEquals("Ottawa", ottawa.city);
+        Assert.assertEquals("Toronto", toronto.city);
+        Assert.assertTrue(this.session.getIdentityMapAccessor().isValid(ottawa));
+        Assert.assertTrue(this.session.getIdentityMapAccessor().isValid(toronto));
+        Assert.assertFalse(this.session.getDeferredMergeQueue().hasPendingMerges());
+    }
+
+    @Test
+    public void rejectedMergeTest() throws Exception {
+        this.session.getDeferredMergeQueue().setExecutor(command -> {
+            throw new RejectedExecutionException();
+        });
+        Address address = (Address) this.session.readAllObjects(Address.class).get(0);
+        commit(address, "Ottawa");
+
+        // The worker could not be started, so the changes of the commit are merged on commit.
+        Assert.assertEquals("Ottawa", address.city);
+        Assert.assertTrue(this.session.getIdentityMapAccessor().isValid(address));
+        Assert.assertFalse(this.session.getDeferredMergeQueue().hasPendingMerges());
+        this.session.getDeferredMergeQueue().waitForPendingMerges();
+    }
+
+    @Test
+    public void mergeOnCommitTest() {
+        this.session.setShouldDeferMerge(false);
+        Assert.assertNull(this.session.getDeferredMergeQueue());
+        Address address = (Address) this.session.readAllObjects(Address.class).get(0);
+        commit(address, "Ottawa");
+        Assert.assertEquals("Ottawa", address.city);
+        Assert.assertTrue(this.session.getIdentityMapAccessor().isValid(address));
+        Assert.assertTrue(this.merges.isEmpty());
+    }
+
+    private void commit(Address address, String city) {
+        UnitOfWork uow = this.session.acquireClientSession().acquireUnitOfWork();
+        Address clone = (Address) uow.registerExistingObject(address);
+        clone.city = city;
+        uow.commit();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.config.ReferenceMode;
+import org.eclipse.persistence.internal.sessions.RepeatableWriteUnitOfWork;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.emulated.Address;
+import org.eclipse.persistence.testing.tests.junit.emulated.EmulatedSessionBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the release of the objects written by each flush of a unit of work.
+ */
+public class ReleaseOnFlushTest extends EmulatedSessionBase<ServerSession> {
+
+    @Override
+    protected ServerSession createSession(Project project) {
+        return (ServerSession) project.createServerSession(2, 2);
+    }
+
+    @Test
+    public void releaseOnFlushTest() {
+        Address address = (Address) this.session.readAllObjects(Address.class).get(0);
+        RepeatableWriteUnitOfWork uow = acquireUnitOfWork(true);
+        Address newAddress = newAddress(uow, 100);
+        Address existingAddress = (Address) uow.registerExistingObject(address);
+        existingAddress.city = "Ottawa";
+        uow.writeChanges();
+
+        // Only the identities of the written objects are kept.
+        Assert.assertFalse(uow.isObjectRegistered(newAddress));
+        Assert.assertFalse(uow.isObjectRegistered(existingAddress));
+        Assert.assertTrue(uow.getCloneMapping().isEmpty());
+        Assert.assertNull(uow.getCumulativeUOWChangeSet());
+        Assert.assertTrue(uow.isReleasedObject(newAddress));
+        Assert.assertTrue(uow.isReleasedObject(existingAddress));
+        Assert.assertTrue(uow.checkForUnregisteredExistingObject(newAddress));
+        ReadObjectQuery query = new ReadObjectQuery(Address.class);
+        query.setSelectionId(address.id);
+        query.checkDescriptor(uow);
+        Assert.assertTrue(uow.shouldForceReadFromDB(query, null));
+
+        Address nextAddress = newAddress(uow, 101);
+        uow.writeChanges();
+        Assert.assertTrue(uow.getCloneMapping().isEmpty());
+        Assert.assertTrue(uow.isReleasedObject(nextAddress));
+
+        // The released existing objects are invalidated instead of merged.
+        uow.commit();
+        Assert.assertFalse(this.session.getIdentityMapAccessor().isValid(address));
+        Assert.assertFalse("Ottawa".equals(address.city));
+        Assert.assertFalse(this.session.getIdentityMapAccessor().containsObjectInIdentityMap(newAddress));
+        Assert.assertFalse(uow.isReleasedObject(newAddress));
+    }
+
+    @Test
+    public void keepOnFlushTest() {
+        Address address = (Address) this.session.readAllObjects(Address.class).get(0);
+        RepeatableWriteUnitOfWork uow = acquireUnitOfWork(false);
+        Address newAddress = newAddress(uow, 100);
+        Address existingAddress = (Address) uow.registerExistingObject(address);
+        existingAddress.city = "Ottawa";
+        uow.writeChanges();
+
+        Assert.assertTrue(uow.isObjectRegistered(newAddress));
+        Assert.assertTrue(uow.isObjectRegistered(existingAddress));
+        Assert.assertNotNull(uow.getCumulativeUOWChangeSet());
+        Assert.assertFalse(uow.isReleasedObject(newAddress));
+        uow.commit();
+        Assert.assertTrue(this.session.getIdentityMapAccessor().isValid(address));
+        Assert.assertEquals("Ottawa", address.city);
+    }
+
+    private RepeatableWriteUnitOfWork acquireUnitOfWork(boolean shouldReleaseOnFlush) {
+        RepeatableWriteUnitOfWork uow = this.session.acquireClientSession().acquireRepeatableWriteUnitOfWork(ReferenceMode.HARD);
+        uow.setShouldReleaseOnFlush(shouldReleaseOnFlush);
+        uow.beginEarlyTransaction();
+        return uow;
+    }
+
+    private Address newAddress(RepeatableWriteUnitOfWork uow, int id) {
+        Address address = new Address();
+        address.id = BigDecimal.valueOf(id);
+        address.city = "Kanata";
+        return (Address) uow.registerNewObject(address);
+    }
+}
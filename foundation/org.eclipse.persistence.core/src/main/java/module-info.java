@@ -18,6 +18,7 @@
     requires transitive java.rmi;
     requires transitive java.sql;
     requires transitive java.xml;
+    requires static jdk.jfr; //JfrProfiler
 
     requires static jakarta.activation;
     requires static jakarta.annotation;
@@ -113,6 +114,7 @@
     exports org.eclipse.persistence.sessions.coordination;
     exports org.eclipse.persistence.sessions.coordination.broadcast;
     exports org.eclipse.persistence.sessions.coordination.jms;
+    exports org.eclipse.persistence.sessions.coordination.nio;
     exports org.eclipse.persistence.sessions.coordination.rmi;
     exports org.eclipse.persistence.sessions.factories;
     exports org.eclipse.persistence.sessions.interceptors;
@@ -122,6 +124,7 @@
     exports org.eclipse.persistence.sessions.server;
     exports org.eclipse.persistence.tools;
     exports org.eclipse.persistence.tools.profiler;
+    exports org.eclipse.persistence.tools.profiler.jfr;
     exports org.eclipse.persistence.tools.schemaframework;
     exports org.eclipse.persistence.tools.tuning;
     exports org.eclipse.persistence.transaction;
@@ -156,6 +159,7 @@
     exports org.eclipse.persistence.internal.sequencing;
     exports org.eclipse.persistence.internal.sessions.coordination;
     exports org.eclipse.persistence.internal.sessions.coordination.jms;
+    exports org.eclipse.persistence.internal.sessions.coordination.nio;
     exports org.eclipse.persistence.internal.sessions.factories;
     exports org.eclipse.persistence.internal.sessions.factories.model;
     exports org.eclipse.persistence.internal.sessions.factories.model.property;
@@ -46,6 +46,13 @@ public enum ChangeTrackingType {
      */
     DEFERRED,
 
+    /**
+     * A SNAPSHOT change tracking policy defers all change detection to the
+     * UnitOfWork's change detection process as DEFERRED, but compares the direct
+     * attributes against a compact snapshot of their values instead of a backup clone.
+     */
+    SNAPSHOT,
+
     /**
      * Will not set any change tracking policy, and the change tracking will be
      * determined at runtime.
@@ -33,6 +33,8 @@
  * <li>JDBC - JDBC batch API's are used (dynamic, or parameterized).
  * <li>Bufferred - dynamic SQL is concatenated into a batch SQL string.
  * <li>Oracle-JDBC - Oracle JDBC batch API's are used (allows row count to be returned for optimistic locking).
+ * <li>Reordering - JDBC batch API's are used for parameterized SQL, the statements with the same SQL
+ * are grouped into one batch for the whole flush, keeping the order of the statements on dependent tables.
  * <li>&lt;custom-class&gt; - A custom class that extends the BatchWritingMechanism class.
  * </ul>
  * @see BatchWritingMechanism
@@ -42,6 +44,7 @@ public class BatchWriting {
     public static final String  JDBC = "JDBC";
     public static final String  Buffered = "Buffered";
     public static final String  OracleJDBC = "Oracle-JDBC";
+    public static final String  Reordering = "Reordering";
 
     public static final String DEFAULT = None;
 }
@@ -78,6 +78,15 @@ public class CacheType {
      */
     public static final String  Full = "Full";
 
+    /**
+     * A TinyLFU cache holds a fixed number of objects, and keeps the most frequently and recently used objects.
+     * New objects are only admitted into the cache when they are used more frequently than the objects they would replace.
+     * Reads do not lock the cache, which improves concurrency for read mostly workloads.
+     * <p>WARNING: Like a fixed size LRU cache, it does not guarantee object identity for objects that were evicted
+     * while still in use by the application.
+     */
+    public static final String  TinyLFU = "TinyLFU";
+
     /**
      * NONE does not cache any objects.
      * It allows any un-referenced objects to be free to garbage collection.
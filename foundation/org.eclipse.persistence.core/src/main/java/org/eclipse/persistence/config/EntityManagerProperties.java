@@ -124,6 +124,14 @@ public final class EntityManagerProperties {
      */
     public static final String PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES = PersistenceUnitProperties.PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES;
 
+    /**
+     * Specifies that the EntityManager will release the objects written by each flush,
+     * only their identities are kept until commit, so the heap used by long batch transactions stays flat.
+     * The written objects are no longer managed after the flush, and are invalidated in the shared cache on commit.
+     * Either "true" or "false". "false" is the default.
+     */
+    public static final String PERSISTENCE_CONTEXT_RELEASE_ON_FLUSH = PersistenceUnitProperties.PERSISTENCE_CONTEXT_RELEASE_ON_FLUSH;
+
     /**
      * Allows the EntityManager FlushMode to be set as a persistence property.
      * This can be set to either "AUTO" or "COMMIT".
@@ -329,6 +337,7 @@ public final class EntityManagerProperties {
             add(PERSISTENCE_CONTEXT_PERSIST_ON_COMMIT);
             add(PERSISTENCE_CONTEXT_FLUSH_MODE);
             add(PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES);
+            add(PERSISTENCE_CONTEXT_RELEASE_ON_FLUSH);
             add(ORACLE_PROXY_TYPE);
             add(EXCLUSIVE_CONNECTION_MODE);
             add(EXCLUSIVE_CONNECTION_IS_LAZY);
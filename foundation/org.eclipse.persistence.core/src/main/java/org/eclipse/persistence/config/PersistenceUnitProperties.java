@@ -296,6 +296,41 @@ public class PersistenceUnitProperties {
      */
     public static final String JPQL_VALIDATION = "eclipselink.jpql.validation";
 
+    /**
+     * The "<code>eclipselink.jpql.parse-cache.size</code>" property
+     * specifies the maximum number of queries parsed from JPQL kept by the
+     * parse cache of the persistence unit.
+     * When the cache is full, a newly parsed query is only kept if it is used
+     * at least as often as the least recently used queries it would evict.
+     * <p>
+     * Default: 200
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a zero or greater integer value, 0 disables the cache.
+     * </ul>
+     *
+     * @see #JPQL_PARSE_CACHE_MEMORY_BUDGET
+     */
+    public static final String JPQL_PARSE_CACHE_SIZE = "eclipselink.jpql.parse-cache.size";
+
+    /**
+     * The "<code>eclipselink.jpql.parse-cache.memory-budget</code>" property
+     * specifies the estimated memory in bytes of the queries kept by the JPQL
+     * parse cache. The memory of a query is estimated from the length of its
+     * JPQL and SQL.
+     * <p>
+     * Default: 0, the cache is only bounded by its size.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a zero or greater long value.
+     * </ul>
+     *
+     * @see #JPQL_PARSE_CACHE_SIZE
+     */
+    public static final String JPQL_PARSE_CACHE_MEMORY_BUDGET = "eclipselink.jpql.parse-cache.memory-budget";
+
     /**
      * The "<code>wait</code>" property.<br>
      * This can be append to any connection pool property,
@@ -398,6 +433,29 @@ public class PersistenceUnitProperties {
      */
     public static final String CONNECTION_POOL_SHARED = "shared";
 
+    /**
+     * The "<code>non-blocking</code>" property.<br>
+     * This can be append to any connection pool property,
+     * i.e. "<code>eclipselink.connection-pool.default.non-blocking</code>".<br>
+     * Configures whether the internal connection pool should allocate and release connections
+     * without synchronizing on the pool. Available connections are kept in a lock-free stack,
+     * and threads waiting for a connection are served in FIFO order.
+     * This reduces contention with a large number of concurrent threads, and avoids pinning virtual threads.
+     * <p>
+     * This property is ignored in case external connection pools are used,
+     * or for a shared read connection pool.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - indicates the pool synchronizes connection allocation
+     * <li>"<code>true</code>" - indicates the pool uses non blocking connection allocation
+     * </ul>
+     *
+     * @see #CONNECTION_POOL
+     * @see org.eclipse.persistence.sessions.server.NonBlockingConnectionPool
+     */
+    public static final String CONNECTION_POOL_NON_BLOCKING = "non-blocking";
+
     /**
      * The "<code>url</code>" property.<br>
      * This can be append to a connection pool property,
@@ -483,6 +541,7 @@ public class PersistenceUnitProperties {
      * <li> "<code>wait</code>" - amount of time to wait for a connection from the pool.
      * <li> "<code>url</code>" - JDBC URL for the connection.
      * <li> "<code>shared</code>" - only for the read connection pool, shares read connections across threads.
+     * <li> "<code>non-blocking</code>" - allocates connections without synchronizing on the pool.
      * <li> "<code>jtaDataSource</code>" - JTA DataSource name to use for the connection, if different than the default.
      * <li> "<code>nonJtaDataSource</code>" - non JTA DataSource name to use for the connection, if different than the default.
      * <li> "<code>user</code>" - user to use for the connection, if different than the default.
@@ -506,6 +565,7 @@ public class PersistenceUnitProperties {
      * @see #CONNECTION_POOL_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_NON_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_SHARED
+     * @see #CONNECTION_POOL_NON_BLOCKING
      * @see org.eclipse.persistence.sessions.server.ConnectionPool
      */
     public static final String CONNECTION_POOL = "eclipselink.connection-pool.";
@@ -1111,6 +1171,37 @@ public class PersistenceUnitProperties {
      */
     public static final String CACHE_STATEMENTS_SIZE = "eclipselink.jdbc.cache-statements.size";
 
+    /**
+     * The "<code>eclipselink.jdbc.cache-statements.memory-budget</code>" property
+     * specifies the estimated memory in bytes of the statements held by each
+     * connection when using internal statement caching.
+     * The least recently used statements are evicted to stay within both the
+     * size and the memory budget, the memory of a statement is estimated from
+     * the length of its SQL.
+     * <p>
+     * Default: 0, the cache is only bounded by its size.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a zero or greater long value.
+     * </ul>
+     */
+    public static final String CACHE_STATEMENTS_MEMORY_BUDGET = "eclipselink.jdbc.cache-statements.memory-budget";
+
+    /**
+     * The "<code>eclipselink.jdbc.cache-statements.warmup-size</code>" property
+     * specifies the number of the most frequently used statements prepared
+     * when a pooled connection is created, when using internal statement caching.
+     * <p>
+     * Default: 0
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a zero or greater integer value.
+     * </ul>
+     */
+    public static final String CACHE_STATEMENTS_WARMUP_SIZE = "eclipselink.jdbc.cache-statements.warmup-size";
+
     /**
      * The "<code>eclipselink.jdbc.cache-statements</code>" property specifies
      * whether JDBC statements should be cached. This is recommended when using
@@ -1559,6 +1650,21 @@ public class PersistenceUnitProperties {
      */
     public static final String CACHE_QUERY_FORCE_DEFERRED_LOCKS = "eclipselink.cache.query-force-deferred-locks";
 
+    /**
+     * The "<code>eclipselink.cache.deferred-merge</code>" property configures if the changes committed
+     * to existing objects are merged into the shared cache in the background.
+     * <p>
+     * The cached objects are invalidated on commit, and read from the database until their changes are merged,
+     * so the commit does not wait for the merge. New and removed objects are still merged on commit.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - merge the changes on commit
+     * <li>"<code>true</code>" - merge the changes in the background, on the threads of the server platform
+     * </ul>
+     */
+    public static final String CACHE_DEFERRED_MERGE = "eclipselink.cache.deferred-merge";
+
     // Customizations properties
 
     // Logging properties
@@ -2429,6 +2535,41 @@ public class PersistenceUnitProperties {
      */
     public static final String SEQUENCING_START_AT_NEXTVAL = "eclipselink.sequencing.start-sequence-at-nextval";
 
+    /**
+     * The "<code>eclipselink.sequencing.background-preallocation</code>" property
+     * configures the preallocated sequence values to be refilled in the background.
+     * The next values of a sequence are allocated in a separate thread once a quarter of its
+     * preallocated values are left, instead of by the thread taking the last value, and the
+     * number of values allocated by TABLE sequencing grows with the rate the values are used.
+     * This is used for TABLE sequencing on a sequence connection pool, and for SEQUENCE objects.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" - (DEFAULT) the values are allocated once used up
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see #CONNECTION_POOL_SEQUENCE
+     * @see #SEQUENCING_MAX_PREALLOCATION_SIZE
+     * @see org.eclipse.persistence.sequencing.SequencingControl#setShouldUseBackgroundPreallocation(boolean)
+     */
+    public static final String SEQUENCING_BACKGROUND_PREALLOCATION = "eclipselink.sequencing.background-preallocation";
+
+    /**
+     * The "<code>eclipselink.sequencing.max-preallocation-size</code>" property
+     * configures the maximum number of values allocated at once by TABLE sequencing
+     * using background preallocation.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>a string containing a positive integer value,
+     * by default 16 times the allocation size of the sequence
+     * </ul>
+     *
+     * @see #SEQUENCING_BACKGROUND_PREALLOCATION
+     */
+    public static final String SEQUENCING_MAX_PREALLOCATION_SIZE = "eclipselink.sequencing.max-preallocation-size";
+
     /**
      * The "<code>eclipselink.session.customizer</code>" property configures a
      * {@link SessionCustomizer} used to alter the runtime configuration through
@@ -2518,6 +2659,9 @@ public class PersistenceUnitProperties {
      * batch writing.
      * <li>"<code>Oracle-JDBC</code>" - use Oracle's native batch writing. This requires the
      * use of an Oracle JDBC driver.
+     * <li>"<code>Reordering</code>" - use JDBC batch writing, grouping the parameterized statements
+     * with the same SQL across the whole flush. The statements on tables related through the mappings
+     * keep their order, so the foreign key constraints still hold.
      * <li>"<code>None</code>" (DEFAULT): do not use batch writing (turn it off).
      * <li>the fully qualified name for a class that extends {@link BatchWritingMechanism} abstract class
      * </ul>
@@ -2538,6 +2682,24 @@ public class PersistenceUnitProperties {
      */
     public static final String BATCH_WRITING_SIZE = "eclipselink.jdbc.batch-writing.size";
 
+    /**
+     * The "<code>eclipselink.jdbc.batch-writing.multi-row-insert</code>" property
+     * configures the batches of parameterized inserts to be written as multi-row inserts,
+     * <code>INSERT INTO ... VALUES (...), (...)</code>, on the platforms supporting them
+     * (MySQL, PostgreSQL, SQL Server, DB2, Derby, H2 and HSQL).
+     * The statements are limited to the maximum number of parameters of the platform.
+     * Inserts returning generated keys and inserts with optimistic locking are not rewritten.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - use an insert statement by row
+     * <li>"<code>true</code>" - use multi-row inserts
+     * </ul>
+     *
+     * @see #BATCH_WRITING
+     */
+    public static final String BATCH_WRITING_MULTI_ROW_INSERT = "eclipselink.jdbc.batch-writing.multi-row-insert";
+
     /**
      * The "<code>jakarta.persistence.bean.manager</code>" property is used to set
      * CDI BeanManager when available
@@ -3151,6 +3313,7 @@ public class PersistenceUnitProperties {
      * <li>"<code>PerformanceProfiler</code>" - use {@link PerformanceProfiler}
      * <li>"<code>QueryMonitor</code>" - use {@link QueryMonitor}
      * <li>"<code>DMSProfiler</code>" - use {@code org.eclipse.persistence.tools.profiler.oracle.DMSPerformanceProfiler}
+     * <li>"<code>JfrProfiler</code>" - use {@code org.eclipse.persistence.tools.profiler.jfr.JfrProfiler}
      * <li>the fully qualified name for a class that implements {@link SessionProfiler} interface
      * </ul>
      *
@@ -3347,6 +3510,24 @@ public class PersistenceUnitProperties {
      */
     public static final String PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES = "eclipselink.persistence-context.commit-without-persist-rules";
 
+    /**
+     * The "<code>eclipselink.persistence-context.release-on-flush</code>"
+     * property specifies that the EntityManager will release the objects written
+     * by each flush, so the heap used by long batch transactions stays flat.
+     * After a flush the written objects are no longer managed, only their
+     * identities are kept, so they can still be referenced by the objects
+     * persisted after the flush, and are read from the database until commit.
+     * Changes made to a released object are not written, unless it is merged or read again.
+     * On commit the written objects are invalidated in the shared cache, instead of merged.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     */
+    public static final String PERSISTENCE_CONTEXT_RELEASE_ON_FLUSH = "eclipselink.persistence-context.release-on-flush";
+
     /**
      * The "<code>eclipselink.persistence-context.flush-mode</code>" property configures the EntityManager FlushMode to be set as a
      * persistence property. This can be set to either "<code>AUTO</code>" or "<code>COMMIT</code>".
@@ -3413,6 +3594,7 @@ public class PersistenceUnitProperties {
      * <li>"<code>rmi</code>"
      * <li>"<code>rmi-iiop</code>"
      * <li>"<code>jgroups</code>"
+     * <li>"<code>nio</code>"
      * <li>the fully qualified name for a class that extends {@link TransportManager} abstract class.
      * </ul>
      *
@@ -3497,7 +3679,7 @@ public class PersistenceUnitProperties {
      * The "<code>eclipselink.cache.coordination.rmi.announcement-delay</code>"
      * property configures cache coordination for a clustered environment.
      * <p>
-     * Only used for RMI coordination.
+     * Only used for RMI and NIO coordination.
      * <p>
      * Sets the number of milliseconds to wait for announcements from other cluster members on startup.<br>
      * Default is 1000 milliseconds.
@@ -3511,7 +3693,7 @@ public class PersistenceUnitProperties {
      * The "<code>eclipselink.cache.coordination.rmi.multicast-group</code>"
      * property configures cache coordination for a clustered environment.
      * <p>
-     * Only used for RMI coordination.
+     * Only used for RMI and NIO coordination.
      * <p>
      * Sets the multicast socket group address. The multicast group is used to find other members
      * of the cluster.<br>
@@ -3526,7 +3708,7 @@ public class PersistenceUnitProperties {
      * The "<code>eclipselink.cache.coordination.rmi.multicast-group.port</code>"
      * property configures cache coordination for a clustered environment.
      * <p>
-     * Only used for RMI coordination.
+     * Only used for RMI and NIO coordination.
      * <p>
      * Sets the multicast socket group port. The multicast group port is used to find other members
      * of the cluster.<br>
@@ -3541,7 +3723,7 @@ public class PersistenceUnitProperties {
      * The "<code>eclipselink.cache.coordination.rmi.packet-time-to-live</code>"
      * property configures cache coordination for a clustered environment.
      * <p>
-     * Only used for RMI coordination.
+     * Only used for RMI and NIO coordination.
      * <p>
      * Sets the multicast socket packet time to live.<br>
      * The multicast group is used to find other members of the cluster. Set the
@@ -3565,7 +3747,7 @@ public class PersistenceUnitProperties {
      * The "<code>eclipselink.cache.coordination.rmi.url</code>" property
      * configures cache coordination for a clustered environment.
      * <p>
-     * Only used for RMI coordination.
+     * Only used for RMI and NIO coordination.
      * <p>
      * Sets the URL of the host server.<br>
      * This is the URL that other cluster member should use to connect to this host.
@@ -3578,6 +3760,23 @@ public class PersistenceUnitProperties {
      */
     public static final String COORDINATION_RMI_URL = "eclipselink.cache.coordination.rmi.url";
 
+    /**
+     * The "<code>eclipselink.cache.coordination.nio.peers</code>" property
+     * configures cache coordination for a clustered environment.
+     * <p>
+     * Only used for NIO coordination.
+     * <p>
+     * Sets the comma separated URLs, of the form "<code>tcp://host:port</code>", of the other
+     * cluster members to connect to on startup.<br>
+     * If set, the cluster members are not found through multicast, and the URL of each
+     * member must be set with the "<code>eclipselink.cache.coordination.rmi.url</code>" property.
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see #COORDINATION_RMI_URL
+     * @see org.eclipse.persistence.sessions.coordination.nio.NIOTransportManager#setPeerUrls(java.util.List)
+     */
+    public static final String COORDINATION_NIO_PEERS = "eclipselink.cache.coordination.nio.peers";
+
     /**
      * The "<code>eclipselink.cache.coordination.naming-service</code>" property
      * configures cache coordination for a clustered environment.
@@ -3693,6 +3892,66 @@ public class PersistenceUnitProperties {
      */
     public static final String COORDINATION_SERIALIZER = "eclipselink.cache.coordination.serializer";
 
+    /**
+     * The "<code>eclipselink.cache.coordination.coalescing.delay</code>" property
+     * configures the time in milliseconds asynchronous cache coordination commands
+     * are coalesced before being sent.
+     * <p>
+     * The commands are queued and sent by a single thread once the delay has passed since
+     * the first queued command. The change sets of the commands are combined into a single
+     * message to each connection, the changes to the same object being combined.
+     * <p>
+     * By default commands are not coalesced, each command is sent as its own message.
+     *
+     * @see #COORDINATION_ASYNCH
+     * @see #COORDINATION_COALESCING_MAX_BATCH_SIZE
+     * @see #COORDINATION_COALESCING_MAX_PENDING
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandCoalescingDelay(long)
+     */
+    public static final String COORDINATION_COALESCING_DELAY = "eclipselink.cache.coordination.coalescing.delay";
+
+    /**
+     * The "<code>eclipselink.cache.coordination.coalescing.max-batch-size</code>" property
+     * configures the number of coalesced commands sent without waiting for the coalescing delay.
+     * <p>
+     * The default is 100.
+     *
+     * @see #COORDINATION_COALESCING_DELAY
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandCoalescingMaxBatchSize(int)
+     */
+    public static final String COORDINATION_COALESCING_MAX_BATCH_SIZE = "eclipselink.cache.coordination.coalescing.max-batch-size";
+
+    /**
+     * The "<code>eclipselink.cache.coordination.coalescing.max-pending</code>" property
+     * configures the number of coalesced commands queued before committing threads wait
+     * for them to be sent, which bounds the memory used by the queue.
+     * <p>
+     * The default is 10000.
+     *
+     * @see #COORDINATION_COALESCING_DELAY
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandCoalescingMaxPendingCommands(int)
+     */
+    public static final String COORDINATION_COALESCING_MAX_PENDING = "eclipselink.cache.coordination.coalescing.max-pending";
+
+    /**
+     * The "<code>eclipselink.cache.coordination.partitioning.timeout</code>" property
+     * configures the time in milliseconds a read waits for the server owning the object,
+     * to partition the shared cache across the servers of the cluster.
+     * <p>
+     * Each object of the coordinated entities is owned by one of the connected servers, chosen
+     * by consistent hashing of its id. A find by id missing the shared cache gets the object
+     * from its owner, which reads it from the database if not in its own cache. The object is
+     * read from the database if the owner does not answer in time.
+     * The cache size of each server can then be reduced to a part of the objects.
+     * All the servers of the cluster must use the same setting.
+     * <p>
+     * By default the shared cache is not partitioned.
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setPartitionedCacheTimeout(long)
+     */
+    public static final String COORDINATION_PARTITIONING_TIMEOUT = "eclipselink.cache.coordination.partitioning.timeout";
+
     /**
      * The "<code>eclipselink.cache.coordination.channel</code>" property
      * configures cache coordination for a clustered environment.
@@ -4146,6 +4405,37 @@ public class PersistenceUnitProperties {
      */
     public static final String CONCURRENCY_SEMAPHORE_LOG_TIMEOUT = "eclipselink.concurrency.semaphore.log.timeout";
 
+    /**
+     * <p>
+     * This property control (enable/disable) the use of {@link java.util.concurrent.locks.ReentrantLock} instead of
+     * the object monitor in {@link org.eclipse.persistence.internal.helper.ConcurrencyManager} for the cache keys of the session's shared cache.
+     * Waiting for a cache key lock then does not pin the carrier thread of a virtual thread.
+     * Deferred locks and the dead-lock diagnostics are the same in both modes.
+     * <ul>
+     * <li>"<code>true</code>" - cache keys are guarded by a <code>ReentrantLock</code> and its <code>Condition</code>
+     * <li>"<code>false</code>" (DEFAULT) - cache keys are guarded by their object monitor
+     * </ul>
+     * @see org.eclipse.persistence.sessions.Project#setShouldUseLocksForCacheKeys(boolean)
+     */
+    public static final String CONCURRENCY_MANAGER_USE_LOCKS = "eclipselink.concurrency.manager.use.locks";
+
+    /**
+     * <p>
+     * This property configures the session to be used from virtual threads.
+     * The blocking paths then use {@link java.util.concurrent.locks.ReentrantLock} instead of object monitors,
+     * so waiting does not pin the carrier thread of a virtual thread:
+     * the cache keys use locks as with {@link #CONCURRENCY_MANAGER_USE_LOCKS},
+     * and the internal connection pools are non-blocking as with {@link #CONNECTION_POOL_NON_BLOCKING}.
+     * The asynchronous processing, such as cache coordination propagation and cursor filling,
+     * runs on a new virtual thread for each task instead of the thread pool, if supported by the JDK.
+     * <ul>
+     * <li>"<code>true</code>" - the session is used from virtual threads
+     * <li>"<code>false</code>" (DEFAULT) - the session is used from platform threads
+     * </ul>
+     * @see org.eclipse.persistence.sessions.Project#setShouldUseVirtualThreads(boolean)
+     */
+    public static final String VIRTUAL_THREADS = "eclipselink.concurrency.virtual-threads";
+
     /**
      * <p>
      * This property control (enable/disable) query result cache validation in {@link org.eclipse.persistence.internal.sessions.UnitOfWorkImpl#internalExecuteQuery}
@@ -4195,6 +4485,7 @@ public static String getOverriddenLogStringForProperty(String propertyName) {
             add(PERSISTENCE_CONTEXT_CLOSE_ON_COMMIT);
             add(PERSISTENCE_CONTEXT_PERSIST_ON_COMMIT);
             add(PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES);
+            add(PERSISTENCE_CONTEXT_RELEASE_ON_FLUSH);
             add(VALIDATE_EXISTENCE);
             add(ORDER_UPDATES);
             add(FLUSH_CLEAR_CACHE);
@@ -26,6 +26,7 @@
  *
  * @see org.eclipse.persistence.tools.profiler.QueryMonitor
  * @see org.eclipse.persistence.tools.profiler.PerformanceProfiler
+ * @see org.eclipse.persistence.tools.profiler.jfr.JfrProfiler
  */
 public class ProfilerType {
     //A tool used to provide high level performance profiling information
@@ -33,10 +34,13 @@ public class ProfilerType {
     public static final String QueryMonitor = "QueryMonitor";
     public static final String PerformanceMonitor = "PerformanceMonitor";
     public static final String DMSProfiler = "DMSProfiler";
+    //A profiler emitting JDK Flight Recorder events, cheap enough to be left on in production
+    public static final String JfrProfiler = "JfrProfiler";
     public static final String NoProfiler = "NoProfiler";
 
     public static final String DEFAULT = NoProfiler;
 
     public static final String DMSProfilerClassName = "org.eclipse.persistence.tools.profiler.oracle.DMSPerformanceProfiler";
+    public static final String JfrProfilerClassName = "org.eclipse.persistence.tools.profiler.jfr.JfrProfiler";
 }
 
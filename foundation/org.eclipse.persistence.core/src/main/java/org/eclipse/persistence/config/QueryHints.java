@@ -165,6 +165,16 @@ public class QueryHints {
      */
     public static final String QUERY_RESULTS_CACHE_INVALIDATE = "eclipselink.query-results-cache.invalidate-on-change";
 
+    /**
+     * "eclipselink.query-results-cache.track-dependencies"
+     * <p>Configures if the query cache results should only be invalidated if a modification affects the fields the query depends on,
+     * i.e. an object of a class used in the query is created or deleted, or a field used in the query's selection criteria, joins or ordering is updated.
+     *
+     * Valid values are "true" and "false", false is the default.
+     * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setTrackDependencies(boolean)
+     */
+    public static final String QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES = "eclipselink.query-results-cache.track-dependencies";
+
     /**
      * "eclipselink.query-results-cache.type"
      * <p>Configures the cache type of the query's results cache.
@@ -645,6 +655,34 @@ public class QueryHints {
      */
     public static final String RESULT_SET_CONCURRENCY = "eclipselink.cursor.scrollable.result-set-concurrency";
 
+    /**
+     * "eclipselink.result-stream.release"
+     * <p>Configures the query getResultStream() to detach the entities from the persistence context
+     * once the stream moved past them, as EntityManager.detach().
+     * The results of getResultStream() are built from a forward-only cursor as the stream advances,
+     * by default the entities built are managed until the persistence context is cleared,
+     * releasing them allows streaming results of any size in bounded memory.
+     * Changes to the entities made after the stream moved past them are not written.
+     * Closing the stream closes the cursor, the JDBC_FETCH_SIZE hint sets the rows fetched per round trip.
+     * Valid values are:  HintValues.FALSE, HintValues.TRUE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see "jakarta.persistence.Query#getResultStream()"
+     * @see #JDBC_FETCH_SIZE
+     */
+    public static final String RESULT_STREAM_RELEASE = "eclipselink.result-stream.release";
+
+    /**
+     * "eclipselink.cursor.reuse-row-buffer"
+     * <p>Configures a report query read through a cursor, or getResultStream(), to populate a single row
+     * with the values of each row of the result set, instead of allocating a new row per row fetched.
+     * Only used if all the items selected are attributes or functions, as objects built from a row can reference it.
+     * Valid values are:  HintValues.FALSE, HintValues.TRUE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see org.eclipse.persistence.queries.ReportQuery#setShouldReuseRowBuffer(boolean)
+     * @see #RESULT_STREAM_RELEASE
+     */
+    public static final String REUSE_ROW_BUFFER = "eclipselink.cursor.reuse-row-buffer";
+
     /**
      * "eclipselink.fetch-group"
      * <p>Configures the query to use the fetch group object.
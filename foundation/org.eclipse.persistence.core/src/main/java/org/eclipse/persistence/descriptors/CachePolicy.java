@@ -122,6 +122,9 @@ public class CachePolicy implements Cloneable, Serializable {
     /** Allows configuration of database change event notification. */
     protected DatabaseChangeNotificationType databaseChangeNotificationType;
 
+    /** Maximum number of bytes of the off-heap tier of the shared cache, 0 if not used. */
+    protected long offHeapCacheSize;
+
     /**
      * PUBLIC:
      * Return a new descriptor.
@@ -208,6 +211,10 @@ public void postInitialize(ClassDescriptor descriptor, AbstractSession session)
         if (!isSharedIsolation()) {
             session.getProject().setHasIsolatedClasses(true);
         }
+        // The off-heap cache stores the rows of the shared cache, the rows of a class hierarchy can not be rebuilt by primary key alone.
+        if (hasOffHeapCache() && (!isSharedIsolation() || descriptor.hasInheritance() || descriptor.isAggregateDescriptor())) {
+            setOffHeapCacheSize(0);
+        }
         if (!shouldIsolateObjectsInUnitOfWork() && !descriptor.shouldBeReadOnly()) {
             session.getProject().setHasNonIsolatedUOWClasses(true);
         }
@@ -446,6 +453,36 @@ public int getIdentityMapSize() {
         return identityMapSize;
     }
 
+    /**
+     * PUBLIC:
+     * Return the maximum number of bytes of the off-heap tier of the shared cache, 0 if not used.
+     */
+    public long getOffHeapCacheSize() {
+        return offHeapCacheSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of bytes of the off-heap tier of the shared cache.
+     * The database rows of the objects read into the shared cache are also stored outside of the Java heap,
+     * so an object that is no longer in the identity map can be rebuilt without accessing the database
+     * when it is found by primary key.
+     * The oldest rows are evicted when the size is reached.
+     * Only used for shared descriptors without inheritance.
+     * The default is 0, no off-heap cache.
+     */
+    public void setOffHeapCacheSize(long offHeapCacheSize) {
+        this.offHeapCacheSize = offHeapCacheSize;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the shared cache has an off-heap tier.
+     */
+    public boolean hasOffHeapCache() {
+        return this.offHeapCacheSize > 0;
+    }
+
     /**
      * INTERNAL:
      * Return the class of identity map to be used by this descriptor.
@@ -1052,6 +1089,17 @@ public void useNoIdentityMap() {
         setIdentityMapClass(ClassConstants.NoIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the TinyLFU identity map.
+     * This map caches a fixed number of instances, admitting and evicting them by their frequency and recency of use.
+     * Note: This map does not guarantee object identity for evicted instances.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useTinyLFUIdentityMap() {
+        setIdentityMapClass(ClassConstants.TinyLFUIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the weak identity map.
@@ -5853,6 +5853,17 @@ public void useFullIdentityMap() {
         getCachePolicy().useFullIdentityMap();
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the TinyLFU identity map.
+     * This map caches a fixed number of instances, admitting and evicting them by their frequency and recency of use.
+     * Note: This map does not guarantee object identity for evicted instances.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useTinyLFUIdentityMap() {
+        getCachePolicy().useTinyLFUIdentityMap();
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the hard cache weak identity map.
@@ -18,6 +18,7 @@
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
 import org.eclipse.persistence.core.descriptors.CoreDescriptorEvent;
+import org.eclipse.persistence.descriptors.changetracking.FieldSnapshotChangeDetectionPolicy;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.exceptions.DescriptorException;
 import org.eclipse.persistence.queries.*;
@@ -340,7 +341,12 @@ public void updateAttributeWithObject(String attributeName, Object value) {
         if(eventChangeSet != null && (!eventChangeSet.isNew() || (query.getDescriptor() != null && query.getDescriptor().shouldUseFullChangeSetsForNewObjects()))) {
             eventChangeSet.removeChange(attributeName);
             // TODO: Can't see this working with attribute change tracking with no backup clone.
-            eventChangeSet.addChange(mapping.compareForChange(clone, ((UnitOfWorkImpl)getSession()).getBackupClone(clone, getDescriptor()), eventChangeSet, getSession()));
+            if (getDescriptor().getObjectChangePolicy() instanceof FieldSnapshotChangeDetectionPolicy) {
+                // The backup clone does not contain the direct attributes, they are compared against the snapshot.
+                eventChangeSet.addChange(((FieldSnapshotChangeDetectionPolicy)getDescriptor().getObjectChangePolicy()).compareForChange(clone, mapping, eventChangeSet, (UnitOfWorkImpl)getSession(), getDescriptor()));
+            } else {
+                eventChangeSet.addChange(mapping.compareForChange(clone, ((UnitOfWorkImpl)getSession()).getBackupClone(clone, getDescriptor()), eventChangeSet, getSession()));
+            }
             eventChangeSet.setShouldRecalculateAfterUpdateEvent(false);
         }
     }
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.descriptors.changetracking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.descriptors.changetracking.FieldSnapshot;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+
+/**
+ * PUBLIC:
+ * A FieldSnapshotChangeDetectionPolicy defers all change detection to the UnitOfWork's
+ * change detection process as a DeferredChangeDetectionPolicy, but does not build a full backup clone.
+ * <p>
+ * The values of the immutable direct attributes are stored in a compact snapshot when the object is registered,
+ * with the primitive values unboxed, and the changes of these attributes are computed by comparing their
+ * values against the snapshot. Only the other attributes, such as relationships, are stored in a backup clone,
+ * and if an object has no other attributes its clone is used as its backup, so no backup clone is built.
+ * This does not require the classes to be weaved for change tracking as an AttributeChangeTrackingPolicy does.
+ * <p>
+ * As for attribute change tracking the backup clone does not contain the original values of the direct attributes,
+ * so they are not available to events and map keys. Descriptors using fetch groups or field locking
+ * use a full backup clone.
+ *
+ * @see DeferredChangeDetectionPolicy
+ * @see AttributeChangeTrackingPolicy
+ */
+public class FieldSnapshotChangeDetectionPolicy extends DeferredChangeDetectionPolicy {
+
+    /** The snapshot layouts of the descriptors, the policy can be shared by the descriptors of a hierarchy. */
+    protected transient volatile Map<ClassDescriptor, SnapshotLayout> layouts;
+
+    /**
+     * INTERNAL:
+     * Create ObjectChangeSet, comparing the direct attributes against the snapshot of the object.
+     */
+    @Override
+    public ObjectChangeSet createObjectChangeSetThroughComparison(Object clone, Object backUp, UnitOfWorkChangeSet changeSet, boolean isNew, AbstractSession session, ClassDescriptor descriptor) {
+        FieldSnapshot snapshot = null;
+        if (!isNew && session.isUnitOfWork()) {
+            snapshot = (FieldSnapshot)((UnitOfWorkImpl)session).getCloneSnapshot(clone);
+        }
+        SnapshotLayout layout = getLayout(descriptor);
+        if ((snapshot == null) || !layout.hasSnapshot()) {
+            return super.createObjectChangeSetThroughComparison(clone, backUp, changeSet, isNew, session, descriptor);
+        }
+        ObjectChangeSet changes = descriptor.getObjectBuilder().createObjectChangeSet(clone, changeSet, isNew, true, session);
+        // Descriptors with fetch groups are not snapshot, so the object is always fully fetched.
+        if ((descriptor.usesOptimisticLocking()) && (changes.getId() != null)) {
+            changes.setOptimisticLockingPolicyAndInitialWriteLockValue(descriptor.getOptimisticLockingPolicy(), session);
+        }
+        DatabaseMapping[] mappings = layout.mappings;
+        for (int index = 0; index < mappings.length; index++) {
+            if (layout.slots[index] < 0) {
+                changes.addChange(mappings[index].compareForChange(clone, backUp, changes, session));
+            } else {
+                changes.addChange(layout.compareForChange(index, clone, snapshot, changes, session));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * INTERNAL:
+     * Compare the attribute of the mapping against its value when registered, used to recompute
+     * the change of an attribute updated from an event.
+     */
+    public ChangeRecord compareForChange(Object clone, DatabaseMapping mapping, ObjectChangeSet changes, UnitOfWorkImpl uow, ClassDescriptor descriptor) {
+        FieldSnapshot snapshot = (FieldSnapshot)uow.getCloneSnapshot(clone);
+        if (snapshot != null) {
+            SnapshotLayout layout = getLayout(descriptor);
+            DatabaseMapping[] mappings = layout.mappings;
+            for (int index = 0; index < mappings.length; index++) {
+                if ((mappings[index] == mapping) && (layout.slots[index] >= 0)) {
+                    return layout.compareForChange(index, clone, snapshot, changes, uow);
+                }
+            }
+        }
+        return mapping.compareForChange(clone, uow.getBackupClone(clone, descriptor), changes, uow);
+    }
+
+    /**
+     * INTERNAL:
+     * Store the snapshot of the direct attributes, and build a backup clone of the other attributes.
+     * The clone is returned as its own backup if it has no other attributes.
+     */
+    @Override
+    public Object buildBackupClone(Object clone, ObjectBuilder builder, UnitOfWorkImpl uow) {
+        ClassDescriptor descriptor = builder.getDescriptor();
+        SnapshotLayout layout = getLayout(descriptor);
+        if (!layout.hasSnapshot()) {
+            return super.buildBackupClone(clone, builder, uow);
+        }
+        uow.setCloneSnapshot(clone, layout.buildSnapshot(clone));
+        DatabaseMapping[] backupMappings = layout.backupMappings;
+        if (backupMappings.length == 0) {
+            return clone;
+        }
+        Object backup = descriptor.getCopyPolicy().buildClone(clone, uow);
+        for (int index = 0; index < backupMappings.length; index++) {
+            backupMappings[index].buildBackupClone(clone, backup, uow);
+        }
+        return backup;
+    }
+
+    /**
+     * INTERNAL:
+     * Rebuild the snapshot and backup clone after the changes were committed,
+     * as the clone may be its own backup the changes cannot be merged into it.
+     */
+    @Override
+    public void updateWithChanges(Object clone, ObjectChangeSet objectChangeSet, UnitOfWorkImpl uow, ClassDescriptor descriptor) {
+        if ((objectChangeSet == null) || !getLayout(descriptor).hasSnapshot()) {
+            super.updateWithChanges(clone, objectChangeSet, uow, descriptor);
+            return;
+        }
+        if (uow.getCloneMapping().get(clone) != null) {
+            uow.getCloneMapping().put(clone, buildBackupClone(clone, descriptor.getObjectBuilder(), uow));
+        }
+        clearChanges(clone, uow, descriptor, false);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the snapshot layout of the descriptor, built on first use as the mappings must be initialized.
+     */
+    protected SnapshotLayout getLayout(ClassDescriptor descriptor) {
+        Map<ClassDescriptor, SnapshotLayout> layouts = this.layouts;
+        if (layouts == null) {
+            layouts = new ConcurrentHashMap<>();
+            this.layouts = layouts;
+        }
+        return layouts.computeIfAbsent(descriptor, SnapshotLayout::new);
+    }
+
+    /**
+     * INTERNAL:
+     * Define which attributes of a descriptor are snapshot, and where their values are stored.
+     */
+    protected static class SnapshotLayout {
+        /** The mappings of the descriptor, in order. */
+        protected final DatabaseMapping[] mappings;
+        /** The index of the value of each mapping in the snapshot, or -1 if compared against the backup clone. */
+        protected final int[] slots;
+        /** The primitive type of each mapping stored unboxed, or null. */
+        protected final Class<?>[] primitiveTypes;
+        /** The mappings that must be backed up in the backup clone. */
+        protected final DatabaseMapping[] backupMappings;
+        protected final int primitiveSize;
+        protected final int objectSize;
+
+        protected SnapshotLayout(ClassDescriptor descriptor) {
+            List<DatabaseMapping> descriptorMappings = descriptor.getMappings();
+            int size = descriptorMappings.size();
+            this.mappings = descriptorMappings.toArray(new DatabaseMapping[size]);
+            this.slots = new int[size];
+            this.primitiveTypes = new Class<?>[size];
+            // Partial objects and field locking require the original values of all attributes.
+            boolean canSnapshot = !descriptor.hasFetchGroupManager() && !descriptor.usesFieldLocking() && !descriptor.isDescriptorTypeAggregate();
+            int primitives = 0;
+            int objects = 0;
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = this.mappings[index];
+                if (canSnapshot && mapping.isAbstractDirectMapping() && !((AbstractDirectMapping)mapping).isMutable()) {
+                    Class<?> attributeClass = mapping.getAttributeAccessor().getAttributeClass();
+                    if ((attributeClass != null) && attributeClass.isPrimitive()) {
+                        this.primitiveTypes[index] = attributeClass;
+                        this.slots[index] = primitives++;
+                    } else {
+                        this.slots[index] = objects++;
+                    }
+                } else {
+                    this.slots[index] = -1;
+                }
+            }
+            this.primitiveSize = primitives;
+            this.objectSize = objects;
+            List<DatabaseMapping> backupMappings = new ArrayList<>();
+            if (hasSnapshot()) {
+                for (DatabaseMapping mapping : descriptor.getObjectBuilder().getCloningMappings()) {
+                    int index = descriptorMappings.indexOf(mapping);
+                    if ((index < 0) || (this.slots[index] < 0)) {
+                        backupMappings.add(mapping);
+                    }
+                }
+            }
+            this.backupMappings = backupMappings.toArray(new DatabaseMapping[backupMappings.size()]);
+        }
+
+        /**
+         * Return true if any attribute is snapshot.
+         */
+        protected boolean hasSnapshot() {
+            return (this.primitiveSize + this.objectSize) > 0;
+        }
+
+        /**
+         * Build the snapshot of the direct attributes of the clone.
+         */
+        protected FieldSnapshot buildSnapshot(Object clone) {
+            long[] primitiveValues = new long[this.primitiveSize];
+            Object[] values = new Object[this.objectSize];
+            for (int index = 0; index < this.mappings.length; index++) {
+                int slot = this.slots[index];
+                if (slot >= 0) {
+                    Object value = this.mappings[index].getAttributeValueFromObject(clone);
+                    Class<?> primitiveType = this.primitiveTypes[index];
+                    if (primitiveType == null) {
+                        values[slot] = value;
+                    } else {
+                        primitiveValues[slot] = toBits(value, primitiveType);
+                    }
+                }
+            }
+            return new FieldSnapshot(primitiveValues, values);
+        }
+
+        /**
+         * Compare the attribute of the clone to its snapshot value, and return a change record if changed.
+         */
+        protected ChangeRecord compareForChange(int index, Object clone, FieldSnapshot snapshot, ObjectChangeSet changes, AbstractSession session) {
+            AbstractDirectMapping mapping = (AbstractDirectMapping)this.mappings[index];
+            Object value = mapping.getAttributeValueFromObject(clone);
+            int slot = this.slots[index];
+            Class<?> primitiveType = this.primitiveTypes[index];
+            if (primitiveType == null) {
+                return mapping.compareValueForChange(value, snapshot.getValues()[slot], changes, session);
+            }
+            long oldBits = snapshot.getPrimitiveValues()[slot];
+            // PERF: Only box the old value if changed.
+            if ((value != null) && (toBits(value, primitiveType) == oldBits)) {
+                return null;
+            }
+            return mapping.compareValueForChange(value, fromBits(oldBits, primitiveType), changes, session);
+        }
+
+        /**
+         * Return the bits of the primitive value.
+         */
+        protected static long toBits(Object value, Class<?> primitiveType) {
+            if (value == null) {
+                return 0;
+            } else if (primitiveType == double.class) {
+                return Double.doubleToLongBits((Double)value);
+            } else if (primitiveType == float.class) {
+                return Float.floatToIntBits((Float)value);
+            } else if (primitiveType == boolean.class) {
+                return ((Boolean)value) ? 1 : 0;
+            } else if (primitiveType == char.class) {
+                return (Character)value;
+            }
+            return ((Number)value).longValue();
+        }
+
+        /**
+         * Return the primitive value of the bits, boxed.
+         */
+        protected static Object fromBits(long bits, Class<?> primitiveType) {
+            if (primitiveType == long.class) {
+                return bits;
+            } else if (primitiveType == int.class) {
+                return (int)bits;
+            } else if (primitiveType == double.class) {
+                return Double.longBitsToDouble(bits);
+            } else if (primitiveType == float.class) {
+                return Float.intBitsToFloat((int)bits);
+            } else if (primitiveType == boolean.class) {
+                return bits != 0;
+            } else if (primitiveType == short.class) {
+                return (short)bits;
+            } else if (primitiveType == byte.class) {
+                return (byte)bits;
+            }
+            return (char)bits;
+        }
+    }
+}
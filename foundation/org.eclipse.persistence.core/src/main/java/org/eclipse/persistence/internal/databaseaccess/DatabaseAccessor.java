@@ -48,8 +48,6 @@
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
@@ -106,7 +104,10 @@ public class DatabaseAccessor extends DatasourceAccessor {
     public static boolean shouldUseDynamicStatements = true;
 
     /** Stores statement handles for common used prepared statements. */
-    protected Map<String, Statement> statementCache;
+    protected StatementCache statementCache;
+
+    /** Set for a connection created by a pool, to prepare the most frequent statements on its first use. */
+    protected volatile boolean shouldPrewarmStatementCache;
 
     /** Cache of the connection's java.sql.DatabaseMetaData */
     protected DatabaseMetaData metaData;
@@ -495,6 +496,45 @@ public AbstractRecord cursorRetrievePreviousRow(Vector<DatabaseField> fields, Re
         }
     }
 
+    /**
+     * Advance the result set and populate the row with values from the next valid row
+     * in the result set, replacing its previous values. Intended solely for cursor
+     * support of results built only from the values of the row, reusing the same row
+     * for all the rows of the result set.
+     */
+    public AbstractRecord cursorRetrieveNextRow(AbstractRecord row, ResultSet resultSet, AbstractSession session) throws DatabaseException {
+        try {
+            if (resultSet.next()) {
+                return fetchRow(row, resultSet, resultSet.getMetaData(), session);
+            } else {
+                return null;
+            }
+        } catch (SQLException exception) {
+            DatabaseException commException = processExceptionForCommError(session, exception, null);
+            if (commException != null) throw commException;
+            throw DatabaseException.sqlException(exception, this, session, false);
+        }
+    }
+
+    /**
+     * Advance the result set and populate the row with values from the previous valid row
+     * in the result set, replacing its previous values. Intended solely for scrollable
+     * cursor support of results built only from the values of the row.
+     */
+    public AbstractRecord cursorRetrievePreviousRow(AbstractRecord row, ResultSet resultSet, AbstractSession session) throws DatabaseException {
+        try {
+            if (resultSet.previous()) {
+                return fetchRow(row, resultSet, resultSet.getMetaData(), session);
+            } else {
+                return null;
+            }
+        } catch (SQLException exception) {
+            DatabaseException commException = processExceptionForCommError(session, exception, null);
+            if (commException != null) throw commException;
+            throw DatabaseException.sqlException(exception, this, session, false);
+        }
+    }
+
     /**
      * Close the connection.
      */
@@ -1071,6 +1111,30 @@ protected AbstractRecord fetchRow(Vector<DatabaseField> fields, ResultSet result
         return new DatabaseRecord(fields, values);
     }
 
+    /**
+     * Populate the row from the data in cursor, replacing its values in place.
+     * The fields of the row represent the results, their JDBC types are resolved
+     * from the first row and cached in the fields.
+     * PERF: Avoids allocating a row and values per row of the result set.
+     */
+    protected AbstractRecord fetchRow(AbstractRecord row, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session) throws DatabaseException {
+        Vector<DatabaseField> fields = row.getFields();
+        int size = fields.size();
+        // PERF: Pass platform and optimize data flag.
+        DatabasePlatform platform = getPlatform();
+        boolean optimizeData = platform.shouldOptimizeDataConversion();
+        for (int index = 0; index < size; index++) {
+            DatabaseField field = fields.elementAt(index);
+            // Field can be null for fetch groups.
+            if (field != null) {
+                row.replaceAt(getObject(resultSet, field, metaData, index + 1, platform, optimizeData, session), index);
+            } else {
+                row.replaceAt(null, index);
+            }
+        }
+        return row;
+    }
+
     /**
      * Return a new DatabaseRow.<p>
      * Populate the row from the data in cursor. The fields representing the results
@@ -1560,15 +1624,107 @@ protected boolean hasStatementCache() {
     }
 
     /**
-     * The statement cache stores a fixed sized number of prepared statements.
+     * The statement cache stores the least recently used prepared statements,
+     * within the size and memory budget of the platform.
      */
-    protected synchronized Map<String, Statement> getStatementCache() {
+    protected synchronized StatementCache getStatementCache() {
         if (statementCache == null) {
-            statementCache = new HashMap<>(50);
+            statementCache = new StatementCache(getPlatform().getStatementCacheSize(), getPlatform().getStatementCacheMemoryBudget());
         }
         return statementCache;
     }
 
+    /**
+     * Record the lookup of a statement in the statement cache, in the platform statistics and the session profiler.
+     * The use of the SQL is recorded if its statement can be prepared when a connection is created.
+     */
+    protected void recordStatementCacheLookup(Statement statement, String sql, boolean canBePrepared, AbstractSession session) {
+        StatementCacheStatistics statistics = getPlatform().getStatementCacheStatistics();
+        if (statement == null) {
+            statistics.recordMiss();
+            session.incrementProfile(SessionProfiler.StatementCacheMisses);
+        } else {
+            statistics.recordHit();
+            session.incrementProfile(SessionProfiler.StatementCacheHits);
+        }
+        if (canBePrepared && (getPlatform().getStatementCacheWarmupSize() > 0)) {
+            statistics.recordUse(sql);
+        }
+    }
+
+    /**
+     * Close the statements evicted from the statement cache.
+     */
+    protected void closeEvictedStatements(List<Statement> evicted, AbstractSession session) {
+        if (evicted.isEmpty()) {
+            return;
+        }
+        getPlatform().getStatementCacheStatistics().recordEvictions(evicted.size());
+        for (Statement statement : evicted) {
+            session.incrementProfile(SessionProfiler.StatementCacheEvictions);
+            try {
+                statement.close();
+            } catch (SQLException exception) {
+                // an exception can be raised if
+                // a statement is closed twice.
+            }
+        }
+    }
+
+    /**
+     * Set if the most frequent statements of the platform should be prepared on the first use of the statement cache.
+     * This is set by the connection pool creating the connection, so the statements are not prepared while the pool is locked.
+     */
+    public void setShouldPrewarmStatementCache(boolean shouldPrewarmStatementCache) {
+        this.shouldPrewarmStatementCache = shouldPrewarmStatementCache;
+    }
+
+    /**
+     * Prepare the most frequent statements if this is the first use of the statement cache of a pooled connection.
+     */
+    protected void checkStatementCachePrewarm(AbstractSession session) {
+        if (this.shouldPrewarmStatementCache) {
+            this.shouldPrewarmStatementCache = false;
+            prewarmStatementCache(session);
+        }
+    }
+
+    /**
+     * Prepare the most frequent statements of the platform into the statement cache.
+     * This is called on the first use of the statement cache of a pooled connection,
+     * if the platform statement cache warmup size is set.
+     * A statement that fails to be prepared is ignored, it will be prepared again on its first use.
+     */
+    public void prewarmStatementCache(AbstractSession session) {
+        int warmupSize = Math.min(getPlatform().getStatementCacheWarmupSize(), getPlatform().getStatementCacheSize());
+        if ((warmupSize <= 0) || (getConnection() == null)) {
+            return;
+        }
+        StatementCache statementCache = getStatementCache();
+        for (String sql : getPlatform().getStatementCacheStatistics().getMostFrequentStatements(warmupSize)) {
+            PreparedStatement statement;
+            try {
+                statement = getConnection().prepareStatement(sql);
+            } catch (SQLException exception) {
+                session.logThrowable(SessionLog.FINER, SessionLog.SQL, exception);
+                continue;
+            }
+            List<Statement> evicted;
+            synchronized (statementCache) {
+                evicted = statementCache.checkIn(sql, statement);
+            }
+            if (evicted == null) {
+                try {
+                    statement.close();
+                } catch (SQLException exception) {
+                    // Ignore, the statement was not used.
+                }
+            } else {
+                closeEvictedStatements(evicted, session);
+            }
+        }
+    }
+
     /**
      * Get a description of tables available in a catalog.
      *
@@ -1707,14 +1863,16 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session, bo
         Statement statement = null;
         if (call.usesBinding(session) && call.shouldCacheStatement(session)) {
             // Check the cache by sql string, must synchronize check and removal.
-            Map<String, Statement> statementCache = getStatementCache();
+            // Need to remove to allow concurrent statement execution.
+            checkStatementCachePrewarm(session);
+            StatementCache statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = statementCache.get(call.getSQLString());
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(call.getSQLString());
-                }
+                statement = statementCache.checkOut(call.getSQLString());
             }
+            // Only plain prepared statements are prepared when a connection is created.
+            boolean canBePrepared = !(unwrapConnection || call.isNativeConnectionRequired() || call.isCallableStatementRequired()
+                    || call.isResultSetScrollable() || call.shouldReturnGeneratedKeys());
+            recordStatementCacheLookup(statement, call.getSQLString(), canBePrepared, session);
         }
 
         if (statement == null) {
@@ -1762,14 +1920,13 @@ public PreparedStatement prepareStatement(String sql, AbstractSession session, b
         PreparedStatement statement = null;
         // Check the cache by sql string, must synchronize check and removal.
         if (getPlatform().shouldCacheAllStatements()) {
-            Map<String, Statement> statementCache = getStatementCache();
+            // Need to remove to allow concurrent statement execution.
+            checkStatementCachePrewarm(session);
+            StatementCache statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(sql);
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(sql);
-                }
+                statement = (PreparedStatement)statementCache.checkOut(sql);
             }
+            recordStatementCacheLookup(statement, sql, !callable, session);
         }
 
         if (statement == null) {
@@ -1826,7 +1983,8 @@ protected void reconnect(AbstractSession session) {
     public void releaseStatement(Statement statement, String sqlString, DatabaseCall call, AbstractSession session) throws SQLException {
         if (((call == null) && getPlatform().shouldCacheAllStatements())
                 || ((call != null) && call.usesBinding(session) && call.shouldCacheStatement(session))) {
-            Map<String, Statement> statementCache = getStatementCache();
+            StatementCache statementCache = getStatementCache();
+            List<Statement> evicted = null;
             synchronized (statementCache) {
                 PreparedStatement preparedStatement = (PreparedStatement)statement;
                 if (!statementCache.containsKey(sqlString)) {// May already be there by other thread.
@@ -1835,19 +1993,17 @@ public void releaseStatement(Statement statement, String sqlString, DatabaseCall
                     if (call != null) {
                         resetStatementFromCall(preparedStatement, call);
                     }
-                    if (statementCache.size() > getPlatform().getStatementCacheSize()) {
-                        // Currently one is removed at random...
-                        PreparedStatement removedStatement = (PreparedStatement)statementCache.remove(statementCache.keySet().iterator().next());
-                        closeStatement(removedStatement, session, call);
-                    } else {
-                        decrementCallCount();
-                    }
-                    statementCache.put(sqlString, preparedStatement);
-                } else {
-                    // CR... Must close the statement if not cached.
-                    closeStatement(statement, session, call);
+                    // The least recently used statements are evicted if the cache is full.
+                    evicted = statementCache.checkIn(sqlString, preparedStatement);
                 }
             }
+            if (evicted != null) {
+                closeEvictedStatements(evicted, session);
+                decrementCallCount();
+            } else {
+                // CR... Must close the statement if not cached.
+                closeStatement(statement, session, call);
+            }
         } else if (statement == this.dynamicStatement) {
             // The dynamic statement is cached and only closed on disconnect.
             // Bug 5709179 - reset statement settings on cached statements (dminsky) - moved to its own method
@@ -1942,7 +2098,7 @@ public void setActiveBatchWritingMechanism(BatchWritingMechanism mechanism) {
     /**
      * The statement cache stores a fixed sized number of prepared statements.
      */
-    protected void setStatementCache(Hashtable<String, Statement> statementCache) {
+    protected void setStatementCache(StatementCache statementCache) {
         this.statementCache = statementCache;
     }
 
@@ -156,6 +156,15 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** The statement cache size for prepare parameterized statements. */
     protected int statementCacheSize;
 
+    /** The estimated memory budget in bytes of the statement cache of each connection, 0 if unbounded. */
+    protected long statementCacheMemoryBudget;
+
+    /** The number of the most frequent statements prepared when a pooled connection is created. */
+    protected int statementCacheWarmupSize;
+
+    /** The statistics of the statement caches of the connections. */
+    private transient volatile StatementCacheStatistics statementCacheStatistics;
+
     /** Can be used if the app expects upper case but the database is not return consistent case, i.e. different databases. */
     protected boolean shouldForceFieldNamesToUpperCase;
 
@@ -186,6 +195,9 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** Allow for a custom batch writing mechanism. **/
     protected BatchWritingMechanism batchWritingMechanism;
 
+    /** Allow the batches of inserts to be written as multi-row inserts. **/
+    protected boolean shouldUseMultiRowInsert;
+
     /** Allow configuration option to use Where clause outer joining or From clause joining. **/
     protected Boolean printOuterJoinInWhereClause;
 
@@ -295,6 +307,8 @@ public DatabasePlatform() {
         this.shouldCacheAllStatements = false;
         this.shouldOptimizeDataConversion = true;
         this.statementCacheSize = 50;
+        this.statementCacheMemoryBudget = 0;
+        this.statementCacheWarmupSize = 0;
         this.shouldForceFieldNamesToUpperCase = false;
         this.maxBatchWritingSize = 0;
         this.usesJDBCBatchWriting = true;
@@ -790,6 +804,8 @@ public void copyInto(Platform platform) {
         databasePlatform.shouldBindPartialParameters = this.shouldBindPartialParameters;
         databasePlatform.setShouldCacheAllStatements(shouldCacheAllStatements());
         databasePlatform.setStatementCacheSize(getStatementCacheSize());
+        databasePlatform.setStatementCacheMemoryBudget(getStatementCacheMemoryBudget());
+        databasePlatform.setStatementCacheWarmupSize(getStatementCacheWarmupSize());
         databasePlatform.setTransactionIsolation(getTransactionIsolation());
         databasePlatform.setBatchWritingMechanism(getBatchWritingMechanism());
         databasePlatform.setMaxBatchWritingSize(getMaxBatchWritingSize());
@@ -799,6 +815,7 @@ public void copyInto(Platform platform) {
         databasePlatform.setUsesBatchWriting(usesBatchWriting());
         databasePlatform.setUsesJDBCBatchWriting(usesJDBCBatchWriting());
         databasePlatform.setUsesNativeBatchWriting(usesNativeBatchWriting());
+        databasePlatform.setShouldUseMultiRowInsert(this.shouldUseMultiRowInsert);
         databasePlatform.setUsesStreamsForBinding(usesStreamsForBinding());
         databasePlatform.shouldCreateIndicesOnForeignKeys = this.shouldCreateIndicesOnForeignKeys;
         databasePlatform.printOuterJoinInWhereClause = this.printOuterJoinInWhereClause;
@@ -1401,6 +1418,37 @@ public int getStatementCacheSize() {
         return statementCacheSize;
     }
 
+    /**
+     * The estimated memory budget in bytes of the statement cache of each connection, 0 if unbounded.
+     * The least recently used statements are evicted to stay within both the size and the memory budget.
+     */
+    public long getStatementCacheMemoryBudget() {
+        return statementCacheMemoryBudget;
+    }
+
+    /**
+     * The number of the most frequent statements prepared when a pooled connection is created, 0 by default.
+     */
+    public int getStatementCacheWarmupSize() {
+        return statementCacheWarmupSize;
+    }
+
+    /**
+     * Return the hits, misses and evictions of the statement caches of the connections,
+     * and the use of the cached SQL strings.
+     */
+    public StatementCacheStatistics getStatementCacheStatistics() {
+        if (statementCacheStatistics != null) {
+            return statementCacheStatistics;
+        }
+        synchronized (this) {
+            if (statementCacheStatistics == null) {
+                statementCacheStatistics = new StatementCacheStatistics();
+            }
+            return statementCacheStatistics;
+        }
+    }
+
     public String getStoredProcedureParameterPrefix() {
         return "";
     }
@@ -1834,6 +1882,21 @@ public void setStatementCacheSize(int statementCacheSize) {
         this.statementCacheSize = statementCacheSize;
     }
 
+    /**
+     * The estimated memory budget in bytes of the statement cache of each connection, 0 if unbounded.
+     * The least recently used statements are evicted to stay within both the size and the memory budget.
+     */
+    public void setStatementCacheMemoryBudget(long statementCacheMemoryBudget) {
+        this.statementCacheMemoryBudget = statementCacheMemoryBudget;
+    }
+
+    /**
+     * The number of the most frequent statements prepared when a pooled connection is created, 0 by default.
+     */
+    public void setStatementCacheWarmupSize(int statementCacheWarmupSize) {
+        this.statementCacheWarmupSize = statementCacheWarmupSize;
+    }
+
     public void setStringBindingSize(int aSize) {
         stringBindingSize = aSize;
     }
@@ -1905,6 +1968,87 @@ public void setUsesNativeSQL(boolean usesNativeSQL) {
         this.usesNativeSQL = usesNativeSQL;
     }
 
+    /**
+     * PUBLIC:
+     * Set if the batches of parameterized inserts should be written as multi-row inserts,
+     * INSERT INTO ... VALUES (...), (...), on the platforms supporting them.
+     * This reduces the number of statements executed by the database, the batch of each flush
+     * is split into statements of at most the maximum number of parameters of the platform.
+     * Inserts returning generated keys and inserts with optimistic locking are not rewritten.
+     * Requires parameter binding and JDBC batch writing, default is false.
+     */
+    public void setShouldUseMultiRowInsert(boolean shouldUseMultiRowInsert) {
+        this.shouldUseMultiRowInsert = shouldUseMultiRowInsert;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the batches of parameterized inserts are written as multi-row inserts,
+     * only if the platform supports them.
+     */
+    public boolean shouldUseMultiRowInsert() {
+        return this.shouldUseMultiRowInsert && supportsMultiRowInsert();
+    }
+
+    /**
+     * Return if the database supports inserting multiple rows with a single INSERT of multiple VALUES rows.
+     */
+    public boolean supportsMultiRowInsert() {
+        return getMaxMultiRowInsertParameters() > 0;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the maximum number of parameters of a multi-row insert, or 0 if multi-row inserts are not supported.
+     */
+    public int getMaxMultiRowInsertParameters() {
+        return 0;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the maximum number of rows of a multi-row insert.
+     */
+    public int getMaxMultiRowInsertRows() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * INTERNAL:
+     * Build the insert of the rows from the parameterized insert of one row,
+     * or return null if the SQL is not an insert of one row of the parameters.
+     */
+    public String buildMultiRowInsertSQL(String insertSQL, int rowParameters, int rows) {
+        if (!insertSQL.startsWith("INSERT INTO ") || (insertSQL.charAt(insertSQL.length() - 1) != ')')) {
+            return null;
+        }
+        int valuesIndex = insertSQL.lastIndexOf(" VALUES (");
+        if (valuesIndex == -1) {
+            return null;
+        }
+        String row = insertSQL.substring(valuesIndex + 8);
+        int parameters = 0;
+        for (int index = 0; index < row.length(); index++) {
+            char character = row.charAt(index);
+            if (character == '?') {
+                parameters++;
+            } else if ((character == '(' && index > 0) || (character == ')' && index < row.length() - 1) || (character == '\'')) {
+                // Functions or literals in the values.
+                return null;
+            }
+        }
+        if (parameters != rowParameters) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(insertSQL.length() + ((rows - 1) * (row.length() + 2)));
+        builder.append(insertSQL);
+        for (int index = 1; index < rows; index++) {
+            builder.append(", ");
+            builder.append(row);
+        }
+        return builder.toString();
+    }
+
     /**
      * Return the custom batch writing mechanism.
      */
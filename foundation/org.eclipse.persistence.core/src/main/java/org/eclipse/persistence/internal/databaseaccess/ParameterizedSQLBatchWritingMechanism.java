@@ -65,6 +65,21 @@ public ParameterizedSQLBatchWritingMechanism(DatabaseAccessor databaseAccessor)
         }
     }
 
+    /**
+     * INTERNAL:
+     * Sets the accessor that this mechanism will use, for the mechanisms set on the platform.
+     */
+    @Override
+    public void setAccessor(DatabaseAccessor accessor, AbstractSession session) {
+        super.setAccessor(accessor, session);
+        this.parameters = new ArrayList<>();
+        this.maxBatchSize = session.getPlatform().getMaxBatchWritingSize();
+        if (this.maxBatchSize == 0) {
+            // the max size was not set on the platform - use default
+            this.maxBatchSize = DatabasePlatform.DEFAULT_PARAMETERIZED_MAX_BATCH_WRITING_SIZE;
+        }
+    }
+
     /**
      * INTERNAL:
      * This method is called by the DatabaseAccessor to add this statement to the list of statements
@@ -148,7 +163,17 @@ public void executeBatchedStatements(AbstractSession session) {
      * Introduced in fix for bug#419326.
      */
     private void executeBatch(AbstractSession session) {
+        if ((this.parameters.size() > 1) && executeBulkInsert(session)) {
+            return;
+        }
+        executeStatements(session);
+    }
 
+    /**
+     * INTERNAL:
+     * Execute the batched statements as a single statement, or a JDBC batch.
+     */
+    private void executeStatements(AbstractSession session) {
         if (this.parameters.size() == 1) {
             // If only one call, just execute normally.
             try {
@@ -195,6 +220,61 @@ private void executeBatch(AbstractSession session) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Execute the batch of inserts with a bulk insert, and clear the batch.
+     * By default the inserts are written as multi-row inserts if the platform uses them,
+     * the rows are split into statements of at most the maximum number of parameters of the platform.
+     * Return false if the batch is not a batch of inserts that can be written in bulk.
+     */
+    protected boolean executeBulkInsert(AbstractSession session) {
+        DatabasePlatform platform = session.getPlatform();
+        if (!platform.shouldUseMultiRowInsert() || this.previousCall.hasOptimisticLock() || this.previousCall.shouldReturnGeneratedKeys()) {
+            return false;
+        }
+        int rowParameters = this.parameters.get(0).size();
+        int rows = Math.min(Math.min(this.parameters.size(), platform.getMaxMultiRowInsertRows()), platform.getMaxMultiRowInsertParameters() / rowParameters);
+        if (rows < 2) {
+            return false;
+        }
+        String multiRowSQL = platform.buildMultiRowInsertSQL(this.previousCall.getSQLString(), rowParameters, rows);
+        if (multiRowSQL == null) {
+            return false;
+        }
+        List<List> rowsParameters = this.parameters;
+        DatabaseCall call = this.previousCall;
+        DatabaseCall lastCall = this.lastCallAppended;
+        int queryTimeout = this.queryTimeoutCache;
+        List<List> multiRowParameters = new ArrayList<>();
+        int size = rowsParameters.size();
+        int index = 0;
+        for (; index + rows <= size; index += rows) {
+            List multiRowParameter = new ArrayList(rows * rowParameters);
+            for (int rowIndex = index; rowIndex < index + rows; rowIndex++) {
+                multiRowParameter.addAll(rowsParameters.get(rowIndex));
+            }
+            multiRowParameters.add(multiRowParameter);
+        }
+        DatabaseCall multiRowCall = (DatabaseCall)call.clone();
+        multiRowCall.setSQLStringInternal(multiRowSQL);
+        multiRowCall.setParameters(multiRowParameters.get(0));
+        this.previousCall = multiRowCall;
+        this.parameters = multiRowParameters;
+        this.lastCallAppended = multiRowCall;
+        executeStatements(session);
+        // The rows remaining are inserted by a smaller statement.
+        if (index < size) {
+            this.previousCall = call;
+            this.parameters = new ArrayList<>(rowsParameters.subList(index, size));
+            this.lastCallAppended = lastCall;
+            this.queryTimeoutCache = queryTimeout;
+            if ((this.parameters.size() == 1) || !executeBulkInsert(session)) {
+                executeStatements(session);
+            }
+        }
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Swaps out the Mechanism for the other Mechanism
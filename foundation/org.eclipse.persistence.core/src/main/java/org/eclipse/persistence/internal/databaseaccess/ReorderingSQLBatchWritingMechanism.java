@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.OptimisticLockException;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectCollectionMapping;
+import org.eclipse.persistence.mappings.ManyToManyMapping;
+import org.eclipse.persistence.mappings.ObjectReferenceMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.ModifyQuery;
+
+/**
+ * INTERNAL:
+ * <p>ReorderingSQLBatchWritingMechanism batches the parameterized statements of a whole flush,
+ * grouping the statements with the same SQL into a single batch execution even if other statements
+ * were written between them, i.e. the inserts of interleaved orders and order lines are executed
+ * as one batch of orders followed by one batch of order lines.</p>
+ * <p>The commit order of the unit of work is kept for dependent rows: a statement only joins a previous
+ * batch if it does not depend on the statements of the batches after it, i.e. an insert or update is not moved
+ * before the statements on a table its table references, and a delete is not moved before the statements
+ * on its table or a table referencing it. The table references are defined by the foreign keys, relation tables,
+ * secondary tables and collection tables of the mappings, so foreign key constraints not mapped are not known.</p>
+ * <p>The batches are executed when the writes are completed, or before a statement that can not be batched.
+ * Statements without parameters are not reordered, the batches are executed before them.</p>
+ *
+ * @see org.eclipse.persistence.config.BatchWriting#Reordering
+ */
+public class ReorderingSQLBatchWritingMechanism extends ParameterizedSQLBatchWritingMechanism {
+
+    /** The batches of the flush, in their execution order. */
+    protected List<Batch> batches;
+
+    /** The last batch of each SQL string, that the next statements with the same SQL can join. */
+    protected Map<String, Batch> lastBatches;
+
+    /** The tables that the rows of each table may reference, by the table name used in the SQL. */
+    protected Map<String, Set<String>> tableReferences;
+
+    /**
+     * INTERNAL:
+     * The statements of a batch, with the same SQL.
+     */
+    public static class Batch {
+        protected final DatabaseCall call;
+        protected final String tableName;
+        protected final boolean isDelete;
+        protected final int index;
+        protected final List<List> parameters;
+        protected DatabaseCall lastCall;
+
+        protected Batch(DatabaseCall call, String tableName, int index) {
+            this.call = call;
+            this.tableName = tableName;
+            this.isDelete = call.getSQLString().regionMatches(true, 0, "DELETE", 0, 6);
+            this.index = index;
+            this.parameters = new ArrayList<>();
+        }
+
+        public String getSQLString() {
+            return this.call.getSQLString();
+        }
+
+        public String getTableName() {
+            return this.tableName;
+        }
+
+        public List<List> getParameters() {
+            return this.parameters;
+        }
+    }
+
+    public ReorderingSQLBatchWritingMechanism() {
+        super();
+        this.batches = new ArrayList<>();
+        this.lastBatches = new HashMap<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Compute the references between the tables of the session after login.
+     */
+    @Override
+    public void initialize(AbstractSession session) {
+        this.tableReferences = buildTableReferences(session);
+    }
+
+    /**
+     * INTERNAL:
+     * Add the statement to its batch, the last batch with the same SQL if the statement can be moved before
+     * the batches after it, otherwise a new batch.
+     */
+    @Override
+    public void appendCall(AbstractSession session, DatabaseCall dbCall) {
+        if (!dbCall.hasParameters()) {
+            executeBatchedStatements(session);
+            Object rowCount = this.databaseAccessor.basicExecuteCall(dbCall, null, session, false);
+            if (dbCall.hasOptimisticLock() && (rowCount instanceof Integer) && ((Integer)rowCount != 1)) {
+                throw OptimisticLockException.batchStatementExecutionFailure();
+            }
+            return;
+        }
+        if (this.tableReferences == null) {
+            this.tableReferences = buildTableReferences(session);
+        }
+        String sql = dbCall.getSQLString();
+        Batch batch = this.lastBatches.get(sql);
+        if ((batch == null) || (batch.parameters.size() >= this.maxBatchSize) || !canJoin(batch)) {
+            batch = new Batch(dbCall, getTableName(sql), this.batches.size());
+            this.batches.add(batch);
+            this.lastBatches.put(sql, batch);
+        }
+        batch.parameters.add(dbCall.getParameters());
+        batch.lastCall = dbCall;
+        cacheQueryTimeout(session, dbCall);
+        this.lastCallAppended = dbCall;
+        // feature for bug 4104613, allows users to force statements to flush on execution
+        if (((ModifyQuery) dbCall.getQuery()).forceBatchStatementExecution()) {
+            executeBatchedStatements(session);
+        }
+    }
+
+    /**
+     * Return if a statement of the batch can be added to it,
+     * i.e. executed before the statements of the batches after it.
+     */
+    protected boolean canJoin(Batch batch) {
+        int size = this.batches.size();
+        if (batch.index == size - 1) {
+            return true;
+        }
+        if (batch.tableName == null) {
+            return false;
+        }
+        for (int index = batch.index + 1; index < size; index++) {
+            if (dependsOn(batch, this.batches.get(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return if the statements of the batch must be executed after the statements of the previous batch.
+     * Tables not mapped depend on all tables.
+     */
+    protected boolean dependsOn(Batch batch, Batch previousBatch) {
+        String tableName = batch.tableName;
+        String previousTableName = previousBatch.tableName;
+        if ((previousTableName == null) || tableName.equals(previousTableName)) {
+            return true;
+        }
+        Set<String> references = this.tableReferences.get(tableName);
+        Set<String> previousReferences = this.tableReferences.get(previousTableName);
+        if ((references == null) || (previousReferences == null)) {
+            return true;
+        }
+        // An inserted or updated row may reference a row written before it,
+        // a deleted row may be referenced by a row deleted or updated before it.
+        return batch.isDelete ? previousReferences.contains(tableName) : references.contains(previousTableName);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batches in their order.
+     */
+    @Override
+    public void executeBatchedStatements(AbstractSession session) {
+        if (this.batches.isEmpty()) {
+            return;
+        }
+        // Bug#419326 : detach the batches, so they are not visible to recursive calls.
+        List<Batch> flushedBatches = this.batches;
+        int queryTimeout = this.queryTimeoutCache;
+        clear();
+        for (Batch batch : flushedBatches) {
+            this.previousCall = batch.call;
+            this.parameters = batch.parameters;
+            this.lastCallAppended = batch.lastCall;
+            this.queryTimeoutCache = queryTimeout;
+            super.executeBatchedStatements(session);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Clear the batches without executing them, in the case of rollback.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.batches = new ArrayList<>();
+        this.lastBatches = new HashMap<>();
+    }
+
+    /**
+     * INTERNAL:
+     * The mechanism will be cloned to be set into each accessor, the clone has no batches.
+     */
+    @Override
+    public ReorderingSQLBatchWritingMechanism clone() {
+        ReorderingSQLBatchWritingMechanism clone = (ReorderingSQLBatchWritingMechanism)super.clone();
+        clone.batches = new ArrayList<>();
+        clone.lastBatches = new HashMap<>();
+        return clone;
+    }
+
+    /**
+     * Return the batches not executed yet, in their execution order.
+     */
+    public List<Batch> getBatches() {
+        return Collections.unmodifiableList(this.batches);
+    }
+
+    /**
+     * Return the table written by the insert, update or delete SQL, or null if it is not one of them.
+     */
+    public static String getTableName(String sql) {
+        int start;
+        if (sql.regionMatches(true, 0, "INSERT INTO ", 0, 12)) {
+            start = 12;
+        } else if (sql.regionMatches(true, 0, "UPDATE ", 0, 7)) {
+            start = 7;
+        } else if (sql.regionMatches(true, 0, "DELETE FROM ", 0, 12)) {
+            start = 12;
+        } else {
+            return null;
+        }
+        int end = start;
+        int length = sql.length();
+        while ((end < length) && (sql.charAt(end) != ' ') && (sql.charAt(end) != '(')) {
+            end++;
+        }
+        return (end == start) ? null : sql.substring(start, end);
+    }
+
+    /**
+     * Return the tables that the rows of each table may reference through the mappings of the descriptors,
+     * by the table name used in the SQL.
+     */
+    protected Map<String, Set<String>> buildTableReferences(AbstractSession session) {
+        Map<String, Set<String>> references = new HashMap<>();
+        DatabasePlatform platform = session.getPlatform();
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            if (descriptor.isAggregateDescriptor()) {
+                continue;
+            }
+            // The secondary and inheritance tables of the descriptor.
+            addReferences(references, descriptor.getTables(), descriptor.getTables(), platform);
+            addMappingReferences(references, descriptor, descriptor.getTables(), platform);
+        }
+        return references;
+    }
+
+    /**
+     * Add the references between the tables of the descriptor and the tables of its mappings.
+     */
+    protected void addMappingReferences(Map<String, Set<String>> references, ClassDescriptor descriptor, List<DatabaseTable> tables, DatabasePlatform platform) {
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            if (mapping.isAggregateObjectMapping()) {
+                ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+                if ((referenceDescriptor != null) && (referenceDescriptor != descriptor)) {
+                    addMappingReferences(references, referenceDescriptor, tables, platform);
+                }
+            } else if (mapping.isDirectCollectionMapping()) {
+                DatabaseTable referenceTable = ((DirectCollectionMapping)mapping).getReferenceTable();
+                if (referenceTable != null) {
+                    addReferences(references, List.of(referenceTable), tables, platform);
+                }
+            } else if (mapping.isForeignReferenceMapping()) {
+                ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+                List<DatabaseTable> referenceTables = (referenceDescriptor == null) ? List.of() : referenceDescriptor.getTables();
+                DatabaseTable relationTable = null;
+                if (mapping.isManyToManyMapping()) {
+                    relationTable = ((ManyToManyMapping)mapping).getRelationTable();
+                } else if (mapping.isOneToOneMapping() && ((OneToOneMapping)mapping).hasRelationTable()) {
+                    relationTable = ((OneToOneMapping)mapping).getRelationTable();
+                }
+                if (relationTable != null) {
+                    addReferences(references, List.of(relationTable), tables, platform);
+                    addReferences(references, List.of(relationTable), referenceTables, platform);
+                } else if (mapping.isObjectReferenceMapping() && ((ObjectReferenceMapping)mapping).isForeignKeyRelationship()) {
+                    addReferences(references, tables, referenceTables, platform);
+                } else if (mapping.isOneToOneMapping() || mapping.isOneToManyMapping() || mapping.isAggregateCollectionMapping()) {
+                    // Target foreign keys.
+                    addReferences(references, referenceTables, tables, platform);
+                } else {
+                    addReferences(references, tables, referenceTables, platform);
+                    addReferences(references, referenceTables, tables, platform);
+                }
+                if ((referenceDescriptor != null) && referenceDescriptor.isAggregateCollectionDescriptor() && (referenceDescriptor != descriptor)) {
+                    addReferences(references, referenceTables, referenceTables, platform);
+                    addMappingReferences(references, referenceDescriptor, referenceTables, platform);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the references of each of the tables to each of the referenced tables.
+     * All the tables are registered, as the tables not registered depend on all tables.
+     */
+    protected void addReferences(Map<String, Set<String>> references, List<DatabaseTable> tables, List<DatabaseTable> referencedTables, DatabasePlatform platform) {
+        for (DatabaseTable table : tables) {
+            Set<String> tableReferences = references.computeIfAbsent(table.getQualifiedNameDelimited(platform), name -> new HashSet<>());
+            for (DatabaseTable referencedTable : referencedTables) {
+                String referencedTableName = referencedTable.getQualifiedNameDelimited(platform);
+                tableReferences.add(referencedTableName);
+                references.computeIfAbsent(referencedTableName, name -> new HashSet<>());
+            }
+        }
+    }
+}
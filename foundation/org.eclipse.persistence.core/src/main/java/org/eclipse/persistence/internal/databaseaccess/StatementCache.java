@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Cache of the prepared statements of a connection, keyed by their SQL.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Evict the least recently used statements to stay within the maximum number of statements and the memory budget.
+ * </ul>
+ * A statement is removed from the cache while it is in use, to allow the concurrent execution of the same SQL,
+ * and put back when it is released.
+ * The memory used by a statement is estimated from the length of its SQL,
+ * as the driver's representation of a prepared statement grows with it.
+ * The cache is not thread safe, the accessor synchronizes on it.
+ * Its hits, misses and evictions are counted by the accessor in the platform statistics.
+ *
+ * @see DatabaseAccessor#getStatementCache()
+ * @see StatementCacheStatistics
+ */
+public class StatementCache extends LinkedHashMap<String, Statement> {
+
+    /** Estimated fixed memory of a prepared statement in the driver, in bytes. */
+    public static final int STATEMENT_OVERHEAD = 512;
+
+    /** The maximum number of cached statements. */
+    protected int maxSize;
+
+    /** The maximum estimated memory of the cached statements in bytes, 0 if unbounded. */
+    protected long memoryBudget;
+
+    /** The estimated memory of the cached statements in bytes. */
+    protected long memoryUsed;
+
+    public StatementCache(int maxSize, long memoryBudget) {
+        // Access ordered, the eldest entry is the least recently used statement.
+        super(Math.max(16, Math.min(maxSize, 50) * 4 / 3 + 1), 0.75f, true);
+        this.maxSize = maxSize;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Return the estimated memory used by the prepared statement of the SQL in bytes.
+     */
+    public static long estimateSize(String sql) {
+        return STATEMENT_OVERHEAD + (2L * sql.length());
+    }
+
+    /**
+     * Remove and return the cached statement for the SQL, or null if not cached.
+     */
+    public Statement checkOut(String sql) {
+        Statement statement = remove(sql);
+        if (statement != null) {
+            this.memoryUsed -= estimateSize(sql);
+        }
+        return statement;
+    }
+
+    /**
+     * Cache the statement for the SQL, evicting the least recently used statements if required.
+     * Return the evicted statements that must be closed,
+     * or null if the statement is not cached, because it is already cached or exceeds the cache limits.
+     */
+    public List<Statement> checkIn(String sql, Statement statement) {
+        long size = estimateSize(sql);
+        if ((this.maxSize <= 0) || ((this.memoryBudget > 0) && (size > this.memoryBudget)) || containsKey(sql)) {
+            return null;
+        }
+        List<Statement> evicted = Collections.emptyList();
+        Iterator<Map.Entry<String, Statement>> iterator = entrySet().iterator();
+        while ((size() >= this.maxSize) || ((this.memoryBudget > 0) && ((this.memoryUsed + size) > this.memoryBudget))) {
+            Map.Entry<String, Statement> eldest = iterator.next();
+            if (evicted.isEmpty()) {
+                evicted = new ArrayList<>();
+            }
+            evicted.add(eldest.getValue());
+            this.memoryUsed -= estimateSize(eldest.getKey());
+            iterator.remove();
+        }
+        put(sql, statement);
+        this.memoryUsed += size;
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.memoryUsed = 0;
+    }
+
+    /**
+     * Return the maximum number of cached statements.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Return the maximum estimated memory of the cached statements in bytes, 0 if unbounded.
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Return the estimated memory of the cached statements in bytes.
+     */
+    public long getMemoryUsed() {
+        return memoryUsed;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.internal.identitymaps.FrequencySketch;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Statistics of the statement caches of all the connections of a platform.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Sum the hits, misses and evictions of the statement caches.
+ * <li> Count the uses of the SQL strings, to prepare the most frequent ones when a connection is created.
+ * </ul>
+ * The uses are estimated by a frequency sketch, whose counts are halved periodically so they favor the recent uses.
+ * The number of SQL strings counted is bounded, when exceeded a new SQL string replaces the least used
+ * of the least recently used ones, unless that one is used more often.
+ *
+ * @see DatabasePlatform#getStatementCacheStatistics()
+ */
+public class StatementCacheStatistics {
+
+    /** The default maximum number of SQL strings counted. */
+    public static final int DEFAULT_MAX_COUNTED_STATEMENTS = 1000;
+
+    /** The number of least recently used SQL strings a new SQL string can replace. */
+    protected static final int EVICTION_SAMPLE_SIZE = 8;
+
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder evictions = new LongAdder();
+
+    /** The SQL strings counted, least recently used first. */
+    protected final LinkedHashMap<String, String> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The estimated uses of the SQL strings, including the ones not counted. */
+    protected FrequencySketch sketch = new FrequencySketch(DEFAULT_MAX_COUNTED_STATEMENTS);
+
+    /** Guards the SQL strings counted and the sketch. Uses only try to acquire it. */
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    /** The maximum number of SQL strings counted. */
+    protected int maxCountedStatements = DEFAULT_MAX_COUNTED_STATEMENTS;
+
+    /**
+     * Record a statement found in the cache of a connection.
+     */
+    public void recordHit() {
+        this.hits.increment();
+    }
+
+    /**
+     * Record a statement not found in the cache of a connection.
+     */
+    public void recordMiss() {
+        this.misses.increment();
+    }
+
+    /**
+     * Record statements evicted from the cache of a connection.
+     */
+    public void recordEvictions(int count) {
+        this.evictions.add(count);
+    }
+
+    /**
+     * Record the use of the SQL of a statement that can be prepared in advance.
+     * The use is not recorded if another thread is recording one, so under contention the uses are sampled.
+     */
+    public void recordUse(String sql) {
+        if (!this.lock.tryLock()) {
+            return;
+        }
+        try {
+            this.sketch.increment(sql);
+            if ((this.statements.get(sql) != null) || (this.maxCountedStatements <= 0)) {
+                return;
+            }
+            if (this.statements.size() >= this.maxCountedStatements) {
+                String victim = null;
+                int victimFrequency = Integer.MAX_VALUE;
+                Iterator<String> leastRecentlyUsed = this.statements.keySet().iterator();
+                for (int index = 0; (index < EVICTION_SAMPLE_SIZE) && leastRecentlyUsed.hasNext(); index++) {
+                    String candidate = leastRecentlyUsed.next();
+                    int frequency = this.sketch.frequency(candidate);
+                    if (frequency < victimFrequency) {
+                        victim = candidate;
+                        victimFrequency = frequency;
+                    }
+                }
+                if (this.sketch.frequency(sql) < victimFrequency) {
+                    return;
+                }
+                this.statements.remove(victim);
+            }
+            this.statements.put(sql, sql);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the most used SQL strings, most used first, and most recently used first for the same uses.
+     */
+    public List<String> getMostFrequentStatements(int count) {
+        List<String> statements;
+        this.lock.lock();
+        try {
+            statements = new ArrayList<>(this.statements.keySet());
+            Collections.reverse(statements);
+            FrequencySketch sketch = this.sketch;
+            statements.sort(Comparator.comparingInt((String sql) -> sketch.frequency(sql)).reversed());
+        } finally {
+            this.lock.unlock();
+        }
+        return new ArrayList<>(statements.subList(0, Math.min(count, statements.size())));
+    }
+
+    /**
+     * Return the number of statements found in the caches.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of statements not found in the caches.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of statements evicted from the caches.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the ratio of the statements found in the caches, 0 if no statement was requested.
+     */
+    public double getHitRatio() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        if (total == 0) {
+            return 0;
+        }
+        return (double)hits / total;
+    }
+
+    /**
+     * Return the maximum number of SQL strings counted.
+     */
+    public int getMaxCountedStatements() {
+        return maxCountedStatements;
+    }
+
+    /**
+     * Set the maximum number of SQL strings counted.
+     */
+    public void setMaxCountedStatements(int maxCountedStatements) {
+        this.lock.lock();
+        try {
+            this.maxCountedStatements = maxCountedStatements;
+            this.sketch = new FrequencySketch(maxCountedStatements);
+            this.statements.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(hits=" + getHits() + ", misses=" + getMisses() + ", evictions=" + getEvictions() + ")";
+    }
+}
@@ -1045,6 +1045,17 @@ protected Object buildWorkingCopyCloneNormally(ObjectBuildingQuery query, Abstra
         return clone;
     }
 
+    /**
+     * Return if the object was built from all of its fields, so the row can be used to rebuild it.
+     * Rows still backed by a result set are not complete, their values are cleared once used.
+     */
+    protected boolean isCompleteRow(AbstractRecord databaseRow, ObjectBuildingQuery query, ClassDescriptor concreteDescriptor) {
+        if ((databaseRow instanceof ResultSetRecord) || !query.isObjectLevelReadQuery() || query.isReportQuery()) {
+            return false;
+        }
+        return !((ObjectLevelReadQuery)query).hasPartialAttributeExpressions() && (query.getExecutionFetchGroup(concreteDescriptor) == null);
+    }
+
     /**
      * Return an instance of the receivers javaClass. Set the attributes of an instance
      * from the values stored in the database row.
@@ -1166,6 +1177,13 @@ else if (joinManager != null && joinManager.hasJoinedAttributeExpressions()) { /
                     loadBatchReadAttributes(concreteDescriptor, domainObject, cacheKey, databaseRow, query, joinManager, false);
                 }
             }
+            // Store the row while the cache key is locked, so a concurrent merge removing the row is not undone.
+            if (!cacheHit && shouldMaintainCache && (cacheKey != null) && concreteDescriptor.getCachePolicy().hasOffHeapCache()
+                    && !isSopQuery && !hasSopObject && !session.isUnitOfWork() && !query.shouldStoreBypassCache()
+                    && isCompleteRow(databaseRow, query, concreteDescriptor)) {
+                session.getParentIdentityMapSession(concreteDescriptor, true, true).getIdentityMapAccessorInstance().getIdentityMapManager()
+                    .putRowInOffHeapCache(primaryKey, databaseRow, cacheKey, !domainWasMissing, concreteDescriptor, query);
+            }
         } finally {
             if (shouldMaintainCache && (cacheKey != null)) {
                 // bug 2681401:
@@ -4234,6 +4252,24 @@ public void mergeChangesIntoObject(Object target, ObjectChangeSet changeSet, Obj
             }
         }
         this.descriptor.getCachePolicy().indexObjectInCache(changeSet, target, this.descriptor, targetSession);
+        removeFromOffHeapCache(target, changeSet, targetSession);
+    }
+
+    /**
+     * Remove the row of the object from the off-heap cache, as the object was changed in the shared cache.
+     */
+    protected void removeFromOffHeapCache(Object target, ObjectChangeSet changeSet, AbstractSession targetSession) {
+        if (!this.descriptor.getCachePolicy().hasOffHeapCache() || targetSession.isUnitOfWork()) {
+            return;
+        }
+        Object primaryKey = null;
+        if (changeSet != null) {
+            primaryKey = changeSet.getId();
+        }
+        if (primaryKey == null) {
+            primaryKey = extractPrimaryKeyFromObject(target, targetSession, true);
+        }
+        targetSession.getParentIdentityMapSession(this.descriptor, true, true).getIdentityMapAccessorInstance().getIdentityMapManager().removeFromOffHeapCache(primaryKey, this.descriptor);
     }
 
     /**
@@ -4281,6 +4317,9 @@ public void mergeIntoObject(Object target, ObjectChangeSet changeSet, boolean is
                 mapping.mergeIntoObject(target, isUnInitialized, source, mergeManager, targetSession);
             }
         }
+        if (!cascadeOnly) {
+            removeFromOffHeapCache(target, changeSet, targetSession);
+        }
 
         // PERF: Avoid events if no listeners.
         if (this.descriptor.getEventManager().hasAnyEventListeners()) {
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors.changetracking;
+
+import java.io.Serializable;
+
+/**
+ * INTERNAL:
+ * <p>
+ * <b>Purpose</b>: Store the direct attribute values of a registered object.
+ * </p>
+ * <p>
+ * <b>Description</b>: The values of primitive attributes are stored unboxed as their bits,
+ * the values of the other attributes as is. The snapshot replaces the backup clone for these attributes.
+ * </p>
+ * @see org.eclipse.persistence.descriptors.changetracking.FieldSnapshotChangeDetectionPolicy
+ */
+public class FieldSnapshot implements Serializable {
+
+    /** The bits of the primitive attribute values. */
+    protected final long[] primitiveValues;
+
+    /** The other attribute values. */
+    protected final Object[] values;
+
+    public FieldSnapshot(long[] primitiveValues, Object[] values) {
+        this.primitiveValues = primitiveValues;
+        this.values = values;
+    }
+
+    /**
+     * Return the bits of the primitive attribute values.
+     */
+    public long[] getPrimitiveValues() {
+        return primitiveValues;
+    }
+
+    /**
+     * Return the other attribute values.
+     */
+    public Object[] getValues() {
+        return values;
+    }
+}
@@ -64,6 +64,7 @@
 import org.eclipse.persistence.mappings.AggregateObjectMapping;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.mappings.DirectCollectionMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
 import org.eclipse.persistence.mappings.ManyToManyMapping;
 import org.eclipse.persistence.mappings.ObjectReferenceMapping;
 import org.eclipse.persistence.mappings.OneToManyMapping;
@@ -1096,6 +1097,105 @@ public Vector getFields() {
         return fields;
     }
 
+    /**
+     * INTERNAL:
+     * Return the fields the rows selected by the statement, and their order, depend on.
+     * These are the fields used in the where clause, the joins and the ordering.
+     * Return null if the dependencies can not be determined, such as for sub-selects, unions or literal SQL.
+     * The statement must be normalized.
+     */
+    public Set<DatabaseField> getDependencyFields() {
+        if (hasUnionExpressions() || hasHierarchicalQueryExpressions() || hasGroupByExpressions() || hasHavingExpression()) {
+            return null;
+        }
+        final Set<DatabaseField> dependencyFields = new HashSet<>();
+        ExpressionIterator iterator = new ExpressionIterator() {
+            @Override
+            public void iterate(Expression expression) {
+                if (getResult() != null) {
+                    return;
+                }
+                if (expression.isSubSelectExpression() || expression.isLiteralExpression() || (expression instanceof FromSubSelectExpression)) {
+                    setResult(Boolean.FALSE);
+                } else if (expression.isFieldExpression()) {
+                    DatabaseField field = ((FieldExpression)expression).getField();
+                    if (field != null) {
+                        dependencyFields.add(field);
+                    }
+                } else if (expression.isParameterExpression()) {
+                    DatabaseField field = ((ParameterExpression)expression).getField();
+                    if (field != null) {
+                        dependencyFields.add(field);
+                    }
+                } else if (expression.isQueryKeyExpression()) {
+                    QueryKeyExpression queryKeyExpression = (QueryKeyExpression)expression;
+                    DatabaseMapping mapping = queryKeyExpression.getMapping();
+                    if (mapping == null) {
+                        DatabaseField field = queryKeyExpression.getField();
+                        if (field == null) {
+                            // Manual or unmapped query key.
+                            setResult(Boolean.FALSE);
+                        } else {
+                            dependencyFields.add(field);
+                        }
+                        return;
+                    }
+                    dependencyFields.addAll(mapping.getFields());
+                    if (mapping.isForeignReferenceMapping()) {
+                        // The join may be on fields of the target or relation table.
+                        Expression joinCriteria = ((ForeignReferenceMapping)mapping).getSelectionCriteria();
+                        if (joinCriteria == null) {
+                            setResult(Boolean.FALSE);
+                            return;
+                        }
+                        joinCriteria.iterateOn(this);
+                        ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+                        if ((referenceDescriptor != null) && (referenceDescriptor.getQueryManager().getAdditionalJoinExpression() != null)) {
+                            referenceDescriptor.getQueryManager().getAdditionalJoinExpression().iterateOn(this);
+                        }
+                    }
+                    if (queryKeyExpression.getOnClause() != null) {
+                        queryKeyExpression.getOnClause().iterateOn(this);
+                    }
+                }
+            }
+        };
+        if (getWhereClause() != null) {
+            getWhereClause().iterateOn(iterator);
+        }
+        if (hasOrderByExpressions()) {
+            for (Expression orderBy : getOrderByExpressions()) {
+                orderBy.iterateOn(iterator);
+            }
+        }
+        if (hasOuterJoinExpressions()) {
+            for (OuterJoinExpressionHolder holder : this.outerJoinExpressionHolders) {
+                if (holder.joinExpression != null) {
+                    holder.joinExpression.iterateOn(iterator);
+                }
+                if (holder.outerJoinedMappingCriteria != null) {
+                    holder.outerJoinedMappingCriteria.iterateOn(iterator);
+                }
+                if (holder.additionalJoinOnExpression != null) {
+                    for (Expression joinOn : holder.additionalJoinOnExpression) {
+                        joinOn.iterateOn(iterator);
+                    }
+                }
+                if (holder.outerJoinedAdditionalJoinCriteria != null) {
+                    for (Expression joinCriteria : holder.outerJoinedAdditionalJoinCriteria.values()) {
+                        if (joinCriteria != null) {
+                            joinCriteria.iterateOn(iterator);
+                        }
+                    }
+                }
+            }
+        }
+        if (iterator.getResult() != null) {
+            return null;
+        }
+        return dependencyFields;
+    }
+
     protected ForUpdateClause getForUpdateClause() {
         return forUpdateClause;
     }
@@ -49,6 +49,7 @@
 import org.eclipse.persistence.internal.identitymaps.NoIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.TinyLFUIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.WeakIdentityMap;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.weaving.PersistenceWeavedLazy;
@@ -133,6 +134,7 @@ public final class ClassConstants extends CoreClassConstants {
     public static final Class<NoIdentityMap> NoIdentityMap_Class = NoIdentityMap.class;
     public static final Class<SoftCacheWeakIdentityMap> SoftCacheWeakIdentityMap_Class = SoftCacheWeakIdentityMap.class;
     public static final Class<SoftIdentityMap> SoftIdentityMap_Class = SoftIdentityMap.class;
+    public static final Class<TinyLFUIdentityMap> TinyLFUIdentityMap_Class = TinyLFUIdentityMap.class;
     public static final Class<WeakIdentityMap> WeakIdentityMap_Class = WeakIdentityMap.class;
 
     //fetch group class
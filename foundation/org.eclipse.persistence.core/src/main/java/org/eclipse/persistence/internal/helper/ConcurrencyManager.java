@@ -28,8 +28,12 @@
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjLongConsumer;
 
 import org.eclipse.persistence.config.SystemProperties;
 import org.eclipse.persistence.exceptions.ConcurrencyException;
@@ -52,6 +56,10 @@
  * <li> Wait all other threads until the first thread is done.
  * <li> Maintain the depth of the active thread.
  * </ul>
+ * <p>
+ * By default the state of the manager is guarded by its object monitor.
+ * If {@link #useLocks()} is called, a {@link ReentrantLock} and its {@link Condition} are used instead,
+ * this avoids pinning the carrier thread when waiting from a virtual thread.
  */
 public class ConcurrencyManager implements Serializable {
 
@@ -61,6 +69,9 @@ public class ConcurrencyManager implements Serializable {
 
     protected static boolean shouldTrackStack = PrivilegedAccessHelper.getSystemProperty(SystemProperties.RECORD_STACK_ON_LOCK) != null;
 
+    /** Notified of the nanoseconds waited for each lock, null if lock waits are not recorded. */
+    private static volatile ObjLongConsumer<ConcurrencyManager> lockWaitListener;
+
     protected AtomicInteger numberOfReaders;
     protected AtomicInteger depth;
     protected AtomicInteger numberOfWritersWaiting;
@@ -69,6 +80,11 @@ public class ConcurrencyManager implements Serializable {
     protected boolean lockedByMergeManager;
     protected Exception stack;
 
+    /** Lock used to guard the state instead of the object monitor, null if the monitor is used. */
+    protected transient ReentrantLock instanceLock;
+    /** Condition signaled when the lock or the last read lock is released, null if the monitor is used. */
+    protected transient Condition instanceLockReleased;
+
     // Extended logging info fields
     // Unique ID assigned each time when a new instance of a concurrency manager is created
     private final long concurrencyManagerId = CONCURRENCY_MANAGER_ID.incrementAndGet();
@@ -108,6 +124,95 @@ public ConcurrencyManager() {
         this.numberOfWritersWaiting = new AtomicInteger(0);
     }
 
+    /**
+     * Guard the state of this manager with a {@link ReentrantLock} instead of the object monitor.
+     * This must be called before the manager is shared with other threads.
+     */
+    public void useLocks() {
+        this.instanceLock = new ReentrantLock();
+        this.instanceLockReleased = this.instanceLock.newCondition();
+    }
+
+    /**
+     * Return if the state of this manager is guarded by a {@link ReentrantLock} instead of the object monitor.
+     */
+    public boolean usesLocks() {
+        return this.instanceLock != null;
+    }
+
+    /**
+     * Wait until the lock or the last read lock is released, or the timeout in milliseconds expires.
+     * A timeout of 0 waits until released.
+     * Must be called while holding the instance lock or monitor.
+     */
+    protected void waitWhileLocked(long timeout) throws InterruptedException {
+        final ObjLongConsumer<ConcurrencyManager> listener = lockWaitListener;
+        final long start = (listener == null) ? 0 : System.nanoTime();
+        if (this.instanceLock == null) {
+            wait(timeout);
+        } else if (timeout == 0) {
+            this.instanceLockReleased.await();
+        } else {
+            this.instanceLockReleased.await(timeout, TimeUnit.MILLISECONDS);
+        }
+        if (listener != null) {
+            listener.accept(this, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Set the listener notified of the nanoseconds waited for each lock, or null to stop recording lock waits.
+     * This is used by profilers, i.e. the JFR profiler, the listener must be fast and must not acquire locks.
+     */
+    public static void setLockWaitListener(ObjLongConsumer<ConcurrencyManager> listener) {
+        lockWaitListener = listener;
+    }
+
+    /**
+     * Return the listener notified of the nanoseconds waited for each lock, null if lock waits are not recorded.
+     */
+    public static ObjLongConsumer<ConcurrencyManager> getLockWaitListener() {
+        return lockWaitListener;
+    }
+
+    /**
+     * Wake all threads waiting for the lock or the last read lock to be released.
+     * Must be called while holding the instance lock or monitor.
+     */
+    protected void notifyAllWhileLocked() {
+        if (this.instanceLock == null) {
+            notifyAll();
+        } else {
+            this.instanceLockReleased.signalAll();
+        }
+    }
+
+    /**
+     * If the lock is acquired, wait until it is released, or the timeout in milliseconds expires.
+     * A timeout of 0 waits until released.
+     * This is used to wait for another thread to finish building the object,
+     * instead of synchronizing and waiting on the manager, as the manager may not use its monitor.
+     */
+    public void waitForRelease(long timeout) throws InterruptedException {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                if (isAcquired()) {
+                    waitWhileLocked(timeout);
+                }
+            }
+        } else {
+            instanceLock.lockInterruptibly();
+            try {
+                if (isAcquired()) {
+                    waitWhileLocked(timeout);
+                }
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
     /**
      * Wait for all threads except the active thread.
      * If the active thread just increment the depth.
@@ -123,7 +228,26 @@ public void acquire() throws ConcurrencyException {
      * This should be called before entering a critical section.
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
+    public void acquire(boolean forMerge) throws ConcurrencyException {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                acquireWhileLocked(forMerge);
+            }
+        } else {
+            instanceLock.lock();
+            try {
+                acquireWhileLocked(forMerge);
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected void acquireWhileLocked(boolean forMerge) throws ConcurrencyException {
         //Flag the time when we start the while loop
         final long whileStartTimeMillis = System.currentTimeMillis();
         Thread currentThread = Thread.currentThread();
@@ -141,7 +265,7 @@ public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
             // This must be in a while as multiple threads may be released, or another thread may rush the acquire after one is released.
             try {
                 this.numberOfWritersWaiting.incrementAndGet();
-                wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                waitWhileLocked(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
                 // Run a method that will fire up an exception if we having been sleeping for too long
                 ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
             } catch (InterruptedException exception) {
@@ -189,7 +313,26 @@ public boolean acquireNoWait() throws ConcurrencyException {
      * Added for CR 2317
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
+    public boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                return acquireNoWaitWhileLocked(forMerge);
+            }
+        } else {
+            instanceLock.lock();
+            try {
+                return acquireNoWaitWhileLocked(forMerge);
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected boolean acquireNoWaitWhileLocked(boolean forMerge) throws ConcurrencyException {
         if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == Thread.currentThread())) {
             //if I own the lock increment depth
             acquire(forMerge);
@@ -205,7 +348,26 @@ public synchronized boolean acquireNoWait(boolean forMerge) throws ConcurrencyEx
      * Added for CR 2317
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyException {
+    public boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyException {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                return acquireWithWaitWhileLocked(forMerge, wait);
+            }
+        } else {
+            instanceLock.lock();
+            try {
+                return acquireWithWaitWhileLocked(forMerge, wait);
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected boolean acquireWithWaitWhileLocked(boolean forMerge, int wait) throws ConcurrencyException {
         final Thread currentThread = Thread.currentThread();
         if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == currentThread)) {
             // if I own the lock increment depth
@@ -214,7 +376,7 @@ public synchronized boolean acquireWithWait(boolean forMerge, int wait) throws C
         } else {
             try {
                 putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_WITH_WAIT_METHOD_NAME); 
-                wait(wait);
+                waitWhileLocked(wait);
             } catch (InterruptedException e) {
                 return false;
             } finally {
@@ -235,7 +397,26 @@ public synchronized boolean acquireWithWait(boolean forMerge, int wait) throws C
      * Added for Bug 5840635
      * Call with true from the merge process, if true then the refresh will not refresh the object.
      */
-    public synchronized boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyException {
+    public boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyException {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                return acquireIfUnownedNoWaitWhileLocked(forMerge);
+            }
+        } else {
+            instanceLock.lock();
+            try {
+                return acquireIfUnownedNoWaitWhileLocked(forMerge);
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected boolean acquireIfUnownedNoWaitWhileLocked(boolean forMerge) throws ConcurrencyException {
         // Only acquire lock if active thread is null. Do not check current thread.
         if (this.activeThread == null && this.numberOfReaders.get() == 0) {
              // if lock is unowned increment depth
@@ -258,45 +439,62 @@ public void acquireDeferredLock() throws ConcurrencyException {
             putDeferredLock(currentThread, lockManager);
         }
         lockManager.incrementDepth();
-        synchronized (this) {
-            final long whileStartTimeMillis = System.currentTimeMillis();
-            final boolean currentThreadWillEnterTheWhileWait = this.numberOfReaders.get() != 0;
-            if(currentThreadWillEnterTheWhileWait) {
-                putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME); 
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                acquireDeferredLockWhileLocked(currentThread, lockManager, readLockManager);
             }
-            while (this.numberOfReaders.get() != 0) {
-                // There are readers of this object, wait until they are done before determining if
-                //there are any other writers.  If not we will wait on the readers for acquire.  If another
-                //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
-                //We could release all active locks before releasing deferred but the object may not be finished building
-                //we could make the readers get a hard lock, but then we would just build a deferred lock even though
-                //the object is not being built.
-                try {
-                    this.numberOfWritersWaiting.incrementAndGet();
-                    wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
-                    ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
-                } catch (InterruptedException exception) {
-                    // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
-                    releaseAllLocksAcquiredByThread(lockManager);
-                    if (currentThreadWillEnterTheWhileWait) {
-                        removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
-                    }
-                    throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
-                } finally {
-                    this.numberOfWritersWaiting.decrementAndGet();
-                }
-            }
-            if (currentThreadWillEnterTheWhileWait) {
-                removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+        } else {
+            instanceLock.lock();
+            try {
+                acquireDeferredLockWhileLocked(currentThread, lockManager, readLockManager);
+            } finally {
+                instanceLock.unlock();
             }
-            if ((this.activeThread == currentThread) || (!isAcquired())) {
-                lockManager.addActiveLock(this);
-                acquire();
-            } else {
-                lockManager.addDeferredLock(this);
-                if (AbstractSessionLog.getLog().shouldLog(SessionLog.FINER) && this instanceof CacheKey) {
-                    AbstractSessionLog.getLog().log(SessionLog.FINER, SessionLog.CACHE, "acquiring_deferred_lock", ((CacheKey)this).getObject(), currentThread.getName());
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected void acquireDeferredLockWhileLocked(Thread currentThread, DeferredLockManager lockManager, ReadLockManager readLockManager) throws ConcurrencyException {
+        final long whileStartTimeMillis = System.currentTimeMillis();
+        final boolean currentThreadWillEnterTheWhileWait = this.numberOfReaders.get() != 0;
+        if(currentThreadWillEnterTheWhileWait) {
+            putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME); 
+        }
+        while (this.numberOfReaders.get() != 0) {
+            // There are readers of this object, wait until they are done before determining if
+            //there are any other writers.  If not we will wait on the readers for acquire.  If another
+            //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
+            //We could release all active locks before releasing deferred but the object may not be finished building
+            //we could make the readers get a hard lock, but then we would just build a deferred lock even though
+            //the object is not being built.
+            try {
+                this.numberOfWritersWaiting.incrementAndGet();
+                waitWhileLocked(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
+            } catch (InterruptedException exception) {
+                // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
+                releaseAllLocksAcquiredByThread(lockManager);
+                if (currentThreadWillEnterTheWhileWait) {
+                    removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
                 }
+                throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+            } finally {
+                this.numberOfWritersWaiting.decrementAndGet();
+            }
+        }
+        if (currentThreadWillEnterTheWhileWait) {
+            removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+        }
+        if ((this.activeThread == currentThread) || (!isAcquired())) {
+            lockManager.addActiveLock(this);
+            acquire();
+        } else {
+            lockManager.addDeferredLock(this);
+            if (AbstractSessionLog.getLog().shouldLog(SessionLog.FINER) && this instanceof CacheKey) {
+                AbstractSessionLog.getLog().log(SessionLog.FINER, SessionLog.CACHE, "acquiring_deferred_lock", ((CacheKey)this).getObject(), currentThread.getName());
             }
         }
     }
@@ -331,7 +529,26 @@ public void checkReadLock() throws ConcurrencyException {
      * Wait on any writer.
      * Allow concurrent reads.
      */
-    public synchronized void acquireReadLock() throws ConcurrencyException {
+    public void acquireReadLock() throws ConcurrencyException {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                acquireReadLockWhileLocked();
+            }
+        } else {
+            instanceLock.lock();
+            try {
+                acquireReadLockWhileLocked();
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected void acquireReadLockWhileLocked() throws ConcurrencyException {
         final Thread currentThread = Thread.currentThread();
         final long whileStartTimeMillis = System.currentTimeMillis();
         DeferredLockManager lockManager = getDeferredLockManager(currentThread);
@@ -343,7 +560,7 @@ public synchronized void acquireReadLock() throws ConcurrencyException {
         // Cannot check for starving writers as will lead to deadlocks.
         while ((this.activeThread != null) && (this.activeThread != Thread.currentThread())) {
             try {
-                wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                waitWhileLocked(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
                 ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
             } catch (InterruptedException exception) {
                 releaseAllLocksAcquiredByThread(lockManager);
@@ -367,7 +584,26 @@ public synchronized void acquireReadLock() throws ConcurrencyException {
     /**
      * If this is acquired return false otherwise acquire readlock and return true
      */
-    public synchronized boolean acquireReadLockNoWait() {
+    public boolean acquireReadLockNoWait() {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                return acquireReadLockNoWaitWhileLocked();
+            }
+        } else {
+            instanceLock.lock();
+            try {
+                return acquireReadLockNoWaitWhileLocked();
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected boolean acquireReadLockNoWaitWhileLocked() {
         if ((this.activeThread == null) || (this.activeThread == Thread.currentThread())) {
             acquireReadLock();
             return true;
@@ -587,7 +823,26 @@ public void putDeferredLock(Thread thread, DeferredLockManager lockManager) {
      * The notify will release the first thread waiting on the object,
      * if no threads are waiting it will do nothing.
      */
-    public synchronized void release() throws ConcurrencyException {
+    public void release() throws ConcurrencyException {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                releaseWhileLocked();
+            }
+        } else {
+            instanceLock.lock();
+            try {
+                releaseWhileLocked();
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected void releaseWhileLocked() throws ConcurrencyException {
         if (this.depth.get() == 0) {
             throw ConcurrencyException.signalAttemptedBeforeWait();
         } else {
@@ -599,7 +854,7 @@ public synchronized void release() throws ConcurrencyException {
                 this.stack = null;
             }
             this.lockedByMergeManager = false;
-            notifyAll();
+            notifyAllWhileLocked();
         }
     }
 
@@ -691,7 +946,26 @@ public void releaseDeferredLock() throws ConcurrencyException {
     /**
      * Decrement the number of readers. Used to allow concurrent reads.
      */
-    public synchronized void releaseReadLock() throws ConcurrencyException {
+    public void releaseReadLock() throws ConcurrencyException {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                releaseReadLockWhileLocked();
+            }
+        } else {
+            instanceLock.lock();
+            try {
+                releaseReadLockWhileLocked();
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected void releaseReadLockWhileLocked() throws ConcurrencyException {
         if (this.numberOfReaders.get() == 0) {
             this.totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero.incrementAndGet();
             try {
@@ -709,7 +983,7 @@ public synchronized void releaseReadLock() throws ConcurrencyException {
             }
         }
         if (this.numberOfReaders.get() == 0) {
-            notifyAll();
+            notifyAllWhileLocked();
         }
     }
 
@@ -758,7 +1032,26 @@ protected void setNumberOfWritersWaiting(int numberOfWritersWaiting) {
         this.numberOfWritersWaiting.set(numberOfWritersWaiting);
     }
 
-    public synchronized void transitionToDeferredLock() {
+    public void transitionToDeferredLock() {
+        final ReentrantLock instanceLock = this.instanceLock;
+        if (instanceLock == null) {
+            synchronized (this) {
+                transitionToDeferredLockWhileLocked();
+            }
+        } else {
+            instanceLock.lock();
+            try {
+                transitionToDeferredLockWhileLocked();
+            } finally {
+                instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called while holding the instance lock or monitor.
+     */
+    protected void transitionToDeferredLockWhileLocked() {
         Thread currentThread = Thread.currentThread();
         DeferredLockManager lockManager = getDeferredLockManager(currentThread);
         if (lockManager == null) {
@@ -14,13 +14,22 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.helper;
 
+import java.util.AbstractList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
 import java.util.Vector;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.persistence.exceptions.ValidationException;
 
@@ -44,6 +53,17 @@
     /** Used to throw exception that occur from the concurrent population thread. */
     protected RuntimeException exception;
 
+    /**
+     * Guards the completion and waits for new elements, rather than the list monitor,
+     * so the threads waiting on the list do not pin virtual threads.
+     * Every method reading or changing the elements holds it, the inherited methods
+     * only acquire the monitor inside it, so it is never waited on.
+     */
+    protected ReentrantLock lock = new ReentrantLock();
+
+    /** Signaled when elements are added or the list is complete. */
+    protected Condition changed = this.lock.newCondition();
+
     /**
      * Construct an empty list so that its internal data array
      * has size <code>10</code> and its standard capacity increment is zero.
@@ -73,66 +93,106 @@ public ThreadCursoredList(int initialCapacity, int capacityIncrement) {
      * Add and notify any waiters that there are new elements.
      */
     @Override
-    public synchronized void add(int index, E element) {
-        super.add(index, element);
-        this.notifyAll();
+    public void add(int index, E element) {
+        this.lock.lock();
+        try {
+            super.add(index, element);
+            this.changed.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * Add and notify any waiters that there are new elements.
      */
     @Override
-    public synchronized boolean add(E element) {
-        boolean result = super.add(element);
-        notifyAll();
-        return result;
+    public boolean add(E element) {
+        this.lock.lock();
+        try {
+            boolean result = super.add(element);
+            this.changed.signalAll();
+            return result;
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * Add and notify any waiters that there are new elements.
      */
     @Override
-    public synchronized boolean addAll(int index, Collection<? extends E> collection) {
-        boolean result = super.addAll(index, collection);
-        notifyAll();
-        return result;
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        this.lock.lock();
+        try {
+            boolean result = super.addAll(index, collection);
+            this.changed.signalAll();
+            return result;
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * Add and notify any waiters that there are new elements.
      */
     @Override
-    public synchronized boolean addAll(Collection<? extends E> collection) {
-        boolean result = super.addAll(collection);
-        notifyAll();
-        return result;
+    public boolean addAll(Collection<? extends E> collection) {
+        this.lock.lock();
+        try {
+            boolean result = super.addAll(collection);
+            this.changed.signalAll();
+            return result;
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * Add and notify any waiters that there are new elements.
      */
     @Override
-    public synchronized void addElement(E object) {
-        super.addElement(object);
-        notifyAll();
+    public void addElement(E object) {
+        this.lock.lock();
+        try {
+            super.addElement(object);
+            this.changed.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized void clear() {
-        waitUntilComplete();
-        super.clear();
+    public void clear() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.clear();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
+     * The clone has its own lock.
      */
     @Override
-    public synchronized Object clone() {
-        waitUntilComplete();
-        return super.clone();
+    public Object clone() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            @SuppressWarnings("unchecked")
+            ThreadCursoredList<E> clone = (ThreadCursoredList<E>)super.clone();
+            clone.lock = new ReentrantLock();
+            clone.changed = clone.lock.newCondition();
+            return clone;
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -154,52 +214,75 @@ public RuntimeException getException() {
      * that should be thrown to the processing thread on the next access.
      * This also records the list and complete.
      */
-    public synchronized void throwException(RuntimeException exception) {
-        this.exception = exception;
-        setIsComplete(true);
+    public void throwException(RuntimeException exception) {
+        this.lock.lock();
+        try {
+            this.exception = exception;
+            setIsComplete(true);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * Return if the list is complete.
      * If an exception was thrown during the concurrent population throw the exception.
      */
-    public synchronized boolean isComplete() {
-        if (exception != null) {
-            // Set the exception to null so it is only thrown once.
-            RuntimeException thrownException = this.exception;
-            this.exception = null;
-            throw thrownException;
+    public boolean isComplete() {
+        this.lock.lock();
+        try {
+            if (exception != null) {
+                // Set the exception to null so it is only thrown once.
+                RuntimeException thrownException = this.exception;
+                this.exception = null;
+                throw thrownException;
+            }
+            return isComplete;
+        } finally {
+            this.lock.unlock();
         }
-        return isComplete;
     }
 
     /**
      * Set the list complete and notify any waiters.
      */
-    public synchronized void setIsComplete(boolean isComplete) {
-        this.isComplete = isComplete;
-        notifyAll();
+    public void setIsComplete(boolean isComplete) {
+        this.lock.lock();
+        try {
+            this.isComplete = isComplete;
+            this.changed.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * Wait until the list has been fully populated.
      */
-    public synchronized void waitUntilComplete() {
-        while (!isComplete()) {
-            try {
-                wait();
-            } catch (InterruptedException ignore) {
+    public void waitUntilComplete() {
+        this.lock.lock();
+        try {
+            while (!isComplete()) {
+                try {
+                    this.changed.await();
+                } catch (InterruptedException ignore) {
+                }
             }
+        } finally {
+            this.lock.unlock();
         }
     }
 
     /**
      * Wait until a new element has been added.
      */
-    public synchronized void waitUntilAdd() {
+    public void waitUntilAdd() {
+        this.lock.lock();
         try {
-            wait();
+            this.changed.await();
         } catch (InterruptedException ignore) {
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -207,48 +290,68 @@ public synchronized void waitUntilAdd() {
      * If it does not contain the object must wait until it is complete.
      */
     @Override
-    public synchronized boolean contains(Object element) {
-        boolean result = super.contains(element);
-        if ((result != true) && (!isComplete())) {
-            waitUntilComplete();
-            result = super.contains(element);
+    public boolean contains(Object element) {
+        this.lock.lock();
+        try {
+            boolean result = super.contains(element);
+            if ((result != true) && (!isComplete())) {
+                waitUntilComplete();
+                result = super.contains(element);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * If it does not contain the object must wait until it is complete.
      */
     @Override
-    public synchronized boolean containsAll(Collection<?> collection) {
-        boolean result = super.containsAll(collection);
-        if ((result != true) && (!isComplete())) {
-            waitUntilComplete();
-            result = super.containsAll(collection);
+    public boolean containsAll(Collection<?> collection) {
+        this.lock.lock();
+        try {
+            boolean result = super.containsAll(collection);
+            if ((result != true) && (!isComplete())) {
+                waitUntilComplete();
+                result = super.containsAll(collection);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized void copyInto(Object[] array) {
-        waitUntilComplete();
-        super.copyInto(array);
+    public void copyInto(Object[] array) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.copyInto(array);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * If the index is beyond the size wait until complete.
      */
     @Override
-    public synchronized E elementAt(int index) {
-        E result = super.elementAt(index);
-        if ((result == null) && (!isComplete())) {
-            waitUntilComplete();
-            result = super.elementAt(index);
+    public E elementAt(int index) {
+        this.lock.lock();
+        try {
+            E result = super.elementAt(index);
+            if ((result == null) && (!isComplete())) {
+                waitUntilComplete();
+                result = super.elementAt(index);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     protected int getSize() {
@@ -265,19 +368,23 @@ public Enumeration<E> elements() {
 
                 @Override
                 public boolean hasMoreElements() {
-                    synchronized (ThreadCursoredList.this) {
+                    ThreadCursoredList.this.lock.lock();
+                    try {
                         boolean result = count < ThreadCursoredList.this.getSize();
                         while ((!result) && (!isComplete())) {
                             waitUntilAdd();
                             result = count < ThreadCursoredList.this.getSize();
                         }
                         return result;
+                    } finally {
+                        ThreadCursoredList.this.lock.unlock();
                     }
                 }
 
                 @Override
                 public E nextElement() {
-                    synchronized (ThreadCursoredList.this) {
+                    ThreadCursoredList.this.lock.lock();
+                    try {
                         boolean result = count < ThreadCursoredList.this.getSize();
                         while ((!result) && (!isComplete())) {
                             waitUntilAdd();
@@ -286,6 +393,8 @@ public E nextElement() {
                         if (result) {
                             return get(count++);
                         }
+                    } finally {
+                        ThreadCursoredList.this.lock.unlock();
                     }
                     throw new NoSuchElementException("Vector Enumeration");
                 }
@@ -296,40 +405,60 @@ public E nextElement() {
      * First wait until complete.
      */
     @Override
-    public synchronized boolean equals(Object object) {
-        waitUntilComplete();
-        return super.equals(object);
+    public boolean equals(Object object) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.equals(object);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * Wait until has an element or is complete.
      */
     @Override
-    public synchronized E firstElement() {
-        while ((!isComplete()) && (super.size() < 1)) {
-            waitUntilAdd();
+    public E firstElement() {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() < 1)) {
+                waitUntilAdd();
+            }
+            return super.firstElement();
+        } finally {
+            this.lock.unlock();
         }
-        return super.firstElement();
     }
 
     /**
      * Wait until has the element or is complete.
      */
     @Override
-    public synchronized E get(int index) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public E get(int index) {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() < index)) {
+                waitUntilAdd();
+            }
+            return super.get(index);
+        } finally {
+            this.lock.unlock();
         }
-        return super.get(index);
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized int hashCode() {
-        waitUntilComplete();
-        return super.hashCode();
+    public int hashCode() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.hashCode();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -337,34 +466,49 @@ public synchronized int hashCode() {
      */
     @Override
     public int indexOf(Object element) {
-        int result = super.indexOf(element);
-        if ((result == -1) && (!isComplete())) {
-            waitUntilComplete();
-            result = super.indexOf(element);
+        this.lock.lock();
+        try {
+            int result = super.indexOf(element);
+            if ((result == -1) && (!isComplete())) {
+                waitUntilComplete();
+                result = super.indexOf(element);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * If does not contain the object wait until complete.
      */
     @Override
-    public synchronized int indexOf(Object element, int index) {
-        int result = super.indexOf(element, index);
-        if ((result == -1) && (!isComplete())) {
-            waitUntilComplete();
-            result = super.indexOf(element, index);
+    public int indexOf(Object element, int index) {
+        this.lock.lock();
+        try {
+            int result = super.indexOf(element, index);
+            if ((result == -1) && (!isComplete())) {
+                waitUntilComplete();
+                result = super.indexOf(element, index);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * Add the element a notify any waiters that there are new elements.
      */
     @Override
-    public synchronized void insertElementAt(E element, int index) {
-        super.insertElementAt(element, index);
-        notify();
+    public void insertElementAt(E element, int index) {
+        this.lock.lock();
+        try {
+            super.insertElementAt(element, index);
+            this.changed.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -372,12 +516,17 @@ public synchronized void insertElementAt(E element, int index) {
      */
     @Override
     public boolean isEmpty() {
-        boolean result = super.isEmpty();
-        if (result && (!isComplete())) {
-            waitUntilAdd();
-            result = super.isEmpty();
+        this.lock.lock();
+        try {
+            boolean result = super.isEmpty();
+            if (result && (!isComplete())) {
+                waitUntilAdd();
+                result = super.isEmpty();
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     @Override
@@ -389,9 +538,14 @@ public Iterator<E> iterator() {
      * First wait until complete.
      */
     @Override
-    public synchronized E lastElement() {
-        waitUntilComplete();
-        return super.lastElement();
+    public E lastElement() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.lastElement();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
@@ -399,17 +553,27 @@ public synchronized E lastElement() {
      */
     @Override
     public int lastIndexOf(Object element) {
-        waitUntilComplete();
-        return super.lastIndexOf(element);
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.lastIndexOf(element);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized int lastIndexOf(Object element, int index) {
-        waitUntilComplete();
-        return super.lastIndexOf(element, index);
+    public int lastIndexOf(Object element, int index) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.lastIndexOf(element, index);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     @Override
@@ -427,19 +591,23 @@ public ListIterator<E> listIterator(final int index) {
 
             @Override
             public boolean hasNext() {
-                synchronized (ThreadCursoredList.this) {
+                ThreadCursoredList.this.lock.lock();
+                try {
                     boolean result = count < ThreadCursoredList.this.getSize();
                     while ((!result) && (!isComplete())) {
                         waitUntilAdd();
                         result = count < ThreadCursoredList.this.getSize();
                     }
                     return result;
+                } finally {
+                    ThreadCursoredList.this.lock.unlock();
                 }
             }
 
             @Override
             public E next() {
-                synchronized (ThreadCursoredList.this) {
+                ThreadCursoredList.this.lock.lock();
+                try {
                     boolean result = count < ThreadCursoredList.this.getSize();
                     while ((!result) && (!isComplete())) {
                         waitUntilAdd();
@@ -448,6 +616,8 @@ public E next() {
                     if (result) {
                         return get(count++);
                     }
+                } finally {
+                    ThreadCursoredList.this.lock.unlock();
                 }
                 throw new NoSuchElementException("Vector Iterator");
             }
@@ -494,11 +664,16 @@ public boolean hasPrevious() {
      * If index is missing wait until is there.
      */
     @Override
-    public synchronized E remove(int index) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public E remove(int index) {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() < index)) {
+                waitUntilAdd();
+            }
+            return super.remove(index);
+        } finally {
+            this.lock.unlock();
         }
-        return super.remove(index);
     }
 
     /**
@@ -506,85 +681,125 @@ public synchronized E remove(int index) {
      */
     @Override
     public boolean remove(Object element) {
-        boolean result = super.remove(element);
-        if ((!result) && (!isComplete())) {
-            waitUntilAdd();
-            result = super.remove(element);
+        this.lock.lock();
+        try {
+            boolean result = super.remove(element);
+            if ((!result) && (!isComplete())) {
+                waitUntilAdd();
+                result = super.remove(element);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized boolean removeAll(Collection<?> collection) {
-        waitUntilComplete();
-        return super.removeAll(collection);
+    public boolean removeAll(Collection<?> collection) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.removeAll(collection);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized void removeAllElements() {
-        waitUntilComplete();
-        super.removeAllElements();
+    public void removeAllElements() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.removeAllElements();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * If missing wait until complete.
      */
     @Override
-    public synchronized boolean removeElement(Object element) {
-        boolean result = super.removeElement(element);
-        if ((!result) && (!isComplete())) {
-            waitUntilAdd();
-            result = super.removeElement(element);
+    public boolean removeElement(Object element) {
+        this.lock.lock();
+        try {
+            boolean result = super.removeElement(element);
+            if ((!result) && (!isComplete())) {
+                waitUntilAdd();
+                result = super.removeElement(element);
+            }
+            return result;
+        } finally {
+            this.lock.unlock();
         }
-        return result;
     }
 
     /**
      * If index is missing wait until reasched or complete.
      */
     @Override
-    public synchronized void removeElementAt(int index) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public void removeElementAt(int index) {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() < index)) {
+                waitUntilAdd();
+            }
+            super.removeElementAt(index);
+        } finally {
+            this.lock.unlock();
         }
-        super.removeElementAt(index);
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized boolean retainAll(Collection<?> collection) {
-        waitUntilComplete();
-        return super.retainAll(collection);
+    public boolean retainAll(Collection<?> collection) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.retainAll(collection);
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * If index is missing wait until reached or complete.
      */
     @Override
-    public synchronized E set(int index, E element) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public E set(int index, E element) {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() < index)) {
+                waitUntilAdd();
+            }
+            return super.set(index, element);
+        } finally {
+            this.lock.unlock();
         }
-        return super.set(index, element);
     }
 
     /**
      * If index is missing wait until reached or complete.
      */
     @Override
-    public synchronized void setElementAt(E element, int index) {
-        while ((!isComplete()) && (super.size() < index)) {
-            waitUntilAdd();
+    public void setElementAt(E element, int index) {
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() < index)) {
+                waitUntilAdd();
+            }
+            super.setElementAt(element, index);
+        } finally {
+            this.lock.unlock();
         }
-        super.setElementAt(element, index);
     }
 
     /**
@@ -592,54 +807,224 @@ public synchronized void setElementAt(E element, int index) {
      */
     @Override
     public int size() {
-        waitUntilComplete();
-        return super.size();
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.size();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * If index is missing wait until reached or complete.
+     * The view accesses the elements through the list, as the view of a Vector would hold
+     * its monitor while acquiring the lock, it does not support adding or removing elements.
      */
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        while ((!isComplete()) && (super.size() < toIndex)) {
-            waitUntilAdd();
+        this.lock.lock();
+        try {
+            while ((!isComplete()) && (super.size() < toIndex)) {
+                waitUntilAdd();
+            }
+            if ((fromIndex < 0) || (toIndex > super.size()) || (fromIndex > toIndex)) {
+                throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        return new AbstractList<E>() {
+            @Override
+            public E get(int index) {
+                Objects.checkIndex(index, size());
+                return ThreadCursoredList.this.get(fromIndex + index);
+            }
+
+            @Override
+            public E set(int index, E element) {
+                Objects.checkIndex(index, size());
+                return ThreadCursoredList.this.set(fromIndex + index, element);
+            }
+
+            @Override
+            public int size() {
+                return toIndex - fromIndex;
+            }
+        };
+    }
+
+    /**
+     * First wait until complete.
+     */
+    @Override
+    public Object[] toArray() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.toArray();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * First wait until complete.
+     */
+    @Override
+    public <T> T[] toArray(T[] array) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.toArray(array);
+        } finally {
+            this.lock.unlock();
         }
-        return super.subList(fromIndex, toIndex);
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized Object[] toArray() {
-        waitUntilComplete();
-        return super.toArray();
+    public String toString() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.toString();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized <T> T[] toArray(T[] array) {
-        waitUntilComplete();
-        return super.toArray(array);
+    public void trimToSize() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.trimToSize();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized String toString() {
-        waitUntilComplete();
-        return super.toString();
+    public void setSize(int newSize) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.setSize(newSize);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        this.lock.lock();
+        try {
+            super.ensureCapacity(minCapacity);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int capacity() {
+        this.lock.lock();
+        try {
+            return super.capacity();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     /**
      * First wait until complete.
      */
     @Override
-    public synchronized void trimToSize() {
-        waitUntilComplete();
-        super.trimToSize();
+    public boolean removeIf(Predicate<? super E> filter) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.removeIf(filter);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * First wait until complete.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.removeRange(fromIndex, toIndex);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * First wait until complete.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.replaceAll(operator);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * First wait until complete.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.sort(comparator);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * First wait until complete.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            super.forEach(action);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * First wait until complete.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        this.lock.lock();
+        try {
+            waitUntilComplete();
+            return super.spliterator();
+        } finally {
+            this.lock.unlock();
+        }
     }
 }
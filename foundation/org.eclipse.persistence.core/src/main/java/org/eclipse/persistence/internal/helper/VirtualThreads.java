@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * INTERNAL:
+ * Access to the virtual threads of the JDK, through reflection as EclipseLink supports JDKs without them.
+ * Virtual threads are supported from Java 21, on older JDKs {@link #isSupported()} returns false
+ * and the executors and factories are null, the callers then use platform threads.
+ */
+public final class VirtualThreads {
+
+    /** Thread.ofVirtual(), null if not supported. */
+    private static final Method OF_VIRTUAL;
+    /** Thread.Builder.name(String, long). */
+    private static final Method BUILDER_NAME;
+    /** Thread.Builder.factory(). */
+    private static final Method BUILDER_FACTORY;
+    /** Executors.newThreadPerTaskExecutor(ThreadFactory). */
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            builderName = builder.getMethod("name", String.class, long.class);
+            builderFactory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = java.util.concurrent.Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // Virtual threads are a preview feature before Java 21, and throw if previews are not enabled.
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError unsupported) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Return true if the JDK supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Return a factory of virtual threads named with the prefix followed by a counter,
+     * or null if the JDK does not support virtual threads.
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        if (OF_VIRTUAL == null) {
+            return null;
+        }
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            return (ThreadFactory)BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Return an executor starting a new virtual thread named with the prefix for each task,
+     * or null if the JDK does not support virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = newThreadFactory(prefix);
+        if (factory == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService)NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -167,14 +167,12 @@ public Map acquireLocksForClone(Object objectForClone, ClassDescriptor descripto
                 // using the exact same approach we have been adding to the concurrency manager
                 ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(toWaitOn, whileStartTimeMillis, lockManager, readLockManager, ALLOW_INTERRUPTED_EXCEPTION_TO_BE_FIRED_UP_TRUE);
 
-                synchronized (toWaitOn) {
-                    try {
-                        if (toWaitOn.isAcquired()) {//last minute check to insure it is still locked.
-                            toWaitOn.wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());// wait for lock on object to be released
-                        }
-                    } catch (InterruptedException ex) {
-                        // Ignore exception thread should continue.
-                    }
+                try {
+                    // Wait for lock on object to be released, if still locked.
+                    // The cache key may be guarded by a lock instead of its monitor.
+                    toWaitOn.waitForRelease(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                } catch (InterruptedException ex) {
+                    // Ignore exception thread should continue.
                 }
                 Object waitObject = toWaitOn.getObject();
                 // Object may be null for loss of identity.
@@ -371,8 +369,9 @@ private void acquireRequiredLocksInternal(MergeManager mergeManager, UnitOfWorkC
                 //first access the changeSet and begin to acquire locks
                 ClassDescriptor descriptor = null;
                 for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().values()) {
-                    // No Need to acquire locks for invalidated objects.
-                    if ((mergeManager.shouldMergeChangesIntoDistributedCache() && (objectChangeSet.getSynchronizationType() == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS))
+                    // No Need to acquire locks for invalidated objects, nor the objects a distributed merge skips.
+                    if ((mergeManager.shouldMergeChangesIntoDistributedCache() && ((objectChangeSet.getSynchronizationType() == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS)
+                            || mergeManager.isSkippedChangeSet(objectChangeSet)))
                             || objectChangeSet.getId() == null) {
                         //skip this process as we will be unable to acquire the correct cachekey anyway
                         //this is a new object with identity after write sequencing, ? huh, all objects must have an id by merge?
@@ -430,37 +429,35 @@ private void acquireRequiredLocksInternal(MergeManager mergeManager, UnitOfWorkC
                             try {
                                 if (activeCacheKey != null){
                                     //wait on the lock of the object that we couldn't get.
-                                    synchronized (activeCacheKey) {
-                                        // verify that the cache key is still locked before we wait on it, as
-                                        //it may have been released since we tried to acquire it.
-                                        if (activeCacheKey.isAcquired() && (activeCacheKey.getActiveThread() != Thread.currentThread())) {
-                                                Thread thread = activeCacheKey.getActiveThread();
-                                                if (thread.isAlive()){
-                                                    long time = System.currentTimeMillis();
-                                                    activeCacheKey.wait(MAX_WAIT);
-                                                    if (System.currentTimeMillis() - time >= MAX_WAIT){
-                                                        Object[] params = new Object[]{MAX_WAIT /1000, descriptor.getJavaClassName(), activeCacheKey.getKey(), thread.getName()};
-                                                        StringBuilder buffer = new StringBuilder(TraceLocalization.buildMessage("max_time_exceeded_for_acquirerequiredlocks_wait", params));
-                                                        StackTraceElement[] trace = thread.getStackTrace();
-                                                        for (StackTraceElement element : trace){
-                                                            buffer.append("\t\tat");
-                                                            buffer.append(element.toString());
-                                                            buffer.append("\n");
-                                                        }
-                                                        session.log(SessionLog.SEVERE, SessionLog.CACHE, buffer.toString());
-                                                        session.getIdentityMapAccessor().printIdentityMapLocks();
-                                                    }
-                                                }else{
-                                                    session.log(SessionLog.SEVERE, SessionLog.CACHE, "releasing_invalid_lock", new Object[] { thread.getName(),descriptor.getJavaClass(), objectChangeSet.getId()});
-                                                    //thread that held lock is no longer alive.  Something bad has happened like
-                                                    while (activeCacheKey.isAcquired()){
-                                                        // could have a depth greater than one.
-                                                        activeCacheKey.release();
-                                                    }
+                                    // verify that the cache key is still locked before we wait on it, as
+                                    //it may have been released since we tried to acquire it.
+                                    Thread thread = activeCacheKey.getActiveThread();
+                                    if (activeCacheKey.isAcquired() && (thread != null) && (thread != Thread.currentThread())) {
+                                        if (thread.isAlive()){
+                                            long time = System.currentTimeMillis();
+                                            activeCacheKey.waitForRelease(MAX_WAIT);
+                                            if (System.currentTimeMillis() - time >= MAX_WAIT){
+                                                Object[] params = new Object[]{MAX_WAIT /1000, descriptor.getJavaClassName(), activeCacheKey.getKey(), thread.getName()};
+                                                StringBuilder buffer = new StringBuilder(TraceLocalization.buildMessage("max_time_exceeded_for_acquirerequiredlocks_wait", params));
+                                                StackTraceElement[] trace = thread.getStackTrace();
+                                                for (StackTraceElement element : trace){
+                                                    buffer.append("\t\tat");
+                                                    buffer.append(element.toString());
+                                                    buffer.append("\n");
                                                 }
+                                                session.log(SessionLog.SEVERE, SessionLog.CACHE, buffer.toString());
+                                                session.getIdentityMapAccessor().printIdentityMapLocks();
+                                            }
+                                        }else{
+                                            session.log(SessionLog.SEVERE, SessionLog.CACHE, "releasing_invalid_lock", new Object[] { thread.getName(),descriptor.getJavaClass(), objectChangeSet.getId()});
+                                            //thread that held lock is no longer alive.  Something bad has happened like
+                                            while (activeCacheKey.isAcquired()){
+                                                // could have a depth greater than one.
+                                                activeCacheKey.release();
                                             }
                                         }
                                     }
+                                }
                             } catch (InterruptedException exception) {
                                 throw org.eclipse.persistence.exceptions.ConcurrencyException.waitWasInterrupted(exception.getMessage());
                             }
@@ -50,6 +50,9 @@ public abstract class AbstractIdentityMap implements IdentityMap, Serializable,
     /** Session that the map is on */
     protected AbstractSession session;
 
+    /** Use a lock instead of the object monitor for the cache keys of the map. */
+    protected boolean shouldUseLocks;
+
     protected AbstractIdentityMap(){
     }
 
@@ -63,6 +66,7 @@ protected AbstractIdentityMap(int size, ClassDescriptor descriptor, AbstractSess
         this.descriptor = descriptor;
         this.isIsolated = isolated;
         this.session = session;
+        this.shouldUseLocks = (session != null) && (session.getProject() != null) && session.getProject().shouldUseLocksForCacheKeys();
     }
 
     /**
@@ -253,7 +257,18 @@ public boolean containsKey(Object primaryKey) {
      * Create the correct type of CacheKey for this map.
      */
     public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
-        return new CacheKey(primaryKey, object, writeLockValue, readTime, this.isIsolated);
+        return initializeLocks(new CacheKey(primaryKey, object, writeLockValue, readTime, this.isIsolated));
+    }
+
+    /**
+     * Use a lock instead of the object monitor for the new cache key, if configured for the session.
+     * @see org.eclipse.persistence.sessions.Project#setShouldUseLocksForCacheKeys(boolean)
+     */
+    protected CacheKey initializeLocks(CacheKey cacheKey) {
+        if (this.shouldUseLocks) {
+            cacheKey.useLocks();
+        }
+        return cacheKey;
     }
 
     /**
@@ -46,7 +46,7 @@ public CacheIdentityMap(int size, ClassDescriptor descriptor, AbstractSession se
 
     @Override
     public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
-        return new LinkedCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+        return initializeLocks(new LinkedCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated));
     }
 
     /**
@@ -307,16 +307,20 @@ public boolean acquireReadLockNoWait() {
     /**
      * INTERNAL:
      * Clones itself.
+     * The clone has its own instance lock, it must not share the lock of this cache key.
      */
     @Override
     public Object clone() {
-        Object object = null;
+        CacheKey object = null;
 
         try {
-            object = super.clone();
+            object = (CacheKey)super.clone();
         } catch (Exception exception) {
             throw new InternalError(exception.toString());
         }
+        if (usesLocks()) {
+            object.useLocks();
+        }
 
         return object;
     }
@@ -604,13 +608,13 @@ public void setTransactionId(Object transactionId) {
         this.transactionId = transactionId;
     }
 
-    public synchronized Object waitForObject(){
+    public Object waitForObject(){
         try {
             int count = 0;
             while (this.object == null && isAcquired()) {
                 if (count > MAX_WAIT_TRIES)
                     throw ConcurrencyException.maxTriesLockOnBuildObjectExceded(getActiveThread(), Thread.currentThread());
-                wait(10);
+                waitForRelease(10);
                 ++count;
             }
         } catch(InterruptedException ex) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Estimate the access frequency of keys in a small, fixed amount of memory.
+ * <p>
+ * A count-min sketch of four rows of 4-bit counters, packed 16 per long.
+ * The estimate of a key is the minimum of its four counters, so it can over estimate, but never under estimate.
+ * Once the number of increments reaches the sample size all counters are halved,
+ * so that the frequency of keys that are no longer used decays.
+ * <p>
+ * This class is not thread safe, callers must guard it with a lock.
+ * @see TinyLFUIdentityMap
+ */
+public class FrequencySketch {
+
+    /** Hash seeds of the four rows. */
+    protected static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    /** Mask to halve all 4-bit counters of a long at once. */
+    protected static final long RESET_MASK = 0x7777777777777777L;
+    /** Maximum value of a 4-bit counter. */
+    protected static final int MAX_COUNT = 15;
+
+    protected long[] table;
+    protected int counterMask;
+    protected int sampleSize;
+    protected int size;
+
+    /**
+     * Create a sketch for the maximum number of keys tracked by the cache.
+     */
+    public FrequencySketch(int maximumSize) {
+        int length = 1;
+        while (length < Math.max(maximumSize, 16)) {
+            length <<= 1;
+        }
+        this.table = new long[length];
+        // 16 counters per long.
+        this.counterMask = (length << 4) - 1;
+        this.sampleSize = (maximumSize <= 0) ? 10 : Math.min(maximumSize * 10, Integer.MAX_VALUE / 2);
+    }
+
+    /**
+     * Return the estimated number of times the key was recorded, up to 15.
+     */
+    public int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < 4; row++) {
+            int index = indexOf(hash, row);
+            int count = (int) ((this.table[index >>> 4] >>> ((index & 15) << 2)) & 15L);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Record an access of the key, and age all counters when the sample size is reached.
+     */
+    public void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < 4; row++) {
+            int index = indexOf(hash, row);
+            int word = index >>> 4;
+            int shift = (index & 15) << 2;
+            if (((this.table[word] >>> shift) & 15L) < MAX_COUNT) {
+                this.table[word] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && (++this.size >= this.sampleSize)) {
+            reset();
+        }
+    }
+
+    /**
+     * Halve all counters.
+     */
+    protected void reset() {
+        for (int index = 0; index < this.table.length; index++) {
+            this.table[index] = (this.table[index] >>> 1) & RESET_MASK;
+        }
+        this.size = this.size >>> 1;
+    }
+
+    /**
+     * Return the index of the counter of the hash in the row.
+     */
+    protected int indexOf(int hash, int row) {
+        long value = (hash + SEEDS[row]) * SEEDS[row];
+        value += value >>> 32;
+        return ((int) value) & this.counterMask;
+    }
+
+    /**
+     * Protect against poor hash codes, such as the ones of small numeric primary keys.
+     */
+    protected static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -46,7 +46,19 @@ public FullIdentityMap() {
 
     public FullIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
         super(size, descriptor, session, isolated);
-        this.cacheKeys = new ConcurrentHashMap(size);
+        this.cacheKeys = buildCacheKeys(size, descriptor);
+    }
+
+    /**
+     * INTERNAL:
+     * Build the map of cache keys.
+     * Single integral primary keys are stored as primitive longs to avoid allocating or hashing boxed keys.
+     */
+    protected Map<Object, CacheKey> buildCacheKeys(int size, ClassDescriptor descriptor) {
+        if (LongCacheKeyMap.isLongKeyed(descriptor)) {
+            return new LongCacheKeyMap(size);
+        }
+        return new ConcurrentHashMap(size);
     }
 
     /**
@@ -56,7 +68,11 @@ public FullIdentityMap(int size, ClassDescriptor descriptor, AbstractSession ses
     @Override
     public Object clone() {
         FullIdentityMap clone = (FullIdentityMap)super.clone();
-        clone.setCacheKeys(new ConcurrentHashMap(this.cacheKeys.size()));
+        if (this.cacheKeys instanceof LongCacheKeyMap) {
+            clone.setCacheKeys(new LongCacheKeyMap(this.cacheKeys.size()));
+        } else {
+            clone.setCacheKeys(new ConcurrentHashMap(this.cacheKeys.size()));
+        }
 
         for (Iterator<CacheKey> cacheKeysIterator = this.cacheKeys.values().iterator(); cacheKeysIterator.hasNext();) {
             CacheKey key = (CacheKey) cacheKeysIterator.next().clone();
@@ -48,7 +48,7 @@ public HardCacheWeakIdentityMap(int size, ClassDescriptor descriptor, AbstractSe
      */
     @Override
     public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
-        return new ReferenceCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+        return initializeLocks(new ReferenceCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated));
     }
 
     /**
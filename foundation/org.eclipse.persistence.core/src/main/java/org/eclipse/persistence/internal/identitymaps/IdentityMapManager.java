@@ -24,6 +24,7 @@
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -48,6 +49,7 @@
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.DeferredLockManager;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.InvalidObject;
@@ -57,8 +59,10 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
 import org.eclipse.persistence.queries.ReadQuery;
@@ -88,9 +92,15 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** A map of class to list of queries that need to be invalidated when that class changes. */
     protected Map<Class<?>, Set> queryResultsInvalidationsByClass;
 
+    /** A map of query to the fields its results depend on, for queries tracking their dependencies. */
+    protected Map<Object, Set<DatabaseField>> queryResultsDependencies;
+
     /** A map of indexes on the cache. */
     protected Map<CacheIndex, IdentityMap> cacheIndexes;
 
+    /** Off-heap tier of the shared cache, by class, only for descriptors configured with an off-heap cache size. */
+    protected Map<Class<?>, OffHeapCache> offHeapCaches;
+
     /** A reference to the session owning this manager. */
     protected AbstractSession session;
 
@@ -119,12 +129,15 @@ public IdentityMapManager(AbstractSession session) {
             this.identityMaps = new HashMap();
             this.queryResults = new HashMap();
             this.queryResultsInvalidationsByClass = new HashMap();
+            this.queryResultsDependencies = new HashMap();
             this.cacheIndexes = new HashMap();
         } else {
             this.identityMaps = new ConcurrentHashMap();
             this.queryResults = new ConcurrentHashMap();
             this.queryResultsInvalidationsByClass = new ConcurrentHashMap();
+            this.queryResultsDependencies = new ConcurrentHashMap();
             this.cacheIndexes = new ConcurrentHashMap();
+            this.offHeapCaches = new ConcurrentHashMap();
         }
         checkIsCacheAccessPreCheckRequired();
     }
@@ -252,7 +265,7 @@ public CacheKey acquireLockWithWait(Object primaryKey, Class<?> domainClass, boo
      * Avoid the readLock and profile checks if not required.
      */
     public void checkIsCacheAccessPreCheckRequired() {
-        if ((this.session.getProfiler() != null)
+        if (((this.session.getProfiler() != null) && this.session.getProfiler().shouldProfileCacheAccess())
                 || ((this.session.getDatasourceLogin() != null) && this.session.getDatasourceLogin().shouldSynchronizedReadOnWrite())) {
             this.isCacheAccessPreCheckRequired = true;
         } else {
@@ -389,6 +402,8 @@ protected <T extends IdentityMap> IdentityMap buildNewIdentityMap(
                 return new FullIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.CacheIdentityMap_Class) {
                 return new CacheIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.TinyLFUIdentityMap_Class) {
+                return new TinyLFUIdentityMap(size, descriptor, this.session, isIsolated);
             }
         }
         final Class<?>[] parameters = new Class<?>[]{ClassConstants.PINT, ClassDescriptor.class, AbstractSession.class, boolean.class};
@@ -448,6 +463,7 @@ public Object clone() {
     public void clearQueryCache() {
         this.queryResults = new ConcurrentHashMap();
         this.queryResultsInvalidationsByClass = new ConcurrentHashMap();
+        this.queryResultsDependencies = new ConcurrentHashMap();
     }
 
     /**
@@ -493,6 +509,44 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * Invalidate/remove the results for the class changed by the change set from the query cache.
+     * The results of queries tracking their dependencies are only removed if the change set
+     * creates or deletes objects of the class, or updates fields the query depends on.
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        if ((changeSet == null) || (this.queryResultsDependencies == null) || this.queryResultsDependencies.isEmpty()) {
+            invalidateQueryCache(classThatChanged);
+            return;
+        }
+        Set<DatabaseField> changedFields = changeSet.getChangedFields(classThatChanged, this.session);
+        if (changedFields == null) {
+            invalidateQueryCache(classThatChanged);
+            return;
+        }
+        invalidateQueryCache(classThatChanged, changedFields);
+    }
+
+    /**
+     * Invalidate/remove the results for the class from the query cache,
+     * unless the query tracks its dependencies and does not depend on the changed fields.
+     */
+    protected void invalidateQueryCache(Class<?> classThatChanged, Set<DatabaseField> changedFields) {
+        Set invalidations = this.queryResultsInvalidationsByClass.get(classThatChanged);
+        if (invalidations != null) {
+            for (Object queryKey : invalidations) {
+                Set<DatabaseField> dependencyFields = this.queryResultsDependencies.get(queryKey);
+                if ((dependencyFields == null) || !Collections.disjoint(dependencyFields, changedFields)) {
+                    this.queryResults.remove(queryKey);
+                }
+            }
+        }
+        Class<?> superClass = classThatChanged.getSuperclass();
+        if ((superClass != null) && (superClass != ClassConstants.OBJECT)) {
+            invalidateQueryCache(superClass, changedFields);
+        }
+    }
+
     /**
      * Return true if an CacheKey with the primary key is in the map.
      * User API.
@@ -619,6 +673,8 @@ public Map<Object, CacheKey> getAllCacheKeysFromIdentityMapWithEntityPK(Object[]
      */
     public void invalidateObjects(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, boolean shouldInvalidateOnException) {
         ClassDescriptor descriptor = this.session.getDescriptor(theClass);
+        // The rows of the off-heap cache can not be conformed.
+        clearOffHeapCache(descriptor.getJavaClass());
         this.session.startOperationProfile(SessionProfiler.Caching);
         try {
             IdentityMap map = getIdentityMap(descriptor, true);
@@ -1102,6 +1158,100 @@ public void putCacheKeyByIndex(CacheIndex index, CacheId indexValues, CacheKey c
         map.put(indexValues, cacheKey, null, 0);
     }
 
+    /**
+     * Return the off-heap cache of the descriptor, or null if it does not use one.
+     */
+    public OffHeapCache getOffHeapCache(ClassDescriptor descriptor) {
+        if ((this.offHeapCaches == null) || !descriptor.getCachePolicy().hasOffHeapCache()) {
+            return null;
+        }
+        OffHeapCache offHeapCache = this.offHeapCaches.get(descriptor.getJavaClass());
+        if (offHeapCache == null) {
+            offHeapCache = new OffHeapCache(descriptor.getCachePolicy().getOffHeapCacheSize());
+            OffHeapCache existing = ((ConcurrentMap<Class<?>, OffHeapCache>)this.offHeapCaches).putIfAbsent(descriptor.getJavaClass(), offHeapCache);
+            if (existing != null) {
+                offHeapCache = existing;
+            }
+        }
+        return offHeapCache;
+    }
+
+    /**
+     * Return the row of the object with the primary key from the off-heap cache, or null if not found.
+     */
+    public AbstractRecord getRowFromOffHeapCache(Object primaryKey, ClassDescriptor descriptor, DatabaseQuery query) {
+        OffHeapCache offHeapCache = getOffHeapCache(descriptor);
+        if (offHeapCache == null) {
+            return null;
+        }
+        AbstractRecord row = offHeapCache.get(primaryKey, descriptor.getCacheInvalidationPolicy());
+        if (row == null) {
+            this.session.incrementProfile(SessionProfiler.OffHeapCacheMisses, query);
+        } else {
+            this.session.incrementProfile(SessionProfiler.OffHeapCacheHits, query);
+        }
+        return row;
+    }
+
+    /**
+     * Store the row the object of the cache key was built from in the off-heap cache.
+     * The row replaces the stored one if the object was refreshed.
+     * The caller must hold the lock of the cache key, so the row is not stored after a merge removed it.
+     * The row is removed again if the cache key was invalidated or removed concurrently, as this does not lock.
+     */
+    public void putRowInOffHeapCache(Object primaryKey, AbstractRecord row, CacheKey cacheKey, boolean isRefresh, ClassDescriptor descriptor, DatabaseQuery query) {
+        OffHeapCache offHeapCache = getOffHeapCache(descriptor);
+        if (offHeapCache == null) {
+            return;
+        }
+        int evicted = offHeapCache.put(primaryKey, row, cacheKey.getReadTime(), isRefresh);
+        if (cacheKey.getInvalidationState() == CacheKey.CACHE_KEY_INVALID) {
+            offHeapCache.remove(primaryKey);
+        }
+        for (int count = 0; count < evicted; count++) {
+            this.session.incrementProfile(SessionProfiler.OffHeapCacheEvictions, query);
+        }
+    }
+
+    /**
+     * Remove the row of the object with the primary key from the off-heap cache, as the object was changed or invalidated.
+     */
+    public void removeFromOffHeapCache(Object primaryKey, ClassDescriptor descriptor) {
+        if ((this.offHeapCaches == null) || (primaryKey == null) || (descriptor == null) || this.offHeapCaches.isEmpty()) {
+            return;
+        }
+        OffHeapCache offHeapCache = this.offHeapCaches.get(descriptor.getJavaClass());
+        if (offHeapCache != null) {
+            offHeapCache.remove(primaryKey);
+        }
+    }
+
+    /**
+     * Remove all rows of the class from the off-heap cache.
+     */
+    public void clearOffHeapCache(Class<?> theClass) {
+        if ((this.offHeapCaches == null) || this.offHeapCaches.isEmpty()) {
+            return;
+        }
+        OffHeapCache offHeapCache = this.offHeapCaches.get(theClass);
+        if (offHeapCache != null) {
+            offHeapCache.clear();
+        }
+    }
+
+    /**
+     * Remove all rows from the off-heap caches, and free their memory.
+     */
+    public void clearOffHeapCaches() {
+        if (this.offHeapCaches == null) {
+            return;
+        }
+        for (OffHeapCache offHeapCache : this.offHeapCaches.values()) {
+            offHeapCache.clear();
+        }
+        this.offHeapCaches = new ConcurrentHashMap();
+    }
+
     protected AbstractSession getSession() {
         return session;
     }
@@ -1186,6 +1336,7 @@ public void initializeIdentityMap(Class<?> theClass) throws EclipseLinkException
         getIdentityMaps().put(javaClass, identityMap);
         clearLastAccessedIdentityMap();
         invalidateQueryCache(theClass);
+        clearOffHeapCache(javaClass);
     }
 
     public void initializeIdentityMaps() {
@@ -1193,6 +1344,7 @@ public void initializeIdentityMaps() {
         setIdentityMaps(new ConcurrentHashMap());
         clearQueryCache();
         clearCacheIndexes();
+        clearOffHeapCaches();
     }
 
     /**
@@ -1426,6 +1578,15 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
                     this.queryResults.put(queryKey, map);
                     // Mark the query to be invalidated for the query classes.
                     if (query.getQueryResultsCachePolicy().getInvalidateOnChange()) {
+                        Set<DatabaseField> dependencyFields = null;
+                        if (query.getQueryResultsCachePolicy().shouldTrackDependencies()) {
+                            dependencyFields = query.getQueryResultsCachePolicy().getDependencyFields();
+                        }
+                        if (dependencyFields == null) {
+                            this.queryResultsDependencies.remove(queryKey);
+                        } else {
+                            this.queryResultsDependencies.put(queryKey, dependencyFields);
+                        }
                         for (Class<?> queryClass : query.getQueryResultsCachePolicy().getInvalidationClasses()) {
                             Set invalidations = this.queryResultsInvalidationsByClass.get(queryClass);
                             if (invalidations == null) {
@@ -1485,6 +1646,7 @@ public Object removeFromIdentityMap(Object key, Class<?> domainClass, ClassDescr
         if (key == null) {
             return null;
         }
+        removeFromOffHeapCache(key, descriptor);
         IdentityMap map = getIdentityMap(descriptor, false);
         Object value;
 
@@ -0,0 +1,528 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.io.Serializable;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.annotations.CacheKeyType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Concurrent map of cache keys by a single integral primary key value.
+ * <p>
+ * The keys are stored as primitive longs in an open addressing table (linear probing),
+ * with the cache keys in a parallel array, so lookups and inserts do not allocate
+ * or call hashCode/equals on boxed keys.
+ * Lookups do not lock, updates hold the map lock and the table is replaced when it is resized.
+ * The lock is a ReentrantLock rather than the map monitor, so updates do not pin virtual threads.
+ * Keys that are not Long, Integer, Short or Byte values are kept in a secondary ConcurrentHashMap.
+ * <p>
+ * Like a ConcurrentHashMap, iteration is weakly consistent.
+ * @see FullIdentityMap#buildCacheKeys(int, ClassDescriptor)
+ */
+public class LongCacheKeyMap extends AbstractMap<Object, CacheKey> implements ConcurrentMap<Object, CacheKey>, Serializable {
+
+    protected static final int MIN_CAPACITY = 16;
+
+    /** Marks the slot of a removed entry, so that probing continues past it. */
+    protected static final CacheKey REMOVED = new CacheKey(null);
+
+    /** Current table, replaced when resized. */
+    protected volatile Table table;
+    /** Number of entries in the table. */
+    protected volatile int size;
+    /** Number of removed slots in the table, guarded by the map lock. */
+    protected int removed;
+    /** Guards updates of the table. */
+    protected final ReentrantLock lock = new ReentrantLock();
+    /** Cache keys with non integral keys, created when first used. */
+    protected volatile Map<Object, CacheKey> otherKeys;
+
+    public LongCacheKeyMap(int initialCapacity) {
+        this.table = new Table(capacityFor(initialCapacity));
+    }
+
+    /**
+     * Return if the descriptor has a single primary key of an integral type,
+     * and its cache keys are the primary key values.
+     * The descriptor must be initialized for its primary key classification to be known.
+     */
+    public static boolean isLongKeyed(ClassDescriptor descriptor) {
+        if ((descriptor == null) || !descriptor.isFullyInitialized() || (descriptor.getPrimaryKeyFields().size() != 1)
+                || (descriptor.getCachePolicy().getCacheKeyType() != CacheKeyType.ID_VALUE)) {
+            return false;
+        }
+        List<Class<?>> classifications = descriptor.getObjectBuilder().getPrimaryKeyClassifications();
+        if (classifications.size() != 1) {
+            return false;
+        }
+        Class<?> type = classifications.get(0);
+        return (type == Long.class) || (type == Integer.class) || (type == Short.class) || (type == Byte.class);
+    }
+
+    /**
+     * Return if the key is stored in the long table.
+     */
+    protected static boolean isLongKey(Object key) {
+        Class<?> type = key.getClass();
+        return (type == Long.class) || (type == Integer.class) || (type == Short.class) || (type == Byte.class);
+    }
+
+    protected static int capacityFor(int size) {
+        int capacity = MIN_CAPACITY;
+        // Keep the load factor below 0.5.
+        while ((capacity >> 1) < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    protected static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int)(hash ^ (hash >>> 32));
+    }
+
+    @Override
+    public CacheKey get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        if (isLongKey(key)) {
+            return get(((Number)key).longValue());
+        }
+        Map<Object, CacheKey> otherKeys = this.otherKeys;
+        if (otherKeys == null) {
+            return null;
+        }
+        return otherKeys.get(key);
+    }
+
+    /**
+     * Return the cache key for the primitive key, or null.
+     */
+    public CacheKey get(long key) {
+        Table table = this.table;
+        int mask = table.mask;
+        int index = hash(key) & mask;
+        while (true) {
+            CacheKey value = table.values.get(index);
+            if (value == null) {
+                return null;
+            }
+            if ((value != REMOVED) && (table.keys[index] == key)) {
+                // The slot may have been removed and reused for another key since the value was read,
+                // the key read is valid if the slot still has the same value.
+                VarHandle.acquireFence();
+                if (table.values.get(index) == value) {
+                    return value;
+                }
+                // Concurrently updated, search again under the lock.
+                this.lock.lock();
+                try {
+                    Table current = this.table;
+                    int currentIndex = indexOf(current, key);
+                    return (currentIndex < 0) ? null : current.values.get(currentIndex);
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Return the slot of the key in the table, or -1.
+     * Callers of this method must hold the map lock.
+     */
+    protected int indexOf(Table table, long key) {
+        int mask = table.mask;
+        int index = hash(key) & mask;
+        while (true) {
+            CacheKey value = table.values.get(index);
+            if (value == null) {
+                return -1;
+            }
+            if ((value != REMOVED) && (table.keys[index] == key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public CacheKey putIfAbsent(Object key, CacheKey value) {
+        if (!isLongKey(key)) {
+            return getOtherKeys().putIfAbsent(key, value);
+        }
+        long longKey = ((Number)key).longValue();
+        this.lock.lock();
+        try {
+            Table table = this.table;
+            int index = indexOf(table, longKey);
+            if (index >= 0) {
+                return table.values.get(index);
+            }
+            insert(longKey, value);
+            return null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheKey put(Object key, CacheKey value) {
+        if (!isLongKey(key)) {
+            return getOtherKeys().put(key, value);
+        }
+        long longKey = ((Number)key).longValue();
+        this.lock.lock();
+        try {
+            Table table = this.table;
+            int index = indexOf(table, longKey);
+            if (index >= 0) {
+                return table.values.getAndSet(index, value);
+            }
+            insert(longKey, value);
+            return null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheKey remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+        if (!isLongKey(key)) {
+            Map<Object, CacheKey> otherKeys = this.otherKeys;
+            return (otherKeys == null) ? null : otherKeys.remove(key);
+        }
+        return removeIfMatches(((Number)key).longValue(), null);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if ((key == null) || (value == null)) {
+            return false;
+        }
+        if (!isLongKey(key)) {
+            Map<Object, CacheKey> otherKeys = this.otherKeys;
+            return (otherKeys != null) && otherKeys.remove(key, value);
+        }
+        return removeIfMatches(((Number)key).longValue(), value) != null;
+    }
+
+    /**
+     * Remove the entry of the key if its value is the expected value, or any value if null.
+     */
+    protected CacheKey removeIfMatches(long key, Object expectedValue) {
+        this.lock.lock();
+        try {
+            Table table = this.table;
+            int index = indexOf(table, key);
+            if (index < 0) {
+                return null;
+            }
+            CacheKey value = table.values.get(index);
+            if ((expectedValue != null) && (expectedValue != value)) {
+                return null;
+            }
+            table.values.set(index, REMOVED);
+            this.size--;
+            this.removed++;
+            return value;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(Object key, CacheKey oldValue, CacheKey newValue) {
+        if (!isLongKey(key)) {
+            return getOtherKeys().replace(key, oldValue, newValue);
+        }
+        this.lock.lock();
+        try {
+            Table table = this.table;
+            int index = indexOf(table, ((Number)key).longValue());
+            if ((index < 0) || (table.values.get(index) != oldValue)) {
+                return false;
+            }
+            table.values.set(index, newValue);
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheKey replace(Object key, CacheKey value) {
+        if (!isLongKey(key)) {
+            return getOtherKeys().replace(key, value);
+        }
+        this.lock.lock();
+        try {
+            Table table = this.table;
+            int index = indexOf(table, ((Number)key).longValue());
+            if (index < 0) {
+                return null;
+            }
+            return table.values.getAndSet(index, value);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Insert the new key, resizing the table if required.
+     * Callers of this method must hold the map lock.
+     */
+    protected void insert(long key, CacheKey value) {
+        Table table = this.table;
+        int capacity = table.values.length();
+        if (((this.size + this.removed + 1) << 1) > capacity) {
+            // Grow, or only drop the removed slots if most of the used slots are removed ones.
+            if (this.size >= (capacity >> 2)) {
+                capacity <<= 1;
+            }
+            table = new Table(capacity);
+            Table oldTable = this.table;
+            for (int index = 0; index < oldTable.values.length(); index++) {
+                CacheKey oldValue = oldTable.values.get(index);
+                if ((oldValue != null) && (oldValue != REMOVED)) {
+                    insert(table, oldTable.keys[index], oldValue);
+                }
+            }
+            this.removed = 0;
+            this.table = table;
+        }
+        if (insert(table, key, value)) {
+            this.removed--;
+        }
+        this.size++;
+    }
+
+    /**
+     * Insert the key in the first free slot, return true if the slot was a removed one.
+     */
+    protected boolean insert(Table table, long key, CacheKey value) {
+        int mask = table.mask;
+        int index = hash(key) & mask;
+        while (true) {
+            CacheKey current = table.values.get(index);
+            if ((current == null) || (current == REMOVED)) {
+                if (current == REMOVED) {
+                    // The removal must be visible before the key of the slot changes, see get(long).
+                    VarHandle.releaseFence();
+                }
+                table.keys[index] = key;
+                table.values.set(index, value);
+                return current == REMOVED;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    protected Map<Object, CacheKey> getOtherKeys() {
+        Map<Object, CacheKey> otherKeys = this.otherKeys;
+        if (otherKeys == null) {
+            this.lock.lock();
+            try {
+                otherKeys = this.otherKeys;
+                if (otherKeys == null) {
+                    otherKeys = new ConcurrentHashMap<>();
+                    this.otherKeys = otherKeys;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return otherKeys;
+    }
+
+    @Override
+    public int size() {
+        Map<Object, CacheKey> otherKeys = this.otherKeys;
+        return this.size + ((otherKeys == null) ? 0 : otherKeys.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.table = new Table(MIN_CAPACITY);
+            this.size = 0;
+            this.removed = 0;
+            this.otherKeys = null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Collection<CacheKey> values() {
+        return new AbstractCollection<CacheKey>() {
+            @Override
+            public Iterator<CacheKey> iterator() {
+                return new ValueIterator();
+            }
+
+            @Override
+            public int size() {
+                return LongCacheKeyMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<Object, CacheKey>> entrySet() {
+        return new AbstractSet<Map.Entry<Object, CacheKey>>() {
+            @Override
+            public Iterator<Map.Entry<Object, CacheKey>> iterator() {
+                final ValueIterator values = new ValueIterator();
+                return new Iterator<Map.Entry<Object, CacheKey>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return values.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<Object, CacheKey> next() {
+                        CacheKey value = values.next();
+                        return new AbstractMap.SimpleImmutableEntry<>(value.getKey(), value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        values.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LongCacheKeyMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Serialize as a ConcurrentHashMap, the removed marker can not be serialized.
+     */
+    protected Object writeReplace() {
+        return new ConcurrentHashMap<>(this);
+    }
+
+    /**
+     * Iterates over the table at the time of creation, then the other keys.
+     * Removing removes the current entry from the map.
+     */
+    protected class ValueIterator implements Iterator<CacheKey> {
+        protected final Table table;
+        protected int index;
+        protected Iterator<CacheKey> otherValues;
+        protected CacheKey next;
+        protected CacheKey last;
+
+        protected ValueIterator() {
+            this.table = LongCacheKeyMap.this.table;
+            advance();
+        }
+
+        protected void advance() {
+            this.next = null;
+            while (this.index < this.table.values.length()) {
+                CacheKey value = this.table.values.get(this.index++);
+                if ((value != null) && (value != REMOVED)) {
+                    this.next = value;
+                    return;
+                }
+            }
+            if (this.otherValues == null) {
+                Map<Object, CacheKey> otherKeys = LongCacheKeyMap.this.otherKeys;
+                this.otherValues = (otherKeys == null) ? new ArrayList<CacheKey>(0).iterator() : otherKeys.values().iterator();
+            }
+            if (this.otherValues.hasNext()) {
+                this.next = this.otherValues.next();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public CacheKey next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next;
+            advance();
+            return this.last;
+        }
+
+        @Override
+        public void remove() {
+            if (this.last == null) {
+                throw new IllegalStateException();
+            }
+            LongCacheKeyMap.this.remove(this.last.getKey(), this.last);
+            this.last = null;
+        }
+    }
+
+    /**
+     * Primitive keys and cache keys in parallel arrays.
+     */
+    protected static final class Table implements Serializable {
+        final long[] keys;
+        final AtomicReferenceArray<CacheKey> values;
+        final int mask;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.invalidation.CacheInvalidationPolicy;
+import org.eclipse.persistence.descriptors.invalidation.NoExpiryCacheInvalidationPolicy;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Second level tier of the shared cache of a class, holding the database rows
+ * of its objects serialized outside of the Java heap.
+ * <p>
+ * Rows are appended to a ring of direct buffer segments, and indexed by primary key.
+ * When the byte budget is used, the oldest segment is recycled and all of its rows are evicted (FIFO).
+ * Updated rows are appended again, the space of the previous version is reclaimed when its segment is recycled.
+ * Only the index and the field layouts of the rows remain on the heap.
+ * <p>
+ * Reads do not lock, a row is validated against the generation of its segment after it is copied,
+ * writes are serialized by a lock.
+ * <p>
+ * The direct buffers count against the JVM's maximum direct memory size (-XX:MaxDirectMemorySize).
+ * @see org.eclipse.persistence.descriptors.CachePolicy#setOffHeapCacheSize(long)
+ */
+public class OffHeapCache {
+
+    /** Minimum and maximum size of a segment. */
+    protected static final int MIN_SEGMENT_SIZE = 64 * 1024;
+    protected static final int MAX_SEGMENT_SIZE = 256 * 1024 * 1024;
+    /** Preferred number of segments, only 1/16 of the rows are evicted when a segment is recycled. */
+    protected static final int SEGMENTS = 16;
+
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte INTEGER = 2;
+    protected static final byte LONG = 3;
+    protected static final byte SHORT = 4;
+    protected static final byte BYTE = 5;
+    protected static final byte DOUBLE = 6;
+    protected static final byte FLOAT = 7;
+    protected static final byte BOOLEAN = 8;
+    protected static final byte BIG_DECIMAL = 9;
+    protected static final byte BIG_INTEGER = 10;
+    protected static final byte TIMESTAMP = 11;
+    protected static final byte SQL_DATE = 12;
+    protected static final byte SQL_TIME = 13;
+    protected static final byte UTIL_DATE = 14;
+    protected static final byte BYTES = 15;
+    protected static final byte CHARACTER = 16;
+    protected static final byte SERIALIZED = 17;
+
+    /** Rows by primary key. */
+    protected final Map<Object, Entry> index;
+    /** Field layouts shared by the rows. */
+    protected final Map<List<DatabaseField>, Vector<DatabaseField>> layouts;
+    /** Last layout used, avoids hashing the fields of rows of the same result. */
+    protected volatile Vector<DatabaseField> lastLayout;
+
+    protected final ByteBuffer[] segments;
+    /** Incremented each time a segment is recycled, invalidating its rows. */
+    protected final AtomicIntegerArray generations;
+    protected final int segmentSize;
+    /** Segment and position of the next write, guarded by the write lock. */
+    protected int currentSegment;
+    protected int position;
+    protected final ReentrantLock writeLock;
+
+    /**
+     * Create an off-heap cache for the byte budget.
+     * The segments are only allocated when used.
+     */
+    public OffHeapCache(long maxBytes) {
+        long size = Math.max(MIN_SEGMENT_SIZE, Math.min(MAX_SEGMENT_SIZE, maxBytes / SEGMENTS));
+        this.segmentSize = (int)size;
+        int count = (int)Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / size));
+        this.segments = new ByteBuffer[count];
+        this.generations = new AtomicIntegerArray(count);
+        this.index = new ConcurrentHashMap<>();
+        this.layouts = new ConcurrentHashMap<>();
+        this.writeLock = new ReentrantLock();
+    }
+
+    /**
+     * Return a copy of the row stored for the primary key, or null if it is not stored, was evicted,
+     * or has expired for the invalidation policy.
+     */
+    public AbstractRecord get(Object primaryKey, CacheInvalidationPolicy invalidationPolicy) {
+        Entry entry = this.index.get(primaryKey);
+        if (entry != null) {
+            ByteBuffer segmentBuffer = this.segments[entry.segment];
+            if ((segmentBuffer != null) && (this.generations.get(entry.segment) == entry.generation) && !isExpired(primaryKey, entry, invalidationPolicy)) {
+                ByteBuffer buffer = segmentBuffer.duplicate();
+                buffer.position(entry.offset);
+                byte[] bytes = new byte[entry.length];
+                buffer.get(bytes);
+                // Validate that the segment was not recycled while copying, as a sequence lock would.
+                VarHandle.acquireFence();
+                if (this.generations.get(entry.segment) == entry.generation) {
+                    Vector values = decode(bytes, entry.layout.size());
+                    if (values != null) {
+                        return new DatabaseRecord(entry.layout, values);
+                    }
+                }
+            }
+            this.index.remove(primaryKey, entry);
+        }
+        return null;
+    }
+
+    protected boolean isExpired(Object primaryKey, Entry entry, CacheInvalidationPolicy invalidationPolicy) {
+        if ((invalidationPolicy == null) || (invalidationPolicy instanceof NoExpiryCacheInvalidationPolicy)) {
+            return false;
+        }
+        CacheKey cacheKey = new CacheKey(primaryKey);
+        cacheKey.setReadTime(entry.readTime);
+        return invalidationPolicy.isInvalidated(cacheKey);
+    }
+
+    /**
+     * Store the row for the primary key, unless a row is stored already and overwrite is false.
+     * Rows that can not be serialized, or are larger than a segment are not stored.
+     * Return the number of rows evicted to make room for the row.
+     */
+    public int put(Object primaryKey, AbstractRecord row, long readTime, boolean overwrite) {
+        if (!overwrite && isStored(primaryKey)) {
+            return 0;
+        }
+        byte[] bytes = encode(row.getValues());
+        if ((bytes == null) || (bytes.length > this.segmentSize)) {
+            return 0;
+        }
+        Vector<DatabaseField> layout = getLayout(row.getFields());
+        int evicted = 0;
+        this.writeLock.lock();
+        try {
+            if (!overwrite && isStored(primaryKey)) {
+                return 0;
+            }
+            if ((this.position + bytes.length) > this.segmentSize) {
+                evicted = recycleNextSegment();
+            }
+            int segment = this.currentSegment;
+            ByteBuffer buffer = this.segments[segment];
+            if (buffer == null) {
+                buffer = ByteBuffer.allocateDirect(this.segmentSize);
+                this.segments[segment] = buffer;
+            }
+            ByteBuffer writer = buffer.duplicate();
+            writer.position(this.position);
+            writer.put(bytes);
+            this.index.put(primaryKey, new Entry(layout, segment, this.generations.get(segment), this.position, bytes.length, readTime));
+            this.position = this.position + bytes.length;
+        } finally {
+            this.writeLock.unlock();
+        }
+        return evicted;
+    }
+
+    /**
+     * Remove the row of the primary key, its space is reclaimed when its segment is recycled.
+     */
+    public void remove(Object primaryKey) {
+        this.index.remove(primaryKey);
+    }
+
+    /**
+     * Remove all rows and free the direct buffers.
+     */
+    public void clear() {
+        this.writeLock.lock();
+        try {
+            for (int segment = 0; segment < this.segments.length; segment++) {
+                this.generations.incrementAndGet(segment);
+                this.segments[segment] = null;
+            }
+            this.index.clear();
+            this.layouts.clear();
+            this.lastLayout = null;
+            this.currentSegment = 0;
+            this.position = 0;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of rows stored, including rows evicted but not yet removed from the index.
+     */
+    public int size() {
+        return this.index.size();
+    }
+
+    /**
+     * Return the maximum number of bytes used by the rows.
+     */
+    public long getMaxBytes() {
+        return (long)this.segmentSize * this.segments.length;
+    }
+
+    protected boolean isStored(Object primaryKey) {
+        Entry entry = this.index.get(primaryKey);
+        return (entry != null) && (this.generations.get(entry.segment) == entry.generation);
+    }
+
+    /**
+     * Move to the next segment, evicting all of its rows.
+     * Callers of this method must hold the write lock.
+     */
+    protected int recycleNextSegment() {
+        int segment = (this.currentSegment + 1) % this.segments.length;
+        int generation = this.generations.get(segment);
+        // Readers copying from the segment will fail validation.
+        this.generations.incrementAndGet(segment);
+        int evicted = 0;
+        if (this.segments[segment] != null) {
+            int size = this.index.size();
+            this.index.values().removeIf(entry -> (entry.segment == segment) && (entry.generation == generation));
+            evicted = size - this.index.size();
+        }
+        this.currentSegment = segment;
+        this.position = 0;
+        return evicted;
+    }
+
+    /**
+     * Return the shared layout equal to the fields.
+     */
+    protected Vector<DatabaseField> getLayout(Vector<DatabaseField> fields) {
+        Vector<DatabaseField> layout = this.lastLayout;
+        if ((layout == fields) || ((layout != null) && layout.equals(fields))) {
+            return layout;
+        }
+        layout = this.layouts.get(fields);
+        if (layout == null) {
+            layout = new NonSynchronizedVector<>(fields);
+            Vector<DatabaseField> existing = ((ConcurrentHashMap<List<DatabaseField>, Vector<DatabaseField>>)this.layouts).putIfAbsent(layout, layout);
+            if (existing != null) {
+                layout = existing;
+            }
+        }
+        this.lastLayout = layout;
+        return layout;
+    }
+
+    /**
+     * Serialize the row values, return null if a value can not be serialized.
+     */
+    protected static byte[] encode(List values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(values.size() * 16);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            for (Object value : values) {
+                if (value == null) {
+                    out.writeByte(NULL);
+                    continue;
+                }
+                Class<?> type = value.getClass();
+                if (type == String.class) {
+                    byte[] string = ((String)value).getBytes(StandardCharsets.UTF_8);
+                    out.writeByte(STRING);
+                    out.writeInt(string.length);
+                    out.write(string);
+                } else if (type == Integer.class) {
+                    out.writeByte(INTEGER);
+                    out.writeInt((Integer)value);
+                } else if (type == Long.class) {
+                    out.writeByte(LONG);
+                    out.writeLong((Long)value);
+                } else if (type == Short.class) {
+                    out.writeByte(SHORT);
+                    out.writeShort((Short)value);
+                } else if (type == Byte.class) {
+                    out.writeByte(BYTE);
+                    out.writeByte((Byte)value);
+                } else if (type == Double.class) {
+                    out.writeByte(DOUBLE);
+                    out.writeDouble((Double)value);
+                } else if (type == Float.class) {
+                    out.writeByte(FLOAT);
+                    out.writeFloat((Float)value);
+                } else if (type == Boolean.class) {
+                    out.writeByte(BOOLEAN);
+                    out.writeBoolean((Boolean)value);
+                } else if (type == BigDecimal.class) {
+                    byte[] unscaled = ((BigDecimal)value).unscaledValue().toByteArray();
+                    out.writeByte(BIG_DECIMAL);
+                    out.writeInt(((BigDecimal)value).scale());
+                    out.writeInt(unscaled.length);
+                    out.write(unscaled);
+                } else if (type == BigInteger.class) {
+                    byte[] integer = ((BigInteger)value).toByteArray();
+                    out.writeByte(BIG_INTEGER);
+                    out.writeInt(integer.length);
+                    out.write(integer);
+                } else if (type == java.sql.Timestamp.class) {
+                    out.writeByte(TIMESTAMP);
+                    out.writeLong(((java.sql.Timestamp)value).getTime());
+                    out.writeInt(((java.sql.Timestamp)value).getNanos());
+                } else if (type == java.sql.Date.class) {
+                    out.writeByte(SQL_DATE);
+                    out.writeLong(((java.sql.Date)value).getTime());
+                } else if (type == java.sql.Time.class) {
+                    out.writeByte(SQL_TIME);
+                    out.writeLong(((java.sql.Time)value).getTime());
+                } else if (type == java.util.Date.class) {
+                    out.writeByte(UTIL_DATE);
+                    out.writeLong(((java.util.Date)value).getTime());
+                } else if (type == byte[].class) {
+                    out.writeByte(BYTES);
+                    out.writeInt(((byte[])value).length);
+                    out.write((byte[])value);
+                } else if (type == Character.class) {
+                    out.writeByte(CHARACTER);
+                    out.writeChar((Character)value);
+                } else if (value instanceof Serializable) {
+                    ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+                    try (ObjectOutputStream objectOut = new ObjectOutputStream(serialized)) {
+                        objectOut.writeObject(value);
+                    }
+                    out.writeByte(SERIALIZED);
+                    out.writeInt(serialized.size());
+                    serialized.writeTo(out);
+                } else {
+                    // Such as LOB locators, only valid on their connection.
+                    return null;
+                }
+            }
+            out.flush();
+        } catch (IOException exception) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserialize the row values, return null if a value can not be deserialized.
+     */
+    protected static Vector decode(byte[] bytes, int size) {
+        Vector values = new NonSynchronizedVector(size);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        try {
+            for (int count = 0; count < size; count++) {
+                byte type = in.readByte();
+                Object value;
+                switch (type) {
+                    case NULL:
+                        value = null;
+                        break;
+                    case STRING:
+                        value = new String(readBytes(in), StandardCharsets.UTF_8);
+                        break;
+                    case INTEGER:
+                        value = in.readInt();
+                        break;
+                    case LONG:
+                        value = in.readLong();
+                        break;
+                    case SHORT:
+                        value = in.readShort();
+                        break;
+                    case BYTE:
+                        value = in.readByte();
+                        break;
+                    case DOUBLE:
+                        value = in.readDouble();
+                        break;
+                    case FLOAT:
+                        value = in.readFloat();
+                        break;
+                    case BOOLEAN:
+                        value = in.readBoolean();
+                        break;
+                    case BIG_DECIMAL:
+                        int scale = in.readInt();
+                        value = new BigDecimal(new BigInteger(readBytes(in)), scale);
+                        break;
+                    case BIG_INTEGER:
+                        value = new BigInteger(readBytes(in));
+                        break;
+                    case TIMESTAMP:
+                        java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+                        timestamp.setNanos(in.readInt());
+                        value = timestamp;
+                        break;
+                    case SQL_DATE:
+                        value = new java.sql.Date(in.readLong());
+                        break;
+                    case SQL_TIME:
+                        value = new java.sql.Time(in.readLong());
+                        break;
+                    case UTIL_DATE:
+                        value = new java.util.Date(in.readLong());
+                        break;
+                    case BYTES:
+                        value = readBytes(in);
+                        break;
+                    case CHARACTER:
+                        value = in.readChar();
+                        break;
+                    case SERIALIZED:
+                        try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                            value = objectIn.readObject();
+                        }
+                        break;
+                    default:
+                        return null;
+                }
+                values.add(value);
+            }
+        } catch (IOException | ClassNotFoundException exception) {
+            return null;
+        }
+        return values;
+    }
+
+    protected static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Location of a row in the segments.
+     */
+    protected static final class Entry {
+        final Vector<DatabaseField> layout;
+        final int segment;
+        final int generation;
+        final int offset;
+        final int length;
+        final long readTime;
+
+        Entry(Vector<DatabaseField> layout, int segment, int generation, int offset, int length, long readTime) {
+            this.layout = layout;
+            this.segment = segment;
+            this.generation = generation;
+            this.offset = offset;
+            this.length = length;
+            this.readTime = readTime;
+        }
+    }
+}
@@ -38,6 +38,6 @@ public SoftIdentityMap(int size, ClassDescriptor descriptor, AbstractSession ses
 
     @Override
     public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
-        return new SoftCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+        return initializeLocks(new SoftCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated));
     }
 }
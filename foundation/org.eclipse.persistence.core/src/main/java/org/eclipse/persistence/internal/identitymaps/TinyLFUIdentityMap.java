@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>: A fixed size cache using a frequency aware admission and eviction policy (W-TinyLFU).<p>
+ * New entries enter a small LRU window (1% of the size). Entries leaving the window compete with the
+ * least recently used entry of the main space, and only the one used more frequently is kept.
+ * Frequencies are estimated by a {@link FrequencySketch}. The main space is a segmented LRU,
+ * entries used again while on probation are promoted to the protected segment (80% of the main space).
+ * <p>
+ * Reads do not lock the map, they are recorded in a lossy ring buffer, and the policy is updated
+ * in batches by the thread that obtains the eviction lock without waiting.
+ * As for the {@link CacheIdentityMap}, the size is the maximum number of objects held,
+ * entries that are locked when selected for eviction are skipped.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Guarantees identity through primary key values
+ *    <li> Keeps the most frequently and recently used objects up to the size of the map.
+ * </ul>
+ * @see org.eclipse.persistence.config.CacheType#TinyLFU
+ */
+public class TinyLFUIdentityMap extends FullIdentityMap {
+
+    /** Size of the read buffer, must be a power of two. */
+    protected static final int READ_BUFFER_SIZE = 128;
+    /** The read buffer is drained every DRAIN_INTERVAL reads, must be a power of two. */
+    protected static final int DRAIN_INTERVAL = 32;
+
+    protected static final int NEW = 0;
+    protected static final int WINDOW = 1;
+    protected static final int PROBATION = 2;
+    protected static final int PROTECTED = 3;
+    protected static final int REMOVED = 4;
+
+    /** Guards the policy, the lists and the sketch. Reads only try to acquire it. */
+    protected ReentrantLock evictionLock;
+    protected FrequencySketch sketch;
+    /** Lossy ring buffer of the recently read cache keys. */
+    protected AtomicReferenceArray<TinyLFUCacheKey> readBuffer;
+    protected AtomicLong readCount;
+    /** Cache keys added to the map, but not yet to the policy. */
+    protected Queue<TinyLFUCacheKey> pendingAdds;
+
+    /** Sentinels of the circular lists, next is the least recently used entry, previous the most recently used. */
+    protected TinyLFUCacheKey window;
+    protected TinyLFUCacheKey probation;
+    protected TinyLFUCacheKey protectedSegment;
+
+    protected int windowSize;
+    protected int probationSize;
+    protected int protectedSize;
+    protected int maxWindowSize;
+    protected int maxProtectedSize;
+
+    public TinyLFUIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        initializePolicy();
+    }
+
+    /**
+     * Initialize an empty policy for the max size.
+     */
+    protected void initializePolicy() {
+        this.evictionLock = new ReentrantLock();
+        this.sketch = new FrequencySketch(this.maxSize);
+        this.readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        this.readCount = new AtomicLong();
+        this.pendingAdds = new ConcurrentLinkedQueue<>();
+        this.window = newSentinel();
+        this.probation = newSentinel();
+        this.protectedSegment = newSentinel();
+        this.windowSize = 0;
+        this.probationSize = 0;
+        this.protectedSize = 0;
+        initializeSegmentSizes();
+    }
+
+    /**
+     * Compute the window and protected segment sizes from the max size.
+     */
+    protected void initializeSegmentSizes() {
+        this.maxWindowSize = Math.max(1, this.maxSize / 100);
+        this.maxProtectedSize = ((this.maxSize - this.maxWindowSize) * 4) / 5;
+    }
+
+    protected TinyLFUCacheKey newSentinel() {
+        TinyLFUCacheKey sentinel = new TinyLFUCacheKey(CacheId.EMPTY, null, null, 0, this.isIsolated);
+        sentinel.setNext(sentinel);
+        sentinel.setPrevious(sentinel);
+        return sentinel;
+    }
+
+    /**
+     * INTERNAL:
+     * Clones itself, the clone policy is rebuilt from the cloned cache keys.
+     */
+    @Override
+    public Object clone() {
+        TinyLFUIdentityMap clone = (TinyLFUIdentityMap)super.clone();
+        clone.initializePolicy();
+        for (CacheKey cacheKey : clone.getCacheKeys().values()) {
+            TinyLFUCacheKey key = (TinyLFUCacheKey)cacheKey;
+            key.setNext(null);
+            key.setPrevious(null);
+            key.queue = NEW;
+            clone.pendingAdds.add(key);
+        }
+        return clone;
+    }
+
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return initializeLocks(new TinyLFUCacheKey(primaryKey, object, writeLockValue, readTime, this.isIsolated));
+    }
+
+    /**
+     * Access the object within the table for the given primaryKey.
+     * The access is recorded in the read buffer, and applied to the policy later.
+     */
+    @Override
+    public CacheKey getCacheKey(Object searchKey, boolean forMerge) {
+        CacheKey cacheKey = super.getCacheKey(searchKey, forMerge);
+        if (cacheKey != null) {
+            long count = this.readCount.getAndIncrement();
+            this.readBuffer.lazySet((int)count & (READ_BUFFER_SIZE - 1), (TinyLFUCacheKey)cacheKey);
+            if ((count & (DRAIN_INTERVAL - 1)) == (DRAIN_INTERVAL - 1)) {
+                tryMaintenance();
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Also add the cacheKey to the policy if it is put, and evict if the map exceeds its max size.
+     */
+    @Override
+    protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
+        CacheKey cacheKey = super.putCacheKeyIfAbsent(searchKey);
+        if (cacheKey == null) {
+            this.pendingAdds.add((TinyLFUCacheKey)searchKey);
+            if ((this.maxSize > 0) && (getSize() > this.maxSize)) {
+                // Wait for the lock to bound the size of the map.
+                this.evictionLock.lock();
+                try {
+                    maintenance();
+                } finally {
+                    this.evictionLock.unlock();
+                }
+            } else {
+                tryMaintenance();
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Remove the CacheKey from the cache as well as from the policy.
+     */
+    @Override
+    public Object remove(CacheKey cacheKey) {
+        Object object = super.remove(cacheKey);
+        if (cacheKey instanceof TinyLFUCacheKey) {
+            this.evictionLock.lock();
+            try {
+                unlink((TinyLFUCacheKey)cacheKey);
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+        return object;
+    }
+
+    /**
+     * INTERNAL:
+     * This method will be used to update the max cache size, any objects exceeding the max cache size will
+     * be removed from the cache.
+     */
+    @Override
+    public void updateMaxSize(int maxSize) {
+        this.evictionLock.lock();
+        try {
+            setMaxSize(maxSize);
+            initializeSegmentSizes();
+            maintenance();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Apply the buffered reads and adds to the policy if no other thread is doing so.
+     */
+    protected void tryMaintenance() {
+        if (this.evictionLock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Apply the buffered adds and reads to the policy, then evict down to the max size.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void maintenance() {
+        TinyLFUCacheKey key;
+        while ((key = this.pendingAdds.poll()) != null) {
+            if (key.queue == NEW) {
+                key.queue = WINDOW;
+                linkLast(this.window, key);
+                this.windowSize++;
+                this.sketch.increment(key.getKey());
+            }
+        }
+        for (int index = 0; index < READ_BUFFER_SIZE; index++) {
+            key = this.readBuffer.getAndSet(index, null);
+            if (key != null) {
+                onAccess(key);
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Record the access in the sketch, and update the recency of the key.
+     * Entries accessed on probation are promoted to the protected segment.
+     */
+    protected void onAccess(TinyLFUCacheKey key) {
+        switch (key.queue) {
+            case WINDOW:
+                this.sketch.increment(key.getKey());
+                moveToLast(this.window, key);
+                break;
+            case PROBATION:
+                this.sketch.increment(key.getKey());
+                unlinkFromList(key);
+                this.probationSize--;
+                key.queue = PROTECTED;
+                linkLast(this.protectedSegment, key);
+                this.protectedSize++;
+                // Demote the least recently used protected entries back to probation.
+                while (this.protectedSize > this.maxProtectedSize) {
+                    TinyLFUCacheKey demoted = (TinyLFUCacheKey)this.protectedSegment.getNext();
+                    unlinkFromList(demoted);
+                    this.protectedSize--;
+                    demoted.queue = PROBATION;
+                    linkLast(this.probation, demoted);
+                    this.probationSize++;
+                }
+                break;
+            case PROTECTED:
+                this.sketch.increment(key.getKey());
+                moveToLast(this.protectedSegment, key);
+                break;
+            default:
+                // Not yet added, or already removed.
+        }
+    }
+
+    /**
+     * Move the entries that overflow the window to probation,
+     * then evict until the max size is reached.
+     * The most recent probation entry (the candidate from the window) is only admitted
+     * if it is used more frequently than the least recent probation entry (the victim).
+     */
+    protected void evict() {
+        while (this.windowSize > this.maxWindowSize) {
+            TinyLFUCacheKey candidate = (TinyLFUCacheKey)this.window.getNext();
+            unlinkFromList(candidate);
+            this.windowSize--;
+            candidate.queue = PROBATION;
+            linkLast(this.probation, candidate);
+            this.probationSize++;
+        }
+        if (this.maxSize <= 0) {
+            return;
+        }
+        // Bound the attempts, as locked entries are skipped.
+        int attempts = this.windowSize + this.probationSize + this.protectedSize;
+        while (((this.windowSize + this.probationSize + this.protectedSize) > this.maxSize) && (attempts-- > 0)) {
+            TinyLFUCacheKey victim;
+            TinyLFUCacheKey candidate = null;
+            if (this.probationSize > 0) {
+                victim = (TinyLFUCacheKey)this.probation.getNext();
+                candidate = (TinyLFUCacheKey)this.probation.getPrevious();
+            } else if (this.protectedSize > 0) {
+                victim = (TinyLFUCacheKey)this.protectedSegment.getNext();
+            } else {
+                victim = (TinyLFUCacheKey)this.window.getNext();
+            }
+            TinyLFUCacheKey evicted = victim;
+            if ((candidate != null) && (candidate != victim)
+                    && (this.sketch.frequency(candidate.getKey()) <= this.sketch.frequency(victim.getKey()))) {
+                evicted = candidate;
+            }
+            if (!evictEntry(evicted)) {
+                // Locked, give it another chance.
+                moveToLast(listOf(evicted), evicted);
+            }
+        }
+    }
+
+    /**
+     * Remove the entry from the map and the policy, unless it is locked.
+     * Return false if the entry is locked.
+     */
+    protected boolean evictEntry(TinyLFUCacheKey key) {
+        if (key.isAcquired() || !key.acquireNoWait()) {
+            return false;
+        }
+        try {
+            this.cacheKeys.remove(key.getKey(), key);
+            key.setOwningMap(null);
+            key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+            unlink(key);
+        } finally {
+            key.release();
+        }
+        return true;
+    }
+
+    /**
+     * Remove the entry from the policy.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void unlink(TinyLFUCacheKey key) {
+        switch (key.queue) {
+            case WINDOW:
+                this.windowSize--;
+                unlinkFromList(key);
+                break;
+            case PROBATION:
+                this.probationSize--;
+                unlinkFromList(key);
+                break;
+            case PROTECTED:
+                this.protectedSize--;
+                unlinkFromList(key);
+                break;
+            default:
+                // Not yet added, the pending add is ignored.
+        }
+        key.queue = REMOVED;
+    }
+
+    protected TinyLFUCacheKey listOf(TinyLFUCacheKey key) {
+        switch (key.queue) {
+            case WINDOW:
+                return this.window;
+            case PROBATION:
+                return this.probation;
+            default:
+                return this.protectedSegment;
+        }
+    }
+
+    protected void linkLast(TinyLFUCacheKey sentinel, TinyLFUCacheKey key) {
+        LinkedCacheKey last = sentinel.getPrevious();
+        key.setPrevious(last);
+        key.setNext(sentinel);
+        last.setNext(key);
+        sentinel.setPrevious(key);
+    }
+
+    protected void unlinkFromList(TinyLFUCacheKey key) {
+        key.getPrevious().setNext(key.getNext());
+        key.getNext().setPrevious(key.getPrevious());
+        key.setNext(null);
+        key.setPrevious(null);
+    }
+
+    protected void moveToLast(TinyLFUCacheKey sentinel, TinyLFUCacheKey key) {
+        if (sentinel.getPrevious() != key) {
+            unlinkFromList(key);
+            linkLast(sentinel, key);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Cache key that records its segment of the policy.
+     * The links and the segment are guarded by the eviction lock of the map.
+     */
+    public static class TinyLFUCacheKey extends LinkedCacheKey {
+        protected int queue;
+
+        public TinyLFUCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime, boolean isIsolated) {
+            super(primaryKey, object, writeLockValue, readTime, isIsolated);
+        }
+    }
+}
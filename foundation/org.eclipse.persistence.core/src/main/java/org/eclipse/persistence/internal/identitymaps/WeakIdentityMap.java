@@ -75,7 +75,7 @@ protected void cleanupDeadCacheKeys() {
 
     @Override
     public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
-        return new WeakCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+        return initializeLocks(new WeakCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated));
     }
 
     /**
@@ -141,6 +141,9 @@ public class LoggingLocalizationResource extends ListResourceBundle {
                 "Please refer to the documentation for the use of toplink-ejb-jar.xml" },
 
         { "drop_connection_on_error", "Warning: Dropping remote command connection to {0} on error {1}" },
+        { "nio_selector_stopped_on_error", "Warning: The NIO transport of {0} stopped on error {1}" },
+        { "nio_command_processing_not_started", "Warning: The NIO transport of {0} processes the received commands on its selector thread, as their processing could not be started on error {1}" },
+        { "partitioned_cache_lookup_failed", "Warning: Lookup of {0} with primary key {1} in the partitioned cache of {2} failed on error {3}" },
         { "received_corrupt_announcement", "Warning: Discovery manager could not process service announcement due to {0} - ignoring announcement" },
         { "missing_converter", "Warning: Cannot convert command {0} due to missing CommandConverter - ignoring command" },
         { "failed_command_propagation", "Error: Failed trying to propagate command to {0} due to {1}" },
@@ -321,6 +321,8 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "sequencing_afterTransactionCommitted", "local sequencing preallocation is copied to preallocation after transaction commit" },
         { "sequencing_afterTransactionRolledBack", "local sequencing preallocation is discarded after transaction roll back" },
         { "sequencing_preallocation", "sequencing preallocation for {0}: objects: {1} , first: {2}, last: {3}" },
+        { "sequencing_backgroundPreallocation", "background sequencing preallocation for {0}: objects: {1} , first: {2}, last: {3}" },
+        { "sequencing_backgroundPreallocationFailed", "background sequencing preallocation for {0} failed, the values will be allocated when used up" },
         { "starting_rcm", "Starting Remote Command Manager {0}" },
         { "stopping_rcm", "Stopping Remote Command Manager {0}" },
         { "initializing_discovery_resources", "Initializing discovery resources - group={0} port={1}" },
@@ -332,6 +334,9 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "looking_up_remote_conn_in_registry", "Looking up remote connection in RMIRegistry at {0}" },
         { "unable_to_look_up_remote_conn_in_jndi", "Unable to look up remote connection in JNDI under name {0} at URL {1}" },
         { "unable_to_look_up_remote_conn_in_registry", "Unable to look up remote connection in RMIRegistry under name {0}" },
+        { "nio_connecting_to_remote_service", "Connecting to remote service at {0}" },
+        { "nio_unable_to_connect_to_remote_service", "Unable to connect to remote service at {0}" },
+        { "partitioned_cache_lookup_timeout", "Lookup of {0} with primary key {1} in the partitioned cache of {2} timed out" },
         { "converting_to_toplink_command", "Converting {0} to TopLink Command format" },
         { "converting_to_user_command", "Converting {0} from TopLink Command format to user format" },
         { "executing_merge_changeset", "Executing MergeChangeSet command from {0}" },
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.queries;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.eclipse.persistence.internal.identitymaps.FrequencySketch;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Cache of the queries parsed from JPQL strings, keyed by their JPQL.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Stay within the maximum number of queries and the memory budget, keeping the most frequently used queries.
+ * <li> Count the hits, misses and evictions.
+ * </ul>
+ * The frequency of each JPQL string is estimated by a FrequencySketch, recorded on each lookup.
+ * When the cache is full, a newly parsed query is only cached if it is used at least as often
+ * as the least recently used queries it would evict, so queries used once do not evict the hot ones.
+ * The memory used by a query is estimated from the length of its JPQL and SQL,
+ * as its expression tree and calls grow with them.
+ * <p>
+ * Lookups do not lock, the accesses are recorded if the lock is free, so some are lost under contention.
+ * The map returned by getCache() removes and clears through the cache, so its memory stays accounted.
+ *
+ * @see org.eclipse.persistence.sessions.Project#getJPQLParseCacheWithStatistics()
+ */
+public class JPQLParseCache extends ConcurrentFixedCache {
+
+    /** Estimated fixed memory of a parsed query, in bytes. */
+    public static final int QUERY_OVERHEAD = 4096;
+
+    /** Estimated memory of the expression tree per character of JPQL, in bytes. */
+    public static final int EXPRESSION_SIZE_PER_CHARACTER = 64;
+
+    /** The maximum estimated memory of the cached queries in bytes, 0 if unbounded. */
+    protected long memoryBudget;
+
+    /** The estimated memory of the cached queries in bytes, guarded by the lock. */
+    protected long memoryUsed;
+
+    /** The estimated memory of each cached query, least recently used first, guarded by the lock. */
+    protected LinkedHashMap<Object, Long> sizes;
+
+    /** The access frequency of the JPQL strings, guarded by the lock. */
+    protected FrequencySketch sketch;
+
+    protected ReentrantLock lock;
+
+    protected LongAdder hits;
+    protected LongAdder misses;
+    protected LongAdder evictions;
+
+    /** The view of the cached queries returned by getCache(), created when first used. */
+    protected transient Map<Object, Object> parsedQueries;
+
+    public JPQLParseCache(int maxSize, long memoryBudget) {
+        super(maxSize);
+        this.memoryBudget = memoryBudget;
+        this.sizes = new LinkedHashMap<>(16, 0.75f, true);
+        this.sketch = new FrequencySketch(maxSize);
+        this.lock = new ReentrantLock();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Return the estimated memory used by the query parsed from the JPQL in bytes.
+     */
+    public static long estimateSize(Object jpql, Object query) {
+        long size = QUERY_OVERHEAD;
+        if (jpql instanceof String) {
+            size += (2L + EXPRESSION_SIZE_PER_CHARACTER) * ((String)jpql).length();
+        }
+        if (query instanceof DatabaseQuery) {
+            String sql = ((DatabaseQuery)query).getSQLString();
+            if (sql != null) {
+                size += 2L * sql.length();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Return the parsed query of the JPQL, or null if not cached, and record the access.
+     */
+    @Override
+    public Object get(Object key) {
+        Object value = this.cache.get(key);
+        if (value == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        if (this.lock.tryLock()) {
+            try {
+                this.sketch.increment(key);
+                if (value != null) {
+                    // Move to the most recently used.
+                    this.sizes.get(key);
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Return the parsed query of the JPQL, or null if not cached,
+     * and report the hit or miss to the session's profiler.
+     */
+    public Object get(Object key, AbstractSession session) {
+        Object value = get(key);
+        session.incrementProfile((value == null) ? SessionProfiler.JPQLParseCacheMisses : SessionProfiler.JPQLParseCacheHits);
+        return value;
+    }
+
+    /**
+     * Cache the parsed query of the JPQL, evicting the least recently used queries if required.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        put(key, value, null);
+    }
+
+    /**
+     * Cache the parsed query of the JPQL, evicting the least recently used queries if required,
+     * and report the evictions to the session's profiler.
+     * The query is not cached if it exceeds the memory budget, or the queries it would evict are used more often.
+     */
+    public void put(Object key, Object value, AbstractSession session) {
+        if (this.maxSize <= 0) {
+            return;
+        }
+        long size = estimateSize(key, value);
+        if ((this.memoryBudget > 0) && (size > this.memoryBudget)) {
+            return;
+        }
+        int evicted = 0;
+        this.lock.lock();
+        try {
+            Long previousSize = this.sizes.get(key);
+            long memoryRequired = this.memoryUsed + size - ((previousSize == null) ? 0 : previousSize);
+            int sizeRequired = this.sizes.size() + ((previousSize == null) ? 1 : 0);
+            List<Object> victims = null;
+            if ((sizeRequired > this.maxSize) || ((this.memoryBudget > 0) && (memoryRequired > this.memoryBudget))) {
+                int frequency = this.sketch.frequency(key);
+                victims = new ArrayList<>();
+                for (Map.Entry<Object, Long> entry : this.sizes.entrySet()) {
+                    if ((sizeRequired <= this.maxSize) && ((this.memoryBudget <= 0) || (memoryRequired <= this.memoryBudget))) {
+                        break;
+                    }
+                    if (entry.getKey().equals(key)) {
+                        continue;
+                    }
+                    if ((previousSize == null) && (this.sketch.frequency(entry.getKey()) > frequency)) {
+                        // Not admitted, it would evict a more frequently used query.
+                        this.evictions.increment();
+                        evicted++;
+                        return;
+                    }
+                    victims.add(entry.getKey());
+                    memoryRequired -= entry.getValue();
+                    sizeRequired--;
+                }
+            }
+            if (victims != null) {
+                for (Object victim : victims) {
+                    this.cache.remove(victim);
+                    this.memoryUsed -= this.sizes.remove(victim);
+                    this.evictions.increment();
+                    evicted++;
+                }
+            }
+            this.cache.put(key, value);
+            this.sizes.put(key, size);
+            this.memoryUsed += size - ((previousSize == null) ? 0 : previousSize);
+        } finally {
+            this.lock.unlock();
+            if ((session != null) && (evicted > 0)) {
+                for (int count = 0; count < evicted; count++) {
+                    session.incrementProfile(SessionProfiler.JPQLParseCacheEvictions);
+                }
+            }
+        }
+    }
+
+    /**
+     * Set the maximum number of cached queries,
+     * evicting the least recently used queries if the cache has more.
+     */
+    @Override
+    public void setMaxSize(int maxSize) {
+        this.lock.lock();
+        try {
+            if (maxSize != this.maxSize) {
+                this.maxSize = maxSize;
+                this.sketch = new FrequencySketch(maxSize);
+                evict();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Set the maximum estimated memory of the cached queries in bytes, 0 if unbounded,
+     * evicting the least recently used queries if the cache uses more.
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        this.lock.lock();
+        try {
+            this.memoryBudget = memoryBudget;
+            evict();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Evict the least recently used queries until the cache is within its max size and memory budget.
+     * The lock must be held.
+     */
+    protected void evict() {
+        Iterator<Map.Entry<Object, Long>> entries = this.sizes.entrySet().iterator();
+        while (entries.hasNext() && ((this.sizes.size() > Math.max(this.maxSize, 0))
+                || ((this.memoryBudget > 0) && (this.memoryUsed > this.memoryBudget)))) {
+            Map.Entry<Object, Long> entry = entries.next();
+            this.cache.remove(entry.getKey());
+            this.memoryUsed -= entry.getValue();
+            entries.remove();
+            this.evictions.increment();
+        }
+    }
+
+    @Override
+    public void remove(Object key) {
+        this.lock.lock();
+        try {
+            this.cache.remove(key);
+            Long size = this.sizes.remove(key);
+            if (size != null) {
+                this.memoryUsed -= size;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.cache.clear();
+            this.sizes.clear();
+            this.memoryUsed = 0;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the cached queries by JPQL.
+     * The queries removed from the map are removed from the cache, the map does not support adding queries.
+     */
+    @Override
+    public Map getCache() {
+        if (this.parsedQueries == null) {
+            this.parsedQueries = new ParsedQueries();
+        }
+        return this.parsedQueries;
+    }
+
+    /**
+     * Return the maximum estimated memory of the cached queries in bytes, 0 if unbounded.
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Return the estimated memory of the cached queries in bytes.
+     */
+    public long getMemoryUsed() {
+        this.lock.lock();
+        try {
+            return memoryUsed;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of lookups that found the query in the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Return the number of lookups that did not find the query in the cache.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Return the number of queries evicted from the cache, or not cached to keep more frequently used ones.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * The cached queries, reading from the cache and removing through it.
+     */
+    protected class ParsedQueries extends AbstractMap<Object, Object> {
+
+        @Override
+        public int size() {
+            return cache.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return cache.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return cache.get(key);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            Object value = cache.get(key);
+            JPQLParseCache.this.remove(key);
+            return value;
+        }
+
+        @Override
+        public void clear() {
+            JPQLParseCache.this.clear();
+        }
+
+        @Override
+        public Set<Map.Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Map.Entry<Object, Object>>() {
+                @Override
+                public int size() {
+                    return cache.size();
+                }
+
+                @Override
+                public Iterator<Map.Entry<Object, Object>> iterator() {
+                    @SuppressWarnings("unchecked")
+                    Iterator<Map.Entry<Object, Object>> entries = cache.entrySet().iterator();
+                    return new Iterator<Map.Entry<Object, Object>>() {
+                        Object key;
+
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<Object, Object> next() {
+                            Map.Entry<Object, Object> entry = entries.next();
+                            this.key = entry.getKey();
+                            return new AbstractMap.SimpleImmutableEntry<>(entry);
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (this.key == null) {
+                                throw new IllegalStateException();
+                            }
+                            JPQLParseCache.this.remove(this.key);
+                            this.key = null;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
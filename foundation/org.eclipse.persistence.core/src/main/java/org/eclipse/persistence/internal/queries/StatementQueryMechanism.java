@@ -16,6 +16,7 @@
 package org.eclipse.persistence.internal.queries;
 
 import java.util.Enumeration;
+import java.util.Set;
 import java.util.Vector;
 
 import org.eclipse.persistence.exceptions.DatabaseException;
@@ -24,11 +25,14 @@
 import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
 import org.eclipse.persistence.internal.databaseaccess.DatasourceCall;
 import org.eclipse.persistence.internal.expressions.SQLModifyStatement;
+import org.eclipse.persistence.internal.expressions.SQLSelectStatement;
 import org.eclipse.persistence.internal.expressions.SQLStatement;
 import org.eclipse.persistence.internal.expressions.SQLUpdateStatement;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.queries.Call;
 import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sessions.SessionProfiler;
 /**
  * <p><b>Purpose</b>:
@@ -347,12 +351,32 @@ public void prepareInsertObject() {
         super.prepareInsertObject();
     }
 
+    /**
+     * Record the fields the cached results of the query depend on, before the statement is released.
+     */
+    protected void prepareQueryResultsDependencies() {
+        DatabaseQuery query = getQuery();
+        if (!query.isObjectLevelReadQuery() || query.isReportQuery()) {
+            return;
+        }
+        QueryResultsCachePolicy policy = ((ReadQuery)query).getQueryResultsCachePolicy();
+        if ((policy == null) || !policy.shouldTrackDependencies()) {
+            return;
+        }
+        Set<DatabaseField> dependencyFields = null;
+        if (!hasMultipleStatements() && (getSQLStatement() instanceof SQLSelectStatement)) {
+            dependencyFields = ((SQLSelectStatement)getSQLStatement()).getDependencyFields();
+        }
+        policy.setDependencyFields(dependencyFields);
+    }
+
     /**
      * Pre-build the SQL call from the statement.
      */
     @Override
     public void prepareSelectAllRows() {
         setCallFromStatement();
+        prepareQueryResultsDependencies();
         // The statement is no longer require so can be released.
         clearStatement();
 
@@ -365,6 +389,7 @@ public void prepareSelectAllRows() {
     @Override
     public void prepareSelectOneRow() {
         setCallFromStatement();
+        prepareQueryResultsDependencies();
         // The statement is no longer require so can be released.
         clearStatement();
 
@@ -16,6 +16,7 @@
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Handles the storage and allocation of sequence values.
@@ -24,6 +25,20 @@
  */
 class PreallocationHandler implements SequencingLogInOut {
     protected Map<String, Queue<Object>> preallocatedSequences;
+    protected Map<String, BackgroundPreallocation> backgroundPreallocations;
+
+    /**
+     * The state of the background preallocation of a sequence.
+     * The size and time are only accessed holding the sequence lock.
+     */
+    static class BackgroundPreallocation {
+        /** The preallocated value starting the allocation of the next values when taken. */
+        final AtomicReference<Object> lowWatermark = new AtomicReference<>();
+        /** The number of values of the next allocation, 0 until the first allocation. */
+        int size;
+        /** The time of the last allocation. */
+        long time;
+    }
 
     public PreallocationHandler() {
         super();
@@ -48,6 +63,23 @@ public Queue<Object> getPreallocated(String sequenceName) {
         return sequences;
     }
 
+    /**
+     * Returns the background preallocation state for the seqName.
+     * If there is not one, a new one is registered.
+     */
+    public BackgroundPreallocation getBackgroundPreallocation(String sequenceName) {
+        return backgroundPreallocations.computeIfAbsent(sequenceName, name -> new BackgroundPreallocation());
+    }
+
+    /**
+     * Return if the sequence value just taken from the preallocated values is the low watermark of the seqName.
+     * Only one thread taking the value gets true, and should then allocate the next values.
+     */
+    public boolean isLowWatermark(String sequenceName, Object sequenceValue) {
+        BackgroundPreallocation preallocation = backgroundPreallocations.get(sequenceName);
+        return (preallocation != null) && preallocation.lowWatermark.compareAndSet(sequenceValue, null);
+    }
+
     // SequencingLogInOut
     @Override
     public void onConnect() {
@@ -57,6 +89,7 @@ public void onConnect() {
     @Override
     public void onDisconnect() {
         preallocatedSequences = null;
+        backgroundPreallocations = null;
     }
 
     @Override
@@ -71,6 +104,7 @@ public boolean isConnected() {
      */
     public void initializePreallocated() {
         preallocatedSequences = new ConcurrentHashMap<>(20);
+        backgroundPreallocations = new ConcurrentHashMap<>(20);
     }
 
     /**
@@ -80,6 +114,7 @@ public void initializePreallocated() {
      */
     public void initializePreallocated(String seqName) {
         preallocatedSequences.remove(seqName);
+        backgroundPreallocations.remove(seqName);
     }
 
     /**
@@ -38,6 +38,7 @@
 import org.eclipse.persistence.sessions.Login;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
+import org.eclipse.persistence.sessions.server.NonBlockingConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
 
 /**
@@ -127,6 +128,12 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private int maxPoolSize = -1;
     private int initialPoolSize = -1;
     private ConnectionPool connectionPool;
+    private volatile boolean shouldUseBackgroundPreallocation;
+    private int backgroundPreallocationThreshold = 25;
+    private int maxPreallocationSize = -1;
+
+    /** The time in ms the values allocated at once should last at least, the allocation size doubles if used up faster. */
+    private static final long PREALLOCATION_INTERVAL = 1000;
 
     public SequencingManager(DatabaseSessionImpl ownerSession) {
         this.ownerSession = ownerSession;
@@ -175,6 +182,10 @@ protected void createConnectionHandler() {
             } else {
                 pool = this.connectionPool;
             }
+            // The sequencing connections must not be waited for on the pool monitor from virtual threads.
+            if (getOwnerSession().getProject().shouldUseVirtualThreads() && (pool.getClass() == ConnectionPool.class)) {
+                pool = new NonBlockingConnectionPool(pool);
+            }
 
             setConnectionHandler(new ServerSessionConnectionHandler(pool));
 
@@ -269,6 +280,36 @@ public void setInitialPoolSize(int size) {
         this.initialPoolSize = size;
     }
 
+    @Override
+    public boolean shouldUseBackgroundPreallocation() {
+        return shouldUseBackgroundPreallocation;
+    }
+
+    @Override
+    public void setShouldUseBackgroundPreallocation(boolean shouldUseBackgroundPreallocation) {
+        this.shouldUseBackgroundPreallocation = shouldUseBackgroundPreallocation;
+    }
+
+    @Override
+    public int getBackgroundPreallocationThreshold() {
+        return backgroundPreallocationThreshold;
+    }
+
+    @Override
+    public void setBackgroundPreallocationThreshold(int percentage) {
+        this.backgroundPreallocationThreshold = percentage;
+    }
+
+    @Override
+    public int getMaxPreallocationSize() {
+        return maxPreallocationSize;
+    }
+
+    @Override
+    public void setMaxPreallocationSize(int size) {
+        this.maxPreallocationSize = size;
+    }
+
     @Override
     public boolean isConnected() {
         return states != null;
@@ -333,6 +374,10 @@ protected ConcurrencyManager acquireLock(String sequenceName) {
                 manager = getLocks().get(sequenceName);
                 if (manager == null) {
                     manager = new ConcurrencyManager();
+                    if (getOwnerSession().getProject().shouldUseLocksForCacheKeys()) {
+                        // Preallocation waits on a lock rather than the monitor, see Project.setShouldUseVirtualThreads.
+                        manager.useLocks();
+                    }
                     getLocks().put(sequenceName, manager);
                 }
             }
@@ -362,6 +407,129 @@ protected void logDebugLocalPreallocation(AbstractSession writeSession, String s
         }
     }
 
+    /**
+     * Return if the next values of the sequences can be allocated in the background,
+     * on the separate sequencing connection, or on the read connections of a ServerSession.
+     */
+    protected boolean shouldPreallocateInBackground(String context, boolean usesAccessor) {
+        // The tenant of a schema per tenant context is only known by the write session.
+        return this.shouldUseBackgroundPreallocation && "default".equals(context)
+                && (usesAccessor || getOwnerSession().isServerSession());
+    }
+
+    /**
+     * Return if any number of values can be allocated at once for the sequence,
+     * as for table sequences, sequence objects allocate their increment.
+     */
+    protected boolean isPreallocationSizeAdaptable(Sequence sequence) {
+        if (sequence instanceof DefaultSequence) {
+            sequence = ((DefaultSequence)sequence).getDefaultSequence();
+        }
+        return sequence.isTable() || sequence.isUnaryTable();
+    }
+
+    /**
+     * Return the number of values to allocate at once for the sequence using background preallocation.
+     * The number of values of table sequences grows while the values are used up quickly,
+     * and shrinks back when not.
+     * A lock should be obtained for the sequence name before calling this method.
+     */
+    protected int getPreallocationSize(PreallocationHandler handler, Sequence sequence, boolean isUsedUp) {
+        int minSize = sequence.getPreallocationSize();
+        if (!isPreallocationSizeAdaptable(sequence)) {
+            return minSize;
+        }
+        PreallocationHandler.BackgroundPreallocation preallocation = handler.getBackgroundPreallocation(sequence.getName());
+        int maxSize = (this.maxPreallocationSize == -1) ? (minSize * 16) : Math.max(this.maxPreallocationSize, minSize);
+        int size = (preallocation.size == 0) ? minSize : preallocation.size;
+        if (preallocation.time != 0) {
+            long elapsed = System.currentTimeMillis() - preallocation.time;
+            if (isUsedUp || (elapsed < PREALLOCATION_INTERVAL)) {
+                size = size * 2;
+            } else if (elapsed > (PREALLOCATION_INTERVAL * 10)) {
+                size = size / 2;
+            }
+        }
+        size = Math.max(Math.min(size, maxSize), minSize);
+        preallocation.size = size;
+        return size;
+    }
+
+    /**
+     * Record the values just allocated for the sequence when background preallocation is used,
+     * setting the low watermark to the value leaving the threshold of the values once taken.
+     * A lock should be obtained for the sequence name before calling this method.
+     */
+    protected void onPreallocated(PreallocationHandler handler, Sequence sequence, Vector<?> sequences) {
+        PreallocationHandler.BackgroundPreallocation preallocation = handler.getBackgroundPreallocation(sequence.getName());
+        preallocation.time = System.currentTimeMillis();
+        int size = sequences.size();
+        if (size > 0) {
+            int left = (size * this.backgroundPreallocationThreshold) / 100;
+            preallocation.lowWatermark.set(sequences.get(Math.max(size - 1 - left, 0)));
+        }
+    }
+
+    /**
+     * Allocate the next values of the sequence in a separate thread, to be taken once the preallocated values are used up.
+     * If the allocation fails the values are allocated when used up instead.
+     */
+    protected void preallocateInBackground(final PreallocationHandler handler, final Sequence sequence, final boolean usesAccessor) {
+        final DatabaseSessionImpl session = getOwnerSession();
+        session.getServerPlatform().launchContainerRunnable(() -> {
+            String seqName = sequence.getName();
+            if (!isConnected()) {
+                return;
+            }
+            ConcurrencyManager lock = null;
+            try {
+                lock = acquireLock(seqName);
+                // Sequencing was reset, or the values were used up and allocated in the meantime.
+                if (!handler.isConnected() || (handler.getBackgroundPreallocation(seqName).lowWatermark.get() != null)) {
+                    return;
+                }
+                int size = getPreallocationSize(handler, sequence, false);
+                Vector<?> sequences;
+                if (usesAccessor) {
+                    Accessor accessor = getConnectionHandler().acquireAccessor();
+                    try {
+                        accessor.beginTransaction(session);
+                        try {
+                            sequences = sequence.getGeneratedVector(accessor, session, seqName, size);
+                            accessor.commitTransaction(session);
+                        } catch (RuntimeException ex) {
+                            try {
+                                // make sure to rollback the transaction we've begun
+                                accessor.rollbackTransaction(session);
+                            } catch (Exception rollbackException) {
+                                // ignore rollback exception
+                            }
+                            // don't eat the original exception
+                            throw ex;
+                        }
+                    } finally {
+                        getConnectionHandler().releaseAccessor(accessor);
+                    }
+                } else {
+                    sequences = sequence.getGeneratedVector(null, session, seqName, size);
+                }
+                handler.setPreallocated(seqName, sequences);
+                onPreallocated(handler, sequence, sequences);
+                if (session.shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
+                    Object[] args = { seqName, sequences.size(), sequences.firstElement(), sequences.lastElement() };
+                    session.log(SessionLog.FINEST, SessionLog.SEQUENCING, "sequencing_backgroundPreallocation", args);
+                }
+            } catch (RuntimeException exception) {
+                session.log(SessionLog.WARNING, SessionLog.SEQUENCING, "sequencing_backgroundPreallocationFailed", seqName);
+                session.logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+            } finally {
+                if (lock != null) {
+                    lock.release();
+                }
+            }
+        });
+    }
+
     static abstract class State {
         abstract Object getNextValue(Sequence sequence, AbstractSession writeSession);
 
@@ -600,11 +768,16 @@ class Preallocation_Transaction_Accessor_State extends State {
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
+                boolean shouldPreallocateInBackground = shouldPreallocateInBackground(context, true);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    if (shouldPreallocateInBackground && handler.isLowWatermark(seqName, sequenceValue)) {
+                        preallocateInBackground(handler, sequence, true);
+                    }
                     return sequenceValue;
                 }
                 // Sequences are empty, so must lock and allocate next batch of sequences.
@@ -612,6 +785,9 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 try {
                     sequenceValue = sequencesForName.poll();
                     if (sequenceValue != null) {
+                        if (shouldPreallocateInBackground && handler.isLowWatermark(seqName, sequenceValue)) {
+                            preallocateInBackground(handler, sequence, true);
+                        }
                         return sequenceValue;
                     }
                     // note that accessor.getLogin().shouldUseExternalTransactionController()
@@ -620,12 +796,16 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                     try {
                         accessor.beginTransaction(writeSession);
                         try {
-                            Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
+                            int size = shouldPreallocateInBackground ? getPreallocationSize(handler, sequence, true) : sequence.getPreallocationSize();
+                            Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession, seqName, size);
                             accessor.commitTransaction(writeSession);
                             // Remove the first value before adding to the global cache to ensure this thread gets one.
                             sequenceValue = sequences.remove(0);
                             // copy remaining values to global cache.
                             handler.setPreallocated(seqName, sequences);
+                            if (shouldPreallocateInBackground) {
+                                onPreallocated(handler, sequence, sequences);
+                            }
                             logDebugPreallocation(seqName, sequenceValue, sequences);
                         } catch (RuntimeException ex) {
                             try {
@@ -682,11 +862,16 @@ class Preallocation_NoTransaction_State extends State {
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
+                boolean shouldPreallocateInBackground = shouldPreallocateInBackground(context, false);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    if (shouldPreallocateInBackground && handler.isLowWatermark(seqName, sequenceValue)) {
+                        preallocateInBackground(handler, sequence, false);
+                    }
                     return sequenceValue;
                 }
                 // Sequences are empty, so must lock and allocate next batch of sequences.
@@ -694,13 +879,20 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 try {
                     sequenceValue = sequencesForName.poll();
                     if (sequenceValue != null) {
+                        if (shouldPreallocateInBackground && handler.isLowWatermark(seqName, sequenceValue)) {
+                            preallocateInBackground(handler, sequence, false);
+                        }
                         return sequenceValue;
                     }
-                    Vector<?> sequences = sequence.getGeneratedVector(null, writeSession);
+                    int size = shouldPreallocateInBackground ? getPreallocationSize(handler, sequence, true) : sequence.getPreallocationSize();
+                    Vector<?> sequences = sequence.getGeneratedVector(null, writeSession, seqName, size);
                     // Remove the first value before adding to the global cache to ensure this thread gets one.
                     sequenceValue = sequences.remove(0);
                     // copy remaining values to global cache.
                     handler.setPreallocated(seqName, sequences);
+                    if (shouldPreallocateInBackground) {
+                        onPreallocated(handler, sequence, sequences);
+                    }
                     logDebugPreallocation(seqName, sequenceValue, sequences);
                 } finally {
                     lock.release();
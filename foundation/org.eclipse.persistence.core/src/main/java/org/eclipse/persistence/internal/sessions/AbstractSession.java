@@ -49,7 +49,13 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.eclipse.persistence.config.ReferenceMode;
@@ -78,6 +84,7 @@
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.QueryCounter;
+import org.eclipse.persistence.internal.helper.VirtualThreads;
 import org.eclipse.persistence.internal.helper.linkedlist.ExposedNodeLinkedList;
 import org.eclipse.persistence.internal.history.HistoricalSession;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
@@ -116,6 +123,7 @@
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
 import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.SQLCall;
 import org.eclipse.persistence.queries.UpdateObjectQuery;
 import org.eclipse.persistence.queries.WriteObjectQuery;
@@ -348,6 +356,15 @@ public abstract class AbstractSession extends CoreAbstractSession<ClassDescripto
      */
     protected boolean tolerateInvalidJPQL = false;
 
+    /** Executor of the asynchronous queries, null to use the executor of the parent session or the default executor. */
+    transient protected Executor asyncQueryExecutor;
+
+    /** The default executor of the asynchronous queries, created on first use and shut down on logout. */
+    transient protected ExecutorService defaultAsyncQueryExecutor;
+
+    /** Queue of the committed changes to merge into the shared cache in the background, null to merge them on commit. */
+    transient protected DeferredMergeQueue deferredMergeQueue;
+
     /**
      * INTERNAL:
      * Create and return a new session.
@@ -1788,6 +1805,201 @@ public Object executeQuery(DatabaseQuery query, List argumentValues) throws Data
         return executeQuery(query, row);
     }
 
+    /**
+     * PUBLIC:
+     * Execute the read query asynchronously and return the future of its result.
+     * The query is executed on the async query executor, on its own client session and pooled connection,
+     * so independent queries overlap instead of adding up their latencies.
+     * It is executed outside of the transaction of this session and only sees committed data,
+     * from a unit of work its results are not registered in the unit of work.
+     * Only server sessions, and their client sessions and units of work, execute queries asynchronously,
+     * other sessions have a single connection and execute the query before returning.
+     */
+    @Override
+    public CompletableFuture<Object> executeQueryAsync(DatabaseQuery query) {
+        return executeQueryAsync(query, null);
+    }
+
+    /**
+     * PUBLIC:
+     * Execute the read query with the arguments asynchronously and return the future of its result.
+     * The query arguments are passed in as a List of argument values in the same order as the query arguments.
+     */
+    @Override
+    public CompletableFuture<Object> executeQueryAsync(DatabaseQuery query, List argumentValues) {
+        checkAsyncQuery(query);
+        if (!isAsyncQuerySupported()) {
+            try {
+                return CompletableFuture.completedFuture(executeAsyncQuery(this, query, argumentValues));
+            } catch (RuntimeException exception) {
+                return CompletableFuture.failedFuture(exception);
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            AbstractSession session = acquireAsyncQuerySession();
+            try {
+                return executeAsyncQuery(session, query, argumentValues);
+            } finally {
+                releaseAsyncQuerySession(session);
+            }
+        }, getAsyncQueryExecutor());
+    }
+
+    /**
+     * PUBLIC:
+     * Return a publisher of the results of the read query with the arguments, the arguments may be null.
+     * The query is executed asynchronously for each subscriber, as {@link #executeQueryAsync(DatabaseQuery)},
+     * read all queries of objects read their results from a cursor and publish each object as it is built,
+     * waiting for the demand of the subscribers.
+     */
+    @Override
+    public Flow.Publisher<Object> executeQueryPublisher(DatabaseQuery query, List argumentValues) {
+        checkAsyncQuery(query);
+        return new QueryPublisher(this, query, argumentValues);
+    }
+
+    /**
+     * INTERNAL:
+     * Check the query can be executed asynchronously, only read queries can.
+     */
+    protected void checkAsyncQuery(DatabaseQuery query) {
+        if (query == null) {
+            throw QueryException.queryNotDefined();
+        }
+        if (!query.isReadQuery()) {
+            throw QueryException.incorrectQueryObjectFound(query, ReadQuery.class);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the asynchronous query on the session.
+     */
+    protected static Object executeAsyncQuery(AbstractSession session, DatabaseQuery query, List argumentValues) {
+        if (argumentValues == null) {
+            return session.executeQuery(query);
+        }
+        return session.executeQuery(query, argumentValues);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the session executes queries asynchronously, on sessions acquired for them.
+     * Sessions with a single connection execute them on the caller's thread.
+     */
+    protected boolean isAsyncQuerySupported() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Acquire the session executing an asynchronous query, with its own connection.
+     */
+    protected AbstractSession acquireAsyncQuerySession() {
+        return this;
+    }
+
+    /**
+     * INTERNAL:
+     * Release the session that executed an asynchronous query.
+     */
+    protected void releaseAsyncQuerySession(AbstractSession session) {
+        // Nothing by default.
+    }
+
+    /**
+     * PUBLIC:
+     * Return the executor of the asynchronous queries.
+     * By default the queries are executed on virtual threads,
+     * or on a cached pool of daemon threads if the JDK does not support virtual threads.
+     */
+    @Override
+    public Executor getAsyncQueryExecutor() {
+        if (this.asyncQueryExecutor != null) {
+            return this.asyncQueryExecutor;
+        }
+        AbstractSession parent = getParent();
+        if (parent != null) {
+            return parent.getAsyncQueryExecutor();
+        }
+        synchronized (this) {
+            if (this.defaultAsyncQueryExecutor == null) {
+                ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("EclipseLink-AsyncQuery-");
+                if (executor == null) {
+                    AtomicInteger count = new AtomicInteger();
+                    executor = Executors.newCachedThreadPool(runnable -> {
+                        Thread thread = new Thread(runnable, "EclipseLink-AsyncQuery-" + count.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+                this.defaultAsyncQueryExecutor = executor;
+            }
+            return this.defaultAsyncQueryExecutor;
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Set the executor of the asynchronous queries, i.e. a managed executor service of the container.
+     * Client sessions and units of work use the executor of their parent session.
+     */
+    @Override
+    public void setAsyncQueryExecutor(Executor executor) {
+        this.asyncQueryExecutor = executor;
+    }
+
+    /**
+     * INTERNAL:
+     * Shut down the default executor of the asynchronous queries, if created.
+     */
+    protected synchronized void shutdownDefaultAsyncQueryExecutor() {
+        if (this.defaultAsyncQueryExecutor != null) {
+            this.defaultAsyncQueryExecutor.shutdown();
+            this.defaultAsyncQueryExecutor = null;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the queue of the committed changes to merge into the shared cache in the background,
+     * or null if the changes are merged on commit.
+     * Client sessions and units of work use the queue of their parent session.
+     */
+    public DeferredMergeQueue getDeferredMergeQueue() {
+        if (this.deferredMergeQueue != null) {
+            return this.deferredMergeQueue;
+        }
+        AbstractSession parent = getParent();
+        if (parent != null) {
+            return parent.getDeferredMergeQueue();
+        }
+        return null;
+    }
+
+    /**
+     * ADVANCED:
+     * Set if the changes committed to existing objects are merged into the shared cache in the background.
+     * The cached objects are invalidated on commit and are read from the database until their changes are merged,
+     * which avoids the cost of the merge in the commit.
+     * By default the changes are merged on commit.
+     */
+    public void setShouldDeferMerge(boolean shouldDeferMerge) {
+        if (!shouldDeferMerge) {
+            this.deferredMergeQueue = null;
+        } else if (this.deferredMergeQueue == null) {
+            this.deferredMergeQueue = new DeferredMergeQueue(this);
+        }
+    }
+
+    /**
+     * ADVANCED:
+     * Return if the changes committed to existing objects are merged into the shared cache in the background.
+     */
+    public boolean shouldDeferMerge() {
+        return getDeferredMergeQueue() != null;
+    }
+
     /**
      * INTERNAL:
      * Return the results from executing the database query.
@@ -2805,16 +3017,12 @@ protected CacheKey getCacheKeyFromTargetSessionForMerge(Object implementation, O
                cacheKey.acquireDeferredLock();
                original = cacheKey.getObject();
                if (original == null) {
-                   synchronized (cacheKey) {
-                       if (cacheKey.isAcquired()) {
-                           try {
-                               cacheKey.wait();
-                           } catch (InterruptedException e) {
-                               //ignore and return
-                           }
-                       }
-                       original = cacheKey.getObject();
+                   try {
+                       cacheKey.waitForRelease(0);
+                   } catch (InterruptedException e) {
+                       //ignore and return
                    }
+                   original = cacheKey.getObject();
                }
                cacheKey.releaseDeferredLock();
            }
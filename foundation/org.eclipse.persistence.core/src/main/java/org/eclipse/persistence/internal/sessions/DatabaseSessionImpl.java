@@ -841,6 +841,12 @@ protected void preConnectDatasource(){
         }
         updateProfile(SessionProfiler.LoginTime, new Date(System.currentTimeMillis()));
         updateProfile(SessionProfiler.SessionName, getName());
+        if (this.project.shouldUseVirtualThreads()) {
+            this.project.setShouldUseLocksForCacheKeys(true);
+            if (getServerPlatform() instanceof ServerPlatformBase) {
+                ((ServerPlatformBase)getServerPlatform()).setShouldUseVirtualThreads(true);
+            }
+        }
 
         // Login and initialize
         if (this.eventManager != null) {
@@ -1008,6 +1014,7 @@ public void logout() throws DatabaseException {
         }
 
         disconnect();
+        shutdownDefaultAsyncQueryExecutor();
         getIdentityMapAccessor().initializeIdentityMaps();
         this.isLoggedIn = false;
         if (this.eventManager != null) {
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * INTERNAL:
+ * Queue of the changes committed by units of work to merge into the shared cache in the background.
+ * <p>
+ * On commit the cache keys of the changed objects are invalidated and the change set is queued,
+ * so the commit does not wait for the merge, and until merged the objects are refreshed from the database when read.
+ * The change sets are merged in commit order by a single worker at a time, into the cache as a
+ * distributed merge, so an object refreshed with a newer version is not merged over.
+ * A cache key is only validated again once no merge is pending for it.
+ *
+ * @see AbstractSession#setShouldDeferMerge(boolean)
+ */
+public class DeferredMergeQueue {
+
+    /** The session whose cache the changes are merged into. */
+    protected final AbstractSession session;
+
+    /** The executor running the worker, by default the server platform. */
+    protected Executor executor;
+
+    /** The merges not yet completed, in commit order. */
+    protected final Deque<DeferredMerge> merges;
+
+    /** The number of merges pending for each invalidated cache key. */
+    protected final Map<CacheKey, Integer> pendingCacheKeys;
+
+    /** If the worker is running. */
+    protected boolean isMerging;
+
+    /** Lock guarding the queued merges, the pending cache keys and the worker state. */
+    protected final ReentrantLock lock;
+
+    /** Signalled when the worker stops as no merge is left. */
+    protected final Condition mergesCompleted;
+
+    public DeferredMergeQueue(AbstractSession session) {
+        this.session = session;
+        this.executor = runnable -> session.getServerPlatform().launchContainerRunnable(runnable);
+        this.merges = new ArrayDeque<>();
+        this.pendingCacheKeys = new IdentityHashMap<>();
+        this.lock = new ReentrantLock();
+        this.mergesCompleted = this.lock.newCondition();
+    }
+
+    /**
+     * Return the executor running the worker.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Set the executor running the worker.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Invalidate the cached objects of the change sets and queue their merge.
+     * Objects not in the cache are not merged, as they are read from the database.
+     * This must be called while the unit of work holds its merge locks.
+     */
+    public void submit(UnitOfWorkChangeSet uowChangeSet, List<ObjectChangeSet> changeSets) {
+        List<ObjectChangeSet> changeSetsToMerge = new ArrayList<>(changeSets.size());
+        List<CacheKey> cacheKeys = new ArrayList<>(changeSets.size());
+        DeferredMerge merge;
+        this.lock.lock();
+        try {
+            for (ObjectChangeSet changeSet : changeSets) {
+                ClassDescriptor descriptor = changeSet.getDescriptor();
+                CacheKey cacheKey = this.session.getIdentityMapAccessorInstance().getCacheKeyForObject(changeSet.getId(), descriptor.getJavaClass(), descriptor, true);
+                if (cacheKey != null) {
+                    cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+                    this.pendingCacheKeys.merge(cacheKey, 1, Integer::sum);
+                    changeSetsToMerge.add(changeSet);
+                    cacheKeys.add(cacheKey);
+                }
+            }
+            if (cacheKeys.isEmpty()) {
+                return;
+            }
+            merge = new DeferredMerge(uowChangeSet, changeSetsToMerge, cacheKeys);
+            this.merges.add(merge);
+            if (this.isMerging) {
+                return;
+            }
+            this.isMerging = true;
+        } finally {
+            this.lock.unlock();
+        }
+        try {
+            this.executor.execute(this::mergeAll);
+        } catch (RuntimeException exception) {
+            // Could not start the worker, so merge the changes of this commit on commit.
+            this.session.logThrowable(SessionLog.WARNING, SessionLog.CACHE, exception);
+            mergeRejected(merge);
+        }
+    }
+
+    /**
+     * Merge the changes of the commit whose worker could not be started.
+     * As no worker was running they are the first queued, the changes queued by other commits meanwhile
+     * are not merged, their objects stay invalid and are refreshed from the database when read.
+     */
+    protected void mergeRejected(DeferredMerge merge) {
+        try {
+            merge(merge);
+        } catch (RuntimeException exception) {
+            // The objects not merged stay invalid.
+            this.session.logThrowable(SessionLog.WARNING, SessionLog.CACHE, exception);
+        }
+        this.lock.lock();
+        try {
+            this.merges.remove(merge);
+            for (DeferredMerge queued : this.merges) {
+                validate(queued.cacheKeys, new boolean[queued.cacheKeys.size()]);
+            }
+            this.merges.clear();
+            this.isMerging = false;
+            this.mergesCompleted.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Merge the queued change sets until none is left.
+     */
+    protected void mergeAll() {
+        while (true) {
+            DeferredMerge merge;
+            this.lock.lock();
+            try {
+                merge = this.merges.peekFirst();
+                if (merge == null) {
+                    this.isMerging = false;
+                    this.mergesCompleted.signalAll();
+                    return;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            try {
+                merge(merge);
+            } catch (RuntimeException exception) {
+                // The objects not merged stay invalid.
+                this.session.logThrowable(SessionLog.WARNING, SessionLog.CACHE, exception);
+            }
+            this.lock.lock();
+            try {
+                this.merges.pollFirst();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Merge the changes of the existing objects into the cache, then validate their cache keys
+     * if no other merge is pending for them.
+     */
+    protected void merge(DeferredMerge merge) {
+        AbstractSession session = this.session;
+        MergeManager manager = new MergeManager(session);
+        manager.mergeIntoDistributedCache();
+        List<ObjectChangeSet> changeSets = merge.changeSets;
+        int size = changeSets.size();
+        boolean[] merged = new boolean[size];
+        session.startOperationProfile(SessionProfiler.Merge);
+        session.getIdentityMapAccessorInstance().acquireWriteLock();
+        try {
+            session.getIdentityMapAccessorInstance().getWriteLockManager().acquireRequiredLocks(manager, merge.uowChangeSet);
+            try {
+                for (int index = 0; index < size; index++) {
+                    ObjectChangeSet changeSet = changeSets.get(index);
+                    Object original = merge.cacheKeys.get(index).getObject();
+                    if ((original != null) && shouldMerge(changeSet, original)) {
+                        manager.mergeChanges(original, changeSet, session);
+                        merged[index] = true;
+                    }
+                }
+            } finally {
+                validate(merge.cacheKeys, merged);
+            }
+        } finally {
+            session.getIdentityMapAccessorInstance().getWriteLockManager().releaseAllAcquiredLocks(manager);
+            session.getIdentityMapAccessorInstance().releaseWriteLock();
+            session.endOperationProfile(SessionProfiler.Merge);
+        }
+    }
+
+    /**
+     * Return if the changes can be merged into the cached object,
+     * the distributed merge otherwise only invalidates the object, or ignores the changes.
+     */
+    protected boolean shouldMerge(ObjectChangeSet changeSet, Object original) {
+        int synchronizationType = changeSet.getSynchronizationType();
+        if ((synchronizationType == ClassDescriptor.DO_NOT_SEND_CHANGES) || (synchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS)) {
+            return false;
+        }
+        ClassDescriptor descriptor = changeSet.getDescriptor();
+        if (descriptor.usesVersionLocking()) {
+            // The object was refreshed with a newer version, or a change was missed.
+            return descriptor.getOptimisticLockingPolicy().getVersionDifference(changeSet.getInitialWriteLockValue(), original, changeSet.getId(), this.session) == 0;
+        }
+        return true;
+    }
+
+    /**
+     * Release the pending merge of the cache keys, validating the cache keys merged
+     * if no other merge is pending, and invalidating them again otherwise,
+     * as a read could have validated them.
+     */
+    protected void validate(List<CacheKey> cacheKeys, boolean[] merged) {
+        this.lock.lock();
+        try {
+            for (int index = 0; index < cacheKeys.size(); index++) {
+                CacheKey cacheKey = cacheKeys.get(index);
+                Integer pending = this.pendingCacheKeys.get(cacheKey);
+                if ((pending == null) || (pending <= 1)) {
+                    this.pendingCacheKeys.remove(cacheKey);
+                    if (merged[index]) {
+                        cacheKey.setInvalidationState(CacheKey.CHECK_INVALIDATION_POLICY);
+                    }
+                } else {
+                    this.pendingCacheKeys.put(cacheKey, pending - 1);
+                    cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return if a merge is pending.
+     */
+    public boolean hasPendingMerges() {
+        this.lock.lock();
+        try {
+            return this.isMerging || !this.merges.isEmpty();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until the queued change sets are merged.
+     */
+    public void waitForPendingMerges() throws InterruptedException {
+        this.lock.lockInterruptibly();
+        try {
+            while (this.isMerging || !this.merges.isEmpty()) {
+                this.mergesCompleted.await();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * The change sets of a unit of work to merge, and the cache keys invalidated for them.
+     */
+    protected static class DeferredMerge {
+        protected final UnitOfWorkChangeSet uowChangeSet;
+        protected final List<ObjectChangeSet> changeSets;
+        protected final List<CacheKey> cacheKeys;
+
+        protected DeferredMerge(UnitOfWorkChangeSet uowChangeSet, List<ObjectChangeSet> changeSets, List<CacheKey> cacheKeys) {
+            this.uowChangeSet = uowChangeSet;
+            this.changeSets = changeSets;
+            this.cacheKeys = cacheKeys;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.Session;
+
+/**
+ * INTERNAL:
+ * Publisher of the result of an asynchronous query execution, executing it for each subscriber.
+ * <p>
+ * The elements of a collection result, or a single result, are published once the execution completes,
+ * as the subscriber requests them. Unlike {@link QueryPublisher} the results are all read before they are published,
+ * it is used by the sessions that do not read their results from a cursor.
+ *
+ * @see Session#executeQueryPublisher(DatabaseQuery, List)
+ */
+public class FuturePublisher<T> implements Flow.Publisher<T> {
+
+    /** Executes the query and returns the future of its result. */
+    protected final Supplier<? extends CompletionStage<?>> execution;
+
+    public FuturePublisher(Supplier<? extends CompletionStage<?>> execution) {
+        this.execution = execution;
+    }
+
+    /**
+     * Execute the query for the subscriber, its results are published when the execution completes.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        ResultSubscription<T> subscription = new ResultSubscription<>(subscriber);
+        subscriber.onSubscribe(subscription);
+        CompletionStage<?> result;
+        try {
+            result = this.execution.get();
+        } catch (RuntimeException exception) {
+            subscription.complete(null, exception);
+            return;
+        }
+        result.whenComplete(subscription::complete);
+    }
+
+    /**
+     * INTERNAL:
+     * Subscription publishing the results to a subscriber as it requests them.
+     * The subscriber is never signalled while holding the lock, and only from one thread at a time.
+     */
+    protected static class ResultSubscription<T> implements Flow.Subscription {
+
+        /** The subscriber the results are published to. */
+        protected final Flow.Subscriber<? super T> subscriber;
+
+        /** Lock guarding the results, demand and state of the subscription. */
+        protected final ReentrantLock lock = new ReentrantLock();
+
+        /** The remaining results, null until the execution completes. */
+        protected Iterator<?> results;
+
+        /** The failure of the execution or of the subscription. */
+        protected Throwable failure;
+
+        /** The number of results requested and not yet published. */
+        protected long demand;
+
+        /** If the subscriber is being signalled. */
+        protected boolean isPublishing;
+
+        /** If the subscription was completed or cancelled. */
+        protected boolean isDone;
+
+        protected ResultSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long count) {
+            this.lock.lock();
+            try {
+                if (count <= 0) {
+                    this.failure = new IllegalArgumentException("non-positive subscription request: " + count);
+                } else {
+                    this.demand = (this.demand + count < 0) ? Long.MAX_VALUE : this.demand + count;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            publish();
+        }
+
+        @Override
+        public void cancel() {
+            this.lock.lock();
+            try {
+                this.isDone = true;
+                this.results = null;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        /**
+         * Set the result or failure of the execution and publish it.
+         */
+        protected void complete(Object result, Throwable failure) {
+            this.lock.lock();
+            try {
+                if (failure != null) {
+                    if ((failure instanceof CompletionException) && (failure.getCause() != null)) {
+                        failure = failure.getCause();
+                    }
+                    if (this.failure == null) {
+                        this.failure = failure;
+                    }
+                } else if (result instanceof Collection) {
+                    this.results = ((Collection<?>) result).iterator();
+                } else if (result == null) {
+                    this.results = Collections.emptyIterator();
+                } else {
+                    this.results = List.of(result).iterator();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            publish();
+        }
+
+        /**
+         * Signal the requested results, then the completion or failure, to the subscriber.
+         * Requests made by the subscriber while it is signalled are published by the same loop.
+         */
+        @SuppressWarnings("unchecked")
+        protected void publish() {
+            this.lock.lock();
+            try {
+                if (this.isPublishing || this.isDone) {
+                    return;
+                }
+                this.isPublishing = true;
+            } finally {
+                this.lock.unlock();
+            }
+            while (true) {
+                Object next = null;
+                Throwable error = null;
+                boolean isComplete = false;
+                this.lock.lock();
+                try {
+                    if (this.isDone) {
+                        return;
+                    }
+                    if (this.failure != null) {
+                        error = this.failure;
+                        this.isDone = true;
+                    } else if (this.results != null) {
+                        // Null elements cannot be published.
+                        while ((next == null) && (this.demand > 0) && this.results.hasNext()) {
+                            next = this.results.next();
+                        }
+                        if (next != null) {
+                            this.demand--;
+                        } else if (!this.results.hasNext()) {
+                            isComplete = true;
+                            this.isDone = true;
+                        }
+                    }
+                    if ((next == null) && (error == null) && !isComplete) {
+                        this.isPublishing = false;
+                        return;
+                    }
+                } finally {
+                    this.lock.unlock();
+                }
+                if (error != null) {
+                    this.subscriber.onError(error);
+                    return;
+                } else if (isComplete) {
+                    this.subscriber.onComplete();
+                    return;
+                }
+                this.subscriber.onNext((T) next);
+            }
+        }
+    }
+}
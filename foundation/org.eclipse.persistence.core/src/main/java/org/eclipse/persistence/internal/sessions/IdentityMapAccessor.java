@@ -743,6 +743,7 @@ public void invalidateObject(Object primaryKey, Class<?> theClass, boolean inval
         if (key != null) {
             key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
         }
+        getIdentityMapManager().removeFromOffHeapCache(primaryKey, descriptor);
         if (invalidateCluster) {
             CommandManager rcm = getSession().getCommandManager();
             if (rcm != null) {
@@ -865,6 +866,7 @@ public void invalidateClass(Class<?> myClass, boolean recurseAndInvalidateToPare
             }
         }
         invalidateQueryCache(myClass);
+        getIdentityMapManager().clearOffHeapCache(myClass);
         if (session.getProject().allowExtendedCacheLogging()) {
             session.log(SessionLog.FINEST, SessionLog.CACHE, "cache_class_invalidation", new Object[] {myClass, Thread.currentThread().getId(), Thread.currentThread().getName()});
         }
@@ -879,6 +881,15 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         getIdentityMapManager().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove the results for the class changed by the change set from the query cache.
+     * Queries tracking their dependencies are only invalidated if the changes affect them.
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        getIdentityMapManager().invalidateQueryCache(classThatChanged, changeSet);
+    }
+
     /**
      * ADVANCED:
      * Set all of the objects from all identity maps to be invalid in the cache.
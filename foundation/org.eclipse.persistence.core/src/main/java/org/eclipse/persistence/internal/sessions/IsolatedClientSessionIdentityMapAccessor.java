@@ -263,22 +263,20 @@ protected Object getAndCloneCacheKeyFromParent(Object primaryKey, Object objectT
         // in which GC could remove the object and we would end up with a null pointer
         // as well we must inspect the cacheKey without locking on it.
         if ((cacheKey != null) && (shouldReturnInvalidatedObjects || !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey))) {
-            synchronized (cacheKey) {
-                //if the object in the cachekey is null but the key is acquired then
-                //someone must be rebuilding it or creating a new one.  Sleep until
-                // it's finished. A plain wait here would be more efficient but we may not
-                // get notified for quite some time (ie deadlock) if the other thread
-                //is building the object.  Must wait and not sleep in order for the monitor to be released
-                objectFromCache = cacheKey.getObject();
-                try {
-                    while (cacheKey.isAcquired() && (objectFromCache == null)) {
-                        cacheKey.wait(5);
-                    }
-                } catch (InterruptedException ex) {
-                }
-                if (objectFromCache == null) {
-                    return null;
+            //if the object in the cachekey is null but the key is acquired then
+            //someone must be rebuilding it or creating a new one.  Sleep until
+            // it's finished. A plain wait here would be more efficient but we may not
+            // get notified for quite some time (ie deadlock) if the other thread
+            //is building the object.  Must wait and not sleep in order for the lock to be released
+            objectFromCache = cacheKey.getObject();
+            try {
+                while (cacheKey.isAcquired() && (objectFromCache == null)) {
+                    cacheKey.waitForRelease(5);
                 }
+            } catch (InterruptedException ex) {
+            }
+            if (objectFromCache == null) {
+                return null;
             }
         } else {
             return null;
@@ -539,6 +537,20 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove the results for the class changed by the change set from the query cache.
+     * Queries tracking their dependencies are only invalidated if the changes affect them.
+     */
+    @Override
+    public void invalidateQueryCache(Class<?> classThatChanged, UnitOfWorkChangeSet changeSet) {
+        if (!session.getDescriptor(classThatChanged).getCachePolicy().isSharedIsolation()) {
+            getIdentityMapManager().invalidateQueryCache(classThatChanged, changeSet);
+        } else {
+            ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().invalidateQueryCache(classThatChanged, changeSet);
+        }
+    }
+
     /**
      * PUBLIC:
      * Reset the entire local object cache.
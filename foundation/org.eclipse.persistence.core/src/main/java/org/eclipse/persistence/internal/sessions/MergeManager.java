@@ -21,6 +21,7 @@
 package org.eclipse.persistence.internal.sessions;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -113,6 +114,9 @@ public class MergeManager {
     /** records that this merge process is for a refresh */
     protected boolean isForRefresh;
 
+    /** The change sets of a distributed merge found redundant or stale before locking, so not merged. */
+    protected Set<ObjectChangeSet> skippedChangeSets;
+
     public MergeManager(AbstractSession session) {
         this.session = session;
         this.mergedNewObjects = new IdentityHashMap<>();
@@ -433,12 +437,19 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
             if (this.session.hasEventManager()) {
                 this.session.getEventManager().preDistributedMergeUnitOfWorkChangeSet(uowChangeSet);
             }
+            // PERF: Avoid locking the objects that will not be merged.
+            collectSkippedChangeSets(uowChangeSet);
             // Iterate over each clone and let the object build merge to clones into the originals.
             this.session.getIdentityMapAccessorInstance().getWriteLockManager().acquireRequiredLocks(this, uowChangeSet);
             Iterator<ObjectChangeSet> objectChangeEnum = uowChangeSet.getAllChangeSets().keySet().iterator();
             Set<Class<?>> classesChanged = new HashSet<>();
             while (objectChangeEnum.hasNext()) {
                 ObjectChangeSet objectChangeSet = objectChangeEnum.next();
+                if (isSkippedChangeSet(objectChangeSet)) {
+                    this.session.incrementProfile(SessionProfiler.ChangeSetsNotProcessed);
+                    classesChanged.add(objectChangeSet.getClassType(this.session));
+                    continue;
+                }
                 // Don't read the object here.  If it is null then we won't merge it at this stage, unless it
                 // is being referenced which will force the load later.
                 Object object = objectChangeSet.getTargetVersionOfSourceObject(this, this.session, false);
@@ -463,7 +474,7 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
             }
             // Clear the query cache as well.
             for (Class<?> changedClass : classesChanged) {
-                this.session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                this.session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass, uowChangeSet);
             }
         } catch (RuntimeException exception) {
             this.session.handleException(exception);
@@ -477,6 +488,68 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Find the change sets of a distributed merge that do not need to be merged, without locking:
+     * the objects not in the cache, that would not be merged anyway,
+     * and the objects whose cached version is already the same or newer than the change.
+     * The version is checked again after locking for the other change sets.
+     */
+    protected void collectSkippedChangeSets(UnitOfWorkChangeSet uowChangeSet) {
+        this.skippedChangeSets = null;
+        for (ObjectChangeSet changeSet : uowChangeSet.getAllChangeSets().keySet()) {
+            if (changeSet.isNew() || (changeSet.getId() == null)) {
+                continue;
+            }
+            ClassDescriptor descriptor = changeSet.getDescriptor();
+            if (descriptor == null) {
+                descriptor = this.session.getDescriptor(changeSet.getClassType(this.session));
+                changeSet.setDescriptor(descriptor);
+            }
+            if (descriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWork()) {
+                continue;
+            }
+            AbstractSession targetSession = this.session.getParentIdentityMapSession(descriptor, true, true);
+            CacheKey cacheKey = targetSession.getIdentityMapAccessorInstance().getCacheKeyForObject(changeSet.getId(), descriptor.getJavaClass(), descriptor, false);
+            if (cacheKey == null) {
+                // Not in the cache, nothing to merge or invalidate.
+                skipChangeSet(changeSet);
+                continue;
+            }
+            Object original = cacheKey.getObject();
+            if ((original == null) || (changeSet.getSynchronizationType() == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS)
+                    || !descriptor.usesVersionLocking()
+                    || ((this.session.getCommandManager() != null) && (this.session.getCommandManager().getCommandConverter() != null))) {
+                continue;
+            }
+            int difference = descriptor.getOptimisticLockingPolicy().getVersionDifference(changeSet.getInitialWriteLockValue(), original, changeSet.getId(), targetSession);
+            if (difference < 0) {
+                // The current version is newer than the one on the remote system, was refreshed already, ignore change.
+                this.session.log(SessionLog.FINEST, SessionLog.PROPAGATION, "change_from_remote_server_older_than_current_version", changeSet.getClassName(), changeSet.getId());
+                skipChangeSet(changeSet);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the change set is not merged, nor locked.
+     */
+    protected void skipChangeSet(ObjectChangeSet changeSet) {
+        if (this.skippedChangeSets == null) {
+            this.skippedChangeSets = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+        this.skippedChangeSets.add(changeSet);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the change set was found not to need a merge before locking.
+     */
+    public boolean isSkippedChangeSet(ObjectChangeSet changeSet) {
+        return (this.skippedChangeSets != null) && this.skippedChangeSets.contains(changeSet);
+    }
+
     /**
      * Merge the changes specified within the changeSet into the cache.
      * The object passed in is the original object from the cache.
@@ -218,6 +218,7 @@ protected static abstract class Prop {
             addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_CLOSE_ON_COMMIT, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_PERSIST_ON_COMMIT, "true"));
             addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_COMMIT_WITHOUT_PERSIST_RULES, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_RELEASE_ON_FLUSH, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.VALIDATE_EXISTENCE, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.ORDER_UPDATES, "true"));
             addProp(new CommitOrderProp());
@@ -641,6 +642,7 @@ protected static class CacheTypeProp extends Prop {
                 {CacheType.SoftWeak, pcg + "SoftCacheWeakIdentityMap"},
                 {CacheType.HardWeak, pcg + "HardCacheWeakIdentityMap"},
                 {CacheType.Full, pcg + "FullIdentityMap"},
+                {CacheType.TinyLFU, pcg + "TinyLFUIdentityMap"},
                 {CacheType.NONE, pcg + "NoIdentityMap"}
             };
         }
@@ -670,7 +672,8 @@ protected static class BatchWritingProp extends Prop {
                 BatchWriting.None,
                 BatchWriting.JDBC,
                 BatchWriting.Buffered,
-                BatchWriting.OracleJDBC
+                BatchWriting.OracleJDBC,
+                BatchWriting.Reordering
             };
         }
     }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+
+import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.CursoredStream;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+
+/**
+ * INTERNAL:
+ * Publisher of the results of a read query, executing the query for each subscriber.
+ * <p>
+ * The query is executed on the async query executor, on a session acquired for it if the session supports it,
+ * and the results are submitted to the subscriber as they are read. Read all queries of objects read their results
+ * from a cursor, so the results are built as the subscriber requests them, not before.
+ * The cursor is closed once the results are published, or the subscriber cancelled.
+ *
+ * @see AbstractSession#executeQueryPublisher(DatabaseQuery, List)
+ */
+public class QueryPublisher implements Flow.Publisher<Object> {
+
+    /** The session the query is executed from. */
+    protected final AbstractSession session;
+
+    /** The read query. */
+    protected final DatabaseQuery query;
+
+    /** The arguments of the query, or null. */
+    protected final List argumentValues;
+
+    public QueryPublisher(AbstractSession session, DatabaseQuery query, List argumentValues) {
+        this.session = session;
+        this.query = query;
+        this.argumentValues = argumentValues;
+    }
+
+    /**
+     * Execute the query for the subscriber on the async query executor, never on the subscriber's thread,
+     * as the publishing waits for the demand of the subscriber.
+     * Sessions with a single connection execute the query on their own connection.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super Object> subscriber) {
+        Executor executor = this.session.getAsyncQueryExecutor();
+        SubmissionPublisher<Object> publisher = new SubmissionPublisher<>(executor, Flow.defaultBufferSize());
+        publisher.subscribe(subscriber);
+        try {
+            executor.execute(() -> publish(publisher));
+        } catch (RejectedExecutionException exception) {
+            publisher.closeExceptionally(exception);
+        }
+    }
+
+    /**
+     * Execute the query and submit its results to the publisher, then close it.
+     */
+    protected void publish(SubmissionPublisher<Object> publisher) {
+        AbstractSession executionSession = this.session;
+        Cursor cursor = null;
+        try {
+            if (this.session.isAsyncQuerySupported()) {
+                executionSession = this.session.acquireAsyncQuerySession();
+            }
+            DatabaseQuery queryToExecute = this.query;
+            // The results of report queries can be null, which ends a cursor.
+            if (queryToExecute.isReadAllQuery() && !queryToExecute.isReportQuery()
+                    && !((ReadAllQuery) queryToExecute).getContainerPolicy().isCursorPolicy()) {
+                queryToExecute = (DatabaseQuery) queryToExecute.clone();
+                ((ReadAllQuery) queryToExecute).useCursoredStream();
+                queryToExecute.setIsPrepared(false);
+            }
+            Object result = AbstractSession.executeAsyncQuery(executionSession, queryToExecute, this.argumentValues);
+            if (result instanceof Cursor) {
+                cursor = (Cursor) result;
+                while (!publisher.isClosed() && publisher.hasSubscribers() && cursor.hasNext()) {
+                    publisher.submit(cursor.next());
+                    if ((cursor instanceof CursoredStream) && (((CursoredStream) cursor).available() == 0)) {
+                        ((CursoredStream) cursor).releasePrevious();
+                    }
+                }
+            } else if (result instanceof Collection) {
+                for (Object element : (Collection) result) {
+                    if (publisher.isClosed() || !publisher.hasSubscribers()) {
+                        break;
+                    }
+                    // Null elements cannot be published.
+                    if (element != null) {
+                        publisher.submit(element);
+                    }
+                }
+            } else if (result != null) {
+                publisher.submit(result);
+            }
+            publisher.close();
+        } catch (RuntimeException exception) {
+            publisher.closeExceptionally(exception);
+        } finally {
+            try {
+                if (cursor != null) {
+                    cursor.close();
+                }
+            } finally {
+                if (executionSession != this.session) {
+                    this.session.releaseAsyncQuerySession(executionSession);
+                }
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
 //       - 349424: persists during an preCalculateUnitOfWorkChangeSet event are lost
 package org.eclipse.persistence.internal.sessions;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -31,6 +32,7 @@
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.OptimisticLockException;
 import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.IdentityHashSet;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
@@ -38,6 +40,7 @@
 import org.eclipse.persistence.queries.ObjectBuildingQuery;
 import org.eclipse.persistence.queries.ReadObjectQuery;
 import org.eclipse.persistence.sessions.IdentityMapAccessor;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
 
 
 public class RepeatableWriteUnitOfWork extends UnitOfWorkImpl {
@@ -88,6 +91,25 @@ public class RepeatableWriteUnitOfWork extends UnitOfWorkImpl {
      */
     protected boolean discoverUnregisteredNewObjectsWithoutPersist;
 
+    /**
+     * Release the objects written by each flush, only keeping their identities,
+     * so the unit of work does not grow with the objects written in the transaction.
+     */
+    protected boolean shouldReleaseOnFlush;
+
+    /**
+     * The primary keys of the objects written and released after flush, by root descriptor.
+     * They are used to resolve references to the released objects, which are not persisted again.
+     */
+    protected transient Map<ClassDescriptor, Set<Object>> releasedIdentities;
+
+    /**
+     * The primary keys of the updated and deleted objects released after flush, by root descriptor.
+     * They are read from the database until commit, as the shared cache does not have their changes,
+     * and on commit they are invalidated in the shared cache.
+     */
+    protected transient Map<ClassDescriptor, Set<Object>> identitiesToBeInvalidated;
+
     public RepeatableWriteUnitOfWork() {
     }
 
@@ -113,6 +135,26 @@ public void setDiscoverUnregisteredNewObjectsWithoutPersist(boolean discoverUnre
         this.discoverUnregisteredNewObjectsWithoutPersist = discoverUnregisteredNewObjectsWithoutPersist;
     }
 
+    /**
+     * Return if the objects written by each flush are released.
+     */
+    public boolean shouldReleaseOnFlush() {
+        return shouldReleaseOnFlush;
+    }
+
+    /**
+     * ADVANCED:
+     * Set if the objects written by each flush are released, for batch transactions writing many objects.
+     * After a flush the written objects and their changes are no longer referenced by the unit of work,
+     * only their identities are kept, so they can still be referenced by the objects registered later,
+     * and are read from the database until commit.
+     * Changes made to a released object are not written, unless it is registered again.
+     * On commit the released objects are invalidated in the shared cache instead of merged.
+     */
+    public void setShouldReleaseOnFlush(boolean shouldReleaseOnFlush) {
+        this.shouldReleaseOnFlush = shouldReleaseOnFlush;
+    }
+
     /**
      * INTERNAL:
      * This method will clear all registered objects from this UnitOfWork.
@@ -167,6 +209,8 @@ public void clear(boolean shouldClearCache) {
     public void clearForClose(boolean shouldClearCache){
         this.cumulativeUOWChangeSet = null;
         this.unregisteredDeletedObjectsCloneToBackupAndOriginal = null;
+        this.releasedIdentities = null;
+        this.identitiesToBeInvalidated = null;
         super.clearForClose(shouldClearCache);
     }
 
@@ -210,6 +254,19 @@ public void setCumulativeUOWChangeSet(UnitOfWorkChangeSet cumulativeUOWChangeSet
      */
     @Override
     public boolean shouldForceReadFromDB(ObjectBuildingQuery query, Object primaryKey){
+        if ((this.identitiesToBeInvalidated != null) && (query.getDescriptor() != null)) {
+            // the objects released after flush have changes in the database that are not in the shared cache
+            Set<Object> identities = this.identitiesToBeInvalidated.get(query.getDescriptor().getRootDescriptor());
+            if (identities != null) {
+                Object lookupPrimaryKey = primaryKey;
+                if (lookupPrimaryKey == null && query.isReadObjectQuery()) {
+                    lookupPrimaryKey = ((ReadObjectQuery)query).getSelectionId();
+                }
+                if (lookupPrimaryKey == null || identities.contains(lookupPrimaryKey)) {
+                    return true;
+                }
+            }
+        }
         if (this.wasTransactionBegunPrematurely() && query.getDescriptor() != null){
             // if the saved change set for this UOW contains any changes to the class that is being queried for,
             // we should build from the DB
@@ -325,6 +382,53 @@ public void discoverUnregisteredNewObjects(Map clones, Map newObjects, Map unreg
         }
     }
 
+    /**
+     * INTERNAL:
+     * Discover any new objects referenced from the object and persist them.
+     * The objects released by a previous flush are existing objects, and are only referenced.
+     */
+    @Override
+    public void discoverAndPersistUnregisteredNewObjects(Object object, boolean cascadePersist, Map newObjects, Map unregisteredExistingObjects, Map visitedObjects, Set cascadeErrors) {
+        if ((this.releasedIdentities != null) && (object != null) && !isObjectRegistered(object) && isReleasedObject(object)) {
+            unregisteredExistingObjects.put(object, object);
+            return;
+        }
+        super.discoverAndPersistUnregisteredNewObjects(object, cascadePersist, newObjects, unregisteredExistingObjects, visitedObjects, cascadeErrors);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the object is an existing object (but has not been registered),
+     * the objects released by a previous flush are known to exist.
+     */
+    @Override
+    public boolean checkForUnregisteredExistingObject(Object object) {
+        if (isReleasedObject(object)) {
+            return true;
+        }
+        return super.checkForUnregisteredExistingObject(object);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the object was written and released by a previous flush.
+     */
+    public boolean isReleasedObject(Object object) {
+        if (this.releasedIdentities == null) {
+            return false;
+        }
+        ClassDescriptor descriptor = getDescriptor(object);
+        if (descriptor == null) {
+            return false;
+        }
+        Set<Object> identities = this.releasedIdentities.get(descriptor.getRootDescriptor());
+        if (identities == null) {
+            return false;
+        }
+        Object primaryKey = descriptor.getObjectBuilder().extractPrimaryKeyFromObject(object, this, true);
+        return (primaryKey != null) && identities.contains(primaryKey);
+    }
+
     /**
      * INTERNAL:
      * Has writeChanges() been attempted on this UnitOfWork?  It may have
@@ -390,9 +494,43 @@ protected void mergeChangesIntoParent() {
             }
             this.classesToBeInvalidated = null;
         }
+        if (this.identitiesToBeInvalidated != null) {
+            invalidateReleasedObjects();
+        }
+        this.releasedIdentities = null;
         super.mergeChangesIntoParent();
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate the existing objects released after flush in the shared cache,
+     * and in the cluster if changes are propagated, as their changes were not merged.
+     */
+    protected void invalidateReleasedObjects() {
+        UnitOfWorkChangeSet invalidationChangeSet = null;
+        if (this.parent.shouldPropagateChanges() && (this.parent.getCommandManager() != null)) {
+            invalidationChangeSet = new UnitOfWorkChangeSet(this.parent);
+        }
+        for (Map.Entry<ClassDescriptor, Set<Object>> entry : this.identitiesToBeInvalidated.entrySet()) {
+            ClassDescriptor descriptor = entry.getKey();
+            IdentityMapAccessor accessor = getParentIdentityMapSession(descriptor, false, true).getIdentityMapAccessor();
+            for (Object primaryKey : entry.getValue()) {
+                accessor.invalidateObject(primaryKey, descriptor.getJavaClass(), false);
+                if (invalidationChangeSet != null) {
+                    ObjectChangeSet objectChangeSet = new ObjectChangeSet(primaryKey, descriptor, null, invalidationChangeSet, false);
+                    objectChangeSet.setSynchronizationType(ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+                    invalidationChangeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+                }
+            }
+        }
+        this.identitiesToBeInvalidated = null;
+        if ((invalidationChangeSet != null) && !invalidationChangeSet.getAllChangeSets().isEmpty()) {
+            MergeChangeSetCommand command = new MergeChangeSetCommand();
+            command.setChangeSet(invalidationChangeSet);
+            this.parent.getCommandManager().propagateCommand(command);
+        }
+    }
+
     /**
      * INTERNAL:
      * Merge the attributes of the clone into the unit of work copy.
@@ -479,7 +617,10 @@ public void writeChanges() {
             this.isWithinFlush = false;  // clear the flag in the case that we have changes
         }
 
-        if (this.cumulativeUOWChangeSet == null) {
+        if (this.shouldReleaseOnFlush) {
+            // Drop the written objects and their changes, only keeping their identities.
+            releaseWrittenObjects(changeSet);
+        } else if (this.cumulativeUOWChangeSet == null) {
             this.cumulativeUOWChangeSet = changeSet;
         } else {
             // Merge those changes back into the backup clones and the final uowChangeSet.
@@ -491,6 +632,64 @@ public void writeChanges() {
         log(SessionLog.FINER, SessionLog.TRANSACTION, "resume_unit_of_work");
     }
 
+    /**
+     * INTERNAL:
+     * Unregister the objects written by the flush and drop their changes,
+     * keeping the identities of the objects to resolve references to them,
+     * to read them from the database, and to invalidate the existing ones on commit.
+     */
+    protected void releaseWrittenObjects(UnitOfWorkChangeSet changeSet) {
+        if (this.releasedIdentities == null) {
+            this.releasedIdentities = new HashMap<>();
+        }
+        Map cloneToOriginals = getCloneToOriginals();
+        for (Map<ObjectChangeSet, ObjectChangeSet> objectChanges : changeSet.getObjectChanges().values()) {
+            for (ObjectChangeSet objectChangeSet : objectChanges.values()) {
+                Object clone = objectChangeSet.getUnitOfWorkClone();
+                Object primaryKey = objectChangeSet.getId();
+                if ((clone == null) || (primaryKey == null)) {
+                    continue;
+                }
+                ClassDescriptor descriptor = objectChangeSet.getDescriptor().getRootDescriptor();
+                this.releasedIdentities.computeIfAbsent(descriptor, key -> new HashSet<>()).add(primaryKey);
+                if (!objectChangeSet.isNew()) {
+                    addIdentityToBeInvalidated(descriptor, primaryKey);
+                }
+                unregisterObject(clone, DescriptorIterator.NoCascading, true);
+                cloneToOriginals.remove(clone);
+            }
+        }
+        if (hasObjectsDeletedDuringCommit()) {
+            Map cloneMapping = getCloneMapping();
+            for (Map.Entry<Object, Object> entry : this.objectsDeletedDuringCommit.entrySet()) {
+                Object deletedObject = entry.getKey();
+                ClassDescriptor descriptor = getDescriptor(deletedObject).getRootDescriptor();
+                Set<Object> identities = this.releasedIdentities.get(descriptor);
+                if (identities != null) {
+                    identities.remove(entry.getValue());
+                }
+                addIdentityToBeInvalidated(descriptor, entry.getValue());
+                getIdentityMapAccessorInstance().removeFromIdentityMap(deletedObject);
+                cloneMapping.remove(deletedObject);
+                cloneToOriginals.remove(deletedObject);
+            }
+            this.objectsDeletedDuringCommit = null;
+        }
+        // The objects are released, so there are no changes left to revert on resume.
+        this.unitOfWorkChangeSet = null;
+    }
+
+    /**
+     * INTERNAL:
+     * Add the identity of an existing object released after flush, to invalidate on commit.
+     */
+    protected void addIdentityToBeInvalidated(ClassDescriptor descriptor, Object primaryKey) {
+        if (this.identitiesToBeInvalidated == null) {
+            this.identitiesToBeInvalidated = new HashMap<>();
+        }
+        this.identitiesToBeInvalidated.computeIfAbsent(descriptor, key -> new HashSet<>()).add(primaryKey);
+    }
+
     /**
      * ADVANCED:
      * Register the new object with the unit of work.
@@ -537,6 +736,10 @@ protected void registerNotRegisteredNewObjectForPersist(Object newObject, ClassD
                 return;
             }
         }
+        if (isReleasedObject(newObject)) {
+            // Already written by a previous flush.
+            return;
+        }
         super.registerNotRegisteredNewObjectForPersist(newObject, descriptor);
     }
 
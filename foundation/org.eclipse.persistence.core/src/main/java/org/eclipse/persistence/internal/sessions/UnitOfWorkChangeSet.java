@@ -23,6 +23,7 @@
 import java.util.Set;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.mappings.DatabaseMapping;
@@ -434,6 +435,46 @@ public Map<Class<?>, Map<ObjectChangeSet, ObjectChangeSet>> getObjectChanges() {
         return objectChanges;
     }
 
+    /**
+     * INTERNAL:
+     * Return the database fields updated in the objects of the class,
+     * or null if an object of the class was created or deleted, or a change is not mapped to fields.
+     * This is used to only invalidate the query results that depend on the changed fields.
+     */
+    public Set<DatabaseField> getChangedFields(Class<?> changedClass, AbstractSession session) {
+        if (hasDeletedObjects()) {
+            for (ObjectChangeSet deletedChangeSet : getDeletedObjects().keySet()) {
+                if (deletedChangeSet.getClassType(session) == changedClass) {
+                    return null;
+                }
+            }
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> changeSets = getObjectChanges().get(changedClass);
+        if (changeSets == null) {
+            return null;
+        }
+        ClassDescriptor descriptor = session.getDescriptor(changedClass);
+        Set<DatabaseField> changedFields = new HashSet<>();
+        for (ObjectChangeSet changeSet : changeSets.values()) {
+            // Change sets without changes, such as for cache invalidation, may have changed any field.
+            if (changeSet.isNew() || changeSet.getChanges().isEmpty()) {
+                return null;
+            }
+            for (org.eclipse.persistence.sessions.changesets.ChangeRecord changeRecord : changeSet.getChanges()) {
+                DatabaseMapping mapping = ((ChangeRecord)changeRecord).getMapping();
+                if ((mapping == null) && (descriptor != null)) {
+                    mapping = descriptor.getObjectBuilder().getMappingForAttributeName(changeRecord.getAttribute());
+                }
+                // Collection changes may update other tables, or the target objects.
+                if ((mapping == null) || mapping.isCollectionMapping() || mapping.getFields().isEmpty()) {
+                    return null;
+                }
+                changedFields.addAll(mapping.getFields());
+            }
+        }
+        return changedFields;
+    }
+
     /**
      * INTERNAL:
      * Returns the set of classes corresponding to updated objects in objectChanges.
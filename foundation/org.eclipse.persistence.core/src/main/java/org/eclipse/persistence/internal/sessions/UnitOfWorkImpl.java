@@ -153,6 +153,8 @@ public class UnitOfWorkImpl extends AbstractSession implements org.eclipse.persi
 
     /** Map of all the clones.  The key contains the clone of the object. */
     protected Map<Object, Object> cloneMapping;
+    /** Map of the clones to the snapshots of their direct attribute values, used by FieldSnapshotChangeDetectionPolicy. */
+    protected Map<Object, Object> cloneSnapshots;
     protected Map<Object, Object> newObjectsCloneToOriginal;
     protected Map<Object, Object> newObjectsOriginalToClone;
     /**
@@ -1579,8 +1581,12 @@ protected void commitToDatabaseWithChangeSet(boolean commitTransaction) throws D
                         this.unitOfWorkChangeSet = new UnitOfWorkChangeSet(this);
                     }
                     // PERF: clone is faster than new.
-                    calculateChanges(getCloneMapping(), this.unitOfWorkChangeSet, true, true);
-
+                    startOperationProfile(SessionProfiler.UowCalculateChanges);
+                    try {
+                        calculateChanges(getCloneMapping(), this.unitOfWorkChangeSet, true, true);
+                    } finally {
+                        endOperationProfile(SessionProfiler.UowCalculateChanges);
+                    }
                 } catch (RuntimeException exception){
                     // The number of SQL statements been prepared need be stored into UOW
                     // before any exception being thrown.
@@ -1594,7 +1600,12 @@ protected void commitToDatabaseWithChangeSet(boolean commitTransaction) throws D
             if (hasChanges) {
                 // Also must first set the commit manager active.
                 getCommitManager().setIsActive(true);
-                commitToDatabase(commitTransaction);
+                startOperationProfile(SessionProfiler.UowWriteChanges);
+                try {
+                    commitToDatabase(commitTransaction);
+                } finally {
+                    endOperationProfile(SessionProfiler.UowWriteChanges);
+                }
             } else {
                 try {
                     // CR#... need to commit the transaction if begun early.
@@ -2226,6 +2237,40 @@ public boolean hasCloneMapping() {
         return ((cloneMapping != null) && !cloneMapping.isEmpty());
     }
 
+    /**
+     * INTERNAL:
+     * Return the snapshot of the attribute values of the clone when registered, or null.
+     * @see org.eclipse.persistence.descriptors.changetracking.FieldSnapshotChangeDetectionPolicy
+     */
+    public Object getCloneSnapshot(Object clone) {
+        if (this.cloneSnapshots == null) {
+            return null;
+        }
+        return this.cloneSnapshots.get(clone);
+    }
+
+    /**
+     * INTERNAL:
+     * Set the snapshot of the attribute values of the clone, used instead of a full backup clone.
+     */
+    public void setCloneSnapshot(Object clone, Object snapshot) {
+        // PERF: lazy-init, only used by the field snapshot policy.
+        if (this.cloneSnapshots == null) {
+            this.cloneSnapshots = new IdentityHashMap();
+        }
+        this.cloneSnapshots.put(clone, snapshot);
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the snapshot of the clone, if any.
+     */
+    public void removeCloneSnapshot(Object clone) {
+        if (this.cloneSnapshots != null) {
+            this.cloneSnapshots.remove(clone);
+        }
+    }
+
     /**
      * INTERNAL:
      * Map used to avoid garbage collection in weak caches.
@@ -2751,6 +2796,35 @@ public AbstractSession getParent() {
         return parent;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the parent session executes queries asynchronously.
+     */
+    @Override
+    protected boolean isAsyncQuerySupported() {
+        return this.parent.isAsyncQuerySupported();
+    }
+
+    /**
+     * INTERNAL:
+     * Acquire a unit of work executing an asynchronous query, on a session acquired from the parent,
+     * the results are registered in this unit of work and not in the caller's.
+     */
+    @Override
+    protected AbstractSession acquireAsyncQuerySession() {
+        return this.parent.acquireAsyncQuerySession().acquireUnitOfWork();
+    }
+
+    /**
+     * INTERNAL:
+     * Release the unit of work that executed an asynchronous query, and its parent.
+     */
+    @Override
+    protected void releaseAsyncQuerySession(AbstractSession session) {
+        session.release();
+        this.parent.releaseAsyncQuerySession(session.getParent());
+    }
+
     /**
      * INTERNAL:
      * Search for and return the user defined property from this UOW, if it not found then search for the property
@@ -3404,6 +3478,9 @@ protected void mergeChangesIntoParent() {
                 this.parent.getIdentityMapAccessorInstance().getWriteLockManager().acquireRequiredLocks(getMergeManager(), (UnitOfWorkChangeSet)getUnitOfWorkChangeSet());
             }
             Set<Class<?>> classesChanged = new HashSet<>();
+            // The changes to existing objects in the shared cache can be merged in the background.
+            DeferredMergeQueue deferredMergeQueue = isNestedUnitOfWork ? null : this.parent.getDeferredMergeQueue();
+            List<ObjectChangeSet> deferredChangeSets = null;
             if (! shouldStoreBypassCache()) {
                 for (Map<ObjectChangeSet, ObjectChangeSet> objectChangesList : ((UnitOfWorkChangeSet)getUnitOfWorkChangeSet()).getObjectChanges().values()) {
                     // May be no changes for that class type.
@@ -3415,12 +3492,23 @@ protected void mergeChangesIntoParent() {
                             if ((!isNestedUnitOfWork) && descriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWork() ) {
                                 break;
                             }
-                            manager.mergeChanges(objectToWrite, changeSetToWrite, this.getParentIdentityMapSession(descriptor, false, false));
+                            if ((deferredMergeQueue != null) && !changeSetToWrite.isNew() && descriptor.getCachePolicy().isSharedIsolation()) {
+                                if (deferredChangeSets == null) {
+                                    deferredChangeSets = new ArrayList<>();
+                                }
+                                deferredChangeSets.add(changeSetToWrite);
+                            } else {
+                                manager.mergeChanges(objectToWrite, changeSetToWrite, this.getParentIdentityMapSession(descriptor, false, false));
+                            }
                             classesChanged.add(objectToWrite.getClass());
                         }
                     }
                 }
             }
+            if (deferredChangeSets != null) {
+                // Invalidate the cached objects while the locks are held, so they are not read until merged.
+                deferredMergeQueue.submit(uowChangeSet, deferredChangeSets);
+            }
 
             // Notify the queries to merge into the shared cache
             if (this.modifyAllQueries != null) {
@@ -3451,7 +3539,7 @@ protected void mergeChangesIntoParent() {
                 postMergeChanges(classesChanged);
 
                 for (Class<?> changedClass : classesChanged) {
-                    this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                    this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass, uowChangeSet);
                 }
                 // If change propagation enabled through RemoteCommandManager then go for it
                 if (this.parent.shouldPropagateChanges() && (this.parent.getCommandManager() != null)) {
@@ -5569,6 +5657,7 @@ public void iterate(Object object) {
                     getIdentityMapAccessorInstance().removeFromIdentityMap(primaryKey, object.getClass(), getCurrentDescriptor(), object);
                 }
                 getCloneMapping().remove(object);
+                removeCloneSnapshot(object);
 
                 //remove from deleted objects.
                 if (hasDeletedObjects()) {
@@ -5940,6 +6029,7 @@ public void releaseReadConnection(Accessor connection) {
     public void clear(boolean shouldClearCache) {
         this.cloneToOriginals = null;
         this.cloneMapping = null;
+        this.cloneSnapshots = null;
         this.newObjectsCloneToOriginal = null;
         this.newObjectsOriginalToClone = null;
         this.deletedObjects = null;
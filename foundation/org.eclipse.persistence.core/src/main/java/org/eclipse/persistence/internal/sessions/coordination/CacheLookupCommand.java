@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A Command implementation used to ask the service owning an object
+ * in the partitioned shared cache for the row of the object.
+ * </p><p>
+ * <b>Description</b>: The owning service answers with a CacheLookupResultCommand
+ * sent to the requesting service, the row being null if the object was not found.
+ * </p>
+ * @see PartitionedCache
+ */
+public class CacheLookupCommand extends RCMCommand {
+
+    /** The id of the lookup in the requesting service. */
+    protected long requestId;
+
+    protected String className;
+
+    protected Object primaryKey;
+
+    public CacheLookupCommand(long requestId, String className, Object primaryKey) {
+        this.requestId = requestId;
+        this.className = className;
+        this.primaryKey = primaryKey;
+    }
+
+    public long getRequestId() {
+        return requestId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public Object getPrimaryKey() {
+        return primaryKey;
+    }
+
+    /**
+     * INTERNAL:
+     * Read the object and send its row back to the requesting service,
+     * also if the shared cache of this service is not partitioned.
+     */
+    @Override
+    public void executeWithRCM(RemoteCommandManager rcm) {
+        PartitionedCache partitionedCache = rcm.getPartitionedCache();
+        if (partitionedCache == null) {
+            partitionedCache = new PartitionedCache(rcm, 0);
+        }
+        partitionedCache.serveLookup(this);
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        // Internal RCM commands do not implement this method
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A Command implementation used to return the row of an object
+ * in the partitioned shared cache to the service that asked for it.
+ * </p>
+ * @see CacheLookupCommand
+ * @see PartitionedCache
+ */
+public class CacheLookupResultCommand extends RCMCommand {
+
+    /** The id of the lookup in the requesting service. */
+    protected long requestId;
+
+    /** The row of the object, null if not found. */
+    protected AbstractRecord row;
+
+    public CacheLookupResultCommand(long requestId, AbstractRecord row) {
+        this.requestId = requestId;
+        this.row = row;
+    }
+
+    public long getRequestId() {
+        return requestId;
+    }
+
+    public AbstractRecord getRow() {
+        return row;
+    }
+
+    /**
+     * INTERNAL:
+     * Complete the lookup waiting for the row.
+     */
+    @Override
+    public void executeWithRCM(RemoteCommandManager rcm) {
+        PartitionedCache partitionedCache = rcm.getPartitionedCache();
+        if (partitionedCache != null) {
+            partitionedCache.lookupCompleted(this.requestId, this.row);
+        }
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        // Internal RCM commands do not implement this method
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.List;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A command sending several commands in a single message.
+ * </p><p>
+ * <b>Description</b>: Built by the CommandCoalescer when a batch of propagated
+ * commands cannot be coalesced into one command. The commands are processed in order
+ * by the receiving RemoteCommandManager, as if each had been received on its own.
+ * </p>
+ * @see CommandCoalescer
+ */
+public class CommandBatch extends RCMCommand {
+
+    /** The commands of the batch, in propagation order. */
+    protected List<Command> commands;
+
+    public CommandBatch(List<Command> commands) {
+        super();
+        this.commands = commands;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the commands of the batch.
+     */
+    public List<Command> getCommands() {
+        return commands;
+    }
+
+    /**
+     * INTERNAL:
+     * Process each command of the batch.
+     */
+    @Override
+    public void executeWithRCM(RemoteCommandManager rcm) {
+        for (Command command : this.commands) {
+            rcm.processCommandFromRemoteConnection(command);
+        }
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        // Internal RCM commands do not implement this method
+    }
+}
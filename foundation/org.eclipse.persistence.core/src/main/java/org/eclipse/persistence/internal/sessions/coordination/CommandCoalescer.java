@@ -0,0 +1,566 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.ChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Coalesce the commands propagated asynchronously into batches.
+ * </p>
+ * <p>
+ * <b>Description</b>: Instead of sending each command in its own message from its own thread,
+ * the commands are queued and sent by a single worker once the coalescing delay has passed
+ * since the first queued command, or the maximum number of commands is queued.
+ * The change sets of the merge commands of a batch are combined into one change set,
+ * the changes to the same object being combined, and the batch is sent as one message per connection.
+ * Changes to the same object that cannot be combined, such as collection changes or a version gap,
+ * are sent as an invalidation of the object.
+ * <p>
+ * The number of queued commands is bounded, a thread propagating a command waits
+ * while the queue is full.
+ * </p>
+ * @see RemoteCommandManager#setCommandCoalescingDelay(long)
+ */
+public class CommandCoalescer {
+
+    /** Reference to manager to get connections, etc. */
+    protected final RemoteCommandManager rcm;
+
+    /** The executor running the worker, by default the server platform. */
+    protected Executor executor;
+
+    /** The time in milliseconds a command can wait for other commands to be sent with. */
+    protected long delay;
+
+    /** The number of commands sending a batch without waiting for the delay. */
+    protected int maxBatchSize;
+
+    /** The number of queued commands blocking the propagating threads. */
+    protected int maxPendingCommands;
+
+    /** The commands not yet sent, in propagation order. */
+    protected final Deque<Command> pendingCommands;
+
+    /** The time the oldest pending command was queued. */
+    protected long firstPendingTime;
+
+    /** If the worker is running. */
+    protected boolean isSending;
+
+    /** If the pending commands should be sent without waiting for the delay. */
+    protected boolean isFlushing;
+
+    /** Lock guarding the queue and the statistics. */
+    protected final ReentrantLock lock;
+
+    /** Signaled when the queue or the state of the worker changes. */
+    protected final Condition changed;
+
+    /** Statistics. */
+    protected long submittedCommands;
+    protected long sentMessages;
+    protected long coalescedChangeSets;
+    protected long backpressureWaits;
+    protected int peakPendingCommands;
+
+    public CommandCoalescer(RemoteCommandManager rcm, long delay, int maxBatchSize, int maxPendingCommands) {
+        this.rcm = rcm;
+        this.executor = runnable -> rcm.getServerPlatform().launchContainerRunnable(runnable);
+        this.delay = delay;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxPendingCommands = Math.max(this.maxBatchSize, maxPendingCommands);
+        this.pendingCommands = new ArrayDeque<>();
+        this.lock = new ReentrantLock();
+        this.changed = this.lock.newCondition();
+    }
+
+    /**
+     * Return the executor running the worker.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Set the executor running the worker.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Return the time in milliseconds a command can wait for other commands to be sent with.
+     */
+    public long getDelay() {
+        return delay;
+    }
+
+    /**
+     * Return the number of commands sending a batch without waiting for the delay.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Return the number of queued commands blocking the propagating threads.
+     */
+    public int getMaxPendingCommands() {
+        return maxPendingCommands;
+    }
+
+    /**
+     * Queue the command to be sent with the next batch,
+     * waiting if the queue is full.
+     */
+    public void submit(Command command) {
+        this.lock.lock();
+        try {
+            if (this.pendingCommands.size() >= this.maxPendingCommands) {
+                this.backpressureWaits++;
+                this.rcm.getCommandProcessor().incrementProfile(SessionProfiler.RcmBackpressureWaits);
+                try {
+                    while (this.isSending && (this.pendingCommands.size() >= this.maxPendingCommands)) {
+                        this.changed.await();
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (this.pendingCommands.isEmpty()) {
+                this.firstPendingTime = System.nanoTime();
+            }
+            this.pendingCommands.add(command);
+            this.submittedCommands++;
+            this.peakPendingCommands = Math.max(this.peakPendingCommands, this.pendingCommands.size());
+            if (this.pendingCommands.size() >= this.maxBatchSize) {
+                this.changed.signalAll();
+            }
+            if (this.isSending) {
+                return;
+            }
+            this.isSending = true;
+        } finally {
+            this.lock.unlock();
+        }
+        try {
+            this.executor.execute(this::sendAll);
+        } catch (RuntimeException exception) {
+            // Could not start the worker, so send from the propagating thread.
+            this.rcm.logWarning("failed_command_propagation", new Object[] {this.rcm.getServiceId(), exception});
+            sendAll();
+        }
+    }
+
+    /**
+     * Send the pending commands without waiting for the delay,
+     * and wait until they are sent.
+     */
+    public void flush() {
+        this.lock.lock();
+        try {
+            this.isFlushing = true;
+            this.changed.signalAll();
+            while (this.isSending) {
+                this.changed.await();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.isFlushing = false;
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Send batches until no command is pending.
+     */
+    protected void sendAll() {
+        while (true) {
+            List<Command> batch = nextBatch();
+            if (batch == null) {
+                return;
+            }
+            try {
+                send(batch);
+            } catch (RuntimeException exception) {
+                // The worker must keep sending, the exception was handled by the command processor.
+                this.rcm.logWarning("failed_command_propagation", new Object[] {this.rcm.getServiceId(), exception});
+            }
+        }
+    }
+
+    /**
+     * Wait for the delay of the oldest pending command, or the batch to be full,
+     * and return the next batch, or null if no command is pending.
+     */
+    protected List<Command> nextBatch() {
+        this.lock.lock();
+        try {
+            try {
+                while (!this.pendingCommands.isEmpty() && !this.isFlushing && (this.pendingCommands.size() < this.maxBatchSize)) {
+                    long remaining = TimeUnit.MILLISECONDS.toNanos(this.delay) - (System.nanoTime() - this.firstPendingTime);
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    this.changed.awaitNanos(remaining);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            if (this.pendingCommands.isEmpty()) {
+                this.isSending = false;
+                this.changed.signalAll();
+                return null;
+            }
+            int size = Math.min(this.pendingCommands.size(), this.maxBatchSize);
+            List<Command> batch = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                batch.add(this.pendingCommands.pollFirst());
+            }
+            this.firstPendingTime = System.nanoTime();
+            // Release the propagating threads waiting on a full queue.
+            this.changed.signalAll();
+            return batch;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Coalesce the batch and send it as a single message to each connection.
+     */
+    protected void send(List<Command> batch) {
+        List<Command> commands = coalesce(batch);
+        Command command;
+        if (commands.size() == 1) {
+            command = commands.get(0);
+        } else {
+            command = new CommandBatch(commands);
+            command.setServiceId(this.rcm.getServiceId());
+        }
+        this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordination);
+        try {
+            byte[] commandBytes = this.rcm.serializeCommand(command);
+            new CommandPropagator(this.rcm, command, commandBytes).synchronousPropagateCommand();
+            this.lock.lock();
+            try {
+                this.sentMessages++;
+            } finally {
+                this.lock.unlock();
+            }
+            this.rcm.getCommandProcessor().incrementProfile(SessionProfiler.RcmSent);
+        } finally {
+            this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordination);
+        }
+    }
+
+    /**
+     * Combine the consecutive merge commands of the batch into one command.
+     * Other commands are kept, in order.
+     */
+    protected List<Command> coalesce(List<Command> batch) {
+        List<Command> commands = new ArrayList<>();
+        List<UnitOfWorkChangeSet> changeSets = new ArrayList<>();
+        for (Command command : batch) {
+            UnitOfWorkChangeSet changeSet = null;
+            if (command instanceof MergeChangeSetCommand) {
+                changeSet = ((MergeChangeSetCommand)command).getChangeSet(null);
+            }
+            if (changeSet != null) {
+                if (changeSets.isEmpty()) {
+                    commands.add(command);
+                } else if (changeSets.size() == 1) {
+                    // Replace the first command of the run with the combined command.
+                    commands.set(commands.size() - 1, new MergeChangeSetCommand());
+                }
+                changeSets.add(changeSet);
+            } else {
+                completeRun(commands, changeSets);
+                commands.add(command);
+            }
+        }
+        completeRun(commands, changeSets);
+        return commands;
+    }
+
+    /**
+     * Combine the change sets of the run of merge commands into its last command.
+     */
+    protected void completeRun(List<Command> commands, List<UnitOfWorkChangeSet> changeSets) {
+        if (changeSets.size() > 1) {
+            MergeChangeSetCommand command = (MergeChangeSetCommand)commands.get(commands.size() - 1);
+            command.setChangeSet(combine(changeSets));
+            command.setServiceId(this.rcm.getServiceId());
+        }
+        changeSets.clear();
+    }
+
+    /**
+     * Return a change set combining the changes of the change sets, in order.
+     * The change sets are not modified.
+     */
+    protected UnitOfWorkChangeSet combine(List<UnitOfWorkChangeSet> changeSets) {
+        UnitOfWorkChangeSet combinedChangeSet = new UnitOfWorkChangeSet();
+        Map<Class<?>, Map<Object, ObjectChangeSet>> changes = new HashMap<>();
+        Map<Class<?>, Map<Object, ObjectChangeSet>> deletions = new HashMap<>();
+        List<ObjectChangeSet> unidentifiedChanges = new ArrayList<>();
+        long coalesced = 0;
+        for (UnitOfWorkChangeSet changeSet : changeSets) {
+            for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+                if (objectChangeSet.getId() == null) {
+                    unidentifiedChanges.add(objectChangeSet);
+                    continue;
+                }
+                Class<?> classType = objectChangeSet.getClassType();
+                Object id = objectChangeSet.getId();
+                Map<Object, ObjectChangeSet> classDeletions = deletions.get(classType);
+                Map<Object, ObjectChangeSet> classChanges = changes.computeIfAbsent(classType, type -> new LinkedHashMap<>());
+                ObjectChangeSet previous = classChanges.get(id);
+                if ((classDeletions != null) && (classDeletions.remove(id) != null)) {
+                    // Deleted then inserted again.
+                    classChanges.put(id, buildInvalidation(objectChangeSet, combinedChangeSet));
+                    coalesced++;
+                } else if (previous != null) {
+                    classChanges.put(id, combine(previous, objectChangeSet, combinedChangeSet));
+                    coalesced++;
+                } else {
+                    classChanges.put(id, objectChangeSet);
+                }
+            }
+            for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+                Class<?> classType = objectChangeSet.getClassType();
+                Map<Object, ObjectChangeSet> classChanges = changes.get(classType);
+                if ((classChanges != null) && (classChanges.remove(objectChangeSet.getId()) != null)) {
+                    coalesced++;
+                }
+                deletions.computeIfAbsent(classType, type -> new LinkedHashMap<>()).put(objectChangeSet.getId(), objectChangeSet);
+            }
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = combinedChangeSet.getAllChangeSets();
+        for (Map<Object, ObjectChangeSet> classChanges : changes.values()) {
+            for (ObjectChangeSet objectChangeSet : classChanges.values()) {
+                allChangeSets.put(objectChangeSet, objectChangeSet);
+            }
+        }
+        for (ObjectChangeSet objectChangeSet : unidentifiedChanges) {
+            allChangeSets.put(objectChangeSet, objectChangeSet);
+        }
+        for (Map<Object, ObjectChangeSet> classDeletions : deletions.values()) {
+            for (ObjectChangeSet objectChangeSet : classDeletions.values()) {
+                combinedChangeSet.getDeletedObjects().put(objectChangeSet, objectChangeSet);
+            }
+        }
+        if (coalesced > 0) {
+            long total;
+            this.lock.lock();
+            try {
+                this.coalescedChangeSets += coalesced;
+                total = this.coalescedChangeSets;
+            } finally {
+                this.lock.unlock();
+            }
+            this.rcm.getCommandProcessor().updateProfile(SessionProfiler.RcmChangeSetsCoalesced, total);
+        }
+        return combinedChangeSet;
+    }
+
+    /**
+     * Return a change set with the changes of both change sets of the same object,
+     * or invalidating the object if the changes cannot be combined.
+     */
+    protected ObjectChangeSet combine(ObjectChangeSet changeSet, ObjectChangeSet nextChangeSet, UnitOfWorkChangeSet combinedChangeSet) {
+        if (!canCombine(changeSet) || !canCombine(nextChangeSet)
+                || (changeSet.getSynchronizationType() != nextChangeSet.getSynchronizationType())) {
+            return buildInvalidation(nextChangeSet, combinedChangeSet);
+        }
+        ClassDescriptor descriptor = nextChangeSet.getDescriptor();
+        if (descriptor.usesVersionLocking()) {
+            // The next changes must have been made on the version of the previous changes.
+            Object version = changeSet.getWriteLockValue();
+            if (version == null) {
+                version = changeSet.getInitialWriteLockValue();
+            }
+            if ((version == null) || (nextChangeSet.getInitialWriteLockValue() == null)
+                    || (descriptor.getOptimisticLockingPolicy().compareWriteLockValues(version, nextChangeSet.getInitialWriteLockValue()) != 0)) {
+                return buildInvalidation(nextChangeSet, combinedChangeSet);
+            }
+        }
+        ObjectChangeSet combined = new ObjectChangeSet(changeSet.getId(), descriptor, null, combinedChangeSet, changeSet.isNew());
+        combined.setSynchronizationType(nextChangeSet.getSynchronizationType());
+        Object writeLockValue = (nextChangeSet.getWriteLockValue() != null) ? nextChangeSet.getWriteLockValue() : changeSet.getWriteLockValue();
+        if (writeLockValue != null) {
+            combined.setWriteLockValue(writeLockValue);
+        }
+        combined.setHasVersionChange(changeSet.hasVersionChange() || nextChangeSet.hasVersionChange());
+        combined.setInitialWriteLockValue(changeSet.getInitialWriteLockValue());
+        combined.setShouldModifyVersionField(nextChangeSet.shouldModifyVersionField());
+        Map<String, ChangeRecord> records = new LinkedHashMap<>();
+        for (Object record : changeSet.getChanges()) {
+            records.put(((ChangeRecord)record).getAttribute(), (ChangeRecord)record);
+        }
+        for (Object record : nextChangeSet.getChanges()) {
+            records.put(((ChangeRecord)record).getAttribute(), (ChangeRecord)record);
+        }
+        for (ChangeRecord record : records.values()) {
+            combined.addChange(copyRecord(record, combined));
+        }
+        return combined;
+    }
+
+    /**
+     * Return if the changes of the change set can be combined with other changes of the object.
+     * Only the changes replacing the value of an attribute can.
+     */
+    protected boolean canCombine(ObjectChangeSet changeSet) {
+        int synchronizationType = changeSet.getSynchronizationType();
+        if (((synchronizationType != ClassDescriptor.SEND_OBJECT_CHANGES) && (synchronizationType != ClassDescriptor.SEND_NEW_OBJECTS_WITH_CHANGES))
+                || changeSet.isInvalid() || changeSet.shouldBeDeleted() || changeSet.isAggregate()
+                || (changeSet.getDescriptor() == null) || changeSet.hasKeys() || changeSet.hasProtectedForeignKeys()) {
+            return false;
+        }
+        for (Object record : changeSet.getChanges()) {
+            Class<?> recordClass = record.getClass();
+            if ((recordClass != DirectToFieldChangeRecord.class) && (recordClass != ObjectReferenceChangeRecord.class)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return a copy of the record owned by the combined change set.
+     */
+    protected ChangeRecord copyRecord(ChangeRecord record, ObjectChangeSet owner) {
+        ChangeRecord copy;
+        if (record instanceof DirectToFieldChangeRecord) {
+            DirectToFieldChangeRecord directRecord = new DirectToFieldChangeRecord(owner);
+            directRecord.setNewValue(((DirectToFieldChangeRecord)record).getNewValue());
+            directRecord.setOldValue(((DirectToFieldChangeRecord)record).getOldValue());
+            copy = directRecord;
+        } else {
+            ObjectReferenceChangeRecord referenceRecord = new ObjectReferenceChangeRecord(owner);
+            referenceRecord.setNewValue((ObjectChangeSet)((ObjectReferenceChangeRecord)record).getNewValue());
+            referenceRecord.setOldValue(((ObjectReferenceChangeRecord)record).getOldValue());
+            copy = referenceRecord;
+        }
+        copy.setAttribute(record.getAttribute());
+        copy.setMapping(record.getMapping());
+        return copy;
+    }
+
+    /**
+     * Return a change set invalidating the object of the change set.
+     */
+    protected ObjectChangeSet buildInvalidation(ObjectChangeSet changeSet, UnitOfWorkChangeSet combinedChangeSet) {
+        ObjectChangeSet invalidation = new ObjectChangeSet(changeSet.getId(), changeSet.getDescriptor(), null, combinedChangeSet, false);
+        invalidation.setSynchronizationType(ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+        return invalidation;
+    }
+
+    /**
+     * Return the number of commands queued since creation.
+     */
+    public long getSubmittedCommands() {
+        this.lock.lock();
+        try {
+            return submittedCommands;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of messages sent since creation, each sent to every connection.
+     */
+    public long getSentMessages() {
+        this.lock.lock();
+        try {
+            return sentMessages;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of change sets combined with another change set of the same object.
+     */
+    public long getCoalescedChangeSets() {
+        this.lock.lock();
+        try {
+            return coalescedChangeSets;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of times a propagating thread waited on a full queue.
+     */
+    public long getBackpressureWaits() {
+        this.lock.lock();
+        try {
+            return backpressureWaits;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of commands currently queued.
+     */
+    public int getPendingCommands() {
+        this.lock.lock();
+        try {
+            return pendingCommands.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the highest number of commands queued at once.
+     */
+    public int getPeakPendingCommands() {
+        this.lock.lock();
+        try {
+            return peakPendingCommands;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.Hashtable;
+
+/**
+ * INTERNAL:
+ * The connections of a transport manager to the external services, by service id,
+ * counting the connections added and removed so their users can tell the connections changed
+ * without comparing them.
+ * Only the changes made by put, putAll, remove and clear are counted.
+ *
+ * @see org.eclipse.persistence.sessions.coordination.TransportManager#getConnectionsToExternalServices()
+ */
+public class ConnectionsTable extends Hashtable<String, RemoteConnection> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The number of changes of the connections. */
+    protected transient volatile long version;
+
+    public ConnectionsTable(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * Return the number of changes of the connections, it changes when a connection is added or removed.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public synchronized RemoteConnection put(String serviceId, RemoteConnection connection) {
+        RemoteConnection previous = super.put(serviceId, connection);
+        if (previous == null) {
+            this.version++;
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized RemoteConnection remove(Object serviceId) {
+        RemoteConnection previous = super.remove(serviceId);
+        if (previous != null) {
+            this.version++;
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized boolean remove(Object serviceId, Object connection) {
+        boolean removed = super.remove(serviceId, connection);
+        if (removed) {
+            this.version++;
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized void clear() {
+        super.clear();
+        this.version++;
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.CommunicationException;
+import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.broadcast.BroadcastTransportManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Partition the shared cache of the coordinated classes across the services of the cluster.
+ * </p>
+ * <p>
+ * <b>Description</b>: Each object is owned by one of the connected services, chosen by consistent hashing
+ * of its class and primary key, so a service joining or leaving the cluster only moves the objects
+ * of its neighbours on the hash ring. A read by primary key that misses the local shared cache asks
+ * the owning service for the row of the object instead of selecting it. The owning service returns
+ * the row from its own shared cache, reading the object from the database on a miss, so the database
+ * is only accessed by the owner and the object is kept in the owner's cache for the following lookups.
+ * The local shared cache acts as a near cache of the objects owned by the other services,
+ * and can be sized smaller as the owners keep their partition.
+ * </p>
+ * <p>
+ * The lookup waits for the owner's row up to the timeout, the object is selected from the database
+ * if the owner does not answer in time, does not have the object, or cannot be reached.
+ * The objects stay coherent through the cache synchronization of the classes, only classes
+ * with a cache synchronization type are partitioned.
+ * </p>
+ * @see RemoteCommandManager#setPartitionedCacheTimeout(long)
+ */
+public class PartitionedCache {
+
+    /** Number of positions of each service on the hash ring, to balance the partitions. */
+    public static final int VIRTUAL_NODES = 64;
+
+    /** Property of the query reading the object for another service, so it is not looked up again. */
+    public static final String LOOKUP = "eclipselink.partitioned-cache.lookup";
+
+    /** Reference to manager to get connections, etc. */
+    protected final RemoteCommandManager rcm;
+
+    /** The time in milliseconds a lookup waits for the owning service. */
+    protected final long timeout;
+
+    /** The lookups waiting for the row of the owning service, by request id. */
+    protected final Map<Long, CompletableFuture<AbstractRecord>> pendingLookups;
+
+    protected final AtomicLong nextRequestId;
+
+    /** The hash ring of the services, rebuilt when the connected services change. */
+    protected volatile Ring ring;
+
+    public PartitionedCache(RemoteCommandManager rcm, long timeout) {
+        this.rcm = rcm;
+        this.timeout = timeout;
+        this.pendingLookups = new ConcurrentHashMap<>();
+        this.nextRequestId = new AtomicLong();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the shared cache of the descriptor is partitioned.
+     * The classes of a hierarchy and non shared classes are not, as for the off-heap cache.
+     */
+    public boolean isPartitioned(ClassDescriptor descriptor) {
+        return (descriptor.getCacheSynchronizationType() != ClassDescriptor.DO_NOT_SEND_CHANGES)
+            && descriptor.getCachePolicy().isSharedIsolation() && !descriptor.hasInheritance()
+            && !descriptor.isAggregateDescriptor() && !descriptor.hasSerializedObjectPolicy()
+            && !(this.rcm.getTransportManager() instanceof BroadcastTransportManager);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the id of the service owning the object with the primary key.
+     */
+    public String getOwner(Object primaryKey, ClassDescriptor descriptor) {
+        Ring ring = getRing();
+        return ring.getOwner(hash(descriptor.getJavaClassName().hashCode() * 31 + primaryKey.hashCode()));
+    }
+
+    /**
+     * INTERNAL:
+     * Return the hash ring of this service and the connected services.
+     * The ring is only rebuilt when a connection was added or removed since it was built.
+     */
+    protected Ring getRing() {
+        Map<String, RemoteConnection> connections = this.rcm.getTransportManager().getConnectionsToExternalServices();
+        String serviceId = this.rcm.getServiceId().getId();
+        Ring ring = this.ring;
+        if (connections instanceof ConnectionsTable) {
+            // Read the version before the services, a change in between rebuilds the ring on the next read.
+            long version = ((ConnectionsTable) connections).getVersion();
+            if ((ring != null) && (ring.connections == connections) && (ring.version == version) && ring.serviceId.equals(serviceId)) {
+                return ring;
+            }
+            ring = new Ring(buildServices(connections, serviceId), connections, version, serviceId);
+            this.ring = ring;
+            return ring;
+        }
+        Set<String> services = buildServices(connections, serviceId);
+        if ((ring == null) || !ring.services.equals(services)) {
+            ring = new Ring(services, connections, 0, serviceId);
+            this.ring = ring;
+        }
+        return ring;
+    }
+
+    /**
+     * Return the ids of this service and the connected services.
+     */
+    protected Set<String> buildServices(Map<String, RemoteConnection> connections, String serviceId) {
+        Set<String> services = new TreeSet<>(connections.keySet());
+        services.add(serviceId);
+        return services;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the row of the object with the primary key from the service owning it,
+     * or null if owned by this service or not found by the owner in time.
+     */
+    public AbstractRecord getRow(Object primaryKey, ClassDescriptor descriptor, DatabaseQuery query, AbstractSession session) {
+        if (this.rcm.isStopped() || (query.getProperty(LOOKUP) != null)) {
+            return null;
+        }
+        String owner = getOwner(primaryKey, descriptor);
+        if (owner.equals(this.rcm.getServiceId().getId())) {
+            return null;
+        }
+        RemoteConnection connection = this.rcm.getTransportManager().getConnectionsToExternalServices().get(owner);
+        if (connection == null) {
+            return null;
+        }
+        Long requestId = this.nextRequestId.incrementAndGet();
+        CompletableFuture<AbstractRecord> lookup = new CompletableFuture<>();
+        this.pendingLookups.put(requestId, lookup);
+        AbstractRecord row = null;
+        try {
+            Command command = new CacheLookupCommand(requestId, descriptor.getJavaClassName(), primaryKey);
+            if (send(command, connection)) {
+                row = lookup.get(this.timeout, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException exception) {
+            Object[] args = { descriptor.getJavaClassName(), primaryKey, owner };
+            this.rcm.logDebug("partitioned_cache_lookup_timeout", args);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (Exception exception) {
+            // The object is read from the database.
+            Object[] args = { descriptor.getJavaClassName(), primaryKey, owner, exception };
+            this.rcm.logWarning("partitioned_cache_lookup_failed", args);
+        } finally {
+            this.pendingLookups.remove(requestId);
+        }
+        if (row == null) {
+            session.incrementProfile(SessionProfiler.PartitionedCacheMisses, query);
+        } else {
+            session.incrementProfile(SessionProfiler.PartitionedCacheHits, query);
+        }
+        return row;
+    }
+
+    /**
+     * INTERNAL:
+     * Complete the lookup waiting for the row of the owning service.
+     */
+    public void lookupCompleted(long requestId, AbstractRecord row) {
+        CompletableFuture<AbstractRecord> lookup = this.pendingLookups.get(requestId);
+        if (lookup != null) {
+            lookup.complete(row);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Read the row of the object requested by another service, and send it back.
+     * The object is read by a container thread, so the transport is not blocked by the database.
+     */
+    public void serveLookup(CacheLookupCommand command) {
+        this.rcm.getServerPlatform().launchContainerRunnable(() -> {
+            AbstractRecord row = null;
+            try {
+                row = buildRow(command.getClassName(), command.getPrimaryKey());
+            } catch (RuntimeException exception) {
+                Object[] args = { command.getClassName(), command.getPrimaryKey(), command.getServiceId(), exception };
+                this.rcm.logWarning("partitioned_cache_lookup_failed", args);
+            }
+            RemoteConnection connection = getConnection(command.getServiceId().getId(), command.getServiceId().getURL());
+            if (connection != null) {
+                try {
+                    send(new CacheLookupResultCommand(command.getRequestId(), row), connection);
+                } catch (CommunicationException exception) {
+                    // The requesting service reads the object from the database on timeout.
+                }
+            }
+        });
+    }
+
+    /**
+     * INTERNAL:
+     * Return the row of the object read from the shared cache, or the database on a miss.
+     * The row of a class storing its version in the cache includes the version.
+     */
+    protected AbstractRecord buildRow(String className, Object primaryKey) {
+        AbstractSession session = (AbstractSession)this.rcm.getCommandProcessor();
+        Class<?> theClass = session.getDatasourcePlatform().getConversionManager().convertClassNameToClass(className);
+        ClassDescriptor descriptor = session.getDescriptor(theClass);
+        if ((descriptor == null) || !isPartitioned(descriptor)) {
+            return null;
+        }
+        ReadObjectQuery query = new ReadObjectQuery(theClass);
+        query.setSelectionId(primaryKey);
+        query.setProperty(LOOKUP, Boolean.TRUE);
+        Object object = session.executeQuery(query);
+        if (object == null) {
+            return null;
+        }
+        AbstractRecord row = descriptor.getObjectBuilder().buildRow(object, session, WriteType.UNDEFINED);
+        OptimisticLockingPolicy lockingPolicy = descriptor.getOptimisticLockingPolicy();
+        if ((lockingPolicy != null) && lockingPolicy.isStoredInCache()) {
+            row.put(lockingPolicy.getWriteLockField(), lockingPolicy.getWriteLockValue(object, primaryKey, session));
+        }
+        return row;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connection to the service, found by its URL if not yet registered under its id.
+     */
+    protected RemoteConnection getConnection(String serviceId, String url) {
+        Map<String, RemoteConnection> connections = this.rcm.getTransportManager().getConnectionsToExternalServices();
+        RemoteConnection connection = connections.get(serviceId);
+        if ((connection == null) && (url != null)) {
+            for (RemoteConnection candidate : connections.values()) {
+                if ((candidate.getServiceId() != null) && url.equals(candidate.getServiceId().getURL())) {
+                    return candidate;
+                }
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Send the command to the connection only, return false if the remote execution failed.
+     */
+    protected boolean send(Command command, RemoteConnection connection) {
+        command.setServiceId(this.rcm.getServiceId());
+        byte[] commandBytes = this.rcm.serializeCommand(command);
+        Object result;
+        if (commandBytes != null) {
+            result = connection.executeCommand(commandBytes);
+        } else {
+            result = connection.executeCommand(command);
+        }
+        return result == null;
+    }
+
+    /**
+     * INTERNAL:
+     * Cancel the pending lookups, the waiting reads select their objects from the database.
+     */
+    public void shutdown() {
+        for (CompletableFuture<AbstractRecord> lookup : this.pendingLookups.values()) {
+            lookup.complete(null);
+        }
+    }
+
+    /**
+     * Spread the bits of the hash code, as consecutive codes would fall on the same partition.
+     */
+    protected static int hash(int code) {
+        code ^= code >>> 16;
+        code *= 0x85ebca6b;
+        code ^= code >>> 13;
+        code *= 0xc2b2ae35;
+        code ^= code >>> 16;
+        return code;
+    }
+
+    /**
+     * The positions of the services on the hash ring.
+     * The owner of a hash is the first service at or after it on the ring.
+     */
+    protected static class Ring {
+        protected final Set<String> services;
+        protected final TreeMap<Integer, String> positions;
+        /** The connections, their version and the id of this service the ring was built from. */
+        protected final Map<String, RemoteConnection> connections;
+        protected final long version;
+        protected final String serviceId;
+
+        protected Ring(Set<String> services, Map<String, RemoteConnection> connections, long version, String serviceId) {
+            this.services = services;
+            this.connections = connections;
+            this.version = version;
+            this.serviceId = serviceId;
+            this.positions = new TreeMap<>();
+            for (String service : services) {
+                for (int index = 0; index < VIRTUAL_NODES; index++) {
+                    this.positions.put(hash(service.hashCode() * 31 + index), service);
+                }
+            }
+        }
+
+        protected String getOwner(int hash) {
+            Map.Entry<Integer, String> position = this.positions.ceilingEntry(hash);
+            if (position == null) {
+                position = this.positions.firstEntry();
+            }
+            return position.getValue();
+        }
+    }
+}
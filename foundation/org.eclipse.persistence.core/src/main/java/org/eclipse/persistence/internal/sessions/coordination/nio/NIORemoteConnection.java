@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination.nio;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.exceptions.CommunicationException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Define an NIO implementation class for the remote object that
+ * can execute a remote command.
+ * </p><p>
+ * <b>Description</b>: This implementation class is the NIO transport version of
+ * the connection that is used by the remote command manager to send remote
+ * commands. Each command is written to a non-blocking socket channel as a frame
+ * made of the length of the serialized command followed by its bytes.
+ * Sends are pipelined: the frame is queued and written by the selector thread,
+ * the caller does not wait for the remote service to process the command,
+ * so the result of execution is always null.
+ * The caller only waits if the frames queued on the connection exceed the
+ * maximum queue size, until the selector thread has written them.
+ * </p>
+ * @see NIOSelector
+ */
+public class NIORemoteConnection extends RemoteConnection {
+
+    /** The command manager of the sending service. */
+    protected transient RemoteCommandManager rcm;
+
+    /** The selector writing the frames of the connection. */
+    protected transient NIOSelector selector;
+
+    /** The address of the receiving service. */
+    protected transient InetSocketAddress address;
+
+    /** The connected channel, non-blocking once registered with the selector. */
+    protected transient SocketChannel channel;
+
+    /** The key of the channel in the selector. */
+    protected transient SelectionKey key;
+
+    /** The frames waiting to be written, guarded by the lock. */
+    protected transient ArrayDeque<ByteBuffer> frames;
+
+    /** The number of bytes waiting to be written, guarded by the lock. */
+    protected transient long queuedBytes;
+
+    /** The number of bytes that can be queued before the callers wait. */
+    protected transient long maxQueuedBytes;
+
+    /** The error that closed the connection, if any. */
+    protected transient Exception error;
+
+    protected transient boolean isClosed;
+
+    /** Lock guarding the queued frames and the state of the connection. */
+    protected transient ReentrantLock lock;
+
+    /** Signaled when queued frames are written, or the connection is closed. */
+    protected transient Condition written;
+
+    public NIORemoteConnection(RemoteCommandManager rcm, NIOSelector selector, InetSocketAddress address, SocketChannel channel, long maxQueuedBytes) {
+        this.rcm = rcm;
+        this.selector = selector;
+        this.address = address;
+        this.channel = channel;
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.frames = new ArrayDeque<>();
+        this.lock = new ReentrantLock();
+        this.written = this.lock.newCondition();
+    }
+
+    /**
+     * INTERNAL:
+     * Serialize the command and send it to the remote service.
+     */
+    @Override
+    public Object executeCommand(Command command) throws CommunicationException {
+        Serializer serializer = this.rcm.getSerializer();
+        if (serializer == null) {
+            serializer = JavaSerializer.instance;
+        }
+        return executeCommand((byte[])serializer.serialize(command, (AbstractSession)this.rcm.getCommandProcessor()));
+    }
+
+    /**
+     * INTERNAL:
+     * Queue the frame of the command to be written by the selector thread.
+     * The remote service processes the frames in the order they were queued.
+     *
+     * If the connection was closed by an I/O error then the exception will be
+     * wrapped in a CommunicationException and thrown.
+     */
+    @Override
+    public Object executeCommand(byte[] command) throws CommunicationException {
+        ByteBuffer frame = ByteBuffer.allocate(command.length + 4);
+        frame.putInt(command.length);
+        frame.put(command);
+        frame.flip();
+        boolean shouldRequestWrite;
+        this.lock.lock();
+        try {
+            // The selector thread must never wait for itself.
+            if (!this.selector.isSelectorThread()) {
+                try {
+                    while (!this.isClosed && (this.queuedBytes > 0) && (this.queuedBytes + frame.remaining() > this.maxQueuedBytes)) {
+                        this.written.await();
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw CommunicationException.errorInInvocation(exception);
+                }
+            }
+            if (this.isClosed) {
+                throw CommunicationException.errorInInvocation((this.error == null) ? new ClosedChannelException() : this.error);
+            }
+            shouldRequestWrite = this.frames.isEmpty();
+            this.frames.add(frame);
+            this.queuedBytes += frame.remaining();
+        } finally {
+            this.lock.unlock();
+        }
+        if (shouldRequestWrite) {
+            this.selector.requestWrite(this);
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the queued frames until the channel cannot accept more bytes.
+     * Return true if all the frames were written.
+     * Called by the selector thread only.
+     */
+    protected boolean writeFrames() throws IOException {
+        ByteBuffer[] buffers;
+        this.lock.lock();
+        try {
+            if (this.frames.isEmpty()) {
+                return true;
+            }
+            buffers = this.frames.toArray(new ByteBuffer[this.frames.size()]);
+        } finally {
+            this.lock.unlock();
+        }
+        // Write as many queued frames as possible in a single gathering write.
+        long writtenBytes = this.channel.write(buffers);
+        this.lock.lock();
+        try {
+            while (!this.frames.isEmpty() && !this.frames.peek().hasRemaining()) {
+                this.frames.poll();
+            }
+            this.queuedBytes -= writtenBytes;
+            this.written.signalAll();
+            return this.frames.isEmpty();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the address of the receiving service.
+     */
+    public InetSocketAddress getAddress() {
+        return address;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the channel of the connection.
+     */
+    public SocketChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of bytes waiting to be written.
+     */
+    public long getQueuedBytes() {
+        this.lock.lock();
+        try {
+            return queuedBytes;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the connection has been closed.
+     */
+    public boolean isClosed() {
+        this.lock.lock();
+        try {
+            return isClosed;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Close the connection on an I/O error, the following commands fail with the error.
+     */
+    protected void closeOnError(Exception exception) {
+        this.lock.lock();
+        try {
+            this.error = exception;
+        } finally {
+            this.lock.unlock();
+        }
+        close();
+    }
+
+    /**
+     * INTERNAL:
+     * Close the channel, the frames not yet written are discarded.
+     */
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            if (this.isClosed) {
+                return;
+            }
+            this.isClosed = true;
+            this.frames.clear();
+            this.queuedBytes = 0;
+            this.written.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        if (this.key != null) {
+            this.key.cancel();
+        }
+        try {
+            this.channel.close();
+        } catch (IOException exception) {
+            // Ignore, the connection is discarded.
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NIORemoteConnection[" + this.serviceId + ", " + this.address + "]";
+    }
+}
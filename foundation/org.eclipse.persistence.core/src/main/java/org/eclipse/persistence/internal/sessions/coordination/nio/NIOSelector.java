@@ -0,0 +1,545 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination.nio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Run the non-blocking socket channels of the NIO transport.
+ * </p><p>
+ * <b>Description</b>: A single thread accepts the connections from the remote services,
+ * reads the frames they send and writes the frames queued on the connections to them.
+ * The frames received on a channel are deserialized and processed on the executor,
+ * by one task at a time per channel, so the commands of a channel are processed in the order
+ * they were sent, and a slow command does not delay the I/O of the other channels.
+ * A channel stops being read while too many of its frames wait to be processed.
+ * The channels are registered and their interest changed by tasks queued
+ * to the selector thread, as a selector cannot be safely changed from other threads.
+ * </p>
+ * @see NIORemoteConnection
+ */
+public class NIOSelector implements Runnable {
+
+    /** The size of the buffer initially allocated to read the frames of a channel. */
+    public static final int DEFAULT_READ_BUFFER_SIZE = 8192;
+
+    /** The number of frames of a channel waiting to be processed that stops the reading of the channel. */
+    public static final int DEFAULT_MAX_PENDING_FRAMES = 1024;
+
+    protected RemoteCommandManager rcm;
+
+    protected Selector selector;
+
+    /** The channel accepting the connections from the remote services. */
+    protected ServerSocketChannel serverChannel;
+
+    /** The tasks to be run by the selector thread. */
+    protected ConcurrentLinkedQueue<Runnable> tasks;
+
+    /** The frames larger than this size are rejected and their channel closed. */
+    protected int maxFrameSize;
+
+    /** The executor processing the received commands, by default the server platform. */
+    protected Executor executor;
+
+    /** The number of frames of a channel waiting to be processed that stops the reading of the channel. */
+    protected int maxPendingFrames;
+
+    /** Lock guarding the start and stop of the selector thread. */
+    protected final ReentrantLock stateLock = new ReentrantLock();
+
+    protected volatile Thread thread;
+
+    protected volatile boolean isStarted;
+
+    protected volatile boolean isStopped;
+
+    public NIOSelector(RemoteCommandManager rcm, int maxFrameSize) throws IOException {
+        this.rcm = rcm;
+        this.maxFrameSize = maxFrameSize;
+        this.executor = runnable -> rcm.getServerPlatform().launchContainerRunnable(runnable);
+        this.maxPendingFrames = DEFAULT_MAX_PENDING_FRAMES;
+        this.tasks = new ConcurrentLinkedQueue<>();
+        this.selector = Selector.open();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the executor processing the received commands.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the executor processing the received commands.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of frames of a channel waiting to be processed that stops the reading of the channel.
+     */
+    public int getMaxPendingFrames() {
+        return maxPendingFrames;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the number of frames of a channel waiting to be processed that stops the reading of the channel.
+     */
+    public void setMaxPendingFrames(int maxPendingFrames) {
+        this.maxPendingFrames = Math.max(1, maxPendingFrames);
+    }
+
+    /**
+     * INTERNAL:
+     * Bind the channel accepting the connections from the remote services,
+     * and return the address it listens on.
+     */
+    public InetSocketAddress listen(InetSocketAddress address) throws IOException {
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        try {
+            channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            channel.bind(address);
+            channel.configureBlocking(false);
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+        this.serverChannel = channel;
+        execute(() -> {
+            try {
+                channel.register(this.selector, SelectionKey.OP_ACCEPT);
+            } catch (IOException exception) {
+                this.rcm.handleException(RemoteCommandManagerException.errorBindingConnection(address.toString(), exception));
+            }
+        });
+        return (InetSocketAddress)channel.getLocalAddress();
+    }
+
+    /**
+     * INTERNAL:
+     * Open a connection to the remote service at the address.
+     * The connection is established synchronously, then registered with the selector.
+     */
+    public NIORemoteConnection connect(InetSocketAddress address, int timeout, long maxQueuedBytes) throws IOException {
+        if (this.isStopped) {
+            throw new ClosedSelectorException();
+        }
+        SocketChannel channel = SocketChannel.open();
+        try {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.socket().connect(address, timeout);
+            channel.configureBlocking(false);
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+        NIORemoteConnection connection = new NIORemoteConnection(this.rcm, this, address, channel, maxQueuedBytes);
+        execute(() -> {
+            try {
+                // The remote service never writes to this channel, it is only read to detect it was closed.
+                connection.key = channel.register(this.selector, SelectionKey.OP_READ, connection);
+            } catch (IOException exception) {
+                connection.closeOnError(exception);
+            }
+        });
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the frames queued on the connection from the selector thread.
+     */
+    public void requestWrite(NIORemoteConnection connection) {
+        execute(() -> write(connection));
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the current thread is the selector thread.
+     */
+    public boolean isSelectorThread() {
+        return Thread.currentThread() == this.thread;
+    }
+
+    /**
+     * INTERNAL:
+     * Queue the task to the selector thread, starting it if required.
+     */
+    protected void execute(Runnable task) {
+        this.tasks.add(task);
+        start();
+        this.selector.wakeup();
+    }
+
+    /**
+     * INTERNAL:
+     * Launch the selector thread, if not already launched.
+     */
+    public void start() {
+        this.stateLock.lock();
+        try {
+            if (this.isStarted || this.isStopped) {
+                return;
+            }
+            this.isStarted = true;
+        } finally {
+            this.stateLock.unlock();
+        }
+        this.rcm.getServerPlatform().launchContainerRunnable(this);
+    }
+
+    /**
+     * INTERNAL:
+     * Stop the selector thread, it closes all the channels.
+     */
+    public void stop() {
+        boolean isRunning;
+        this.stateLock.lock();
+        try {
+            this.isStopped = true;
+            isRunning = this.isStarted;
+        } finally {
+            this.stateLock.unlock();
+        }
+        if (isRunning) {
+            this.selector.wakeup();
+        } else {
+            close();
+        }
+    }
+
+    public boolean isStopped() {
+        return isStopped;
+    }
+
+    /**
+     * INTERNAL:
+     * Select the ready channels until stopped.
+     */
+    @Override
+    public void run() {
+        this.thread = Thread.currentThread();
+        try {
+            while (!this.isStopped) {
+                this.selector.select();
+                Runnable task = this.tasks.poll();
+                while (task != null) {
+                    task.run();
+                    task = this.tasks.poll();
+                }
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid()) {
+                        process(key);
+                    }
+                }
+            }
+        } catch (Exception exception) {
+            if (!this.isStopped) {
+                this.rcm.logWarning("nio_selector_stopped_on_error", new Object[] {this.rcm.getServiceId(), exception});
+            }
+        } finally {
+            this.thread = null;
+            close();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Accept, read or write the channel of the key.
+     */
+    protected void process(SelectionKey key) {
+        Object attachment = key.attachment();
+        try {
+            if (key.isAcceptable()) {
+                accept();
+            } else if (attachment instanceof FrameReader) {
+                if (key.isReadable()) {
+                    ((FrameReader)attachment).read();
+                }
+            } else {
+                NIORemoteConnection connection = (NIORemoteConnection)attachment;
+                if (key.isReadable()) {
+                    ByteBuffer buffer = ByteBuffer.allocate(1);
+                    if (connection.getChannel().read(buffer) < 0) {
+                        throw new EOFException();
+                    }
+                }
+                if (key.isValid() && key.isWritable() && connection.writeFrames()) {
+                    key.interestOps(SelectionKey.OP_READ);
+                }
+            }
+        } catch (IOException exception) {
+            if (attachment instanceof NIORemoteConnection) {
+                this.rcm.logWarning("drop_connection_on_error", new Object[] {attachment, exception});
+                ((NIORemoteConnection)attachment).closeOnError(exception);
+            } else {
+                key.cancel();
+                closeChannel(key.channel());
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Accept the pending connections from the remote services.
+     */
+    protected void accept() throws IOException {
+        SocketChannel channel = this.serverChannel.accept();
+        while (channel != null) {
+            channel.configureBlocking(false);
+            FrameReader reader = new FrameReader(channel);
+            reader.key = channel.register(this.selector, SelectionKey.OP_READ, reader);
+            channel = this.serverChannel.accept();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write the frames queued on the connection, and wait for the channel
+     * to be writable if they could not all be written.
+     */
+    protected void write(NIORemoteConnection connection) {
+        SelectionKey key = connection.key;
+        if ((key == null) || !key.isValid()) {
+            return;
+        }
+        try {
+            if (!connection.writeFrames()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        } catch (IOException exception) {
+            this.rcm.logWarning("drop_connection_on_error", new Object[] {connection, exception});
+            connection.closeOnError(exception);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Deserialize and process the command received in a frame.
+     * Called on the executor, by one task at a time per channel.
+     */
+    protected void processFrame(byte[] bytes, String messageId, SocketChannel channel) {
+        Object object;
+        try {
+            Serializer serializer = this.rcm.getSerializer();
+            if (serializer == null) {
+                serializer = JavaSerializer.instance;
+            }
+            object = serializer.deserialize(bytes, (AbstractSession)this.rcm.getCommandProcessor());
+        } catch (Exception exception) {
+            try {
+                this.rcm.handleException(RemoteCommandManagerException.errorDeserializeRemoteCommand(String.valueOf(channel), messageId, exception));
+            } catch (RuntimeException ignore) {
+                // The method is called by the executor - no one could catch this exception.
+            }
+            return;
+        }
+        Command command = (Command)object;
+        try {
+            this.rcm.processCommandFromRemoteConnection(command);
+        } catch (RuntimeException exception) {
+            try {
+                this.rcm.handleException(RemoteCommandManagerException.errorProcessingRemoteCommand(String.valueOf(channel), messageId, String.valueOf(command.getServiceId()), Helper.getShortClassName(command), exception));
+            } catch (RuntimeException ignore) {
+                // The method is called by the executor - no one could catch this exception.
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Close the selector and all its channels.
+     */
+    protected void close() {
+        try {
+            for (SelectionKey key : this.selector.keys()) {
+                if (key.attachment() instanceof NIORemoteConnection) {
+                    ((NIORemoteConnection)key.attachment()).close();
+                } else {
+                    closeChannel(key.channel());
+                }
+            }
+            this.selector.close();
+        } catch (IOException exception) {
+            // Ignore, the transport is shutdown.
+        }
+        if (this.serverChannel != null) {
+            closeChannel(this.serverChannel);
+        }
+    }
+
+    protected void closeChannel(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            // Ignore, the channel is discarded.
+        }
+    }
+
+    /**
+     * Reads the length prefixed frames of a channel accepted from a remote service.
+     */
+    protected class FrameReader {
+        protected SocketChannel channel;
+        protected SelectionKey key;
+        protected ByteBuffer buffer;
+
+        /** The frames read and not yet processed, in the order they were sent. */
+        protected final ConcurrentLinkedQueue<byte[]> pendingFrames;
+        protected final AtomicInteger pendingFrameCount;
+
+        /** If a task of the executor is processing the pending frames. */
+        protected final AtomicBoolean isProcessing;
+
+        /** If the channel is not read until the pending frames are processed, only accessed by the selector thread. */
+        protected boolean isReadSuspended;
+
+        /** The number of frames processed, only accessed by the processing task. */
+        protected long frameCount;
+
+        protected FrameReader(SocketChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(DEFAULT_READ_BUFFER_SIZE);
+            this.pendingFrames = new ConcurrentLinkedQueue<>();
+            this.pendingFrameCount = new AtomicInteger();
+            this.isProcessing = new AtomicBoolean();
+        }
+
+        /**
+         * Queue the frame to be processed on the executor,
+         * and stop reading the channel if too many frames are pending.
+         */
+        protected void queue(byte[] bytes) {
+            this.pendingFrames.add(bytes);
+            if ((this.pendingFrameCount.incrementAndGet() >= maxPendingFrames) && this.key.isValid()) {
+                this.isReadSuspended = true;
+                this.key.interestOps(0);
+            }
+            if (this.isProcessing.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::processFrames);
+                } catch (RuntimeException exception) {
+                    // Could not start the task, so process from the selector thread.
+                    rcm.logWarning("nio_command_processing_not_started", new Object[] {rcm.getServiceId(), exception});
+                    processFrames();
+                }
+            }
+        }
+
+        /**
+         * Process the pending frames in order, until none is left.
+         */
+        protected void processFrames() {
+            while (true) {
+                byte[] bytes = this.pendingFrames.poll();
+                while (bytes != null) {
+                    int pending = this.pendingFrameCount.decrementAndGet();
+                    if (!isStopped) {
+                        this.frameCount++;
+                        processFrame(bytes, String.valueOf(this.frameCount), this.channel);
+                    }
+                    if (pending == maxPendingFrames / 2) {
+                        execute(this::resumeRead);
+                    }
+                    bytes = this.pendingFrames.poll();
+                }
+                this.isProcessing.set(false);
+                // A frame queued after the last poll would have found the flag still set.
+                if (this.pendingFrames.isEmpty() || !this.isProcessing.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Read the channel again once enough pending frames are processed.
+         * Called by the selector thread only.
+         */
+        protected void resumeRead() {
+            if (this.isReadSuspended && this.key.isValid() && (this.pendingFrameCount.get() < maxPendingFrames)) {
+                this.isReadSuspended = false;
+                this.key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        /**
+         * Read the available bytes and process the frames they complete.
+         */
+        protected void read() throws IOException {
+            if (this.channel.read(this.buffer) < 0) {
+                throw new EOFException();
+            }
+            this.buffer.flip();
+            while (this.buffer.remaining() >= 4) {
+                int length = this.buffer.getInt(this.buffer.position());
+                if ((length < 0) || (length > maxFrameSize)) {
+                    throw new IOException("Invalid frame size: " + length);
+                }
+                if (this.buffer.remaining() < length + 4) {
+                    break;
+                }
+                this.buffer.getInt();
+                byte[] bytes = new byte[length];
+                this.buffer.get(bytes);
+                queue(bytes);
+            }
+            if ((this.buffer.remaining() >= 4) && (this.buffer.getInt(this.buffer.position()) + 4 > this.buffer.capacity())) {
+                // Grow the buffer to hold the whole frame.
+                ByteBuffer newBuffer = ByteBuffer.allocate(this.buffer.getInt(this.buffer.position()) + 4);
+                newBuffer.put(this.buffer);
+                this.buffer = newBuffer;
+            } else if (!this.buffer.hasRemaining() && (this.buffer.capacity() > DEFAULT_READ_BUFFER_SIZE)) {
+                // Release the buffer grown for a large frame.
+                this.buffer = ByteBuffer.allocate(DEFAULT_READ_BUFFER_SIZE);
+            } else {
+                this.buffer.compact();
+            }
+        }
+    }
+}
@@ -389,6 +389,18 @@ public ChangeRecord compareForChange(Object clone, Object backUp, ObjectChangeSe
         return null;
     }
 
+    /**
+     * INTERNAL:
+     * Compare the attribute value of the clone to its old value, and return a change record if they differ.
+     * Used to compare against a snapshot of the attribute values instead of a backup clone.
+     */
+    public ChangeRecord compareValueForChange(Object value, Object oldValue, ObjectChangeSet owner, AbstractSession session) {
+        if (compareObjectValues(oldValue, value, session)) {
+            return null;
+        }
+        return internalBuildChangeRecord(value, oldValue, owner);
+    }
+
     /**
      * INTERNAL:
      * For mappings used as MapKeys in MappedKeyContainerPolicy, Delete the passed object if necessary.
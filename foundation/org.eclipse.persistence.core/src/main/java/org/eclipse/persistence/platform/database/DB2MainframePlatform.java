@@ -88,4 +88,13 @@ public String getTableCreationSuffix() {
         }
         return super.getTableCreationSuffix();
     }
+
+    /**
+     * INTERNAL:
+     * DB2 for z/OS does not support multiple rows of VALUES.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 0;
+    }
 }
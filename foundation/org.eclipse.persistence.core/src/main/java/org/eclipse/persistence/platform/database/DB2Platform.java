@@ -1867,4 +1867,12 @@ public void printSQLSelectStatement(DatabaseCall call, ExpressionSQLPrinter prin
         call.setIgnoreMaxResultsSetting(true);
     }
 
+    /**
+     * INTERNAL:
+     * DB2 limits the statements to 32767 parameter markers.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 32767;
+    }
 }
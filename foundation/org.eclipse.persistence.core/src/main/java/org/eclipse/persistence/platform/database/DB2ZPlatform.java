@@ -1180,4 +1180,13 @@ public Object getParameterValueFromDatabaseCall(CallableStatement statement, Str
         //Didn't work, fall back. This most likely still won't work, but the driver exception from there will be helpful.
         return super.getParameterValueFromDatabaseCall(statement, name, session);
     }
+
+    /**
+     * INTERNAL:
+     * DB2 for z/OS does not support multiple rows of VALUES.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 0;
+    }
 }
@@ -1019,4 +1019,12 @@ public int appendParameterInternal(Call call, Writer writer, Object parameter) {
         return super.appendParameterInternal(call, writer, parameter);
     }
 
+    /**
+     * INTERNAL:
+     * Derby compiles the statements to byte code, the statements are kept to 1000 parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 1000;
+    }
 }
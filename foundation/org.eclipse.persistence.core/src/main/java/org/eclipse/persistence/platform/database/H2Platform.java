@@ -280,4 +280,13 @@ public boolean isH2() {
     public String getProcedureCallHeader() {
         return "CALL ";
     }
+
+    /**
+     * INTERNAL:
+     * H2 has no limit of parameters, the statements are kept to 32767 parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 32767;
+    }
 }
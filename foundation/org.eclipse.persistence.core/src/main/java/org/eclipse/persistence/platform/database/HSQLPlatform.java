@@ -380,4 +380,13 @@ public Writer buildSequenceObjectCreationWriter(Writer writer, String fullSeqNam
         }
         return writer;
     }
+
+    /**
+     * INTERNAL:
+     * HSQL has no limit of parameters, the statements are kept to 32767 parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 32767;
+    }
 }
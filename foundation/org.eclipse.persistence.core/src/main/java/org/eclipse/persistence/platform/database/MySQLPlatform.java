@@ -972,4 +972,13 @@ public ValueReadQuery getUUIDQuery() {
         }
         return uuidQuery;
     }
+
+    /**
+     * INTERNAL:
+     * MySQL limits the prepared statements to 65535 parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 65535;
+    }
 }
@@ -794,4 +794,13 @@ public void setParameterValueInDatabaseCall(Object parameter,
             super.setParameterValueInDatabaseCall(parameter, statement, name, session);
         }
     }
+
+    /**
+     * INTERNAL:
+     * The PostgreSQL protocol limits the statements to 32767 parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 32767;
+    }
 }
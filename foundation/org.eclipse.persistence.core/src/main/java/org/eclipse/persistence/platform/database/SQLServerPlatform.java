@@ -1075,4 +1075,21 @@ public void setParameterValueInDatabaseCall(
         super.setParameterValueInDatabaseCall(parameter, statement, name, session);
     }
 
+    /**
+     * INTERNAL:
+     * SQL Server limits the statements to 2100 parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        return 2000;
+    }
+
+    /**
+     * INTERNAL:
+     * SQL Server limits the VALUES of an insert to 1000 rows.
+     */
+    @Override
+    public int getMaxMultiRowInsertRows() {
+        return 1000;
+    }
 }
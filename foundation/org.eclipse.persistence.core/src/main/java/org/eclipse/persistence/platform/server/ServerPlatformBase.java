@@ -38,6 +38,7 @@
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.helper.JPAClassLoaderHolder;
+import org.eclipse.persistence.internal.helper.VirtualThreads;
 import org.eclipse.persistence.internal.localization.ToStringLocalization;
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.security.PrivilegedNewInstanceFromClass;
@@ -145,6 +146,11 @@ public abstract class ServerPlatformBase implements ServerPlatform {
      */
     protected volatile ExecutorService threadPool;
 
+    /**
+     * Run the asynchronous processing on a new virtual thread for each task, if supported by the JDK.
+     */
+    protected boolean shouldUseVirtualThreads;
+
     /**
      * INTERNAL: Default Constructor: Initialize so that runtime services and
      * JTA are enabled. Set the DatabaseSession that I will be helping.
@@ -524,16 +530,38 @@ public void setThreadPoolSize(int threadPoolSize) {
      * INTERNAL: Return the thread pool, initializing if required.
      */
     public ExecutorService getThreadPool() {
-        if ((threadPool == null) && (this.threadPoolSize > 0)) {
+        if ((threadPool == null) && ((this.threadPoolSize > 0) || this.shouldUseVirtualThreads)) {
             synchronized (this) {
                 if (threadPool == null) {
-                    threadPool = Executors.newFixedThreadPool(getThreadPoolSize());
+                    if (this.shouldUseVirtualThreads) {
+                        threadPool = VirtualThreads.newThreadPerTaskExecutor("EclipseLink-");
+                    }
+                    if ((threadPool == null) && (this.threadPoolSize > 0)) {
+                        threadPool = Executors.newFixedThreadPool(getThreadPoolSize());
+                    }
                 }
             }
         }
         return threadPool;
     }
 
+    /**
+     * INTERNAL: Return if the asynchronous processing runs on a new virtual thread for each task.
+     */
+    public boolean shouldUseVirtualThreads() {
+        return shouldUseVirtualThreads;
+    }
+
+    /**
+     * INTERNAL: Set if the asynchronous processing, such as cache coordination propagation
+     * and cursor filling, runs on a new virtual thread for each task instead of the thread pool.
+     * This is ignored if the JDK does not support virtual threads.
+     * It must be set before the thread pool is used.
+     */
+    public void setShouldUseVirtualThreads(boolean shouldUseVirtualThreads) {
+        this.shouldUseVirtualThreads = shouldUseVirtualThreads;
+    }
+
     /**
      * INTERNAL: Set the thread pool to use.
      */
@@ -24,6 +24,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.DatabaseRecord;
 
 /**
  * <p><b>Purpose</b>:
@@ -67,6 +68,9 @@ public abstract class Cursor implements Enumeration, Iterator, java.io.Serializa
     /** Store the next row, for 1-m joining. */
     protected AbstractRecord nextRow;
 
+    /** The row reused for all the rows of the result set, if the query only builds results from its values. */
+    protected transient AbstractRecord rowBuffer;
+
     /** Current position in the objectCollection of the stream. */
     protected int position;
 
@@ -91,6 +95,9 @@ protected Cursor(DatabaseCall call, CursorPolicy policy) {
         this.resultSet = call.getResult();
         this.policy = policy;
         this.objectCollection = new Vector();
+        if (query.isReportQuery() && ((ReportQuery)query).canReuseRowBuffer()) {
+            this.rowBuffer = buildRowBuffer();
+        }
 
         if (query.getSession().isUnitOfWork() && query.isObjectLevelReadQuery()) {
             // Call register on the cursor itself.  This will set up
@@ -313,6 +320,43 @@ protected Object buildAndRegisterObject(AbstractRecord row) {
         return query.buildObject(row);
     }
 
+    /**
+     * INTERNAL:
+     * Return the row to reuse for all the rows of the result set.
+     */
+    protected AbstractRecord buildRowBuffer() {
+        int size = this.fields.size();
+        Vector<Object> values = NonSynchronizedVector.newInstance(size);
+        for (int index = 0; index < size; index++) {
+            values.add(null);
+        }
+        return new DatabaseRecord(this.fields, values);
+    }
+
+    /**
+     * INTERNAL:
+     * Advance the result set and return the next row, or null if at end.
+     * The row buffer is returned if used, populated with the values of the next row.
+     */
+    protected AbstractRecord retrieveNextRow() throws DatabaseException {
+        if (this.rowBuffer != null) {
+            return getAccessor().cursorRetrieveNextRow(this.rowBuffer, this.resultSet, this.executionSession);
+        }
+        return getAccessor().cursorRetrieveNextRow(this.fields, this.resultSet, this.executionSession);
+    }
+
+    /**
+     * INTERNAL:
+     * Move the result set back and return the previous row, or null if at start.
+     * The row buffer is returned if used, populated with the values of the previous row.
+     */
+    protected AbstractRecord retrievePreviousRow() throws DatabaseException {
+        if (this.rowBuffer != null) {
+            return getAccessor().cursorRetrievePreviousRow(this.rowBuffer, this.resultSet, this.executionSession);
+        }
+        return getAccessor().cursorRetrievePreviousRow(this.fields, this.resultSet, this.executionSession);
+    }
+
     /**
      * INTERNAL:
      * Read the next row from the result set.
@@ -2034,7 +2034,10 @@ protected void prepare() throws QueryException {
     protected boolean prepareFromCachedQuery() {
         // PERF: Check if the equivalent expression query has already been prepared.
         // Only allow queries with default properties to be cached.
-        boolean isCacheable = isExpressionQuery() && (!getQueryMechanism().isJPQLCallQueryMechanism()) && isDefaultPropertiesQuery() && (!getSession().isHistoricalSession());
+        // Queries tracking the dependencies of their cached results must be prepared to register them.
+        boolean isCacheable = isExpressionQuery() && (!getQueryMechanism().isJPQLCallQueryMechanism()) && isDefaultPropertiesQuery()
+            && (!getSession().isHistoricalSession())
+            && (!(shouldCacheQueryResults() && getQueryResultsCachePolicy().shouldTrackDependencies()));
         DatabaseQuery cachedQuery = null;
         if (isCacheable) {
             cachedQuery = this.descriptor.getQueryManager().getCachedExpressionQuery(this);
@@ -20,6 +20,7 @@
 
 import org.eclipse.persistence.descriptors.invalidation.*;
 import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 
 /**
@@ -47,6 +48,10 @@ public class QueryResultsCachePolicy implements Serializable, Cloneable {
     protected boolean invalidateOnChange;
     /** Stores the set of classes that should trigger the query cached results to be invalidated. */
     protected Set<Class<?>> invalidationClasses;
+    /** Allows the query cache to only be invalidated by changes to the fields the query depends on. */
+    protected boolean trackDependencies;
+    /** Stores the fields the query results depend on, null if unknown. */
+    protected Set<DatabaseField> dependencyFields;
 
     /**
      * PUBLIC:
@@ -79,6 +84,7 @@ public QueryResultsCachePolicy clone() {
         try {
             QueryResultsCachePolicy clone = (QueryResultsCachePolicy)super.clone();
             clone.invalidationClasses = new HashSet<>();
+            clone.dependencyFields = null;
             return clone;
         } catch (CloneNotSupportedException exception) {
             throw new InternalError(exception.toString());
@@ -102,6 +108,46 @@ public void setInvalidationClasses(Set<Class<?>> invalidationClasses) {
         this.invalidationClasses = invalidationClasses;
     }
 
+    /**
+     * ADVANCED:
+     * Return the fields the query results depend on, or null if unknown.
+     * This is computed when the query is prepared if dependencies are tracked.
+     */
+    public Set<DatabaseField> getDependencyFields() {
+        return dependencyFields;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the fields the query results depend on.
+     * This is normally computed by the query from the fields used in its selection criteria and ordering.
+     */
+    public void setDependencyFields(Set<DatabaseField> dependencyFields) {
+        this.dependencyFields = dependencyFields;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the query results are only invalidated by changes to the fields the query depends on.
+     * By default any change to any object of the query classes invalidates the results.
+     */
+    public boolean shouldTrackDependencies() {
+        return trackDependencies;
+    }
+
+    /**
+     * PUBLIC:
+     * Configure if the query results should only be invalidated by changes to the fields the query depends on.
+     * The fields used in the selection criteria, joins and ordering of the query are recorded when it is prepared,
+     * and a commit only invalidates the results if it creates or deletes an object of the query classes,
+     * or updates one of these fields.
+     * This is only used if the results are invalidated on change, and for object queries that are not report queries,
+     * other queries are invalidated on any change.
+     */
+    public void setTrackDependencies(boolean trackDependencies) {
+        this.trackDependencies = trackDependencies;
+    }
+
     /**
      * PUBLIC:
      * Return if null results should be cached or ignored.
@@ -47,10 +47,12 @@
 import org.eclipse.persistence.internal.sessions.ResultSetRecord;
 import org.eclipse.persistence.internal.sessions.SimpleResultSetRecord;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.internal.sessions.coordination.PartitionedCache;
 import org.eclipse.persistence.internal.sessions.remote.RemoteSessionController;
 import org.eclipse.persistence.internal.sessions.remote.Transporter;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 import org.eclipse.persistence.tools.profiler.QueryMonitor;
 
@@ -307,6 +309,73 @@ protected Object checkEarlyReturnLocal(AbstractSession session, AbstractRecord t
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the row of the object from the off-heap tier of the shared cache, or null if not found.
+     */
+    protected AbstractRecord getRowFromOffHeapCache(AbstractSession session) {
+        if (!this.descriptor.getCachePolicy().hasOffHeapCache()) {
+            return null;
+        }
+        Object primaryKey = getPrimaryKeyForSharedCacheRow(session);
+        if (primaryKey == null) {
+            return null;
+        }
+        return session.getParentIdentityMapSession(this.descriptor, true, true).getIdentityMapAccessorInstance().getIdentityMapManager()
+            .getRowFromOffHeapCache(primaryKey, this.descriptor, this);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the row of the object from the service owning it if the shared cache is partitioned,
+     * or null if owned by this service or not found.
+     */
+    protected AbstractRecord getRowFromPartitionedCache(AbstractSession session) {
+        AbstractSession rootSession = session.getParentIdentityMapSession(this.descriptor, true, true);
+        if (!(rootSession.getCommandManager() instanceof RemoteCommandManager)) {
+            return null;
+        }
+        PartitionedCache partitionedCache = ((RemoteCommandManager)rootSession.getCommandManager()).getPartitionedCache();
+        if ((partitionedCache == null) || !partitionedCache.isPartitioned(this.descriptor)) {
+            return null;
+        }
+        Object primaryKey = getPrimaryKeyForSharedCacheRow(session);
+        if (primaryKey == null) {
+            return null;
+        }
+        return partitionedCache.getRow(primaryKey, this.descriptor, this, rootSession);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the primary key of the object to get the row of from outside of the shared cache, or null if it cannot be.
+     * Only used for primary key queries that were checked against the shared cache, and would build the complete object.
+     */
+    protected Object getPrimaryKeyForSharedCacheRow(AbstractSession session) {
+        if (!this.isCacheCheckComplete || isLockQuery() || hasJoining()
+                || hasPartialAttributeExpressions() || (getExecutionFetchGroup() != null) || this.shouldIncludeData
+                || shouldRetrieveBypassCache() || this.descriptor.hasSerializedObjectPolicy()) {
+            return null;
+        }
+        Object primaryKey = this.selectionId;
+        if ((primaryKey == null) && (getSelectionCriteria() != null)) {
+            primaryKey = this.descriptor.getObjectBuilder().extractPrimaryKeyFromExpression(true, getSelectionCriteria(), this.translationRow, session);
+        }
+        if ((primaryKey == null) || (primaryKey == InvalidObject.instance)) {
+            return null;
+        }
+        if (session.isUnitOfWork()) {
+            UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)session;
+            // Same as using the shared cache in the unit of work.
+            if (this.descriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWork()
+                    || (this.descriptor.shouldIsolateObjectsInUnitOfWorkEarlyTransaction() && unitOfWork.wasTransactionBegunPrematurely())
+                    || unitOfWork.shouldReadFromDB() || unitOfWork.shouldForceReadFromDB(this, primaryKey)) {
+                return null;
+            }
+        }
+        return primaryKey;
+    }
+
     /**
      * INTERNAL:
      * Check and return custom query flag. Custom query flag value is initialized when stored value is {@code null}.
@@ -560,7 +629,14 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
                     }
                     getJoinedAttributeManager().setDataResults(rows, session);
                 } else {
-                    row = getQueryMechanism().selectOneRow();
+                    // A miss in the shared cache may still be found in its off-heap tier, or in the service owning the object.
+                    row = getRowFromOffHeapCache(session);
+                    if (row == null) {
+                        row = getRowFromPartitionedCache(session);
+                    }
+                    if (row == null) {
+                        row = getQueryMechanism().selectOneRow();
+                    }
                 }
             }
 
@@ -108,6 +108,9 @@ private enum ResultStatus { IGNORED };
      */
     protected Set<Object> returnedKeys;
 
+    /** Indicates whether a cursor should reuse a single row for all the rows of the result set. */
+    protected boolean shouldReuseRowBuffer;
+
     /**
      * INTERNAL:
      * The builder should be provided.
@@ -1452,6 +1455,62 @@ public void setShouldReturnWithoutReportQueryResult(boolean newChoice) {
         }
     }
 
+    /**
+     * PUBLIC:
+     * Set if a cursor on the query should reuse a single row for all the rows of the result set,
+     * avoiding to allocate a row per row fetched from the JDBC result set.
+     * Only used if all the items of the query are attributes or functions,
+     * as the objects built from a row can reference it.
+     * By default a new row is fetched for each row.
+     */
+    public void setShouldReuseRowBuffer(boolean shouldReuseRowBuffer) {
+        this.shouldReuseRowBuffer = shouldReuseRowBuffer;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if a cursor on the query should reuse a single row for all the rows of the result set.
+     */
+    public boolean shouldReuseRowBuffer() {
+        return this.shouldReuseRowBuffer;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if a cursor can reuse a single row for all the rows of the result set,
+     * the results are then built only from the values of the row.
+     * This must be called once the items are initialized.
+     */
+    public boolean canReuseRowBuffer() {
+        if (!this.shouldReuseRowBuffer || hasJoining() || hasBatchReadAttributes()) {
+            return false;
+        }
+        return canReuseRowBuffer(this.items);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the items are only built from values of the row.
+     */
+    protected boolean canReuseRowBuffer(List<ReportItem> items) {
+        for (ReportItem item : items) {
+            if (item.isConstructorItem()) {
+                if (!canReuseRowBuffer(((ConstructorReportItem)item).getReportItems())) {
+                    return false;
+                }
+            } else if (item.hasJoining()) {
+                return false;
+            } else if (item.getMapping() != null) {
+                if (!(item.getMapping().isAbstractColumnMapping() || item.getMapping().isDirectCollectionMapping())) {
+                    return false;
+                }
+            } else if (item.getDescriptor() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * PUBLIC:
      * Return if the query results should contain the primary keys or each associated object.
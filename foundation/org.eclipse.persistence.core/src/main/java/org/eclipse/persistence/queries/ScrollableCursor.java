@@ -574,7 +574,7 @@ protected Object retrieveNextObject() throws DatabaseException {
             // if the end of the cursor has been reached, do not retrieve more rows
             if (!this.atEndOfCursor) {
                 if (this.nextRow == null) {
-                    row = getAccessor().cursorRetrieveNextRow(this.fields, this.resultSet, this.executionSession);
+                    row = retrieveNextRow();
                 } else {
                     row = this.nextRow;
                     this.nextRow = null;
@@ -619,7 +619,7 @@ protected Object retrievePreviousObject() throws DatabaseException {
             if (currentPosition <= (this.objectCollection.size() + 1)) {
                 // If at first of cursor, move cursor to beforeFirst.
                 if ((currentPosition == (this.objectCollection.size() + 1)) && (!isClosed())) {
-                    getAccessor().cursorRetrievePreviousRow(this.fields, this.resultSet, this.executionSession);
+                    retrievePreviousRow();
                 }
                 if (currentPosition <= 1) {
                     // Cursor can not move back further than beforeFirst.
@@ -635,7 +635,7 @@ protected Object retrievePreviousObject() throws DatabaseException {
             }
             AbstractRecord row = null;
             if (this.previousRow == null) {
-                row = getAccessor().cursorRetrievePreviousRow(this.fields, this.resultSet, this.executionSession);
+                row = retrievePreviousRow();
             } else {
                 row = this.previousRow;
                 this.previousRow = null;
@@ -47,7 +47,10 @@
  *      setShouldUseTableSequencing;
  *      resetSequencing;
  * 3. The following methods cause change immediately:
- *      setPreallocationSize (next sequencing preallocation will use the set parameter's value).
+ *      setPreallocationSize (next sequencing preallocation will use the set parameter's value);
+ *      setShouldUseBackgroundPreallocation;
+ *      setBackgroundPreallocationThreshold;
+ *      setMaxPreallocationSize.
  * <p>
  * <b>Responsibilities</b>:
  * <ul>
@@ -184,6 +187,62 @@ public interface SequencingControl {
      */
     void setInitialPoolSize(int size);
 
+    /**
+     * PUBLIC:
+     * Indicates whether the preallocated sequencing values are refilled in the background
+     * (by default they are not).
+     */
+    boolean shouldUseBackgroundPreallocation();
+
+    /**
+     * PUBLIC:
+     * Set whether the preallocated sequencing values are refilled in the background
+     * (by default they are not).
+     * If this flag is set to true, the next values of a sequence are allocated in a separate thread
+     * once its preallocated values fall below the background preallocation threshold,
+     * instead of by the thread that takes the last value.
+     * This is used for sequences allocated on a separate sequencing connection, and for sequence objects of a ServerSession,
+     * sequences allocated in the transaction of the write connection are always allocated when used up.
+     * The number of values allocated by table sequences is also adapted to the rate the values are used,
+     * up to the maximum preallocation size.
+     * @see #setBackgroundPreallocationThreshold(int)
+     * @see #setMaxPreallocationSize(int)
+     */
+    void setShouldUseBackgroundPreallocation(boolean shouldUseBackgroundPreallocation);
+
+    /**
+     * PUBLIC:
+     * Return the percentage of the preallocated values of a sequence left when the next values are allocated
+     * in the background.
+     */
+    int getBackgroundPreallocationThreshold();
+
+    /**
+     * PUBLIC:
+     * Set the percentage of the preallocated values of a sequence left when the next values are allocated
+     * in the background.
+     * The set value is ignored if shouldUseBackgroundPreallocation() returns false.
+     * By default is 25.
+     */
+    void setBackgroundPreallocationThreshold(int percentage);
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of values allocated at once by a table sequence using background preallocation,
+     * or -1 if it defaults to 16 times the preallocation size of the sequence.
+     */
+    int getMaxPreallocationSize();
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of values allocated at once by a table sequence using background preallocation.
+     * The number of values allocated grows from the preallocation size of the sequence while the values
+     * are used up quickly, and shrinks back to it when they are not.
+     * The set value is ignored if shouldUseBackgroundPreallocation() returns false.
+     * By default is 16 times the preallocation size of the sequence.
+     */
+    void setMaxPreallocationSize(int size);
+
     /**
      * ADVANCED:
      * Removes all preallocated sequencing objects.
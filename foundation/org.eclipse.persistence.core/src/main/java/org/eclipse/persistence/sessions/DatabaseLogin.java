@@ -464,6 +464,25 @@ public int getStatementCacheSize() {
         return getPlatform().getStatementCacheSize();
     }
 
+    /**
+     * PUBLIC:
+     * If prepared statement caching is used, return the estimated memory budget in bytes of the cache of each connection.
+     * The default is 0, the cache is only bounded by its size.
+     */
+    public long getStatementCacheMemoryBudget() {
+        return getPlatform().getStatementCacheMemoryBudget();
+    }
+
+    /**
+     * PUBLIC:
+     * If prepared statement caching is used, return the number of the most frequent statements
+     * prepared when a pooled connection is created.
+     * The default is 0.
+     */
+    public int getStatementCacheWarmupSize() {
+        return getPlatform().getStatementCacheWarmupSize();
+    }
+
     /**
      * PUBLIC:
      * Used to help bean introspection.
@@ -935,6 +954,26 @@ public void setStatementCacheSize(int size) {
         getPlatform().setStatementCacheSize(size);
     }
 
+    /**
+     * PUBLIC:
+     * If prepared statement caching is used this configures the estimated memory budget in bytes of the cache of each connection.
+     * The least recently used statements are evicted to stay within both the size and the memory budget.
+     * The default is 0, the cache is only bounded by its size.
+     */
+    public void setStatementCacheMemoryBudget(long bytes) {
+        getPlatform().setStatementCacheMemoryBudget(bytes);
+    }
+
+    /**
+     * PUBLIC:
+     * If prepared statement caching is used this configures the number of the most frequent statements
+     * prepared when a pooled connection is created, so the first requests on the connection find them in its cache.
+     * The default is 0.
+     */
+    public void setStatementCacheWarmupSize(int size) {
+        getPlatform().setStatementCacheWarmupSize(size);
+    }
+
     /**
      * PUBLIC:
      * Used to help bean introspection.
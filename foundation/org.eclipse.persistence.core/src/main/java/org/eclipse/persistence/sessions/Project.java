@@ -60,6 +60,7 @@
 import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
 import org.eclipse.persistence.internal.identitymaps.AbstractIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.queries.JPQLParseCache;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.queries.AttributeGroup;
@@ -156,6 +157,12 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** Flag that allows call deferral to be disabled */
     protected boolean allowSQLDeferral = true;
 
+    /** Flag that makes the cache keys of the identity maps use a lock instead of their object monitor */
+    protected boolean shouldUseLocksForCacheKeys = false;
+
+    /** Flag that makes the session avoid blocking the carrier threads of virtual threads, and run its asynchronous processing on virtual threads */
+    protected boolean shouldUseVirtualThreads = false;
+
     /** Flag that allows transform named stored procedure parameters into positional/index based */
     protected boolean namingIntoIndexed = false;
 
@@ -218,7 +225,7 @@ public Project() {
         this.hasIsolatedClasses = false;
         this.hasGenericHistorySupport = false;
         this.hasProxyIndirection = false;
-        this.jpqlParseCache = new ConcurrentFixedCache(200);
+        this.jpqlParseCache = new JPQLParseCache(200, 0);
         this.queries = new ArrayList<>();
         this.mappedSuperclassDescriptors = new HashMap<>(2);
         this.metamodelIdClassMap = new HashMap<>();
@@ -332,18 +339,31 @@ public List<DatabaseQuery> getJPATablePerTenantQueries() {
      */
     public ConcurrentFixedCache getJPQLParseCache() {
         if (jpqlParseCache==null) {
-            jpqlParseCache = new ConcurrentFixedCache(200);
+            jpqlParseCache = new JPQLParseCache(200, 0);
         }
         return jpqlParseCache;
     }
 
+    /**
+     * INTERNAL:
+     * Return the JPQL parse cache with its memory budget and statistics,
+     * or null if the cache was set to another ConcurrentFixedCache.
+     */
+    public JPQLParseCache getJPQLParseCacheWithStatistics() {
+        ConcurrentFixedCache cache = getJPQLParseCache();
+        if (cache instanceof JPQLParseCache) {
+            return (JPQLParseCache) cache;
+        }
+        return null;
+    }
+
     /**
      * ADVANCED:
      * Set the JPQL parse cache max size.
      * This is used to optimize dynamic JPQL.
      */
     public void setJPQLParseCacheMaxSize(int maxSize) {
-        setJPQLParseCache(new ConcurrentFixedCache(maxSize));
+        setJPQLParseCache(new JPQLParseCache(maxSize, getJPQLParseCacheMemoryBudget()));
     }
 
     /**
@@ -355,6 +375,31 @@ public int getJPQLParseCacheMaxSize() {
         return getJPQLParseCache().getMaxSize();
     }
 
+    /**
+     * ADVANCED:
+     * Set the maximum estimated memory in bytes of the queries in the JPQL parse cache.
+     * The least frequently used queries are evicted to stay within both the max size and the memory budget,
+     * the memory of a query is estimated from the length of its JPQL and SQL.
+     * The default is 0, the cache is only bounded by its max size.
+     */
+    public void setJPQLParseCacheMemoryBudget(long memoryBudget) {
+        JPQLParseCache cache = getJPQLParseCacheWithStatistics();
+        if (cache == null) {
+            setJPQLParseCache(new JPQLParseCache(getJPQLParseCacheMaxSize(), memoryBudget));
+        } else {
+            cache.setMemoryBudget(memoryBudget);
+        }
+    }
+
+    /**
+     * ADVANCED:
+     * Return the maximum estimated memory in bytes of the queries in the JPQL parse cache, 0 if unbounded.
+     */
+    public long getJPQLParseCacheMemoryBudget() {
+        JPQLParseCache cache = getJPQLParseCacheWithStatistics();
+        return (cache == null) ? 0 : cache.getMemoryBudget();
+    }
+
     /**
      * INTERNAL:
      * Set the JPQL parse cache.
@@ -1406,6 +1451,49 @@ public void setAllowNativeSQLQueries(boolean allowNativeSQLQueries) {
         this.allowNativeSQLQueries = allowNativeSQLQueries;
     }
 
+    /**
+     * INTERNAL:
+     * Return true if the cache keys of the session's identity maps use a
+     * {@link java.util.concurrent.locks.ReentrantLock} instead of their object monitor.
+     */
+    public boolean shouldUseLocksForCacheKeys() {
+        return this.shouldUseLocksForCacheKeys;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether the cache keys of the session's identity maps use a
+     * {@link java.util.concurrent.locks.ReentrantLock} instead of their object monitor.
+     * This avoids pinning the carrier threads of virtual threads waiting on cache key locks.
+     * It must be set before the session's identity maps are created.
+     */
+    public void setShouldUseLocksForCacheKeys(boolean shouldUseLocksForCacheKeys) {
+        this.shouldUseLocksForCacheKeys = shouldUseLocksForCacheKeys;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if the session is used from virtual threads.
+     * @see #setShouldUseVirtualThreads(boolean)
+     */
+    public boolean shouldUseVirtualThreads() {
+        return this.shouldUseVirtualThreads;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether the session is used from virtual threads.
+     * On login the cache keys and sequence preallocation then use a {@link java.util.concurrent.locks.ReentrantLock},
+     * the internal connection pools of a server session, including the sequencing pool, are non-blocking connection pools,
+     * and the asynchronous processing, such as cache coordination propagation and cursor filling,
+     * runs on a new virtual thread for each task if supported by the JDK.
+     * It must be set before login.
+     * @see org.eclipse.persistence.sessions.server.NonBlockingConnectionPool
+     */
+    public void setShouldUseVirtualThreads(boolean shouldUseVirtualThreads) {
+        this.shouldUseVirtualThreads = shouldUseVirtualThreads;
+    }
+
     /**
      * INTERNAL:
      * Set whether sql deferral is allowed on this project
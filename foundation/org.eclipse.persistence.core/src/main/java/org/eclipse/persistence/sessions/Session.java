@@ -22,6 +22,9 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.persistence.config.ReferenceMode;
@@ -35,6 +38,7 @@
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
+import org.eclipse.persistence.internal.sessions.FuturePublisher;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.logging.SessionLogEntry;
@@ -350,6 +354,72 @@ public interface Session extends CoreSession<ClassDescriptor, Login, Platform, P
      */
     Object executeQuery(DatabaseQuery query, List argumentValues);
 
+    /**
+     * PUBLIC:
+     * Execute the read query asynchronously and return the future of its result.
+     * The query is executed on the async query executor, on its own client session and pooled connection,
+     * so independent queries overlap instead of adding up their latencies.
+     * It is executed outside of the transaction of this session and only sees committed data,
+     * from a unit of work its results are not registered in the unit of work.
+     * Only server sessions, and their client sessions and units of work, execute queries asynchronously,
+     * other sessions have a single connection and execute the query before returning.
+     * The default implementation executes the query before returning, as {@link #executeQuery(DatabaseQuery)}.
+     *
+     * @see #setAsyncQueryExecutor(Executor)
+     */
+    default CompletableFuture<Object> executeQueryAsync(DatabaseQuery query) {
+        return executeQueryAsync(query, null);
+    }
+
+    /**
+     * PUBLIC:
+     * Execute the read query with the arguments asynchronously and return the future of its result.
+     * The query arguments are passed in as a List of argument values in the same order as the query arguments.
+     *
+     * @see #executeQueryAsync(DatabaseQuery)
+     */
+    default CompletableFuture<Object> executeQueryAsync(DatabaseQuery query, List argumentValues) {
+        try {
+            return CompletableFuture.completedFuture((argumentValues == null) ? executeQuery(query) : executeQuery(query, argumentValues));
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return a publisher of the results of the read query with the arguments, the arguments may be null.
+     * The query is executed asynchronously for each subscriber, as {@link #executeQueryAsync(DatabaseQuery)},
+     * read all queries of objects read their results from a cursor and publish each object as it is built,
+     * waiting for the demand of the subscribers.
+     * The cursor is closed once the results are published, or all subscribers cancelled.
+     * The default implementation executes the query for each subscriber with {@link #executeQueryAsync(DatabaseQuery, List)},
+     * and publishes its results once they are all read.
+     */
+    default Flow.Publisher<Object> executeQueryPublisher(DatabaseQuery query, List argumentValues) {
+        return new FuturePublisher<>(() -> executeQueryAsync(query, argumentValues));
+    }
+
+    /**
+     * PUBLIC:
+     * Return the executor of the asynchronous queries.
+     * By default the queries are executed on virtual threads,
+     * or on a cached pool of daemon threads if the JDK does not support virtual threads.
+     * The default implementation returns null, the session does not execute queries asynchronously.
+     */
+    default Executor getAsyncQueryExecutor() {
+        return null;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the executor of the asynchronous queries, i.e. a managed executor service of the container.
+     * Client sessions and units of work use the executor of their parent session.
+     * The default implementation ignores the executor, the session executes its queries before returning.
+     */
+    default void setAsyncQueryExecutor(Executor executor) {
+    }
+
     /**
      * PUBLIC:
      * Execute the call on the database and return the result.
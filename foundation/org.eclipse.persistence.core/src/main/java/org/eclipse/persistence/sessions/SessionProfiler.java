@@ -46,10 +46,23 @@ public interface SessionProfiler {
     String RcmReceived = "Counter:MessagesReceived";
     String RcmSent = "Counter:MessagesSent";
     String RemoteChangeSet = "Counter:RemoteChangeSets";
+    String RcmChangeSetsCoalesced = "Counter:ChangeSetsCoalesced";
+    String RcmBackpressureWaits = "Counter:MessagesBackpressureWaits";
     String Connects = "Counter:ConnectCalls";
     String Disconnects = "Counter:DisconnectCalls";
     String CacheHits = "Counter:CacheHits";
     String CacheMisses = "Counter:CacheMisses";
+    String OffHeapCacheHits = "Counter:OffHeapCacheHits";
+    String OffHeapCacheMisses = "Counter:OffHeapCacheMisses";
+    String OffHeapCacheEvictions = "Counter:OffHeapCacheEvictions";
+    String PartitionedCacheHits = "Counter:PartitionedCacheHits";
+    String PartitionedCacheMisses = "Counter:PartitionedCacheMisses";
+    String StatementCacheHits = "Counter:StatementCacheHits";
+    String StatementCacheMisses = "Counter:StatementCacheMisses";
+    String StatementCacheEvictions = "Counter:StatementCacheEvictions";
+    String JPQLParseCacheHits = "Counter:JPQLParseCacheHits";
+    String JPQLParseCacheMisses = "Counter:JPQLParseCacheMisses";
+    String JPQLParseCacheEvictions = "Counter:JPQLParseCacheEvictions";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
 
@@ -74,6 +87,9 @@ public interface SessionProfiler {
     String JtsAfterCompletion = "Timer:TXAfterCompletion";
     String Transaction = "Timer:Transactions";
     String UowCommit = "Timer:UnitOfWorkCommit";
+    String UowCalculateChanges = "Timer:UnitOfWorkCalculateChanges";
+    String UowWriteChanges = "Timer:UnitOfWorkWriteChanges";
+    String ConnectionAcquireWait = "Timer:ConnectionAcquireWait";
     String ConnectionPing = "Timer:ConnectionPing";
     String Remote = "Timer:Remote";
     String RemoteLazy = "Timer:RemoteLazy";
@@ -154,4 +170,13 @@ public interface SessionProfiler {
      * Initialize EclipseLink noun tree(DMS)
      */
     void initialize();
+
+    /**
+     * INTERNAL:
+     * Return if the accesses to the cache are profiled.
+     * Profiling the cache accesses requires to lock the identity maps of the session for each access.
+     */
+    default boolean shouldProfileCacheAccess() {
+        return true;
+    }
 }
@@ -26,7 +26,9 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandCoalescer;
 import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
+import org.eclipse.persistence.internal.sessions.coordination.PartitionedCache;
 import org.eclipse.persistence.internal.sessions.coordination.RCMCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
 import org.eclipse.persistence.platform.server.ServerPlatform;
@@ -78,6 +80,8 @@
 public class RemoteCommandManager implements org.eclipse.persistence.sessions.coordination.CommandManager {
     public static final String DEFAULT_CHANNEL = "EclipseLinkCommandChannel";
     public static final boolean DEFAULT_ASYNCHRONOUS_MODE = true;
+    public static final int DEFAULT_COALESCING_MAX_BATCH_SIZE = 100;
+    public static final int DEFAULT_COALESCING_MAX_PENDING_COMMANDS = 10000;
 
     /** Uniquely identifies this service in the cluster */
     protected ServiceId serviceId;
@@ -106,6 +110,24 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     /** Set the Serializer to use for serialization of commands. */
     protected Serializer serializer;
 
+    /** The time in milliseconds asynchronous commands are coalesced before being sent, 0 if not coalesced. */
+    protected long commandCoalescingDelay;
+
+    /** The number of coalesced commands sent without waiting for the delay. */
+    protected int commandCoalescingMaxBatchSize = DEFAULT_COALESCING_MAX_BATCH_SIZE;
+
+    /** The number of coalesced commands queued before propagating threads wait. */
+    protected int commandCoalescingMaxPendingCommands = DEFAULT_COALESCING_MAX_PENDING_COMMANDS;
+
+    /** Queues and batches the commands if coalescing is enabled. */
+    protected CommandCoalescer commandCoalescer;
+
+    /** The time in milliseconds a lookup waits for the service owning the object, 0 if the shared cache is not partitioned. */
+    protected long partitionedCacheTimeout;
+
+    /** Looks up the objects in the services owning them if the shared cache is partitioned. */
+    protected PartitionedCache partitionedCache;
+
     //** Indicates whether RCM is active. In case there's discoveryManager it mirrors discoveryManager.isDiscoveryStopped()
     protected boolean isStopped = true;
 
@@ -156,6 +178,12 @@ public void initialize() {
             }
         }
         this.isStopped = false;
+        if ((this.commandCoalescingDelay > 0) && shouldPropagateAsynchronously()) {
+            this.commandCoalescer = new CommandCoalescer(this, this.commandCoalescingDelay, this.commandCoalescingMaxBatchSize, this.commandCoalescingMaxPendingCommands);
+        }
+        if (this.partitionedCacheTimeout > 0) {
+            this.partitionedCache = new PartitionedCache(this, this.partitionedCacheTimeout);
+        }
         if (this.discoveryManager != null) {
             this.discoveryManager.startDiscovery();
         } else {
@@ -197,7 +225,16 @@ public void shutdown() {
             newDmgr.shallowCopy(discoveryManager);
             discoveryManager = newDmgr;
         }
+        if (commandCoalescer != null) {
+            // Send the pending commands before the connections are discarded.
+            commandCoalescer.flush();
+            commandCoalescer = null;
+        }
         isStopped = true;
+        if (partitionedCache != null) {
+            partitionedCache.shutdown();
+            partitionedCache = null;
+        }
         transportManager.discardConnections();
     }
 
@@ -234,18 +271,16 @@ public void propagateCommand(Object command) {
             // Set our service id on the command to indicate that it came from us
             newCommand.setServiceId(getServiceId());
 
-            // PERF: Support plugable serialization.
-            Serializer serializer = getSerializer();
-            byte[] commandBytes = null;
-            if (serializer != null) {
-                this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
-                try {
-                    commandBytes = (byte[])serializer.serialize(command, (AbstractSession)getCommandProcessor());
-                } finally {
-                    this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
-                }
+            // PERF: Coalesce the commands into batches sent by a single thread.
+            CommandCoalescer coalescer = this.commandCoalescer;
+            if (coalescer != null) {
+                coalescer.submit(newCommand);
+                return;
             }
 
+            // PERF: Support plugable serialization.
+            byte[] commandBytes = serializeCommand(command);
+
             // Propagate the command (synchronously or asynchronously)
             propagator = new CommandPropagator(this, newCommand, commandBytes);
 
@@ -259,6 +294,23 @@ public void propagateCommand(Object command) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Serialize the command with the serializer, return null if no serializer is used.
+     */
+    public byte[] serializeCommand(Object command) {
+        Serializer serializer = getSerializer();
+        if (serializer == null) {
+            return null;
+        }
+        this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        try {
+            return (byte[])serializer.serialize(command, (AbstractSession)getCommandProcessor());
+        } finally {
+            this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        }
+    }
+
     /**
      * INTERNAL:
      * Deserialize the command and execute it.
@@ -606,4 +658,99 @@ public Serializer getSerializer() {
     public void setSerializer(Serializer serializer) {
         this.serializer = serializer;
     }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds asynchronously propagated commands
+     * are coalesced before being sent, 0 if each command is sent on its own.
+     */
+    public long getCommandCoalescingDelay() {
+        return commandCoalescingDelay;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the time in milliseconds asynchronously propagated commands are coalesced before being sent.
+     * The commands are queued and sent by a single thread once the delay has passed since the first
+     * queued command, the change sets of the commands combined into a single message to each connection.
+     * The changes to the same object are combined, or sent as an invalidation of the object if they cannot be.
+     * This must be set before the command manager is initialized, by default commands are not coalesced.
+     */
+    public void setCommandCoalescingDelay(long delay) {
+        this.commandCoalescingDelay = delay;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of coalesced commands sent without waiting for the coalescing delay.
+     */
+    public int getCommandCoalescingMaxBatchSize() {
+        return commandCoalescingMaxBatchSize;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the number of coalesced commands sent without waiting for the coalescing delay.
+     * By default 100.
+     */
+    public void setCommandCoalescingMaxBatchSize(int maxBatchSize) {
+        this.commandCoalescingMaxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of coalesced commands queued before the propagating threads wait for them to be sent.
+     */
+    public int getCommandCoalescingMaxPendingCommands() {
+        return commandCoalescingMaxPendingCommands;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the number of coalesced commands queued before the propagating threads wait for them to be sent.
+     * This bounds the memory used by the queue. By default 10000.
+     */
+    public void setCommandCoalescingMaxPendingCommands(int maxPendingCommands) {
+        this.commandCoalescingMaxPendingCommands = maxPendingCommands;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the coalescer of the commands, null if commands are not coalesced.
+     */
+    public CommandCoalescer getCommandCoalescer() {
+        return commandCoalescer;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds a read waits for the service owning the object,
+     * 0 if the shared cache is not partitioned.
+     */
+    public long getPartitionedCacheTimeout() {
+        return partitionedCacheTimeout;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the time in milliseconds a read waits for the service owning the object, to partition the shared cache.
+     * The objects of the coordinated classes are owned by one of the connected services, chosen by consistent hashing
+     * of their primary key. A read by primary key missing the shared cache gets the object from its owner,
+     * which reads it from the database if not in its own cache, instead of selecting it.
+     * The object is selected from the database if the owner does not answer in time.
+     * The shared cache of each service can then be sized for a part of the objects only.
+     * Classes with inheritance, and classes without cache synchronization are not partitioned.
+     * This must be set before the command manager is initialized, by default the shared cache is not partitioned.
+     */
+    public void setPartitionedCacheTimeout(long timeout) {
+        this.partitionedCacheTimeout = timeout;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the partitioned cache, null if the shared cache is not partitioned.
+     */
+    public PartitionedCache getPartitionedCache() {
+        return partitionedCache;
+    }
 }
@@ -21,6 +21,7 @@
 import java.util.Enumeration;
 import java.util.Hashtable;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.naming.Context;
 import javax.naming.NamingException;
@@ -30,6 +31,7 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.security.SecurableObjectHolder;
 import org.eclipse.persistence.internal.sessions.coordination.ConnectToHostCommand;
+import org.eclipse.persistence.internal.sessions.coordination.ConnectionsTable;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
 
 /**
@@ -67,6 +69,9 @@ public abstract class TransportManager {
     /** Connections to other services */
     protected Hashtable<String, RemoteConnection> connectionsToExternalServices;
 
+    /** Lock guarding the creation, removal and closing of the connections to external services */
+    protected final ReentrantLock connectionsLock = new ReentrantLock();
+
     /** Security util that is used to decrypt and encrypt password */
     protected SecurableObjectHolder securableObjectHolder;
 
@@ -330,9 +335,12 @@ public void addConnectionToExternalService(RemoteConnection connection) {
      * Remove a remote connection from the list of connections to receive remote commands.
      */
     public void removeConnectionToExternalService(RemoteConnection connection) {
-        synchronized (this) {
+        this.connectionsLock.lock();
+        try {
             connectionsToExternalServices.remove(connection.getServiceId().getId());
             connection.close();
+        } finally {
+            this.connectionsLock.unlock();
         }
     }
 
@@ -341,13 +349,16 @@ public void removeConnectionToExternalService(RemoteConnection connection) {
      * Remove all remote connections from the list.
      */
     public void removeAllConnectionsToExternalServices() {
-        synchronized (this) {
+        this.connectionsLock.lock();
+        try {
             Enumeration<RemoteConnection> connections = connectionsToExternalServices.elements();
-            connectionsToExternalServices = new Hashtable(3);
+            connectionsToExternalServices = new ConnectionsTable(3);
 
             while (connections.hasMoreElements()) {
                 connections.nextElement().close();
             }
+        } finally {
+            this.connectionsLock.unlock();
         }
     }
 
@@ -415,7 +426,7 @@ protected boolean hasPassword() {
      */
     public void initialize() {
         this.shouldRemoveConnectionOnError = DEFAULT_REMOVE_CONNECTION_ON_ERROR_MODE;
-        this.connectionsToExternalServices = new Hashtable(2);
+        this.connectionsToExternalServices = new ConnectionsTable(2);
 
         remoteContextProperties = new Hashtable();
         // Factory is not require inside the server, do not default.
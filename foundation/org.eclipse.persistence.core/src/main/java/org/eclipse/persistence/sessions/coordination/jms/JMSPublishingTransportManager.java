@@ -113,7 +113,9 @@ public void createConnections() {
      * add it to external connections' map.
      */
     public void createExternalConnection() {
-        synchronized(connectionsToExternalServices) {
+        // The connection lock rather than the map monitor, as creating the connection may block.
+        this.connectionsLock.lock();
+        try {
             if(connectionsToExternalServices.isEmpty()) {
                 try {
                     connectionsToExternalServices.put(rcm.getServiceId().getId(), createConnection(false));
@@ -124,6 +126,8 @@ public void createExternalConnection() {
                     rcm.handleException(rcmException);
                 }
             }
+        } finally {
+            this.connectionsLock.unlock();
         }
     }
 
@@ -45,16 +45,22 @@ public JMSTopicTransportManager(RemoteCommandManager rcm) {
      * In case the local connection doesn't exist, this method creates it.
      */
     @Override
-    public synchronized void createLocalConnection() {
-        if(localConnection == null) {
-            try {
-                localConnection = createConnection(true);
-            } catch (RemoteCommandManagerException rcmException) {
-                // to recover handle RemoteCommandManagerException.ERROR_CREATING_LOCAL_JMS_CONNECTION:
-                // after changing something (for instance jmsHostUrl)
-                // call createLocalConnection method again.
-                rcm.handleException(rcmException);
+    public void createLocalConnection() {
+        // The connection lock rather than the monitor, as creating the connection may block.
+        this.connectionsLock.lock();
+        try {
+            if(localConnection == null) {
+                try {
+                    localConnection = createConnection(true);
+                } catch (RemoteCommandManagerException rcmException) {
+                    // to recover handle RemoteCommandManagerException.ERROR_CREATING_LOCAL_JMS_CONNECTION:
+                    // after changing something (for instance jmsHostUrl)
+                    // call createLocalConnection method again.
+                    rcm.handleException(rcmException);
+                }
             }
+        } finally {
+            this.connectionsLock.unlock();
         }
     }
 
@@ -92,14 +98,17 @@ public void run() {
     @Override
     public void removeLocalConnection() {
         JMSTopicRemoteConnection connectionToRemove = (JMSTopicRemoteConnection)localConnection;
-        synchronized(this) {
+        this.connectionsLock.lock();
+        try {
             if(connectionToRemove == localConnection) {
                 localConnection = null;
             } else {
                 connectionToRemove = null;
             }
+        } finally {
+            this.connectionsLock.unlock();
         }
-        // closing connection may take time - do it outside of the synchronized block
+        // closing connection may take time - do it outside of the locked block
         if(connectionToRemove != null) {
             connectionToRemove.close();
         }
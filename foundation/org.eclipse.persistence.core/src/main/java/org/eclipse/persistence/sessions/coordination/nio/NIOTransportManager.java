@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.coordination.nio;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.internal.sessions.coordination.nio.NIORemoteConnection;
+import org.eclipse.persistence.internal.sessions.coordination.nio.NIOSelector;
+import org.eclipse.persistence.sessions.coordination.DiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.TransportManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Provide a peer-to-peer TCP transport implementation for RCM
+ * using non-blocking socket channels.
+ * </p><p>
+ * <b>Description</b>: Each service listens for the connections of the other services
+ * at its URL, of the form <code>tcp://host:port</code>, and opens a connection to each
+ * of them. The commands are sent as length prefixed frames, and are pipelined:
+ * the sender does not wait for the remote service to process a command, so the errors
+ * of the remote execution are not returned to the sender.
+ * A single selector thread performs all the socket I/O of the service,
+ * the received commands are processed on the server platform, in the order they were sent.
+ * </p><p>
+ * The other services are found through the multicast announcements of the
+ * DiscoveryManager, or if peer URLs are set, by connecting to each of the peers on startup.
+ * The peers that are not yet started connect to this service when they start,
+ * so every service should list all the services of the cluster.
+ * </p><p>
+ * If the URL is not set, the service listens on an ephemeral port of the local host.
+ * A port of 0 in the URL also selects an ephemeral port,
+ * the URL is then updated with the port before the service is announced.
+ * </p>
+ * @see NIORemoteConnection
+ */
+public class NIOTransportManager extends TransportManager {
+
+    public static final String DEFAULT_NIO_URL_PROTOCOL = "tcp";
+
+    /** Default time to establish a connection to another service, in milliseconds. */
+    public static final int DEFAULT_CONNECT_TIMEOUT = 5000;
+
+    /** Default number of bytes that can be queued on a connection before the senders wait. */
+    public static final long DEFAULT_MAX_QUEUED_BYTES = 16 * 1024 * 1024;
+
+    /** Default size of the largest command that can be received. */
+    public static final int DEFAULT_MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    /** The URLs of the other services, if not discovered. */
+    protected List<String> peerUrls;
+
+    protected int connectTimeout;
+
+    protected long maxQueuedBytes;
+
+    protected int maxFrameSize;
+
+    /** The selector performing the socket I/O, created on demand. */
+    protected NIOSelector selector;
+
+    public NIOTransportManager() {
+        this.initialize();
+    }
+
+    public NIOTransportManager(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        this.initialize();
+    }
+
+    /**
+     * INTERNAL:
+     * Initialize default properties for NIO.
+     */
+    @Override
+    public void initialize() {
+        super.initialize();
+        this.peerUrls = new ArrayList<>();
+        this.connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        this.maxQueuedBytes = DEFAULT_MAX_QUEUED_BYTES;
+        this.maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the selector performing the socket I/O, creating it if required.
+     */
+    protected NIOSelector getSelector() throws IOException {
+        this.connectionsLock.lock();
+        try {
+            if (this.selector == null) {
+                this.selector = new NIOSelector(this.rcm, this.maxFrameSize);
+            }
+            return this.selector;
+        } finally {
+            this.connectionsLock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Listen for the connections of the other services at the URL of this service.
+     */
+    @Override
+    public void createLocalConnection() {
+        String url = this.rcm.getUrl();
+        try {
+            if (url == null) {
+                url = DEFAULT_NIO_URL_PROTOCOL + "://" + InetAddress.getLocalHost().getHostAddress() + ":0";
+            }
+            URI uri = parseURL(url);
+            InetSocketAddress address = getSelector().listen(new InetSocketAddress(Math.max(uri.getPort(), 0)));
+            if (uri.getPort() <= 0) {
+                url = DEFAULT_NIO_URL_PROTOCOL + "://" + uri.getHost() + ":" + address.getPort();
+            }
+            this.rcm.setUrl(url);
+        } catch (Exception exception) {
+            this.rcm.handleException(RemoteCommandManagerException.errorBindingConnection(url, exception));
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Create and return an NIO remote connection to the specified service.
+     * If there is already a connection to the URL of the service, it is returned instead,
+     * so the connection back from a service this service connected to is not duplicated.
+     */
+    @Override
+    public RemoteConnection createConnection(ServiceId connectionServiceId) {
+        String url = connectionServiceId.getURL();
+        Object[] args = { url };
+        try {
+            URI uri = parseURL(url);
+            InetSocketAddress address = new InetSocketAddress(uri.getHost(), uri.getPort());
+            RemoteConnection connection = getExistingConnection(connectionServiceId, address);
+            if (connection != null) {
+                return connection;
+            }
+            this.rcm.logDebug("nio_connecting_to_remote_service", args);
+            NIORemoteConnection newConnection = getSelector().connect(address, this.connectTimeout, this.maxQueuedBytes);
+            newConnection.setServiceId(connectionServiceId);
+            connection = getExistingConnection(connectionServiceId, address);
+            if (connection != null) {
+                // Connected concurrently by another thread.
+                newConnection.close();
+                return connection;
+            }
+            if (!this.peerUrls.isEmpty() && !url.equals(connectionServiceId.getId())) {
+                // A peer connected to this service, and only knows this service by its URL until told its id.
+                connectBackToRemote(newConnection);
+            }
+            return newConnection;
+        } catch (Exception exception) {
+            try {
+                this.rcm.handleException(RemoteCommandManagerException.errorLookingUpRemoteConnection(connectionServiceId.getId(), url, exception));
+            } catch (Exception ex2) {
+                // Must catch this exception and log a debug message
+                this.rcm.logDebug("nio_unable_to_connect_to_remote_service", args);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the open connection to the address, and register it under the id of the service.
+     * The connections to the peers are registered under their URL until the peer connects back.
+     */
+    protected RemoteConnection getExistingConnection(ServiceId connectionServiceId, InetSocketAddress address) {
+        this.connectionsLock.lock();
+        try {
+            Iterator<Map.Entry<String, RemoteConnection>> entries = this.connectionsToExternalServices.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, RemoteConnection> entry = entries.next();
+                if (entry.getValue() instanceof NIORemoteConnection) {
+                    NIORemoteConnection connection = (NIORemoteConnection)entry.getValue();
+                    if (connection.getAddress().equals(address) && !connection.isClosed()) {
+                        if (!entry.getKey().equals(connectionServiceId.getId())) {
+                            // The caller registers the connection under the service id.
+                            entries.remove();
+                        }
+                        connection.setServiceId(connectionServiceId);
+                        return connection;
+                    }
+                }
+            }
+        } finally {
+            this.connectionsLock.unlock();
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Called on initialization if the peer URLs are set. Listen for the connections
+     * of the other services and connect to each of the peers.
+     */
+    @Override
+    public void createConnections() {
+        createLocalConnection();
+        InetSocketAddress localAddress = null;
+        try {
+            URI uri = parseURL(this.rcm.getUrl());
+            localAddress = new InetSocketAddress(uri.getHost(), uri.getPort());
+        } catch (Exception exception) {
+            // The local service cannot be excluded from the peers.
+        }
+        for (String url : this.peerUrls) {
+            try {
+                URI uri = parseURL(url);
+                if (new InetSocketAddress(uri.getHost(), uri.getPort()).equals(localAddress)) {
+                    continue;
+                }
+            } catch (Exception exception) {
+                // Reported by createConnection.
+            }
+            // The id of the peer is not known until it connects back.
+            this.rcm.newServiceDiscovered(new ServiceId(this.rcm.getChannel(), url, url));
+        }
+    }
+
+    /**
+     * ADVANCED:
+     * Return a DiscoveryManager if the peer URLs are not set, else null
+     * as the peers are connected to on initialization.
+     */
+    @Override
+    public DiscoveryManager createDiscoveryManager() {
+        if (this.peerUrls.isEmpty()) {
+            return super.createDiscoveryManager();
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Stop listening for the connections of the other services, and close
+     * the connections from them.
+     */
+    @Override
+    public void removeLocalConnection() {
+        NIOSelector selector;
+        this.connectionsLock.lock();
+        try {
+            selector = this.selector;
+            this.selector = null;
+        } finally {
+            this.connectionsLock.unlock();
+        }
+        if (selector != null) {
+            selector.stop();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Parse the URL of a service, of the form <code>tcp://host:port</code>.
+     */
+    protected URI parseURL(String url) {
+        URI uri = URI.create(url);
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException(url);
+        }
+        return uri;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the URLs of the other services to connect to on initialization.
+     */
+    public List<String> getPeerUrls() {
+        return peerUrls;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the URLs, of the form <code>tcp://host:port</code>, of the other services
+     * to connect to on initialization. If set, the other services are not discovered
+     * through multicast announcements.
+     */
+    public void setPeerUrls(List<String> peerUrls) {
+        this.peerUrls = peerUrls;
+        if ((this.rcm != null) && (this.rcm.getTransportManager() == this)) {
+            // Reset the discovery manager of the command manager.
+            this.rcm.setTransportManager(this);
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Set the comma separated URLs of the other services to connect to on initialization.
+     */
+    @Override
+    public void setConfig(String config) {
+        List<String> urls = new ArrayList<>();
+        for (String url : config.split(",")) {
+            if (!url.isBlank()) {
+                urls.add(url.trim());
+            }
+        }
+        setPeerUrls(urls);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time to establish a connection to another service, in milliseconds.
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time to establish a connection to another service, in milliseconds.
+     * The default is 5000 milliseconds.
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of bytes that can be queued on a connection before the senders wait.
+     */
+    public long getMaxQueuedBytes() {
+        return maxQueuedBytes;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of bytes that can be queued on a connection before the senders wait
+     * for the queued commands to be written. The default is 16 megabytes.
+     */
+    public void setMaxQueuedBytes(long maxQueuedBytes) {
+        this.maxQueuedBytes = maxQueuedBytes;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the size of the largest command that can be received.
+     */
+    public int getMaxFrameSize() {
+        return maxFrameSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the size of the largest command that can be received, the connection sending
+     * a larger command is closed. The default is 64 megabytes.
+     */
+    public void setMaxFrameSize(int maxFrameSize) {
+        this.maxFrameSize = maxFrameSize;
+    }
+}
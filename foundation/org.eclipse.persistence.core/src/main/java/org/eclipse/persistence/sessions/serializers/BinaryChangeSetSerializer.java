@@ -0,0 +1,784 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//      Oracle - initial impl
+package org.eclipse.persistence.sessions.serializers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.CollectionChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+/**
+ * Compact binary serialization of cache coordination change sets.
+ * <p>
+ * The change sets of a {@link MergeChangeSetCommand} are written using the descriptors and mappings
+ * of the session, as descriptor and mapping indexes instead of class and attribute names, and the
+ * primary keys, lock values and direct values with typed encodings instead of serialized objects.
+ * Change sets referenced from several records are written once.
+ * Large messages are compressed, unless disabled.
+ * <p>
+ * Change sets using change records other than direct, object reference and unordered collection records,
+ * and other commands, are written with Java serialization.
+ * All the nodes must use this serializer and the same descriptors, as their shape is checked on read.
+ *
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#COORDINATION_SERIALIZER
+ * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(Serializer)
+ */
+public class BinaryChangeSetSerializer extends AbstractSerializer {
+
+    /** The message is written with Java serialization. */
+    protected static final byte JAVA_FORMAT = 0;
+    /** The message is a merge change set command written in binary. */
+    protected static final byte CHANGE_SET_FORMAT = 1;
+    /** The binary message is compressed. */
+    protected static final byte COMPRESSED = 2;
+
+    protected static final byte DIRECT_RECORD = 1;
+    protected static final byte REFERENCE_RECORD = 2;
+    protected static final byte COLLECTION_RECORD = 3;
+
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte INTEGER = 2;
+    protected static final byte LONG = 3;
+    protected static final byte SHORT = 4;
+    protected static final byte BYTE = 5;
+    protected static final byte BOOLEAN = 6;
+    protected static final byte DOUBLE = 7;
+    protected static final byte FLOAT = 8;
+    protected static final byte CHARACTER = 9;
+    protected static final byte BIG_DECIMAL = 10;
+    protected static final byte BIG_INTEGER = 11;
+    protected static final byte DATE = 12;
+    protected static final byte SQL_DATE = 13;
+    protected static final byte SQL_TIME = 14;
+    protected static final byte TIMESTAMP = 15;
+    protected static final byte LOCAL_DATE = 16;
+    protected static final byte LOCAL_TIME = 17;
+    protected static final byte LOCAL_DATE_TIME = 18;
+    protected static final byte INSTANT = 19;
+    protected static final byte BYTES = 20;
+    protected static final byte CACHE_ID = 21;
+    protected static final byte SERIALIZED = 22;
+
+    /** If large messages are compressed. */
+    protected boolean shouldCompress;
+
+    /** The minimum size of the messages compressed. */
+    protected int compressionThreshold;
+
+    /** The descriptors of the project of the last session. */
+    protected transient volatile DescriptorTable descriptorTable;
+
+    public BinaryChangeSetSerializer() {
+        this.shouldCompress = true;
+        this.compressionThreshold = 512;
+    }
+
+    public BinaryChangeSetSerializer(boolean shouldCompress) {
+        this();
+        this.shouldCompress = shouldCompress;
+    }
+
+    /**
+     * Return if large messages are compressed.
+     */
+    public boolean shouldCompress() {
+        return shouldCompress;
+    }
+
+    /**
+     * Set if large messages are compressed.
+     */
+    public void setShouldCompress(boolean shouldCompress) {
+        this.shouldCompress = shouldCompress;
+    }
+
+    /**
+     * Return the minimum size in bytes of the messages compressed.
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Set the minimum size in bytes of the messages compressed.
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public void initialize(Class<?> serializeClass, String serializePackage, Session session) {
+        if (session != null) {
+            getDescriptorTable(session);
+        }
+    }
+
+    @Override
+    public Object serialize(Object object, Session session) {
+        if ((session != null) && (object != null) && (object.getClass() == MergeChangeSetCommand.class)) {
+            try {
+                byte[] bytes = serializeCommand((MergeChangeSetCommand)object, session);
+                if (bytes != null) {
+                    return bytes;
+                }
+            } catch (IOException exception) {
+                throw new RuntimeException(exception);
+            }
+        }
+        byte[] javaBytes = (byte[])JavaSerializer.instance.serialize(object, session);
+        byte[] bytes = new byte[javaBytes.length + 1];
+        bytes[0] = JAVA_FORMAT;
+        System.arraycopy(javaBytes, 0, bytes, 1, javaBytes.length);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(Object object, Session session) {
+        byte[] bytes = (byte[])object;
+        if (bytes[0] == JAVA_FORMAT) {
+            return JavaSerializer.instance.deserialize(Arrays.copyOfRange(bytes, 1, bytes.length), session);
+        }
+        try {
+            return deserializeCommand(bytes, session);
+        } catch (IOException | DataFormatException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Write the command in binary, or return null if its change sets are not supported.
+     */
+    protected byte[] serializeCommand(MergeChangeSetCommand command, Session session) throws IOException {
+        UnitOfWorkChangeSet uowChangeSet = command.getChangeSet(null);
+        if (uowChangeSet == null) {
+            return null;
+        }
+        DescriptorTable table = getDescriptorTable(session);
+        Map<ObjectChangeSet, Integer> indexes = new IdentityHashMap<>();
+        List<ObjectChangeSet> changeSets = new ArrayList<>();
+        if (!collectChangeSets(uowChangeSet.getAllChangeSets().keySet(), table, indexes, changeSets)
+                || (uowChangeSet.hasDeletedObjects() && !collectChangeSets(uowChangeSet.getDeletedObjects().keySet(), table, indexes, changeSets))) {
+            return null;
+        }
+
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream(64 + (changeSets.size() * 32));
+        DataOutputStream out = new DataOutputStream(byteOut);
+        ServiceId serviceId = command.getServiceId();
+        out.writeBoolean(serviceId != null);
+        if (serviceId != null) {
+            writeString(out, serviceId.getChannel());
+            writeString(out, serviceId.getId());
+            writeString(out, serviceId.getURL());
+        }
+        writeVarInt(out, changeSets.size());
+        for (ObjectChangeSet changeSet : changeSets) {
+            writeChangeSet(out, changeSet, table, indexes, session);
+        }
+        writeIndexes(out, uowChangeSet.getAllChangeSets().keySet(), indexes);
+        if (uowChangeSet.hasDeletedObjects()) {
+            writeIndexes(out, uowChangeSet.getDeletedObjects().keySet(), indexes);
+        } else {
+            writeVarInt(out, 0);
+        }
+        out.flush();
+        byte[] payload = byteOut.toByteArray();
+
+        byte format = CHANGE_SET_FORMAT;
+        if (this.shouldCompress && (payload.length >= this.compressionThreshold)) {
+            byte[] compressed = compress(payload);
+            if (compressed.length < payload.length) {
+                format |= COMPRESSED;
+                ByteArrayOutputStream lengthOut = new ByteArrayOutputStream(compressed.length + 5);
+                writeVarInt(new DataOutputStream(lengthOut), payload.length);
+                lengthOut.write(compressed);
+                payload = lengthOut.toByteArray();
+            }
+        }
+        byte[] bytes = new byte[payload.length + 5];
+        bytes[0] = format;
+        int hash = table.hash;
+        bytes[1] = (byte)(hash >>> 24);
+        bytes[2] = (byte)(hash >>> 16);
+        bytes[3] = (byte)(hash >>> 8);
+        bytes[4] = (byte)hash;
+        System.arraycopy(payload, 0, bytes, 5, payload.length);
+        return bytes;
+    }
+
+    /**
+     * Index the change sets and the change sets they reference,
+     * return false if a change set cannot be written in binary.
+     */
+    protected boolean collectChangeSets(Collection<ObjectChangeSet> changeSets, DescriptorTable table, Map<ObjectChangeSet, Integer> indexes, List<ObjectChangeSet> collected) {
+        for (ObjectChangeSet changeSet : changeSets) {
+            if (changeSet == null) {
+                return false;
+            }
+            if (indexes.containsKey(changeSet)) {
+                continue;
+            }
+            if (changeSet.isAggregate() || (changeSet.getId() == null) || !table.ids.containsKey(changeSet.getDescriptor())) {
+                return false;
+            }
+            indexes.put(changeSet, collected.size());
+            collected.add(changeSet);
+            if (!isComplete(changeSet) || (changeSet.getChanges() == null)) {
+                continue;
+            }
+            if ((changeSet.getOldKey() != null) || (changeSet.getNewKey() != null) || (changeSet.getProtectedForeignKeys() != null)) {
+                return false;
+            }
+            for (ChangeRecord record : changeSet.getChanges()) {
+                Class<?> recordClass = record.getClass();
+                if (recordClass == DirectToFieldChangeRecord.class) {
+                    continue;
+                } else if (recordClass == ObjectReferenceChangeRecord.class) {
+                    ObjectChangeSet target = (ObjectChangeSet)((ObjectReferenceChangeRecord)record).getNewValue();
+                    if ((target != null) && !collectChangeSets(List.of(target), table, indexes, collected)) {
+                        return false;
+                    }
+                } else if (recordClass == CollectionChangeRecord.class) {
+                    CollectionChangeRecord collectionRecord = (CollectionChangeRecord)record;
+                    if (collectionRecord.isDeferred() || !collectionRecord.getOrderedAddObjects().isEmpty()
+                            || !collectionRecord.getOrderedRemoveObjects().isEmpty() || !collectionRecord.getOrderedChangeObjectList().isEmpty()
+                            || !collectChangeSets(collectionRecord.getAddObjectList().keySet(), table, indexes, collected)
+                            || !collectChangeSets(collectionRecord.getRemoveObjectList().keySet(), table, indexes, collected)) {
+                        return false;
+                    }
+                } else {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return if the changes of the change set are sent, otherwise only its identity.
+     */
+    protected boolean isComplete(ObjectChangeSet changeSet) {
+        int synchronizationType = changeSet.getSynchronizationType();
+        return !(changeSet.shouldBeDeleted() || (synchronizationType == ClassDescriptor.DO_NOT_SEND_CHANGES) || (synchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS));
+    }
+
+    protected void writeChangeSet(DataOutputStream out, ObjectChangeSet changeSet, DescriptorTable table, Map<ObjectChangeSet, Integer> indexes, Session session) throws IOException {
+        ClassDescriptor descriptor = changeSet.getDescriptor();
+        writeVarInt(out, table.ids.get(descriptor));
+        Boolean shouldModifyVersionField = changeSet.shouldModifyVersionField();
+        int flags = (changeSet.shouldBeDeleted() ? 1 : 0) | (changeSet.isInvalid() ? 2 : 0) | (changeSet.isNew() ? 4 : 0)
+                | (changeSet.hasVersionChange() ? 8 : 0) | ((shouldModifyVersionField != null) ? 16 : 0)
+                | (Boolean.TRUE.equals(shouldModifyVersionField) ? 32 : 0);
+        out.writeByte(flags);
+        out.writeByte(changeSet.getSynchronizationType());
+        writeValue(out, changeSet.getId(), session);
+        writeValue(out, changeSet.getWriteLockValue(), session);
+        writeValue(out, changeSet.getInitialWriteLockValue(), session);
+        if (!isComplete(changeSet)) {
+            return;
+        }
+        List<ChangeRecord> changes = changeSet.getChanges();
+        if (changes == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, changes.size());
+        Map<String, Integer> mappingIds = table.mappingIds.get(descriptor);
+        for (ChangeRecord record : changes) {
+            Integer mappingId = mappingIds.get(record.getAttribute());
+            if (mappingId == null) {
+                throw new IOException("Unknown attribute " + record.getAttribute() + " of " + descriptor.getJavaClassName());
+            }
+            writeVarInt(out, mappingId);
+            if (record instanceof DirectToFieldChangeRecord) {
+                out.writeByte(DIRECT_RECORD);
+                writeValue(out, ((DirectToFieldChangeRecord)record).getNewValue(), session);
+            } else if (record instanceof ObjectReferenceChangeRecord) {
+                out.writeByte(REFERENCE_RECORD);
+                ObjectChangeSet target = (ObjectChangeSet)((ObjectReferenceChangeRecord)record).getNewValue();
+                writeVarInt(out, (target == null) ? 0 : indexes.get(target) + 1);
+            } else {
+                out.writeByte(COLLECTION_RECORD);
+                writeIndexes(out, ((CollectionChangeRecord)record).getAddObjectList().keySet(), indexes);
+                writeIndexes(out, ((CollectionChangeRecord)record).getRemoveObjectList().keySet(), indexes);
+            }
+        }
+    }
+
+    protected void writeIndexes(DataOutputStream out, Collection<ObjectChangeSet> changeSets, Map<ObjectChangeSet, Integer> indexes) throws IOException {
+        writeVarInt(out, changeSets.size());
+        for (ObjectChangeSet changeSet : changeSets) {
+            writeVarInt(out, indexes.get(changeSet));
+        }
+    }
+
+    /**
+     * Read the command written in binary.
+     */
+    protected MergeChangeSetCommand deserializeCommand(byte[] bytes, Session session) throws IOException, DataFormatException {
+        DescriptorTable table = getDescriptorTable(session);
+        int hash = ((bytes[1] & 0xFF) << 24) | ((bytes[2] & 0xFF) << 16) | ((bytes[3] & 0xFF) << 8) | (bytes[4] & 0xFF);
+        if (hash != table.hash) {
+            throw new IOException("The change set was written with different descriptors.");
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 5, bytes.length - 5));
+        if ((bytes[0] & COMPRESSED) != 0) {
+            byte[] payload = new byte[readVarInt(in)];
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(in.readAllBytes());
+                int length = 0;
+                while (length < payload.length) {
+                    int read = inflater.inflate(payload, length, payload.length - length);
+                    if ((read == 0) && (inflater.finished() || inflater.needsInput())) {
+                        throw new IOException("Truncated change set.");
+                    }
+                    length += read;
+                }
+            } finally {
+                inflater.end();
+            }
+            in = new DataInputStream(new ByteArrayInputStream(payload));
+        }
+
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        if (in.readBoolean()) {
+            command.setServiceId(new ServiceId(readString(in), readString(in), readString(in)));
+        }
+        UnitOfWorkChangeSet uowChangeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet[] changeSets = new ObjectChangeSet[readVarInt(in)];
+        for (int index = 0; index < changeSets.length; index++) {
+            changeSets[index] = new ObjectChangeSet();
+        }
+        // The collection records can reference change sets read later, so their
+        // hashed maps are only filled once every change set has its id.
+        Map<Map<ObjectChangeSet, ObjectChangeSet>, int[]> collectionIndexes = new IdentityHashMap<>();
+        for (ObjectChangeSet changeSet : changeSets) {
+            readChangeSet(in, changeSet, changeSets, collectionIndexes, table, session);
+            changeSet.setUOWChangeSet(uowChangeSet);
+        }
+        for (Map.Entry<Map<ObjectChangeSet, ObjectChangeSet>, int[]> entry : collectionIndexes.entrySet()) {
+            for (int index : entry.getValue()) {
+                entry.getKey().put(changeSets[index], changeSets[index]);
+            }
+        }
+        int size = readVarInt(in);
+        for (int count = 0; count < size; count++) {
+            ObjectChangeSet changeSet = changeSets[readVarInt(in)];
+            uowChangeSet.getAllChangeSets().put(changeSet, changeSet);
+        }
+        size = readVarInt(in);
+        for (int count = 0; count < size; count++) {
+            ObjectChangeSet changeSet = changeSets[readVarInt(in)];
+            uowChangeSet.getDeletedObjects().put(changeSet, changeSet);
+        }
+        uowChangeSet.setHasChanges(changeSets.length > 0);
+        command.setChangeSet(uowChangeSet);
+        return command;
+    }
+
+    protected void readChangeSet(DataInputStream in, ObjectChangeSet changeSet, ObjectChangeSet[] changeSets, Map<Map<ObjectChangeSet, ObjectChangeSet>, int[]> collectionIndexes, DescriptorTable table, Session session) throws IOException {
+        ClassDescriptor descriptor = table.descriptors[readVarInt(in)];
+        changeSet.setDescriptor(descriptor);
+        changeSet.setClassType(descriptor.getJavaClass());
+        changeSet.setClassName(descriptor.getJavaClassName());
+        int flags = in.readByte();
+        changeSet.setShouldBeDeleted((flags & 1) != 0);
+        changeSet.setIsInvalid((flags & 2) != 0);
+        changeSet.setIsNew((flags & 4) != 0);
+        if ((flags & 16) != 0) {
+            changeSet.setShouldModifyVersionField((flags & 32) != 0);
+        }
+        changeSet.setSynchronizationType(in.readByte());
+        changeSet.setId(readValue(in, session));
+        changeSet.setWriteLockValue(readValue(in, session));
+        changeSet.setHasVersionChange((flags & 8) != 0);
+        changeSet.setInitialWriteLockValue(readValue(in, session));
+        if (!isComplete(changeSet)) {
+            return;
+        }
+        int size = readVarInt(in);
+        List<ChangeRecord> changes = new ArrayList<>(size);
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        for (int count = 0; count < size; count++) {
+            DatabaseMapping mapping = mappings.get(readVarInt(in));
+            org.eclipse.persistence.internal.sessions.ChangeRecord record;
+            byte kind = in.readByte();
+            if (kind == DIRECT_RECORD) {
+                DirectToFieldChangeRecord directRecord = new DirectToFieldChangeRecord(changeSet);
+                directRecord.setNewValue(readValue(in, session));
+                record = directRecord;
+            } else if (kind == REFERENCE_RECORD) {
+                ObjectReferenceChangeRecord referenceRecord = new ObjectReferenceChangeRecord(changeSet);
+                int target = readVarInt(in);
+                referenceRecord.setNewValue((target == 0) ? null : changeSets[target - 1]);
+                record = referenceRecord;
+            } else if (kind == COLLECTION_RECORD) {
+                CollectionChangeRecord collectionRecord = new CollectionChangeRecord(changeSet);
+                collectionIndexes.put(collectionRecord.getAddObjectList(), readIndexes(in, changeSets.length));
+                collectionIndexes.put(collectionRecord.getRemoveObjectList(), readIndexes(in, changeSets.length));
+                record = collectionRecord;
+            } else {
+                throw new IOException("Unknown change record " + kind);
+            }
+            record.setAttribute(mapping.getAttributeName());
+            record.setMapping(mapping);
+            changes.add(record);
+            changeSet.getAttributesToChanges().put(record.getAttribute(), record);
+        }
+        changeSet.setChanges(changes);
+    }
+
+    /**
+     * Read the change set indexes of a collection record.
+     */
+    protected int[] readIndexes(DataInputStream in, int length) throws IOException {
+        int[] indexes = new int[readVarInt(in)];
+        for (int count = 0; count < indexes.length; count++) {
+            indexes[count] = readVarInt(in);
+            if (indexes[count] >= length) {
+                throw new IOException("Unknown change set " + indexes[count]);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Write the value with a typed encoding, or Java serialization for other types.
+     */
+    protected void writeValue(DataOutputStream out, Object value, Session session) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            out.writeByte(STRING);
+            writeString(out, (String)value);
+        } else if (type == Integer.class) {
+            out.writeByte(INTEGER);
+            writeVarLong(out, (Integer)value);
+        } else if (type == Long.class) {
+            out.writeByte(LONG);
+            writeVarLong(out, (Long)value);
+        } else if (type == Short.class) {
+            out.writeByte(SHORT);
+            out.writeShort((Short)value);
+        } else if (type == Byte.class) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte)value);
+        } else if (type == Boolean.class) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean)value);
+        } else if (type == Double.class) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double)value);
+        } else if (type == Float.class) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float)value);
+        } else if (type == Character.class) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character)value);
+        } else if (type == BigDecimal.class) {
+            out.writeByte(BIG_DECIMAL);
+            BigDecimal decimal = (BigDecimal)value;
+            writeVarLong(out, decimal.scale());
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+        } else if (type == BigInteger.class) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger)value).toByteArray());
+        } else if (type == java.util.Date.class) {
+            out.writeByte(DATE);
+            writeVarLong(out, ((java.util.Date)value).getTime());
+        } else if (type == java.sql.Date.class) {
+            out.writeByte(SQL_DATE);
+            writeVarLong(out, ((java.sql.Date)value).getTime());
+        } else if (type == java.sql.Time.class) {
+            out.writeByte(SQL_TIME);
+            writeVarLong(out, ((java.sql.Time)value).getTime());
+        } else if (type == java.sql.Timestamp.class) {
+            out.writeByte(TIMESTAMP);
+            java.sql.Timestamp timestamp = (java.sql.Timestamp)value;
+            writeVarLong(out, timestamp.getTime());
+            writeVarInt(out, timestamp.getNanos());
+        } else if (type == LocalDate.class) {
+            out.writeByte(LOCAL_DATE);
+            writeVarLong(out, ((LocalDate)value).toEpochDay());
+        } else if (type == LocalTime.class) {
+            out.writeByte(LOCAL_TIME);
+            writeVarLong(out, ((LocalTime)value).toNanoOfDay());
+        } else if (type == LocalDateTime.class) {
+            out.writeByte(LOCAL_DATE_TIME);
+            LocalDateTime dateTime = (LocalDateTime)value;
+            writeVarLong(out, dateTime.toEpochSecond(ZoneOffset.UTC));
+            writeVarInt(out, dateTime.getNano());
+        } else if (type == Instant.class) {
+            out.writeByte(INSTANT);
+            Instant instant = (Instant)value;
+            writeVarLong(out, instant.getEpochSecond());
+            writeVarInt(out, instant.getNano());
+        } else if (type == byte[].class) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[])value);
+        } else if (type == CacheId.class) {
+            out.writeByte(CACHE_ID);
+            Object[] primaryKey = ((CacheId)value).getPrimaryKey();
+            writeVarInt(out, primaryKey.length);
+            for (Object keyValue : primaryKey) {
+                writeValue(out, keyValue, session);
+            }
+        } else {
+            out.writeByte(SERIALIZED);
+            writeBytes(out, (byte[])JavaSerializer.instance.serialize(value, session));
+        }
+    }
+
+    protected Object readValue(DataInputStream in, Session session) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INTEGER:
+                return (int)readVarLong(in);
+            case LONG:
+                return readVarLong(in);
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case CHARACTER:
+                return in.readChar();
+            case BIG_DECIMAL:
+                int scale = (int)readVarLong(in);
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case DATE:
+                return new java.util.Date(readVarLong(in));
+            case SQL_DATE:
+                return new java.sql.Date(readVarLong(in));
+            case SQL_TIME:
+                return new java.sql.Time(readVarLong(in));
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(readVarLong(in));
+                timestamp.setNanos(readVarInt(in));
+                return timestamp;
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(readVarLong(in));
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(readVarLong(in));
+            case LOCAL_DATE_TIME:
+                long seconds = readVarLong(in);
+                return LocalDateTime.ofEpochSecond(seconds, readVarInt(in), ZoneOffset.UTC);
+            case INSTANT:
+                long epochSecond = readVarLong(in);
+                return Instant.ofEpochSecond(epochSecond, readVarInt(in));
+            case BYTES:
+                return readBytes(in);
+            case CACHE_ID:
+                Object[] primaryKey = new Object[readVarInt(in)];
+                for (int index = 0; index < primaryKey.length; index++) {
+                    primaryKey[index] = readValue(in, session);
+                }
+                return new CacheId(primaryKey);
+            case SERIALIZED:
+                return JavaSerializer.instance.deserialize(readBytes(in), session);
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    protected void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    protected String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    protected void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    protected byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Write a positive int in 7 bit groups.
+     */
+    protected void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    protected int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int next = in.readUnsignedByte();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid variable length int.");
+    }
+
+    /**
+     * Write a signed long zig zag encoded in 7 bit groups.
+     */
+    protected void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.writeByte((int)((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int)zigZag);
+    }
+
+    protected long readVarLong(DataInputStream in) throws IOException {
+        long zigZag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int next = in.readUnsignedByte();
+            zigZag |= (long)(next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IOException("Invalid variable length long.");
+    }
+
+    protected byte[] compress(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+            byte[] buffer = new byte[Math.min(bytes.length, 8192)];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Return the descriptors of the session's project, indexed by class name.
+     */
+    protected DescriptorTable getDescriptorTable(Session session) {
+        DescriptorTable table = this.descriptorTable;
+        if ((table == null) || (table.descriptorsMap != session.getProject().getDescriptors())) {
+            table = new DescriptorTable(session.getProject().getDescriptors());
+            this.descriptorTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * The descriptors ordered by class name, and their mappings by attribute name,
+     * with a hash of their names to check that the nodes use the same descriptors.
+     */
+    protected static class DescriptorTable {
+        protected final Map<Class<?>, ClassDescriptor> descriptorsMap;
+        protected final ClassDescriptor[] descriptors;
+        protected final Map<ClassDescriptor, Integer> ids;
+        protected final Map<ClassDescriptor, Map<String, Integer>> mappingIds;
+        protected final int hash;
+
+        protected DescriptorTable(Map<Class<?>, ClassDescriptor> descriptorsMap) {
+            this.descriptorsMap = descriptorsMap;
+            this.descriptors = descriptorsMap.values().toArray(new ClassDescriptor[0]);
+            Arrays.sort(this.descriptors, Comparator.comparing(ClassDescriptor::getJavaClassName));
+            this.ids = new IdentityHashMap<>(this.descriptors.length);
+            this.mappingIds = new IdentityHashMap<>(this.descriptors.length);
+            int hash = 1;
+            for (int index = 0; index < this.descriptors.length; index++) {
+                ClassDescriptor descriptor = this.descriptors[index];
+                this.ids.put(descriptor, index);
+                hash = (31 * hash) + descriptor.getJavaClassName().hashCode();
+                List<DatabaseMapping> mappings = descriptor.getMappings();
+                Map<String, Integer> attributeIds = new HashMap<>(mappings.size() * 2);
+                for (int mappingIndex = 0; mappingIndex < mappings.size(); mappingIndex++) {
+                    String attributeName = mappings.get(mappingIndex).getAttributeName();
+                    attributeIds.put(attributeName, mappingIndex);
+                    hash = (31 * hash) + ((attributeName == null) ? 0 : attributeName.hashCode());
+                }
+                this.mappingIds.put(descriptor, attributeIds);
+            }
+            this.hash = hash;
+        }
+    }
+}
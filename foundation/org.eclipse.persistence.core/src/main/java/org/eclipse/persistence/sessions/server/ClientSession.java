@@ -500,6 +500,34 @@ public ServerSession getParent() {
         return parent;
     }
 
+    /**
+     * INTERNAL:
+     * Return true, the asynchronous queries are executed on their own client session.
+     */
+    @Override
+    protected boolean isAsyncQuerySupported() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Acquire a client session executing an asynchronous query,
+     * with the connection policy and properties of this client session but its own connection.
+     */
+    @Override
+    protected AbstractSession acquireAsyncQuerySession() {
+        return this.parent.acquireClientSession((ConnectionPolicy)this.connectionPolicy.clone(), this.properties);
+    }
+
+    /**
+     * INTERNAL:
+     * Release the client session that executed an asynchronous query.
+     */
+    @Override
+    protected void releaseAsyncQuerySession(AbstractSession session) {
+        session.release();
+    }
+
     /**
      * INTERNAL:
      * Was PUBLIC: customer will be redirected to {@link org.eclipse.persistence.sessions.Session}.
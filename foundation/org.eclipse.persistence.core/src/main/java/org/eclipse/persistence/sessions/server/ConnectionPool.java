@@ -18,6 +18,7 @@
 
 import org.eclipse.persistence.internal.databaseaccess.*;
 import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.internal.helper.*;
 import org.eclipse.persistence.exceptions.*;
 import org.eclipse.persistence.internal.localization.*;
@@ -157,10 +158,13 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
                 }
                 return connection;
             }
+            this.owner.startOperationProfile(SessionProfiler.ConnectionAcquireWait);
             try {
                 wait(this.waitTimeout);// Notify is called when connections are released.
             } catch (InterruptedException exception) {
                 throw ConcurrencyException.waitFailureOnClientSession(exception);
+            } finally {
+                this.owner.endOperationProfile(SessionProfiler.ConnectionAcquireWait);
             }
         }
 
@@ -217,6 +221,10 @@ protected Accessor buildConnection() {
         Accessor connection = this.login.buildAccessor();
         connection.setPool(this);
         connection.connect(this.login, this.owner);
+        // Prepare the most frequent statements on the first use of the connection, outside of the pool lock.
+        if (connection instanceof DatabaseAccessor) {
+            ((DatabaseAccessor)connection).setShouldPrewarmStatementCache(true);
+        }
 
         return connection;
     }
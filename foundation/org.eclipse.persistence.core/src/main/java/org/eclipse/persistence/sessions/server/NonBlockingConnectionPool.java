@@ -0,0 +1,541 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Connection pool that does not use the pool monitor to allocate and release connections.
+ * <p>
+ * Available connections are kept in a lock-free stack (the most recently released, "hot" connection is reused first),
+ * and threads that must wait for a connection are queued in FIFO order and parked,
+ * releasing a connection wakes the longest waiting thread.
+ * This avoids the monitor contention of {@link ConnectionPool} under a large number of concurrent requests,
+ * and does not pin carrier threads when used from virtual threads.
+ * <p>
+ * The pool also records the number of acquires, the number of acquires that had to wait, and the time spent waiting.
+ * <p>
+ * Fail-over and connection checking behave the same as in {@link ConnectionPool}.
+ *
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#CONNECTION_POOL_NON_BLOCKING
+ */
+public class NonBlockingConnectionPool extends ConnectionPool {
+
+    /** Stack of available connections, the head is the most recently released connection. */
+    protected ConcurrentLinkedDeque<Accessor> availableConnections;
+    /** Connections currently allocated to clients. */
+    protected Set<Accessor> usedConnections;
+    /** Number of connections built by the pool, both available and used. */
+    protected AtomicInteger totalConnections;
+    /** Threads waiting for a connection, in arrival order. */
+    protected ConcurrentLinkedDeque<Waiter> waiters;
+
+    protected LongAdder acquireCount;
+    protected LongAdder waitCount;
+    protected LongAdder totalWaitTime;
+    protected AtomicLong maxWaitTime;
+
+    /**
+     * PUBLIC:
+     * Build a new non blocking connection pool.
+     */
+    public NonBlockingConnectionPool() {
+        super();
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new non blocking connection pool.
+     */
+    public NonBlockingConnectionPool(String name, Login login, ServerSession owner) {
+        super(name, login, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new non blocking connection pool.
+     */
+    public NonBlockingConnectionPool(String name, Login login, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new non blocking connection pool.
+     */
+    public NonBlockingConnectionPool(String name, Login login, int initialNumberOfConnections, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, initialNumberOfConnections, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new non blocking connection pool configured as the connection pool, to replace it before login.
+     */
+    public NonBlockingConnectionPool(ConnectionPool pool) {
+        super(pool.getName(), pool.getLogin(), pool.getInitialNumberOfConnections(), pool.getMinNumberOfConnections(), pool.getMaxNumberOfConnections(), pool.getOwner());
+        setWaitTimeout(pool.getWaitTimeout());
+        setFailoverConnectionPools(pool.getFailoverConnectionPools());
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate a connection for the client, waiting in FIFO order if the pool is at its maximum size.
+     */
+    @Override
+    public Accessor acquireConnection() throws ConcurrencyException {
+        // Check for dead database and fail-over.
+        if (this.isDead) {
+            return failover();
+        }
+        long waitStart = 0;
+        boolean hasWaited = false;
+        while (true) {
+            Accessor connection = pollAvailableConnection();
+            if (connection != null) {
+                return acquired(connection, hasWaited, waitStart);
+            }
+            int total = this.totalConnections.get();
+            if (total < this.maxNumberOfConnections) {
+                if (!this.totalConnections.compareAndSet(total, total + 1)) {
+                    continue;
+                }
+                try {
+                    connection = buildConnection();
+                } catch (RuntimeException failed) {
+                    this.totalConnections.decrementAndGet();
+                    signalWaiter();
+                    if (!this.failoverConnectionPools.isEmpty()) {
+                        this.isDead = true;
+                        this.timeOfDeath = System.currentTimeMillis();
+                        this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                        return acquireConnection();
+                    } else {
+                        throw failed;
+                    }
+                }
+                return acquired(connection, hasWaited, waitStart);
+            }
+            // A thread that was woken but lost the connection to another thread keeps its place at the head of the queue.
+            boolean isRetry = hasWaited;
+            if (!hasWaited) {
+                hasWaited = true;
+                waitStart = System.nanoTime();
+                this.waitCount.increment();
+            }
+            awaitConnection(isRetry);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the allocation of the connection to a client.
+     */
+    protected Accessor acquired(Accessor connection, boolean hasWaited, long waitStart) {
+        this.usedConnections.add(connection);
+        this.acquireCount.increment();
+        if (hasWaited) {
+            long waitTime = System.nanoTime() - waitStart;
+            this.totalWaitTime.add(waitTime);
+            this.maxWaitTime.accumulateAndGet(waitTime, Math::max);
+        }
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, this.usedConnections.size());
+        }
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Pop the most recently released connection.
+     * If connections must be checked, dead connections are closed and discarded,
+     * null is returned if no connection is available.
+     */
+    protected Accessor pollAvailableConnection() {
+        Accessor connection = this.availableConnections.pollFirst();
+        if ((connection == null) || !this.checkConnections) {
+            return connection;
+        }
+        // EclipseLink has encountered a problem with a connection where the database no longer responded
+        // We need to now ensure that the failure was specific to that connection or we need to empty
+        // the pool of dead connections in the case of a database failover.
+        while (connection != null) {
+            if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
+                try {
+                    //connection failed connect test
+                    connection.closeConnection();
+                } catch (Exception ex) {
+                    //ignore
+                } finally {
+                    connection.releaseCustomizer();
+                }
+                this.totalConnections.decrementAndGet();
+                // Room was made for a new connection.
+                signalWaiter();
+                connection = this.availableConnections.pollFirst();
+            } else {
+                //connection was good use it.  And make sure we stop testing connections
+                this.checkConnections = false;
+                return connection;
+            }
+        }
+        //we have emptied out all connections so let's have the connection pool build more
+        this.checkConnections = false;
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Queue the current thread and park it until it is signaled that a connection was released,
+     * or room for a new connection was made, or the wait timeout expires.
+     * The caller must then retry its allocation.
+     */
+    protected void awaitConnection(boolean isRetry) throws ConcurrencyException {
+        Waiter waiter = new Waiter(Thread.currentThread());
+        if (isRetry) {
+            this.waiters.offerFirst(waiter);
+        } else {
+            this.waiters.offerLast(waiter);
+        }
+        // Check again after queuing, as a connection may have been released before the waiter was visible.
+        if (!this.availableConnections.isEmpty() || (this.totalConnections.get() < this.maxNumberOfConnections)) {
+            cancel(waiter);
+            return;
+        }
+        long timeout = TimeUnit.MILLISECONDS.toNanos(this.waitTimeout);
+        long deadline = System.nanoTime() + timeout;
+        this.owner.startOperationProfile(SessionProfiler.ConnectionAcquireWait);
+        try {
+            while (!waiter.isSignaled()) {
+                if (timeout == 0) {
+                    LockSupport.park(this);
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        cancel(waiter);
+                        return;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+                if (Thread.interrupted()) {
+                    cancel(waiter);
+                    throw ConcurrencyException.waitFailureOnClientSession(new InterruptedException());
+                }
+            }
+        } finally {
+            this.owner.endOperationProfile(SessionProfiler.ConnectionAcquireWait);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the waiter from the queue,
+     * if it was already signaled pass the signal on to the next waiting thread.
+     */
+    protected void cancel(Waiter waiter) {
+        if (waiter.cancel()) {
+            this.waiters.remove(waiter);
+        } else {
+            signalWaiter();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Wake the longest waiting thread to retry its allocation,
+     * used when a connection was released or room for a new connection was made in the pool.
+     */
+    protected void signalWaiter() {
+        Waiter waiter;
+        while ((waiter = this.waiters.pollFirst()) != null) {
+            if (waiter.signal()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Release the connection to the pool, and wake the longest waiting thread.
+     */
+    @Override
+    public void releaseConnection(Accessor connection) throws DatabaseException {
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
+        }
+        connection.reset();
+
+        this.usedConnections.remove(connection);
+
+        if (!connection.isValid()) {
+            this.checkConnections = true;
+            this.totalConnections.decrementAndGet();
+            try {
+                connection.disconnect(this.owner);
+            } catch (DatabaseException ex) {
+                //this is an invalid connection so expect an exception.
+            } finally {
+                signalWaiter();
+            }
+        } else if (this.waiters.isEmpty() && shrink()) {
+            try {
+                connection.disconnect(getOwner());
+            } finally {
+                signalWaiter();
+            }
+        } else {
+            this.availableConnections.offerFirst(connection);
+            signalWaiter();
+        }
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, this.usedConnections.size());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Decrement the number of connections if the pool is above its minimum size.
+     * Return true if the released connection should be disconnected.
+     */
+    protected boolean shrink() {
+        int total;
+        do {
+            total = this.totalConnections.get();
+            if (total <= this.minNumberOfConnections) {
+                return false;
+            }
+        } while (!this.totalConnections.compareAndSet(total, total - 1));
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Return a snapshot of the connections currently available for use in the pool.
+     */
+    @Override
+    public List<Accessor> getConnectionsAvailable() {
+        return new ArrayList<>(this.availableConnections);
+    }
+
+    /**
+     * Return a snapshot of the connections that are being used.
+     */
+    @Override
+    protected List<Accessor> getConnectionsUsed() {
+        return new ArrayList<>(this.usedConnections);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the total number of connections currently in use.
+     */
+    @Override
+    public int getTotalNumberOfConnections() {
+        return this.totalConnections.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if a connection is available without waiting.
+     */
+    @Override
+    public boolean hasConnectionAvailable() {
+        return !this.availableConnections.isEmpty();
+    }
+
+    /**
+     * INTERNAL:
+     * Reset the connections on shutDown and when the pool is started.
+     */
+    @Override
+    public void resetConnections() {
+        super.resetConnections();
+        this.availableConnections = new ConcurrentLinkedDeque<>();
+        this.usedConnections = ConcurrentHashMap.newKeySet();
+        this.totalConnections = new AtomicInteger();
+        this.waiters = new ConcurrentLinkedDeque<>();
+        resetStatistics();
+    }
+
+    /**
+     * PUBLIC:
+     * Reset the acquire and wait statistics of the pool.
+     */
+    public void resetStatistics() {
+        this.acquireCount = new LongAdder();
+        this.waitCount = new LongAdder();
+        this.totalWaitTime = new LongAdder();
+        this.maxWaitTime = new AtomicLong();
+    }
+
+    /**
+     * INTERNAL:
+     * Disconnect all connections.
+     */
+    @Override
+    public synchronized void shutDown() {
+        setIsConnected(false);
+
+        for (Accessor connection : this.availableConnections) {
+            try {
+                connection.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+
+        for (Accessor connection : this.usedConnections) {
+            try {
+                connection.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+        // Wake any waiting threads, they will retry against the reset pool.
+        Waiter waiter;
+        while ((waiter = this.waiters.pollFirst()) != null) {
+            waiter.signal();
+        }
+        resetConnections();
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate the initial connections.
+     */
+    @Override
+    public synchronized void startUp() {
+        if (isConnected()) {
+            return;
+        }
+        for (int index = getInitialNumberOfConnections(); index > 0; index--) {
+            this.availableConnections.offerFirst(buildConnection());
+            this.totalConnections.incrementAndGet();
+        }
+
+        setIsConnected(true);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of connections allocated from the pool.
+     */
+    public long getAcquireCount() {
+        return this.acquireCount.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of connection allocations that had to wait for a connection.
+     */
+    public long getWaitCount() {
+        return this.waitCount.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the total time in nanoseconds that allocations waited for a connection.
+     */
+    public long getTotalWaitTime() {
+        return this.totalWaitTime.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the average time in nanoseconds that waiting allocations waited for a connection.
+     */
+    public long getAverageWaitTime() {
+        long count = this.waitCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+        return this.totalWaitTime.sum() / count;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the longest time in nanoseconds that an allocation waited for a connection.
+     */
+    public long getMaxWaitTime() {
+        return this.maxWaitTime.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of threads currently waiting for a connection.
+     */
+    public int getNumberOfWaiters() {
+        return this.waiters.size();
+    }
+
+    /**
+     * INTERNAL:
+     * A thread waiting for a connection.
+     * The waiter is either signaled by a releasing thread, or cancelled by the waiting thread, but not both.
+     */
+    protected static class Waiter extends AtomicInteger {
+        protected static final int WAITING = 0;
+        protected static final int SIGNALED = 1;
+        protected static final int CANCELLED = 2;
+
+        protected final Thread thread;
+
+        protected Waiter(Thread thread) {
+            this.thread = thread;
+        }
+
+        /**
+         * Wake the waiting thread, return false if the waiter was already signaled or cancelled.
+         */
+        protected boolean signal() {
+            if (compareAndSet(WAITING, SIGNALED)) {
+                LockSupport.unpark(this.thread);
+                return true;
+            }
+            return false;
+        }
+
+        protected boolean cancel() {
+            return compareAndSet(WAITING, CANCELLED);
+        }
+
+        protected boolean isSignaled() {
+            return get() == SIGNALED;
+        }
+    }
+}
@@ -26,6 +26,8 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.ConcurrencyException;
@@ -80,6 +82,9 @@ public class ServerSession extends DatabaseSessionImpl implements Server {
     protected ConnectionPolicy defaultConnectionPolicy;
     protected int numberOfNonPooledConnectionsUsed;
     protected int maxNumberOfNonPooledConnections;
+    /** Lock guarding the number of non pooled connections used, and signaled when one is released. */
+    protected final ReentrantLock nonPooledConnectionsLock = new ReentrantLock();
+    protected final Condition nonPooledConnectionReleased = this.nonPooledConnectionsLock.newCondition();
 
     public static final int NO_MAX = -1;
     public static final String DEFAULT_POOL = "default";
@@ -271,15 +276,18 @@ public void acquireClientConnection(ClientSession clientSession) throws Database
             clientSession.addWriteConnection(pool.getName(), accessor);
         } else {
             if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                synchronized (this) {
+                this.nonPooledConnectionsLock.lock();
+                try {
                     while (this.numberOfNonPooledConnectionsUsed >= this.maxNumberOfNonPooledConnections) {
                         try {
-                            wait();// Notify is called when connections are released.
+                            this.nonPooledConnectionReleased.await();// Signaled when connections are released.
                         } catch (InterruptedException exception) {
                             throw ConcurrencyException.waitFailureOnServerSession(exception);
                         }
                     }
                     this.numberOfNonPooledConnectionsUsed++;
+                } finally {
+                    this.nonPooledConnectionsLock.unlock();
                 }
             }
             try {
@@ -290,10 +298,7 @@ public void acquireClientConnection(ClientSession clientSession) throws Database
                 // A DatabaseException was thrown, undo the numberOfNonPooledConnectionsUsed counter increment otherwise
                 // the counter will be out of synch with the actual number of connections.
                 if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                    synchronized (this) {
-                        this.numberOfNonPooledConnectionsUsed--;
-                        notify();
-                    }
+                    releaseNonPooledConnection();
                 }
                 throw dbe;
             }
@@ -445,6 +450,33 @@ public ClientSession acquireClientSession(ConnectionPolicy connectionPolicy, Map
         return client;
     }
 
+    /**
+     * INTERNAL:
+     * Return true, the asynchronous queries are executed on their own client session.
+     */
+    @Override
+    protected boolean isAsyncQuerySupported() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Acquire a client session executing an asynchronous query, reading from the read connection pool.
+     */
+    @Override
+    protected AbstractSession acquireAsyncQuerySession() {
+        return acquireClientSession();
+    }
+
+    /**
+     * INTERNAL:
+     * Release the client session that executed an asynchronous query.
+     */
+    @Override
+    protected void releaseAsyncQuerySession(AbstractSession session) {
+        session.release();
+    }
+
     /**
      * INTERNAL:
      * Acquires a special historical session for reading objects as of a past time.
@@ -526,6 +558,9 @@ public Accessor allocateReadConnection() {
     public void connect() {
         // make sure pools correspond to their logins
         updateStandardConnectionPools();
+        if (this.project.shouldUseVirtualThreads()) {
+            useNonBlockingConnectionPools();
+        }
         // Configure the read pool
         this.readConnectionPool.startUp();
         setAccessor(allocateReadConnection());
@@ -851,10 +886,7 @@ public void releaseInvalidClientSession(ClientSession clientSession) throws Data
                     }
                     } finally {
                     if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                        synchronized (this) {
-                            this.numberOfNonPooledConnectionsUsed--;
-                            notify();
-                        }
+                        releaseNonPooledConnection();
                     }
                 }
                 }
@@ -863,6 +895,20 @@ public void releaseInvalidClientSession(ClientSession clientSession) throws Data
         }
     }
 
+    /**
+     * INTERNAL:
+     * Decrement the number of non pooled connections used, and wake a client waiting for one.
+     */
+    protected void releaseNonPooledConnection() {
+        this.nonPooledConnectionsLock.lock();
+        try {
+            this.numberOfNonPooledConnectionsUsed--;
+            this.nonPooledConnectionReleased.signal();
+        } finally {
+            this.nonPooledConnectionsLock.unlock();
+        }
+    }
+
     /**
      * INTERNAL:
      * Release the clients connection resource.
@@ -894,10 +940,7 @@ public void releaseClientSession(ClientSession clientSession) throws DatabaseExc
             }
             clientSession.setWriteConnections(null);
             if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                synchronized (this) {
-                    this.numberOfNonPooledConnectionsUsed--;
-                    notify();
-                }
+                releaseNonPooledConnection();
             }
         }
     }
@@ -1029,6 +1072,30 @@ protected void updateStandardConnectionPools() {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Replace the internal connection pools by non blocking connection pools, used from virtual threads.
+     * The pools of other types, such as external or shared read connection pools, are kept.
+     * @see Project#setShouldUseVirtualThreads(boolean)
+     */
+    protected void useNonBlockingConnectionPools() {
+        ConnectionPool readPool = this.readConnectionPool;
+        for (Map.Entry<String, ConnectionPool> entry : getConnectionPools().entrySet()) {
+            ConnectionPool pool = entry.getValue();
+            if (pool.getClass() == ConnectionPool.class) {
+                NonBlockingConnectionPool nonBlockingPool = new NonBlockingConnectionPool(pool);
+                entry.setValue(nonBlockingPool);
+                // The default pool is also used for reading if no read pool was configured.
+                if (readPool == pool) {
+                    this.readConnectionPool = nonBlockingPool;
+                }
+            }
+        }
+        if ((this.readConnectionPool != null) && (this.readConnectionPool.getClass() == ConnectionPool.class)) {
+            this.readConnectionPool = new NonBlockingConnectionPool(this.readConnectionPool);
+        }
+    }
+
     /**
      * PUBLIC:
      * Configure the read connection pool.
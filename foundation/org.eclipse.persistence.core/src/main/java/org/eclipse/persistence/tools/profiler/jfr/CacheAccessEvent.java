@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of a lookup of a query in the shared cache.
+ *
+ * @see JfrProfiler
+ */
+@Name("org.eclipse.persistence.CacheAccess")
+@Label("Cache Access")
+@Category({"EclipseLink", "Cache"})
+@Description("Hit or miss of a query in the cache")
+@StackTrace(false)
+public class CacheAccessEvent extends Event {
+
+    @Label("Session")
+    public String session;
+
+    @Label("Descriptor")
+    @Description("Reference class of the query")
+    public String descriptor;
+
+    @Label("Hit")
+    public boolean hit;
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of a phase of the commit of a unit of work.
+ *
+ * @see JfrProfiler
+ */
+@Name("org.eclipse.persistence.CommitPhase")
+@Label("Unit of Work Commit Phase")
+@Category({"EclipseLink", "Unit of Work"})
+@Description("Commit of a unit of work, or one of its phases: change calculation, database write or merge")
+public class CommitPhaseEvent extends Event {
+
+    @Label("Session")
+    public String session;
+
+    @Label("Phase")
+    @Description("Commit, CalculateChanges, WriteChanges or Merge")
+    public String phase;
+}
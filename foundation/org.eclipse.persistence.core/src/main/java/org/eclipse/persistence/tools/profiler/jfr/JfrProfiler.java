@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DataRecord;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p><b>Purpose</b>: A profiler emitting JDK Flight Recorder events, to be left on in production.
+ * <p>
+ * The events are only built when a recording enables them, otherwise each profiled operation
+ * costs a check of the event type, and the cache accesses are not locked for profiling.
+ * The events recorded are:
+ * <ul>
+ * <li>{@link QueryExecutionEvent} for each query executed, with its SQL and row count,
+ * <li>{@link ConnectionAcquireEvent} for each wait for a connection of an exhausted connection pool,
+ * <li>{@link CacheAccessEvent} for each cache hit and miss of a query, with its descriptor,
+ * <li>{@link CommitPhaseEvent} for the commit of a unit of work and each of its phases,
+ * <li>{@link LockWaitEvent} for each wait for a lock held by another thread, for all the sessions.
+ * </ul>
+ * Lock waits are not related to a session, they are recorded while a session using a JFR profiler is logged in.
+ * The profiler is set through the "eclipselink.profiler" persistence property with the "JfrProfiler" value,
+ * or {@link org.eclipse.persistence.sessions.Session#setProfiler(SessionProfiler)}.
+ * On the module path the jdk.jfr module must be resolved, i.e. with --add-modules jdk.jfr.
+ *
+ * @see org.eclipse.persistence.config.ProfilerType#JfrProfiler
+ */
+public class JfrProfiler implements Serializable, Cloneable, SessionProfiler {
+
+    private static final EventType QUERY_EXECUTION = EventType.getEventType(QueryExecutionEvent.class);
+    private static final EventType CONNECTION_ACQUIRE = EventType.getEventType(ConnectionAcquireEvent.class);
+    private static final EventType CACHE_ACCESS = EventType.getEventType(CacheAccessEvent.class);
+    private static final EventType COMMIT_PHASE = EventType.getEventType(CommitPhaseEvent.class);
+    private static final EventType LOCK_WAIT = EventType.getEventType(LockWaitEvent.class);
+
+    /** Events begun by the current thread, by operation name, the most recently begun first. */
+    private static final ThreadLocal<Map<String, Deque<Event>>> BEGUN_EVENTS = ThreadLocal.withInitial(HashMap::new);
+
+    private static final ObjLongConsumer<ConcurrencyManager> LOCK_WAIT_LISTENER = JfrProfiler::lockWaited;
+
+    /** Sessions recording the lock waits, the lock wait listener is removed when the last one logs out. */
+    private static final Set<Session> LOCK_WAIT_SESSIONS = new HashSet<>();
+
+    transient protected AbstractSession session;
+    protected int profileWeight;
+
+    /**
+     * PUBLIC:
+     * Create a new profiler.
+     * The profiler can be registered with a session to emit JFR events.
+     */
+    public JfrProfiler() {
+        this.profileWeight = SessionProfiler.ALL;
+    }
+
+    @Override
+    public JfrProfiler clone() {
+        try {
+            return (JfrProfiler)super.clone();
+        } catch (CloneNotSupportedException exception) {
+            throw new InternalError();
+        }
+    }
+
+    public AbstractSession getSession() {
+        return session;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the session, and record the lock waits while it is logged in.
+     */
+    @Override
+    public void setSession(Session session) {
+        this.session = (AbstractSession)session;
+        if (session == null) {
+            return;
+        }
+        session.getEventManager().addListener(new SessionEventAdapter() {
+            @Override
+            public void postLogin(SessionEvent event) {
+                startRecordingLockWaits(event.getSession());
+            }
+
+            @Override
+            public void postLogout(SessionEvent event) {
+                stopRecordingLockWaits(event.getSession());
+            }
+        });
+        if (session.isConnected()) {
+            startRecordingLockWaits(session);
+        }
+    }
+
+    /**
+     * Record the lock waits while the session is logged in.
+     */
+    protected static synchronized void startRecordingLockWaits(Session session) {
+        LOCK_WAIT_SESSIONS.add(session);
+        if (ConcurrencyManager.getLockWaitListener() == null) {
+            ConcurrencyManager.setLockWaitListener(LOCK_WAIT_LISTENER);
+        }
+    }
+
+    /**
+     * Stop recording the lock waits if no other session records them.
+     */
+    protected static synchronized void stopRecordingLockWaits(Session session) {
+        LOCK_WAIT_SESSIONS.remove(session);
+        if (LOCK_WAIT_SESSIONS.isEmpty() && (ConcurrencyManager.getLockWaitListener() == LOCK_WAIT_LISTENER)) {
+            ConcurrencyManager.setLockWaitListener(null);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the execution of the query if enabled.
+     */
+    @Override
+    public Object profileExecutionOfQuery(DatabaseQuery query, DataRecord row, AbstractSession session) {
+        if ((this.profileWeight < SessionProfiler.HEAVY) || !QUERY_EXECUTION.isEnabled()) {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        }
+        QueryExecutionEvent event = new QueryExecutionEvent();
+        event.begin();
+        Object result = session.internalExecuteQuery(query, (AbstractRecord)row);
+        event.end();
+        if (event.shouldCommit()) {
+            event.session = session.getName();
+            event.queryClass = query.getClass().getSimpleName();
+            event.queryName = query.getName();
+            event.referenceClass = query.getReferenceClassName();
+            event.sql = query.getSQLString();
+            if (result instanceof Collection) {
+                event.rowCount = ((Collection<?>)result).size();
+            } else if (result instanceof Integer) {
+                event.rowCount = (Integer)result;
+            } else {
+                event.rowCount = (result == null) ? 0 : 1;
+            }
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Return a new event of the operation if it is profiled and enabled, otherwise null.
+     */
+    protected Event newOperationEvent(String operationName) {
+        if (SessionProfiler.ConnectionAcquireWait.equals(operationName)) {
+            if (CONNECTION_ACQUIRE.isEnabled()) {
+                ConnectionAcquireEvent event = new ConnectionAcquireEvent();
+                event.session = (this.session == null) ? null : this.session.getName();
+                return event;
+            }
+            return null;
+        }
+        String phase = null;
+        if (SessionProfiler.UowCommit.equals(operationName)) {
+            phase = "Commit";
+        } else if (SessionProfiler.UowCalculateChanges.equals(operationName)) {
+            phase = "CalculateChanges";
+        } else if (SessionProfiler.UowWriteChanges.equals(operationName)) {
+            phase = "WriteChanges";
+        } else if (SessionProfiler.Merge.equals(operationName)) {
+            phase = "Merge";
+        }
+        if ((phase == null) || !COMMIT_PHASE.isEnabled()) {
+            return null;
+        }
+        CommitPhaseEvent event = new CommitPhaseEvent();
+        event.session = (this.session == null) ? null : this.session.getName();
+        event.phase = phase;
+        return event;
+    }
+
+    /**
+     * INTERNAL:
+     * Begin the event of the operation if enabled.
+     */
+    @Override
+    public void startOperationProfile(String operationName) {
+        Event event = newOperationEvent(operationName);
+        if (event != null) {
+            event.begin();
+            BEGUN_EVENTS.get().computeIfAbsent(operationName, name -> new ArrayDeque<>()).push(event);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Begin the event of the operation if enabled.
+     */
+    @Override
+    public void startOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        startOperationProfile(operationName);
+    }
+
+    /**
+     * INTERNAL:
+     * Commit the event of the operation if begun.
+     */
+    @Override
+    public void endOperationProfile(String operationName) {
+        Map<String, Deque<Event>> events = BEGUN_EVENTS.get();
+        if (events.isEmpty()) {
+            return;
+        }
+        // Operations of the same name may be nested, the last one begun ends first.
+        Deque<Event> begun = events.get(operationName);
+        if (begun == null) {
+            return;
+        }
+        Event event = begun.pop();
+        if (begun.isEmpty()) {
+            events.remove(operationName);
+        }
+        event.commit();
+    }
+
+    /**
+     * INTERNAL:
+     * Commit the event of the operation if begun.
+     */
+    @Override
+    public void endOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        endOperationProfile(operationName);
+    }
+
+    /**
+     * INTERNAL:
+     * States are not recorded.
+     */
+    @Override
+    public void update(String operationName, Object value) {
+    }
+
+    /**
+     * INTERNAL:
+     * Counters without a query are not recorded.
+     */
+    @Override
+    public void occurred(String operationName, AbstractSession session) {
+    }
+
+    /**
+     * INTERNAL:
+     * Record the cache hits and misses of the query if enabled.
+     */
+    @Override
+    public void occurred(String operationName, DatabaseQuery query, AbstractSession session) {
+        if ((this.profileWeight < SessionProfiler.NORMAL) || !CACHE_ACCESS.isEnabled()) {
+            return;
+        }
+        boolean hit = SessionProfiler.CacheHits.equals(operationName);
+        if (hit || SessionProfiler.CacheMisses.equals(operationName)) {
+            CacheAccessEvent event = new CacheAccessEvent();
+            if (event.shouldCommit()) {
+                event.session = session.getName();
+                event.descriptor = query.getReferenceClassName();
+                event.hit = hit;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Set the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     * Query executions are recorded from HEAVY, cache accesses from NORMAL.
+     * @see SessionProfiler
+     */
+    @Override
+    public void setProfileWeight(int profileWeight) {
+        this.profileWeight = profileWeight;
+    }
+
+    /**
+     * Return the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     * @see SessionProfiler
+     */
+    @Override
+    public int getProfileWeight() {
+        return profileWeight;
+    }
+
+    @Override
+    public void initialize() {
+    }
+
+    /**
+     * INTERNAL:
+     * The cache accesses are recorded from the queries, the identity maps are not locked for profiling.
+     */
+    @Override
+    public boolean shouldProfileCacheAccess() {
+        return false;
+    }
+
+    /**
+     * Record the wait for the lock if enabled.
+     */
+    protected static void lockWaited(ConcurrencyManager lock, long waitTime) {
+        if (!LOCK_WAIT.isEnabled()) {
+            return;
+        }
+        LockWaitEvent event = new LockWaitEvent();
+        if (event.shouldCommit()) {
+            event.waitTime = waitTime;
+            event.lockClass = lock.getClass().getSimpleName();
+            if (lock instanceof CacheKey) {
+                CacheKey cacheKey = (CacheKey)lock;
+                Object object = cacheKey.getObject();
+                event.objectClass = (object == null) ? null : object.getClass().getName();
+                event.primaryKey = String.valueOf(cacheKey.getKey());
+            }
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event of a wait for a cache key or another lock of a concurrency manager.
+ * The event is committed at the end of the wait, its wait time is the duration of the wait.
+ *
+ * @see JfrProfiler
+ * @see org.eclipse.persistence.internal.helper.ConcurrencyManager
+ */
+@Name("org.eclipse.persistence.LockWait")
+@Label("Lock Wait")
+@Category({"EclipseLink", "Locking"})
+@Description("Wait for a lock held by another thread")
+public class LockWaitEvent extends Event {
+
+    @Label("Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long waitTime;
+
+    @Label("Lock Class")
+    public String lockClass;
+
+    @Label("Object Class")
+    @Description("Class of the object of the cache key, if the lock is a cache key")
+    public String objectClass;
+
+    @Label("Primary Key")
+    @Description("Primary key of the cache key, if the lock is a cache key")
+    public String primaryKey;
+}
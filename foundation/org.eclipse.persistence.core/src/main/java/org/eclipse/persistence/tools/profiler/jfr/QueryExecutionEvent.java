@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of the execution of a query.
+ *
+ * @see JfrProfiler
+ */
+@Name("org.eclipse.persistence.QueryExecution")
+@Label("Query Execution")
+@Category({"EclipseLink", "Query"})
+@Description("Execution of a query, from the cache or the database")
+public class QueryExecutionEvent extends Event {
+
+    @Label("Session")
+    public String session;
+
+    @Label("Query Class")
+    public String queryClass;
+
+    @Label("Query Name")
+    public String queryName;
+
+    @Label("Reference Class")
+    public String referenceClass;
+
+    @Label("SQL")
+    @Description("SQL of the query, with its parameters bound as ?")
+    public String sql;
+
+    @Label("Row Count")
+    @Description("Number of objects or rows read, or number of rows modified")
+    public int rowCount;
+}
@@ -19,6 +19,8 @@
     requires transitive org.eclipse.persistence.core;
     requires transitive org.eclipse.persistence.json;
 
+    exports org.eclipse.persistence.pgsql;
+
     provides org.eclipse.persistence.internal.databaseaccess.spi.JsonPlatformProvider with org.eclipse.persistence.pgsql.PostgreSQLJsonPlatformProvider;
 
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.pgsql;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.ParameterizedSQLBatchWritingMechanism;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.postgresql.PGConnection;
+import org.postgresql.util.PGobject;
+
+/**
+ * PostgreSQL batch writing loading the large batches of inserts with {@code COPY ... FROM STDIN}.
+ * <p>
+ * The batches of parameterized inserts of at least {@link #getCopyThreshold()} rows are streamed to their table
+ * in the text format of COPY, the other batches are executed as JDBC batches, or multi-row inserts.
+ * COPY is much faster than inserts for large loads, so the batch size should be increased,
+ * i.e. {@code eclipselink.jdbc.batch-writing.size} set to 10000.
+ * The rows are copied in the transaction of the connection, but their count is not returned by statement,
+ * so inserts with optimistic locking and inserts returning generated keys are not copied.
+ * Batches with values not supported by the text format, i.e. streams, are inserted.
+ * <p>
+ * The mechanism is set with the {@code eclipselink.jdbc.batch-writing} persistence property:
+ * <p>
+ * {@code <property name="eclipselink.jdbc.batch-writing" value="org.eclipse.persistence.pgsql.PostgreSQLCopyBatchWritingMechanism"/>}
+ */
+public class PostgreSQLCopyBatchWritingMechanism extends ParameterizedSQLBatchWritingMechanism {
+
+    /** The default minimum number of rows of the batches copied. */
+    public static final int DEFAULT_COPY_THRESHOLD = 1000;
+
+    /** The minimum number of rows of the batches copied. */
+    protected int copyThreshold = DEFAULT_COPY_THRESHOLD;
+
+    public PostgreSQLCopyBatchWritingMechanism() {
+        super();
+    }
+
+    /**
+     * Return the minimum number of rows of the batches copied, smaller batches are inserted.
+     */
+    public int getCopyThreshold() {
+        return copyThreshold;
+    }
+
+    /**
+     * Set the minimum number of rows of the batches copied, smaller batches are inserted.
+     */
+    public void setCopyThreshold(int copyThreshold) {
+        this.copyThreshold = copyThreshold;
+    }
+
+    /**
+     * INTERNAL:
+     * Copy the batch of inserts if large enough.
+     */
+    @Override
+    protected boolean executeBulkInsert(AbstractSession session) {
+        if ((this.parameters.size() < this.copyThreshold) || this.previousCall.hasOptimisticLock() || this.previousCall.shouldReturnGeneratedKeys()) {
+            return super.executeBulkInsert(session);
+        }
+        String copySQL = buildCopySQL(this.previousCall.getSQLString(), this.parameters.get(0).size());
+        if (copySQL == null) {
+            return super.executeBulkInsert(session);
+        }
+        StringBuilder data = new StringBuilder(this.parameters.size() * 64);
+        for (List rowParameters : this.parameters) {
+            if (!appendRow(rowParameters, data)) {
+                return super.executeBulkInsert(session);
+            }
+        }
+        try {
+            copy(session, copySQL, data.toString());
+        } finally {
+            clear();
+        }
+        return true;
+    }
+
+    /**
+     * Copy the rows of the text format to the table.
+     */
+    protected void copy(AbstractSession session, String copySQL, String data) {
+        if (session.shouldLog(SessionLog.FINE, SessionLog.SQL)) {
+            session.log(SessionLog.FINE, SessionLog.SQL, copySQL, null, this.databaseAccessor, false);
+        }
+        this.databaseAccessor.incrementCallCount(session);
+        session.startOperationProfile(SessionProfiler.StatementExecute, null, SessionProfiler.ALL);
+        try {
+            PGConnection connection = this.databaseAccessor.getConnection().unwrap(PGConnection.class);
+            connection.getCopyAPI().copyIn(copySQL, new StringReader(data));
+            this.databaseAccessor.writeStatementsCount++;
+        } catch (SQLException exception) {
+            throw DatabaseException.sqlException(exception, this.databaseAccessor, session, false);
+        } catch (IOException exception) {
+            throw DatabaseException.sqlException(new SQLException(exception), this.databaseAccessor, session, false);
+        } finally {
+            session.endOperationProfile(SessionProfiler.StatementExecute, null, SessionProfiler.ALL);
+            this.databaseAccessor.decrementCallCount();
+        }
+    }
+
+    /**
+     * Return the COPY of the columns of the parameterized insert of one row,
+     * or null if the SQL is not an insert of one row of the parameters.
+     */
+    public static String buildCopySQL(String insertSQL, int rowParameters) {
+        if (!insertSQL.startsWith("INSERT INTO ") || !insertSQL.endsWith(")")) {
+            return null;
+        }
+        int valuesIndex = insertSQL.lastIndexOf(" VALUES (");
+        if (valuesIndex == -1) {
+            return null;
+        }
+        // Only parameters, no functions or literals.
+        String values = insertSQL.substring(valuesIndex + 9, insertSQL.length() - 1);
+        int parameters = 0;
+        for (String value : values.split(",")) {
+            if (!value.trim().equals("?")) {
+                return null;
+            }
+            parameters++;
+        }
+        if (parameters != rowParameters) {
+            return null;
+        }
+        return "COPY " + insertSQL.substring(12, valuesIndex) + " FROM STDIN";
+    }
+
+    /**
+     * Append the row in the text format of COPY, return false if a value is not supported.
+     */
+    protected boolean appendRow(List rowParameters, StringBuilder data) {
+        int size = rowParameters.size();
+        for (int index = 0; index < size; index++) {
+            if (index > 0) {
+                data.append('\t');
+            }
+            if (!appendValue(rowParameters.get(index), data)) {
+                return false;
+            }
+        }
+        data.append('\n');
+        return true;
+    }
+
+    /**
+     * Append the value in the text format of COPY, return false if it is not supported.
+     */
+    protected boolean appendValue(Object value, StringBuilder data) {
+        if (value == null) {
+            data.append("\\N");
+        } else if (value instanceof Boolean) {
+            data.append(((Boolean)value) ? 't' : 'f');
+        } else if (value instanceof BigDecimal) {
+            data.append(((BigDecimal)value).toPlainString());
+        } else if (value instanceof byte[]) {
+            // Hex format of bytea, with its backslash escaped.
+            data.append("\\\\x");
+            for (byte element : (byte[])value) {
+                data.append(Character.forDigit((element >> 4) & 0xF, 16));
+                data.append(Character.forDigit(element & 0xF, 16));
+            }
+        } else if ((value instanceof String) || (value instanceof Character) || (value instanceof Number)
+                || (value instanceof java.sql.Date) || (value instanceof java.sql.Time) || (value instanceof Timestamp)
+                || (value instanceof TemporalAccessor) || (value instanceof UUID) || (value instanceof PGobject)) {
+            appendEscaped(value.toString(), data);
+        } else if (value instanceof java.util.Date) {
+            appendEscaped(new Timestamp(((java.util.Date)value).getTime()).toString(), data);
+        } else if (value instanceof Calendar) {
+            appendEscaped(new Timestamp(((Calendar)value).getTimeInMillis()).toString(), data);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Append the text escaping the backslashes and the delimiters of the text format of COPY.
+     */
+    protected static void appendEscaped(String text, StringBuilder data) {
+        int length = text.length();
+        for (int index = 0; index < length; index++) {
+            char character = text.charAt(index);
+            switch (character) {
+                case '\\':
+                    data.append("\\\\");
+                    break;
+                case '\t':
+                    data.append("\\t");
+                    break;
+                case '\n':
+                    data.append("\\n");
+                    break;
+                case '\r':
+                    data.append("\\r");
+                    break;
+                default:
+                    data.append(character);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.jpa.test.framework.DDLGen;
+import org.eclipse.persistence.jpa.test.framework.Emf;
+import org.eclipse.persistence.jpa.test.framework.EmfRunner;
+import org.eclipse.persistence.jpa.test.query.model.EntityTbl01;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests streaming the results of a query from its cursor.
+ */
+@RunWith(EmfRunner.class)
+public class TestQueryResultStream {
+    @Emf(createTables = DDLGen.DROP_CREATE, classes = { EntityTbl01.class })
+    private EntityManagerFactory emf;
+
+    private static final int SIZE = 20;
+
+    private static boolean POPULATED = false;
+
+    @Test
+    public void testStreamResults() {
+        if (emf == null)
+            return;
+
+        if (!POPULATED)
+            populate();
+
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<EntityTbl01> query = em.createQuery(
+                    "SELECT t FROM EntityTbl01 t ORDER BY t.KeyString", EntityTbl01.class);
+            List<String> keys;
+            try (Stream<EntityTbl01> stream = query.getResultStream()) {
+                keys = stream.map(EntityTbl01::getKeyString).collect(Collectors.toList());
+            }
+            assertEquals(expectedKeys(SIZE), keys);
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    @Test
+    public void testReleaseConsumedResults() {
+        if (emf == null)
+            return;
+
+        if (!POPULATED)
+            populate();
+
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<EntityTbl01> query = em.createQuery(
+                    "SELECT t FROM EntityTbl01 t ORDER BY t.KeyString", EntityTbl01.class);
+            query.setHint(QueryHints.RESULT_STREAM_RELEASE, "true");
+            List<EntityTbl01> consumed = new ArrayList<>();
+            try (Stream<EntityTbl01> stream = query.getResultStream()) {
+                stream.forEach(entity -> {
+                    // The entity passed to the action is managed, the ones before it are released.
+                    assertTrue(em.contains(entity));
+                    if (!consumed.isEmpty()) {
+                        assertFalse(em.contains(consumed.get(consumed.size() - 1)));
+                    }
+                    consumed.add(entity);
+                });
+            }
+            assertEquals(SIZE, consumed.size());
+            // The last result is released once the results are exhausted.
+            for (EntityTbl01 entity : consumed) {
+                assertFalse(em.contains(entity));
+            }
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    @Test
+    public void testCloseStreamEarly() {
+        if (emf == null)
+            return;
+
+        if (!POPULATED)
+            populate();
+
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<EntityTbl01> query = em.createQuery(
+                    "SELECT t FROM EntityTbl01 t ORDER BY t.KeyString", EntityTbl01.class);
+            query.setHint(QueryHints.RESULT_STREAM_RELEASE, "true");
+            EntityTbl01 last = null;
+            Stream<EntityTbl01> stream = query.getResultStream();
+            try {
+                Iterator<EntityTbl01> iterator = stream.iterator();
+                for (int index = 0; index < 3; index++) {
+                    last = iterator.next();
+                }
+            } finally {
+                stream.close();
+            }
+            assertEquals(expectedKeys(3).get(2), last.getKeyString());
+            // Closing the stream releases the last result, and the connection of the cursor.
+            assertFalse(em.contains(last));
+            List<EntityTbl01> results = em.createQuery(
+                    "SELECT t FROM EntityTbl01 t", EntityTbl01.class).getResultList();
+            assertEquals(SIZE, results.size());
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    private static List<String> expectedKeys(int size) {
+        List<String> keys = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+            keys.add(String.format("K%02d", index));
+        }
+        return keys;
+    }
+
+    private void populate() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (String key : expectedKeys(SIZE)) {
+                EntityTbl01 entity = new EntityTbl01();
+                entity.setKeyString(key);
+                entity.setItemString1(key);
+                entity.setItemInteger1(SIZE);
+                em.persist(entity);
+            }
+            em.getTransaction().commit();
+
+            POPULATED = true;
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.CursoredStream;
+
+/**
+ * INTERNAL:
+ * Spliterator of the results of a query building each result from the JDBC cursor as the stream advances.
+ * <p>
+ * The cursor is closed when the results are exhausted, or on failure, closing the stream must call {@link #close()} otherwise.
+ * The results already read are released by the cursor, and if release is set the entities are also
+ * detached from the persistence context once the stream moved past them, or is closed.
+ *
+ * @see EJBQueryImpl#getResultStream()
+ */
+public class CursorSpliterator<X> extends Spliterators.AbstractSpliterator<X> {
+
+    /** The cursor of the results. */
+    protected final Cursor cursor;
+
+    /** The unit of work the entities are detached from, or null if the results are not released. */
+    protected final UnitOfWorkImpl unitOfWork;
+
+    /** The last result, to detach when the stream advances. */
+    protected Object previous;
+
+    /**
+     * Create a spliterator on the cursor, detaching the results from its unit of work if release is set.
+     */
+    public CursorSpliterator(Cursor cursor, boolean release) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.cursor = cursor;
+        if (release && cursor.getSession().isUnitOfWork()) {
+            this.unitOfWork = (UnitOfWorkImpl) cursor.getSession();
+        } else {
+            this.unitOfWork = null;
+        }
+    }
+
+    /**
+     * Return the cursor of the results.
+     */
+    public Cursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Release the last result and close the cursor.
+     * This is called when the results are exhausted, on failure, and when the stream is closed.
+     */
+    public void close() {
+        try {
+            releasePrevious();
+            if (this.cursor instanceof CursoredStream) {
+                // A cursored stream keeps the results read until released.
+                ((CursoredStream) this.cursor).releasePrevious();
+            }
+        } finally {
+            this.cursor.close();
+        }
+    }
+
+    /**
+     * Detach the last result from the persistence context if released, the action is done with it.
+     */
+    protected void releasePrevious() {
+        if (this.previous != null) {
+            this.unitOfWork.unregisterObject(this.previous, 0, true);
+            this.previous = null;
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super X> action) {
+        releasePrevious();
+        Object next;
+        try {
+            if (!this.cursor.hasNext()) {
+                close();
+                return false;
+            }
+            next = this.cursor.next();
+            if ((this.cursor instanceof CursoredStream) && (((CursoredStream) this.cursor).available() == 0)) {
+                // A cursored stream keeps the results read until released.
+                ((CursoredStream) this.cursor).releasePrevious();
+            }
+        } catch (RuntimeException exception) {
+            this.cursor.close();
+            throw exception;
+        }
+        if (this.unitOfWork != null) {
+            this.previous = next;
+        }
+        action.accept((X) next);
+        return true;
+    }
+}
@@ -30,6 +30,8 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -39,6 +41,7 @@
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.TypedQuery;
 
+import org.eclipse.persistence.config.QueryHints;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
@@ -48,6 +51,7 @@
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.queries.ContainerPolicy;
 import org.eclipse.persistence.internal.queries.JPQLCallQueryMechanism;
+import org.eclipse.persistence.internal.queries.JPQLParseCache;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.queries.Cursor;
@@ -59,6 +63,7 @@
 import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.queries.ReadObjectQuery;
 import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.queries.ReportQuery;
 import org.eclipse.persistence.queries.ResultSetMappingQuery;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 
@@ -133,8 +138,13 @@ public static DatabaseQuery buildEJBQLDatabaseQuery(String queryName, String jpq
         // Only allow queries with default properties to be parse cached.
         boolean isCacheable = (queryName == null) && (hints == null);
         DatabaseQuery databaseQuery = null;
+        JPQLParseCache parseCache = session.getProject().getJPQLParseCacheWithStatistics();
         if (isCacheable) {
-            databaseQuery = (DatabaseQuery) session.getProject().getJPQLParseCache().get(jpqlQuery);
+            if (parseCache == null) {
+                databaseQuery = (DatabaseQuery) session.getProject().getJPQLParseCache().get(jpqlQuery);
+            } else {
+                databaseQuery = (DatabaseQuery) parseCache.get(jpqlQuery, session);
+            }
         }
         if ((databaseQuery == null) || (!databaseQuery.isPrepared())) {
             JPAQueryBuilder queryBuilder = session.getQueryBuilder();
@@ -191,7 +201,11 @@ public static DatabaseQuery buildEJBQLDatabaseQuery(String queryName, String jpq
                 // Prepare query as hint may cause cloning (but not un-prepare
                 // as in read-only).
                 databaseQuery.checkPrepare(session, new DatabaseRecord());
-                session.getProject().getJPQLParseCache().put(jpqlQuery, databaseQuery);
+                if (parseCache == null) {
+                    session.getProject().getJPQLParseCache().put(jpqlQuery, databaseQuery);
+                } else {
+                    parseCache.put(jpqlQuery, databaseQuery, session);
+                }
             }
         }
 
@@ -386,6 +400,62 @@ public Cursor getResultCursor() {
         }
     }
 
+    /**
+     * Execute a SELECT query and return the query results as a Stream,
+     * each result is built from a forward-only cursor as the stream advances.
+     * Closing the stream closes the cursor, and its connection.
+     * If the RESULT_STREAM_RELEASE hint is set the entities are detached once the stream moved past them.
+     * Queries whose results may be null, or not a list, return the stream of their result list.
+     *
+     * @see QueryHints#RESULT_STREAM_RELEASE
+     */
+    @Override
+    public Stream<X> getResultStream() {
+        // bug51411440: need to throw IllegalStateException if query executed on closed em
+        this.entityManager.verifyOpenWithSetRollbackOnly();
+        setAsSQLReadQuery();
+        DatabaseQuery query = getDatabaseQueryInternal();
+        if (!query.isReadAllQuery() || !isResultStreamSupported((ReadAllQuery) query)) {
+            return getResultList().stream();
+        }
+        Cursor cursor;
+        if (((ReadAllQuery) query).getContainerPolicy().isCursorPolicy()) {
+            // The cursor was set by hints.
+            cursor = getResultCursor();
+        } else {
+            cloneSharedQuery();
+            ReadAllQuery readAllQuery = (ReadAllQuery) getDatabaseQueryInternal();
+            ContainerPolicy containerPolicy = readAllQuery.getContainerPolicy();
+            readAllQuery.useCursoredStream();
+            readAllQuery.setIsPrepared(false);
+            try {
+                cursor = getResultCursor();
+            } finally {
+                readAllQuery.setContainerPolicy(containerPolicy);
+                readAllQuery.setIsPrepared(false);
+            }
+        }
+        query = getDatabaseQueryInternal();
+        boolean release = Boolean.TRUE.equals(query.getProperty(QueryHints.RESULT_STREAM_RELEASE))
+                && !query.isReportQuery() && !((ReadAllQuery) query).isReadOnly();
+        CursorSpliterator<X> spliterator = new CursorSpliterator<>(cursor, release);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the results of the query can be streamed from a cursor,
+     * a cursor ends on a null result, so report queries returning single values are not.
+     */
+    protected boolean isResultStreamSupported(ReadAllQuery query) {
+        if (!query.isReportQuery() || query.getContainerPolicy().isCursorPolicy()) {
+            return true;
+        }
+        ReportQuery reportQuery = (ReportQuery) query;
+        return reportQuery.shouldReturnArray() || !(reportQuery.shouldReturnSingleAttribute() || reportQuery.shouldReturnSingleResult()
+                || reportQuery.shouldReturnSingleValue() || reportQuery.shouldReturnWithoutReportQueryResult());
+    }
+
     /**
      * Execute a query that returns a single result.
      *
@@ -149,6 +149,9 @@ public class EntityManagerFactoryDelegate implements EntityManagerFactory, Persi
 
     protected boolean commitWithoutPersistRules;
 
+    /** Release the objects written by each flush. Default is false. */
+    protected boolean releaseOnFlush;
+
     /** Pointer to the EntityManagerFactoryImpl that created me */
     protected JpaEntityManagerFactory owner = null;
 
@@ -427,6 +430,10 @@ protected void processProperties(Map properties) {
         if (commitWithoutPersist != null) {
             this.commitWithoutPersistRules = "true".equalsIgnoreCase(commitWithoutPersist);
         }
+        String releaseOnFlush = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.PERSISTENCE_CONTEXT_RELEASE_ON_FLUSH, properties, this.session, true);
+        if (releaseOnFlush != null) {
+            this.releaseOnFlush = "true".equalsIgnoreCase(releaseOnFlush);
+        }
         String shouldValidateExistence = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.VALIDATE_EXISTENCE, properties, this.session, true);
         if (shouldValidateExistence != null) {
             this.shouldValidateExistence = "true".equalsIgnoreCase(shouldValidateExistence);
@@ -570,6 +577,20 @@ public void setCommitWithoutPersistRules(boolean commitWithoutPersistRules) {
         this.commitWithoutPersistRules = commitWithoutPersistRules;
     }
 
+    /**
+     * Return default property to release the objects written by each flush.
+     */
+    public boolean getReleaseOnFlush() {
+        return releaseOnFlush;
+    }
+
+    /**
+     * Set default property to release the objects written by each flush.
+     */
+    public void setReleaseOnFlush(boolean releaseOnFlush) {
+        this.releaseOnFlush = releaseOnFlush;
+    }
+
     /**
      * Return the default FlashClearCache mode to be used. Relevant only in case
      * call to flush method followed by call to clear method.
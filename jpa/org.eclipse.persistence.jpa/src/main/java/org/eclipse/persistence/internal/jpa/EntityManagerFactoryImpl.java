@@ -471,6 +471,20 @@ public void setCommitWithoutPersistRules(boolean commitWithoutPersistRules) {
         delegate.setCommitWithoutPersistRules(commitWithoutPersistRules);
     }
 
+    /**
+     * Return default property to release the objects written by each flush.
+     */
+    public boolean getReleaseOnFlush() {
+        return delegate.getReleaseOnFlush();
+    }
+
+    /**
+     * Set default property to release the objects written by each flush.
+     */
+    public void setReleaseOnFlush(boolean releaseOnFlush) {
+        delegate.setReleaseOnFlush(releaseOnFlush);
+    }
+
     /**
      * Return the default FlashClearCache mode to be used. Relevant only in case
      * call to flush method followed by call to clear method.
@@ -55,6 +55,9 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
 
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityExistsException;
@@ -249,6 +252,9 @@ protected enum OperationType {FIND, REFRESH, LOCK};
 
     protected boolean commitWithoutPersistRules;
 
+    /** Release the objects written by each flush. */
+    protected boolean releaseOnFlush;
+
     /** Tracks if this EntityManager should automatically associate with the transaction or not*/
     protected SynchronizationType syncType;
 
@@ -299,6 +305,14 @@ void process(String name, Object value, EntityManagerImpl em) {
                     em.extendedPersistenceContext.setDiscoverUnregisteredNewObjectsWithoutPersist(em.commitWithoutPersistRules);
                 }
             }});
+            put(EntityManagerProperties.PERSISTENCE_CONTEXT_RELEASE_ON_FLUSH, new PropertyProcessor() {
+            @Override
+            void process(String name, Object value, EntityManagerImpl em) {
+                em.releaseOnFlush = "true".equalsIgnoreCase(getPropertiesHandlerProperty(name, (String)value));
+                if (em.hasActivePersistenceContext()) {
+                    em.extendedPersistenceContext.setShouldReleaseOnFlush(em.releaseOnFlush);
+                }
+            }});
             put(EntityManagerProperties.VALIDATE_EXISTENCE, new PropertyProcessor() {
             @Override
             void process(String name, Object value, EntityManagerImpl em) {
@@ -486,6 +500,7 @@ public EntityManagerImpl(EntityManagerFactoryDelegate factory, Map properties, S
         this.flushMode = factory.getFlushMode();
         this.persistOnCommit = factory.getPersistOnCommit();
         this.commitWithoutPersistRules = factory.getCommitWithoutPersistRules();
+        this.releaseOnFlush = factory.getReleaseOnFlush();
         this.referenceMode = factory.getReferenceMode();
         this.flushClearCache = factory.getFlushClearCache();
         this.shouldValidateExistence = factory.shouldValidateExistence();
@@ -2074,6 +2089,7 @@ public RepeatableWriteUnitOfWork getActivePersistenceContext(Object txn) {
             this.extendedPersistenceContext.setResumeUnitOfWorkOnTransactionCompletion(!this.closeOnCommit);
             this.extendedPersistenceContext.setShouldDiscoverNewObjects(this.persistOnCommit);
             this.extendedPersistenceContext.setDiscoverUnregisteredNewObjectsWithoutPersist(this.commitWithoutPersistRules);
+            this.extendedPersistenceContext.setShouldReleaseOnFlush(this.releaseOnFlush);
             this.extendedPersistenceContext.setFlushClearCache(this.flushClearCache);
             this.extendedPersistenceContext.setShouldValidateExistence(this.shouldValidateExistence);
             this.extendedPersistenceContext.setCommitOrder(this.commitOrder);
@@ -2984,6 +3000,48 @@ public Object copy(Object entityOrEntities, AttributeGroup group) {
         return getActivePersistenceContext(checkForTransaction(false)).copy(entityOrEntities, group);
     }
 
+    /**
+     * Execute the SELECT query asynchronously and return the future of its results.
+     * The query is executed on its own pooled connection, outside of the transaction and persistence context,
+     * its entities are detached.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> CompletableFuture<List<X>> getResultListAsync(Query query) {
+        verifyOpenWithSetRollbackOnly();
+        QueryImpl queryImpl = query.unwrap(QueryImpl.class);
+        DatabaseQuery databaseQuery = queryImpl.getAsyncReadQuery();
+        return getActiveSession().executeQueryAsync(databaseQuery, queryImpl.processParameters()).handle((result, error) -> {
+            if (error != null) {
+                Throwable cause = (error instanceof CompletionException) ? error.getCause() : error;
+                if (cause instanceof PersistenceException) {
+                    throw (PersistenceException) cause;
+                }
+                throw new PersistenceException(cause);
+            }
+            if (result instanceof List) {
+                return (List<X>) result;
+            }
+            List<X> results = new ArrayList<>(1);
+            if (result != null) {
+                results.add((X) result);
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Return a publisher of the results of the SELECT query, executed asynchronously for each subscriber.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> Flow.Publisher<X> getResultPublisher(Query query) {
+        verifyOpenWithSetRollbackOnly();
+        QueryImpl queryImpl = query.unwrap(QueryImpl.class);
+        DatabaseQuery databaseQuery = queryImpl.getAsyncReadQuery();
+        return (Flow.Publisher<X>) (Flow.Publisher<?>) getActiveSession().executeQueryPublisher(databaseQuery, queryImpl.processParameters());
+    }
+
     /**
      * INTERNAL:
      * Load/fetch the unfetched object.  This method is used by the ClassWaver..
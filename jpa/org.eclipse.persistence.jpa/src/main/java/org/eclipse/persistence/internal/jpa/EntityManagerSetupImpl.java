@@ -204,6 +204,7 @@
 import org.eclipse.persistence.exceptions.PersistenceUnitLoadingException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism;
+import org.eclipse.persistence.internal.databaseaccess.ReorderingSQLBatchWritingMechanism;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
@@ -283,6 +284,7 @@
 import org.eclipse.persistence.sessions.coordination.TransportManager;
 import org.eclipse.persistence.sessions.coordination.jms.JMSPublishingTransportManager;
 import org.eclipse.persistence.sessions.coordination.jms.JMSTopicTransportManager;
+import org.eclipse.persistence.sessions.coordination.nio.NIOTransportManager;
 import org.eclipse.persistence.sessions.coordination.rmi.RMITransportManager;
 import org.eclipse.persistence.sessions.factories.SessionManager;
 import org.eclipse.persistence.sessions.factories.XMLSessionConfigLoader;
@@ -295,6 +297,7 @@
 import org.eclipse.persistence.sessions.server.ConnectionPolicy;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
+import org.eclipse.persistence.sessions.server.NonBlockingConnectionPool;
 import org.eclipse.persistence.sessions.server.ReadConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
 import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
@@ -1327,6 +1330,9 @@ protected void updateProfiler(Map persistenceProperties,ClassLoader loader) {
             if (newProfilerClassName.equals(ProfilerType.DMSProfiler)) {
                 newProfilerClassName = ProfilerType.DMSProfilerClassName;
             }
+            if (newProfilerClassName.equals(ProfilerType.JfrProfiler)) {
+                newProfilerClassName = ProfilerType.JfrProfilerClassName;
+            }
 
             String originalProfilerClassNamer = null;
             if (session.getProfiler() != null) {
@@ -1681,6 +1687,22 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                         readPool.setLogin(pool.getLogin());
                         serverSession.setReadConnectionPool(readPool);
                     }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_NON_BLOCKING)) {
+                    boolean nonBlocking = Boolean.parseBoolean((String)entry.getValue());
+                    if (nonBlocking && !(pool instanceof NonBlockingConnectionPool) && !(pool instanceof ExternalConnectionPool) && !(pool instanceof ReadConnectionPool)) {
+                        NonBlockingConnectionPool nonBlockingPool = new NonBlockingConnectionPool(pool);
+                        if (poolName.equals("read")) {
+                            serverSession.setReadConnectionPool(nonBlockingPool);
+                        } else if (poolName.equals("sequence")) {
+                            getDatabaseSession().getSequencingControl().setConnectionPool(nonBlockingPool);
+                        } else {
+                            // The default pool is also used for reading if no read pool was configured.
+                            if (serverSession.getReadConnectionPool() == pool) {
+                                serverSession.setReadConnectionPool(nonBlockingPool);
+                            }
+                            serverSession.addConnectionPool(nonBlockingPool);
+                        }
+                    }
                 }
             } catch (RuntimeException exception) {
                 this.session.handleException(ValidationException.invalidValueForProperty(entry.getValue(), entry.getKey(), exception));
@@ -2263,9 +2285,14 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                         transport.setShouldReuseJMSTopicPublisher(reuse_publisher.equalsIgnoreCase("true"));
                     }
 
-                } else if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMI) || protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMIIIOP)) {
+                } else if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMI) || protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMIIIOP)
+                        || protocol.equalsIgnoreCase(CacheCoordinationProtocol.NIO)) {
+                    NIOTransportManager nioTransport = null;
                     if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMIIIOP)) {
                         rcm.setTransportManager(TransportManager.newTransportManager("org.eclipse.persistence.sessions.remote.rmi.iiop.RMIIIOPTransportManager", rcm));
+                    } else if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.NIO)) {
+                        nioTransport = new NIOTransportManager(rcm);
+                        rcm.setTransportManager(nioTransport);
                     }
                     // Default protocol.
                     String delay = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_RMI_ANNOUNCEMENT_DELAY, m, this.session);
@@ -2294,6 +2321,13 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                     if (url != null) {
                         rcm.setUrl(url);
                     }
+                    if (nioTransport != null) {
+                        // The peers replace the discovery manager configured above.
+                        String peers = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_NIO_PEERS, m, this.session);
+                        if (peers != null) {
+                            nioTransport.setConfig(peers);
+                        }
+                    }
                 } else {
                     property = PersistenceUnitProperties.COORDINATION_PROTOCOL;
                     value = protocol;
@@ -2342,6 +2376,30 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (threadPoolSize != null) {
                     this.session.getServerPlatform().setThreadPoolSize(Integer.parseInt(threadPoolSize));
                 }
+                String coalescingDelay = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_COALESCING_DELAY, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_COALESCING_DELAY;
+                value = coalescingDelay;
+                if (coalescingDelay != null) {
+                    rcm.setCommandCoalescingDelay(Long.parseLong(coalescingDelay));
+                }
+                String coalescingBatchSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_COALESCING_MAX_BATCH_SIZE, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_COALESCING_MAX_BATCH_SIZE;
+                value = coalescingBatchSize;
+                if (coalescingBatchSize != null) {
+                    rcm.setCommandCoalescingMaxBatchSize(Integer.parseInt(coalescingBatchSize));
+                }
+                String coalescingMaxPending = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_COALESCING_MAX_PENDING, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_COALESCING_MAX_PENDING;
+                value = coalescingMaxPending;
+                if (coalescingMaxPending != null) {
+                    rcm.setCommandCoalescingMaxPendingCommands(Integer.parseInt(coalescingMaxPending));
+                }
+                String partitioningTimeout = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_PARTITIONING_TIMEOUT, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_PARTITIONING_TIMEOUT;
+                value = partitioningTimeout;
+                if (partitioningTimeout != null) {
+                    rcm.setPartitionedCacheTimeout(Long.parseLong(partitioningTimeout));
+                }
                 String channel = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_CHANNEL, m, this.session);
                 if (channel != null) {
                     rcm.setChannel(channel);
@@ -2883,6 +2941,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateNativeSQLSetting(m);
             updateSequencing(m);
             updateSequencingStart(m);
+            updateSequencingPreallocation(m);
             updateAllowNativeSQLQueriesSetting(m);
             updateSQLCastSetting(m);
             updateUppercaseSetting(m);
@@ -2891,6 +2950,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateAllowExtendedThreadLogging(m);
             updateAllowExtendedThreadLoggingThreadDump(m);
             updateAllowQueryResultsCacheValidation(m);
+            updateDeferredMerge(m);
             updateTemporalMutableSetting(m);
             updateTableCreationSettings(m);
             updateIndexForeignKeys(m);
@@ -2929,6 +2989,8 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateConcurrencyManagerNoOfThreadsAllowedToDoWriteLockManagerAcquireRequiredLocksInParallel(m);
             updateConcurrencySemaphoreMaxTimePermit(m);
             updateConcurrencySemaphoreLogTimeout(m);
+            updateConcurrencyManagerUseLocks(m);
+            updateVirtualThreads(m);
             // Customizers should be processed last
             processDescriptorCustomizers(m, loader);
             processSessionCustomizer(m, loader);
@@ -3241,6 +3303,10 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
              } else if (batchWritingSettingString == BatchWriting.OracleJDBC) {
                  this.session.getPlatform().setUsesNativeBatchWriting(true);
                  this.session.getPlatform().setUsesJDBCBatchWriting(true);
+             } else if (batchWritingSettingString == BatchWriting.Reordering) {
+                 this.session.getPlatform().setUsesJDBCBatchWriting(true);
+                 this.session.getPlatform().setUsesNativeBatchWriting(false);
+                 this.session.getPlatform().setBatchWritingMechanism(new ReorderingSQLBatchWritingMechanism());
              } else if (batchWritingSettingString == BatchWriting.None) {
                  // Nothing required.
              } else {
@@ -3271,6 +3337,10 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                 session.handleException(ValidationException.invalidValueForProperty(sizeString, PersistenceUnitProperties.BATCH_WRITING_SIZE, invalid));
             }
         }
+        String multiRowInsert = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_MULTI_ROW_INSERT, persistenceProperties, this.session);
+        if (multiRowInsert != null) {
+            this.session.getPlatform().setShouldUseMultiRowInsert(multiRowInsert.equalsIgnoreCase("true"));
+        }
     }
 
     /**
@@ -3405,6 +3475,27 @@ protected void updateSequencingStart(Map m) {
         }
     }
 
+    protected void updateSequencingPreallocation(Map m) {
+        String background = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_BACKGROUND_PREALLOCATION, m, session);
+        if (background != null) {
+            if (background.equalsIgnoreCase("true")) {
+                getDatabaseSession().getSequencingControl().setShouldUseBackgroundPreallocation(true);
+            } else if (background.equalsIgnoreCase("false")) {
+                getDatabaseSession().getSequencingControl().setShouldUseBackgroundPreallocation(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(background, PersistenceUnitProperties.SEQUENCING_BACKGROUND_PREALLOCATION));
+            }
+        }
+        String size = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_MAX_PREALLOCATION_SIZE, m, session);
+        try {
+            if (size != null) {
+                getDatabaseSession().getSequencingControl().setMaxPreallocationSize(Integer.parseInt(size));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(size, PersistenceUnitProperties.SEQUENCING_MAX_PREALLOCATION_SIZE, exception));
+        }
+    }
+
     /**
      * Load the projectCacheAccessor for JPA project caching
      */
@@ -3430,7 +3521,7 @@ protected void updateProjectCache(Map m, ClassLoader loader){
     }
 
     /**
-     * Enable or disable the capability of Native SQL function.
+     * Set the JPQL parser, its validation mode and parse cache.
      * The method needs to be called in deploy stage.
      */
     protected void updateJPQLParser(Map m) {
@@ -3449,6 +3540,24 @@ protected void updateJPQLParser(Map m) {
         if (validation != null) {
             this.session.setProperty(PersistenceUnitProperties.JPQL_VALIDATION, validation);
         }
+        // Set JPQL parse cache size if specified.
+        String parseCacheSize = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JPQL_PARSE_CACHE_SIZE, m, this.session);
+        if (parseCacheSize != null) {
+            try {
+                this.session.getProject().setJPQLParseCacheMaxSize(Integer.parseInt(parseCacheSize));
+            } catch (NumberFormatException e) {
+                this.session.handleException(ValidationException.invalidValueForProperty(parseCacheSize, PersistenceUnitProperties.JPQL_PARSE_CACHE_SIZE, e));
+            }
+        }
+        // Set JPQL parse cache memory budget if specified.
+        String parseCacheMemoryBudget = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JPQL_PARSE_CACHE_MEMORY_BUDGET, m, this.session);
+        if (parseCacheMemoryBudget != null) {
+            try {
+                this.session.getProject().setJPQLParseCacheMemoryBudget(Long.parseLong(parseCacheMemoryBudget));
+            } catch (NumberFormatException e) {
+                this.session.handleException(ValidationException.invalidValueForProperty(parseCacheMemoryBudget, PersistenceUnitProperties.JPQL_PARSE_CACHE_MEMORY_BUDGET, e));
+            }
+        }
     }
 
     /**
@@ -3590,6 +3699,26 @@ protected void updateCacheStatementSettings(Map m){
                 session.handleException(ValidationException.invalidCacheStatementsSize(cacheStatementsSize,e.getMessage()));
             }
         }
+
+        // Set statement cache memory budget if specified.
+        String cacheStatementsMemoryBudget = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_STATEMENTS_MEMORY_BUDGET, m, session);
+        if (cacheStatementsMemoryBudget != null) {
+            try {
+                session.getProject().getLogin().setStatementCacheMemoryBudget(Long.parseLong(cacheStatementsMemoryBudget));
+            } catch (NumberFormatException e) {
+                session.handleException(ValidationException.invalidValueForProperty(cacheStatementsMemoryBudget, PersistenceUnitProperties.CACHE_STATEMENTS_MEMORY_BUDGET, e));
+            }
+        }
+
+        // Set statement cache warmup size if specified.
+        String cacheStatementsWarmupSize = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_STATEMENTS_WARMUP_SIZE, m, session);
+        if (cacheStatementsWarmupSize != null) {
+            try {
+                session.getProject().getLogin().setStatementCacheWarmupSize(Integer.parseInt(cacheStatementsWarmupSize));
+            } catch (NumberFormatException e) {
+                session.handleException(ValidationException.invalidValueForProperty(cacheStatementsWarmupSize, PersistenceUnitProperties.CACHE_STATEMENTS_WARMUP_SIZE, e));
+            }
+        }
     }
 
     /**
@@ -3915,6 +4044,20 @@ private void updateConcurrencySemaphoreLogTimeout(Map persistenceProperties) {
         }
     }
 
+    private void updateConcurrencyManagerUseLocks(Map persistenceProperties) {
+        String useLocks = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_LOCKS, persistenceProperties, session);
+        if (useLocks != null) {
+            session.getProject().setShouldUseLocksForCacheKeys(Boolean.parseBoolean(useLocks));
+        }
+    }
+
+    private void updateVirtualThreads(Map persistenceProperties) {
+        String virtualThreads = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.VIRTUAL_THREADS, persistenceProperties, session);
+        if (virtualThreads != null) {
+            session.getProject().setShouldUseVirtualThreads(Boolean.parseBoolean(virtualThreads));
+        }
+    }
+
     /**
      * Enable or disable extended logging of JPA L2 cache usage.
      * The method needs to be called in deploy stage.
@@ -3987,6 +4130,22 @@ protected void updateAllowQueryResultsCacheValidation(Map m){
         }
     }
 
+    /**
+     * Enable or disable the merge of the committed changes into the shared cache in the background.
+     */
+    protected void updateDeferredMerge(Map m) {
+        String deferredMerge = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_DEFERRED_MERGE, m, session);
+        if (deferredMerge != null) {
+            if (deferredMerge.equalsIgnoreCase("true")) {
+                session.setShouldDeferMerge(true);
+            } else if (deferredMerge.equalsIgnoreCase("false")) {
+                session.setShouldDeferMerge(false);
+            } else {
+                session.handleException(ValidationException.invalidBooleanValueForProperty(deferredMerge, PersistenceUnitProperties.CACHE_DEFERRED_MERGE));
+            }
+        }
+    }
+
     /**
      * If Bean Validation is enabled, bootstraps Bean Validation on descriptors.
      * @param puProperties merged properties for this persistence unit
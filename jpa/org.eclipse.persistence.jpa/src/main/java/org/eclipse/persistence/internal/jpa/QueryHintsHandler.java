@@ -305,10 +305,13 @@ protected static abstract class Hint {
             addHint(new ResultTypeHint());
             addHint(new ResultSetTypeHint());
             addHint(new ResultSetConcurrencyHint());
+            addHint(new ResultStreamReleaseHint());
+            addHint(new ReuseRowBufferHint());
             addHint(new IndirectionPolicyHint());
             addHint(new QueryCacheTypeHint());
             addHint(new QueryCacheIgnoreNullHint());
             addHint(new QueryCacheInvalidateOnChangeHint());
+            addHint(new QueryCacheTrackDependenciesHint());
             addHint(new QueryCacheRandomizedExpiryHint());
             // 325167: Make reserved # bind parameter char generic to enable native SQL pass through
             addHint(new ParameterDelimiterHint());
@@ -1006,6 +1009,46 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    protected static class ResultStreamReleaseHint extends Hint {
+        ResultStreamReleaseHint() {
+            super(QueryHints.RESULT_STREAM_RELEASE, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadQuery()) {
+                query.setProperty(QueryHints.RESULT_STREAM_RELEASE, valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
+    protected static class ReuseRowBufferHint extends Hint {
+        ReuseRowBufferHint() {
+            super(QueryHints.REUSE_ROW_BUFFER, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReportQuery()) {
+                ((ReportQuery) query).setShouldReuseRowBuffer((Boolean) valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     protected static class ExclusiveHint extends Hint {
         ExclusiveHint() {
             super(QueryHints.EXCLUSIVE_CONNECTION, HintValues.FALSE);
@@ -1337,6 +1380,33 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    /**
+     * Define the query cache track dependencies hint.
+     * Only reset the query cache if unset (as other query cache properties may be set first).
+     */
+    protected static class QueryCacheTrackDependenciesHint extends Hint {
+        QueryCacheTrackDependenciesHint() {
+            super(QueryHints.QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadQuery()) {
+                if (((ReadQuery)query).getQueryResultsCachePolicy() == null) {
+                    ((ReadQuery)query).cacheQueryResults();
+                }
+                ((ReadQuery)query).getQueryResultsCachePolicy().setTrackDependencies((Boolean) valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     /**
      * Define the query cache randomized expiry hint.
      * Only reset the query cache if unset (as other query cache properties may be set first).
@@ -275,6 +275,20 @@ protected Object executeReadQuery() {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the read query to execute asynchronously, with the first and max results of this query.
+     */
+    protected DatabaseQuery getAsyncReadQuery() {
+        setAsSQLReadQuery();
+        propagateResultProperties();
+        DatabaseQuery query = getDatabaseQueryInternal();
+        if (!query.isReadQuery()) {
+            throw new IllegalStateException(ExceptionLocalization.buildMessage("incorrect_query_for_get_result_list"));
+        }
+        return query;
+    }
+
     /**
      * Execute an update or delete statement.
      *
@@ -28,6 +28,7 @@
 
 import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.FieldSnapshotChangeDetectionPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangeTrackingPolicy;
 
 import org.eclipse.persistence.internal.jpa.metadata.MetadataDescriptor;
@@ -117,6 +118,8 @@ public void process(MetadataDescriptor descriptor) {
             classDescriptor.setObjectChangePolicy(new ObjectChangeTrackingPolicy());
         } else if (m_type.equals(ChangeTrackingType.DEFERRED.name())) {
             classDescriptor.setObjectChangePolicy(new DeferredChangeDetectionPolicy());
+        } else if (m_type.equals(ChangeTrackingType.SNAPSHOT.name())) {
+            classDescriptor.setObjectChangePolicy(new FieldSnapshotChangeDetectionPolicy());
         }
     }
 
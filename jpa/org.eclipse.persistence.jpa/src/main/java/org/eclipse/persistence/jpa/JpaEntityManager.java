@@ -15,6 +15,8 @@
 package org.eclipse.persistence.jpa;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 import org.eclipse.persistence.queries.AttributeGroup;
 import org.eclipse.persistence.queries.Call;
@@ -23,6 +25,7 @@
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.FuturePublisher;
 import org.eclipse.persistence.sessions.broker.SessionBroker;
 import org.eclipse.persistence.sessions.server.ServerSession;
 
@@ -154,4 +157,34 @@ public interface JpaEntityManager extends jakarta.persistence.EntityManager, Aut
      * The AttributeGroup should correspond to the entity type.
      */
     Object copy(Object entityOrEntities, AttributeGroup group);
+
+    /**
+     * Execute the SELECT query asynchronously and return the future of its results.
+     * The query is executed on the async query executor of the session, on its own pooled connection,
+     * so independent queries overlap instead of adding up their latencies.
+     * It is executed outside of the transaction and persistence context of this entity manager,
+     * it only sees committed data, its lock mode is not applied, and its entities are detached.
+     * The default implementation executes the query before returning, as {@link jakarta.persistence.Query#getResultList()}.
+     * @see org.eclipse.persistence.sessions.Session#executeQueryAsync(DatabaseQuery, List)
+     */
+    @SuppressWarnings("unchecked")
+    default <X> CompletableFuture<List<X>> getResultListAsync(jakarta.persistence.Query query) {
+        try {
+            return CompletableFuture.completedFuture((List<X>) query.getResultList());
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    /**
+     * Return a publisher of the results of the SELECT query, executed asynchronously for each subscriber,
+     * as {@link #getResultListAsync(jakarta.persistence.Query)}.
+     * Entity results are read from a cursor and published as they are built, waiting for the demand of the subscribers.
+     * The default implementation executes the query for each subscriber with {@link #getResultListAsync(jakarta.persistence.Query)},
+     * and publishes its results once they are all read.
+     * @see org.eclipse.persistence.sessions.Session#executeQueryPublisher(DatabaseQuery, List)
+     */
+    default <X> Flow.Publisher<X> getResultPublisher(jakarta.persistence.Query query) {
+        return new FuturePublisher<>(() -> getResultListAsync(query));
+    }
 }
@@ -15,11 +15,14 @@
 package org.eclipse.persistence.testing.perf;
 
 import org.eclipse.persistence.testing.perf.beanvalidation.MOXyValidationBenchmark;
+import org.eclipse.persistence.testing.perf.concurrency.ConcurrencyManagerBenchmark;
+import org.eclipse.persistence.testing.perf.identitymaps.IdentityMapBenchmark;
 import org.eclipse.persistence.testing.perf.jpa.persistence_content_handler.PersistenceContentHandlerBenchmark;
 import org.eclipse.persistence.testing.perf.json.marshal.JsonMarshalBenchmark;
 import org.eclipse.persistence.testing.perf.json.unmarshal.JsonUnmarshalBenchmark;
 import org.eclipse.persistence.testing.perf.json.writer.JsonWriterBenchmark;
 import org.eclipse.persistence.testing.perf.largexml.LargeXmlBenchmark;
+import org.eclipse.persistence.testing.perf.pool.ConnectionPoolBenchmark;
 import org.eclipse.persistence.testing.perf.smallxml.SmallXmlBenchmark;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
@@ -56,6 +59,9 @@ public static void main(String[] args) throws RunnerException {
                 .include(getInclude(JsonUnmarshalBenchmark.class))
                 .include(getInclude(JsonWriterBenchmark.class))
                 .include(getInclude(MOXyValidationBenchmark.class))
+                .include(getInclude(ConnectionPoolBenchmark.class))
+                .include(getInclude(ConcurrencyManagerBenchmark.class))
+                .include(getInclude(IdentityMapBenchmark.class))
                  // tests that are not part of regular test-harness
 //                .include(getInclude(JPAValidationBenchmark.class))
 //                .include(getInclude(ReferenceResolverBenchmark.class))
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf;
+
+import org.eclipse.persistence.testing.perf.orm.OrmReadBenchmark;
+import org.eclipse.persistence.testing.perf.orm.OrmReportCursorBenchmark;
+import org.eclipse.persistence.testing.perf.orm.OrmVirtualThreadsBenchmark;
+import org.eclipse.persistence.testing.perf.orm.OrmWriteBenchmark;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Suite of the benchmarks of the ORM hot paths, run against an embedded database.
+ * The results are exported as JSON by default, to be compared between releases,
+ * with the allocation rates of the GC profiler.
+ *
+ * @see org.eclipse.persistence.testing.perf.orm.OrmDatabase
+ */
+public class OrmBenchmarks {
+
+    public static void main(String[] args) throws RunnerException {
+
+        int warmupIterations = 10;
+        int measurementIterations = 10;
+        String resultFile = "jmh-orm-result.json";
+        String resultFormat = "json";
+
+        if (null != args && args.length == 4) {
+            warmupIterations = Integer.parseInt(args[0]);
+            measurementIterations = Integer.parseInt(args[1]);
+            resultFile = args[2];
+            resultFormat = args[3];
+        }
+
+        Options opt = new OptionsBuilder()
+                .include(getInclude(OrmReadBenchmark.class))
+                .include(getInclude(OrmWriteBenchmark.class))
+                .include(getInclude(OrmVirtualThreadsBenchmark.class))
+                .include(getInclude(OrmReportCursorBenchmark.class))
+                .addProfiler(GCProfiler.class)
+                .result(resultFile)
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    private static String getInclude(Class<?> cls) {
+        return ".*" + cls.getSimpleName() + ".*";
+    }
+}
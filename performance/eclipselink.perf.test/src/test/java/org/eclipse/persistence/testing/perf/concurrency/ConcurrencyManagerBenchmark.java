@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Contention benchmark for the cache key lock, comparing the object monitor and the ReentrantLock modes.
+ * Many threads read the same cache keys, while a few threads merge into them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConcurrencyManagerBenchmark {
+
+    public static final int KEYS = 8;
+
+    @Param({"monitor", "locks"})
+    public String lockMode;
+
+    /** Amount of work done while holding a lock. */
+    @Param({"0", "50"})
+    public int work;
+
+    private CacheKey[] cacheKeys;
+
+    @Setup
+    public void setup() {
+        this.cacheKeys = new CacheKey[KEYS];
+        for (int index = 0; index < KEYS; index++) {
+            CacheKey cacheKey = new CacheKey((long) index, new Object(), null);
+            if ("locks".equals(this.lockMode)) {
+                cacheKey.useLocks();
+            }
+            this.cacheKeys[index] = cacheKey;
+        }
+    }
+
+    /**
+     * Read an entity, as done while building an object from the shared cache.
+     */
+    @Benchmark
+    @Group("readMerge")
+    @GroupThreads(30)
+    public void read(Blackhole bh) {
+        CacheKey cacheKey = this.cacheKeys[(int) (Thread.currentThread().getId() % KEYS)];
+        cacheKey.acquireReadLock();
+        try {
+            Blackhole.consumeCPU(this.work);
+            bh.consume(cacheKey.getObject());
+        } finally {
+            cacheKey.releaseReadLock();
+        }
+    }
+
+    /**
+     * Merge an entity, as done by the merge manager on commit.
+     */
+    @Benchmark
+    @Group("readMerge")
+    @GroupThreads(2)
+    public void merge(Blackhole bh) {
+        CacheKey cacheKey = this.cacheKeys[(int) (Thread.currentThread().getId() % KEYS)];
+        cacheKey.acquire(true);
+        try {
+            Blackhole.consumeCPU(this.work);
+            bh.consume(cacheKey.getObject());
+        } finally {
+            cacheKey.release();
+        }
+    }
+
+    /**
+     * Check the deferred lock of an entity, as done when building an object with eager relationships.
+     */
+    @Benchmark
+    @Group("deferred")
+    @GroupThreads(32)
+    public void deferred(Blackhole bh) {
+        CacheKey cacheKey = this.cacheKeys[(int) (Thread.currentThread().getId() % KEYS)];
+        cacheKey.acquireDeferredLock();
+        try {
+            bh.consume(cacheKey.getObject());
+        } finally {
+            cacheKey.releaseDeferredLock();
+        }
+    }
+}
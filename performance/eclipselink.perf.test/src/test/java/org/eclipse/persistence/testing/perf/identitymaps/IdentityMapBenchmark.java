@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.identitymaps;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.LongCacheKeyMap;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Find by id benchmark for the identity map of a single numeric primary key,
+ * comparing the ConcurrentHashMap and the LongCacheKeyMap storage of the cache keys.
+ * The retained heap of the cache keys of one million objects is reported by the retainedHeap benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IdentityMapBenchmark {
+
+    public static final int ENTRIES = 1000000;
+
+    @Param({"hash", "long"})
+    public String storage;
+
+    private FullIdentityMap identityMap;
+
+    /** Ids in random order. */
+    private long[] ids;
+
+    /**
+     * Identity map using the benchmarked storage.
+     */
+    public static class BenchmarkIdentityMap extends FullIdentityMap {
+        public BenchmarkIdentityMap(String storage, int size) {
+            super(size, null, null, false);
+            setCacheKeys(buildStorage(storage, size));
+        }
+    }
+
+    public static Map<Object, CacheKey> buildStorage(String storage, int size) {
+        if ("long".equals(storage)) {
+            return new LongCacheKeyMap(size);
+        }
+        return new ConcurrentHashMap<>(size);
+    }
+
+    @Setup
+    public void setup() {
+        this.identityMap = new BenchmarkIdentityMap(this.storage, ENTRIES);
+        this.ids = new long[ENTRIES];
+        for (int index = 0; index < ENTRIES; index++) {
+            this.ids[index] = index;
+            this.identityMap.put((long) index, new Object(), null, 0);
+        }
+        Random random = new Random(1);
+        for (int index = ENTRIES - 1; index > 0; index--) {
+            int swap = random.nextInt(index + 1);
+            long id = this.ids[index];
+            this.ids[index] = this.ids[swap];
+            this.ids[swap] = id;
+        }
+    }
+
+    /**
+     * Position in the keys of each thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        @Setup
+        public void setup() {
+            this.index = (int) (Thread.currentThread().getId() * 7919) % ENTRIES;
+        }
+
+        int next() {
+            int index = this.index + 1;
+            if (index == ENTRIES) {
+                index = 0;
+            }
+            this.index = index;
+            return index;
+        }
+    }
+
+    /**
+     * Cache hit, as done by a find or a read object query by primary key.
+     * The primary key is boxed for each lookup, as when extracted from the find arguments or a row.
+     */
+    @Benchmark
+    public void findById(Cursor cursor, Blackhole bh) {
+        bh.consume(this.identityMap.getCacheKey(Long.valueOf(this.ids[cursor.next()]), false));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void findByIdConcurrent(Cursor cursor, Blackhole bh) {
+        bh.consume(this.identityMap.getCacheKey(Long.valueOf(this.ids[cursor.next()]), false));
+    }
+
+    /**
+     * Heap retained by the cache key storage of the identity map.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        public long retainedBytes;
+    }
+
+    /**
+     * Fill an identity map with one million cache keys and report the retained heap, excluding the cache keys and objects.
+     * The serial collector gives a precise used heap after a full collection.
+     * The counter is summed over the measurement iterations, run with -i 1 to report the bytes of a single map.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(jvmArgsAppend = "-XX:+UseSerialGC")
+    public Object retainedHeap(Heap heap) {
+        CacheKey[] cacheKeys = new CacheKey[ENTRIES];
+        for (int index = 0; index < ENTRIES; index++) {
+            cacheKeys[index] = new CacheKey((long) index, null, null);
+        }
+        long before = usedMemory();
+        Map<Object, CacheKey> map = buildStorage(this.storage, 16);
+        for (CacheKey cacheKey : cacheKeys) {
+            map.putIfAbsent(cacheKey.getKey(), cacheKey);
+        }
+        heap.retainedBytes = usedMemory() - before;
+        return map.size() + cacheKeys.length;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int index = 0; index < 3; index++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.orm;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.perf.orm.model.Address;
+import org.eclipse.persistence.testing.perf.orm.model.Employee;
+import org.eclipse.persistence.testing.perf.orm.model.OrmProject;
+import org.eclipse.persistence.tools.schemaframework.SchemaManager;
+
+/**
+ * Embedded database of the ORM benchmarks.
+ * Defaults to an in-memory Derby database, the system properties
+ * orm.benchmark.driver, orm.benchmark.url and orm.benchmark.platform select another embedded database,
+ * i.e. org.h2.Driver, jdbc:h2:mem:orm and org.eclipse.persistence.platform.database.H2Platform.
+ */
+public final class OrmDatabase {
+
+    /** The number of employees, each with an address, populated in the database with the ids 1 to EMPLOYEES. */
+    public static final int EMPLOYEES = 10000;
+
+    private OrmDatabase() {
+    }
+
+    /**
+     * Login a session to a new in-memory database named after the benchmark, and populate it.
+     */
+    public static DatabaseSessionImpl login(String name) {
+        DatabaseSessionImpl session = (DatabaseSessionImpl) new OrmProject(newLogin(name)).createDatabaseSession();
+        return setUp(session);
+    }
+
+    /**
+     * Login a server session to a new in-memory database named after the benchmark, and populate it.
+     */
+    public static ServerSession loginServerSession(String name, int connections, boolean virtualThreads) {
+        Project project = new OrmProject(newLogin(name));
+        project.setShouldUseVirtualThreads(virtualThreads);
+        ServerSession session = (ServerSession) project.createServerSession(connections, connections);
+        return setUp(session);
+    }
+
+    private static DatabaseLogin newLogin(String name) {
+        DatabaseLogin login = new DatabaseLogin();
+        login.setDriverClassName(System.getProperty("orm.benchmark.driver", "org.apache.derby.jdbc.EmbeddedDriver"));
+        login.setConnectionString(System.getProperty("orm.benchmark.url", "jdbc:derby:memory:" + name + ";create=true"));
+        login.setPlatformClassName(System.getProperty("orm.benchmark.platform", "org.eclipse.persistence.platform.database.DerbyPlatform"));
+        login.setShouldBindAllParameters(true);
+        login.setShouldCacheAllStatements(true);
+        login.useBatchWriting();
+        login.setMaxBatchWritingSize(100);
+        return login;
+    }
+
+    private static <T extends DatabaseSessionImpl> T setUp(T session) {
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+        SchemaManager schemaManager = new SchemaManager(session);
+        schemaManager.createObject(OrmProject.buildAddressTable());
+        schemaManager.createObject(OrmProject.buildEmployeeTable());
+        populate(session);
+        return session;
+    }
+
+    /**
+     * Insert the employees and their addresses.
+     */
+    private static void populate(DatabaseSessionImpl session) {
+        for (int start = 1; start <= EMPLOYEES; start += 1000) {
+            UnitOfWork uow = session.acquireUnitOfWork();
+            for (long id = start; id < start + 1000; id++) {
+                Employee employee = newEmployee(id);
+                uow.registerNewObject(employee.getAddress());
+                uow.registerNewObject(employee);
+            }
+            uow.commit();
+        }
+        session.getIdentityMapAccessor().initializeAllIdentityMaps();
+    }
+
+    /**
+     * Return a new employee and its address.
+     */
+    public static Employee newEmployee(long id) {
+        Employee employee = new Employee(id, "First" + id, "Last" + id, BigDecimal.valueOf(50000 + id % 1000, 2), (int) (id % 10));
+        Address address = new Address(id, id + " Main Street", "Ottawa", "K2P" + (id % 1000));
+        employee.setAddress(address);
+        return employee;
+    }
+}
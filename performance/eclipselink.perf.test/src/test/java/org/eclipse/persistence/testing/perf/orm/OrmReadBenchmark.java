@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.orm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.testing.perf.orm.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the read paths of the ORM: find by id, object building and lazy loading.
+ *
+ * @see OrmBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrmReadBenchmark {
+
+    /** The number of lazy addresses instantiated by each invocation of the value holder benchmark. */
+    public static final int LAZY_EMPLOYEES = 100;
+
+    private DatabaseSessionImpl session;
+
+    /** Rows of the employees, as read from the database. */
+    private List<AbstractRecord> rows;
+
+    /** Query building the employees, without the cache. */
+    private ReadAllQuery buildQuery;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.session = OrmDatabase.login("read");
+        // Read the employees into the cache.
+        ReadAllQuery readAll = new ReadAllQuery(Employee.class);
+        readAll.addAscendingOrdering("id");
+        List<?> employees = (List<?>) this.session.executeQuery(readAll);
+        ClassDescriptor descriptor = this.session.getDescriptor(Employee.class);
+        this.rows = new ArrayList<>(employees.size());
+        for (Object employee : employees) {
+            this.rows.add(descriptor.getObjectBuilder().buildRow(employee, this.session, WriteType.UNDEFINED));
+        }
+        this.buildQuery = new ReadAllQuery(Employee.class);
+        this.buildQuery.dontMaintainCache();
+        this.buildQuery.checkPrepare(this.session, new DatabaseRecord());
+        this.buildQuery.setSession(this.session);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.session.logout();
+    }
+
+    private int nextId() {
+        int id = this.next + 1;
+        if (id > OrmDatabase.EMPLOYEES) {
+            id = 1;
+        }
+        this.next = id;
+        return id;
+    }
+
+    /**
+     * Find an employee by id found in the shared cache.
+     */
+    @Benchmark
+    public Object findByIdCacheHit() {
+        ReadObjectQuery query = new ReadObjectQuery(Employee.class);
+        query.setSelectionId((long) nextId());
+        return this.session.executeQuery(query);
+    }
+
+    /**
+     * Find an employee by id not in the shared cache, selecting and building it.
+     */
+    @Benchmark
+    public Object findByIdCacheMiss() {
+        long id = nextId();
+        this.session.getIdentityMapAccessor().removeFromIdentityMap(id, Employee.class);
+        ReadObjectQuery query = new ReadObjectQuery(Employee.class);
+        query.setSelectionId(id);
+        return this.session.executeQuery(query);
+    }
+
+    /**
+     * Empty shared cache for each invocation.
+     */
+    @State(Scope.Benchmark)
+    public static class EmptyCache {
+        @Setup(Level.Invocation)
+        public void setup(OrmReadBenchmark benchmark) {
+            benchmark.session.getIdentityMapAccessor().initializeIdentityMap(Employee.class);
+        }
+    }
+
+    /**
+     * Read all the employees with an empty cache, selecting and building each of them into the cache.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Object readAllQuery(EmptyCache cache) {
+        return this.session.executeQuery(new ReadAllQuery(Employee.class));
+    }
+
+    /**
+     * Build an employee from its row, without the cache.
+     */
+    @Benchmark
+    public Object buildObject() {
+        ObjectBuilder objectBuilder = this.buildQuery.getDescriptor().getObjectBuilder();
+        return objectBuilder.buildObject(this.buildQuery, this.rows.get(nextId() - 1));
+    }
+
+    /**
+     * Employees whose addresses are not instantiated, for each invocation.
+     */
+    @State(Scope.Benchmark)
+    public static class LazyEmployees {
+        List<Employee> employees;
+
+        @Setup(Level.Invocation)
+        public void setup(OrmReadBenchmark benchmark) {
+            ReadAllQuery query = new ReadAllQuery(Employee.class);
+            query.setSelectionCriteria(query.getExpressionBuilder().get("id").lessThanEqual(LAZY_EMPLOYEES));
+            query.dontMaintainCache();
+            this.employees = (List<Employee>) benchmark.session.executeQuery(query);
+        }
+    }
+
+    /**
+     * Instantiate the lazy address value holder of an employee, the address being in the shared cache.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LAZY_EMPLOYEES)
+    public void instantiateValueHolder(LazyEmployees lazyEmployees, Blackhole blackhole) {
+        for (Employee employee : lazyEmployees.employees) {
+            blackhole.consume(employee.getAddress());
+        }
+    }
+}
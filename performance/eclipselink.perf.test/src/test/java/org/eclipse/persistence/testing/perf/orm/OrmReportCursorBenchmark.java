@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.orm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.CursoredStream;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.testing.perf.orm.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of a report query scanning all the employees through a cursor,
+ * with and without reusing a single row for the rows of the result set.
+ * The allocation rate is reported by the GC profiler of the suite.
+ *
+ * @see OrmBenchmarks
+ * @see ReportQuery#setShouldReuseRowBuffer(boolean)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrmReportCursorBenchmark {
+
+    @Param({"false", "true"})
+    public boolean reuseRowBuffer;
+
+    private DatabaseSessionImpl session;
+
+    @Setup
+    public void setup() {
+        this.session = OrmDatabase.login("report" + this.reuseRowBuffer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.session.logout();
+    }
+
+    /**
+     * Read the names and salaries of all the employees through a cursored stream.
+     */
+    @Benchmark
+    public void readCursor(Blackhole blackhole) {
+        ReportQuery query = new ReportQuery(Employee.class, new ExpressionBuilder());
+        query.addAttribute("firstName");
+        query.addAttribute("lastName");
+        query.addAttribute("salary");
+        query.returnWithoutReportQueryResult();
+        query.setShouldReuseRowBuffer(this.reuseRowBuffer);
+        query.useCursoredStream(1000, 1000);
+        CursoredStream stream = (CursoredStream) this.session.executeQuery(query);
+        try {
+            while (stream.hasNext()) {
+                blackhole.consume(stream.next());
+            }
+        } finally {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.orm;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.internal.helper.VirtualThreads;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.perf.orm.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Stress benchmark of a server session with many concurrent transactions, each on its own thread,
+ * sharing a small connection pool.
+ * <p>
+ * With virtualThreads the session is in virtual threads mode and the transactions run on virtual threads,
+ * on JDKs without virtual threads they run on platform threads and only the session mode differs.
+ *
+ * @see OrmBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrmVirtualThreadsBenchmark {
+
+    /** The number of concurrent transactions of each invocation. */
+    public static final int TRANSACTIONS = 10000;
+
+    /** The number of connections of the pool. */
+    public static final int CONNECTIONS = 32;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ServerSession session;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        this.session = OrmDatabase.loginServerSession("threads" + this.virtualThreads, CONNECTIONS, this.virtualThreads);
+        if (this.virtualThreads) {
+            this.executor = VirtualThreads.newThreadPerTaskExecutor("transaction-");
+        }
+        if (this.executor == null) {
+            this.executor = Executors.newCachedThreadPool();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.executor.shutdownNow();
+        this.session.logout();
+    }
+
+    /**
+     * Increment the rank of an employee.
+     */
+    private void transaction(long id) {
+        UnitOfWork uow = this.session.acquireClientSession().acquireUnitOfWork();
+        ReadObjectQuery query = new ReadObjectQuery(Employee.class);
+        query.setSelectionId(id);
+        Employee employee = (Employee) uow.executeQuery(query);
+        employee.setRank(employee.getRank() + 1);
+        uow.commit();
+        uow.getParent().release();
+    }
+
+    /**
+     * Commit concurrently a transaction on each of the employees.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTIONS)
+    public void concurrentTransactions() throws Exception {
+        CountDownLatch done = new CountDownLatch(TRANSACTIONS);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        for (int index = 0; index < TRANSACTIONS; index++) {
+            long id = (index % OrmDatabase.EMPLOYEES) + 1;
+            this.executor.execute(() -> {
+                try {
+                    transaction(id);
+                } catch (RuntimeException exception) {
+                    failure.compareAndSet(null, exception);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.orm;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.MergeManager;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.perf.orm.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks of the write paths of the ORM: unit of work commits of batches of objects,
+ * and the merge of a change set into the shared cache.
+ *
+ * @see OrmBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrmWriteBenchmark {
+
+    /** The number of objects written by each commit. */
+    public static final int BATCH = 100;
+
+    private DatabaseSessionImpl session;
+
+    /** The id of the next new employee. */
+    private long nextNewId = OrmDatabase.EMPLOYEES + 1;
+
+    /** The first id of the next batch of updated employees. */
+    private int nextUpdateId = 1;
+
+    /** Changes of a batch of updated employees. */
+    private UnitOfWorkChangeSet changeSet;
+
+    @Setup
+    public void setup() {
+        this.session = OrmDatabase.login("write");
+        this.session.executeQuery(new ReadAllQuery(Employee.class));
+        UnitOfWork uow = this.session.acquireUnitOfWork();
+        for (Object employee : (List<?>) uow.executeQuery(batchQuery(1))) {
+            ((Employee) employee).setRank(((Employee) employee).getRank() + 1);
+        }
+        uow.commit();
+        this.changeSet = (UnitOfWorkChangeSet) uow.getUnitOfWorkChangeSet();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.session.logout();
+    }
+
+    private ReadAllQuery batchQuery(long firstId) {
+        ReadAllQuery query = new ReadAllQuery(Employee.class);
+        query.setSelectionCriteria(query.getExpressionBuilder().get("id").between(firstId, firstId + BATCH - 1));
+        return query;
+    }
+
+    private List<Employee> newEmployees() {
+        List<Employee> employees = new ArrayList<>(BATCH);
+        for (int index = 0; index < BATCH; index++) {
+            employees.add(OrmDatabase.newEmployee(this.nextNewId++));
+        }
+        return employees;
+    }
+
+    /**
+     * Insert a batch of employees and their addresses.
+     */
+    @Benchmark
+    public void commitInsert() {
+        UnitOfWork uow = this.session.acquireUnitOfWork();
+        for (Employee employee : newEmployees()) {
+            uow.registerNewObject(employee.getAddress());
+            uow.registerNewObject(employee);
+        }
+        uow.commit();
+    }
+
+    /**
+     * Update the salary of a batch of cached employees.
+     */
+    @Benchmark
+    public void commitUpdate() {
+        int firstId = this.nextUpdateId;
+        this.nextUpdateId = (firstId + BATCH > OrmDatabase.EMPLOYEES) ? 1 : firstId + BATCH;
+        UnitOfWork uow = this.session.acquireUnitOfWork();
+        for (Object employee : (List<?>) uow.executeQuery(batchQuery(firstId))) {
+            ((Employee) employee).setSalary(((Employee) employee).getSalary().add(BigDecimal.ONE));
+        }
+        uow.commit();
+    }
+
+    /**
+     * Batch of new employees committed for each invocation.
+     */
+    @State(Scope.Benchmark)
+    public static class InsertedEmployees {
+        List<Employee> employees;
+
+        @Setup(Level.Invocation)
+        public void setup(OrmWriteBenchmark benchmark) {
+            this.employees = benchmark.newEmployees();
+            UnitOfWork uow = benchmark.session.acquireUnitOfWork();
+            for (Employee employee : this.employees) {
+                uow.registerNewObject(employee.getAddress());
+                uow.registerNewObject(employee);
+            }
+            uow.commit();
+        }
+    }
+
+    /**
+     * Delete a batch of employees and their addresses.
+     */
+    @Benchmark
+    public void commitDelete(InsertedEmployees inserted) {
+        UnitOfWork uow = this.session.acquireUnitOfWork();
+        for (Employee employee : inserted.employees) {
+            uow.deleteObject(employee);
+            uow.deleteObject(employee.getAddress());
+        }
+        uow.commit();
+    }
+
+    /**
+     * Merge the changes of a batch of updated employees into the shared cache,
+     * as done when receiving them through cache coordination.
+     */
+    @Benchmark
+    public void mergeIntoSharedCache() {
+        MergeManager manager = new MergeManager(this.session);
+        manager.mergeIntoDistributedCache();
+        manager.setCascadePolicy(MergeManager.CASCADE_ALL_PARTS);
+        manager.mergeChangesFromChangeSet(this.changeSet);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.orm.model;
+
+/**
+ * Address of an employee, lazily referenced.
+ */
+public class Address {
+    private long id;
+    private String street;
+    private String city;
+    private String postalCode;
+
+    public Address() {
+    }
+
+    public Address(long id, String street, String city, String postalCode) {
+        this.id = id;
+        this.street = street;
+        this.city = city;
+        this.postalCode = postalCode;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+}
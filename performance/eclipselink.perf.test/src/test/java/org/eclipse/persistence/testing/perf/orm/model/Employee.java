@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.orm.model;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.indirection.ValueHolder;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+
+/**
+ * Employee with basic attributes and a lazy address.
+ */
+public class Employee {
+    private long id;
+    private String firstName;
+    private String lastName;
+    private BigDecimal salary;
+    private int rank;
+    private ValueHolderInterface<Address> address = new ValueHolder<>();
+
+    public Employee() {
+    }
+
+    public Employee(long id, String firstName, String lastName, BigDecimal salary, int rank) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.salary = salary;
+        this.rank = rank;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public BigDecimal getSalary() {
+        return salary;
+    }
+
+    public void setSalary(BigDecimal salary) {
+        this.salary = salary;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public Address getAddress() {
+        return address.getValue();
+    }
+
+    public void setAddress(Address address) {
+        this.address.setValue(address);
+    }
+
+    public boolean isAddressInstantiated() {
+        return address.isInstantiated();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.orm.model;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.tools.schemaframework.TableDefinition;
+
+/**
+ * Mappings of the ORM benchmark model, defined in code so no weaving is required.
+ */
+public class OrmProject extends Project {
+
+    public OrmProject(DatabaseLogin login) {
+        setName("OrmBenchmark");
+        setDatasourceLogin(login);
+        addDescriptor(buildAddressDescriptor());
+        addDescriptor(buildEmployeeDescriptor());
+    }
+
+    protected RelationalDescriptor buildAddressDescriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Address.class);
+        descriptor.setTableName("ORM_ADDRESS");
+        descriptor.addPrimaryKeyFieldName("ORM_ADDRESS.ID");
+        descriptor.addDirectMapping("id", "ORM_ADDRESS.ID");
+        descriptor.addDirectMapping("street", "ORM_ADDRESS.STREET");
+        descriptor.addDirectMapping("city", "ORM_ADDRESS.CITY");
+        descriptor.addDirectMapping("postalCode", "ORM_ADDRESS.POSTAL_CODE");
+        return descriptor;
+    }
+
+    protected RelationalDescriptor buildEmployeeDescriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("ORM_EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("ORM_EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "ORM_EMPLOYEE.ID");
+        descriptor.addDirectMapping("firstName", "ORM_EMPLOYEE.F_NAME");
+        descriptor.addDirectMapping("lastName", "ORM_EMPLOYEE.L_NAME");
+        descriptor.addDirectMapping("salary", "ORM_EMPLOYEE.SALARY");
+        descriptor.addDirectMapping("rank", "ORM_EMPLOYEE.RANK");
+
+        OneToOneMapping addressMapping = new OneToOneMapping();
+        addressMapping.setAttributeName("address");
+        addressMapping.setReferenceClass(Address.class);
+        addressMapping.useBasicIndirection();
+        addressMapping.addForeignKeyFieldName("ORM_EMPLOYEE.ADDRESS_ID", "ORM_ADDRESS.ID");
+        descriptor.addMapping(addressMapping);
+        return descriptor;
+    }
+
+    public static TableDefinition buildAddressTable() {
+        TableDefinition table = new TableDefinition();
+        table.setName("ORM_ADDRESS");
+        table.addPrimaryKeyField("ID", Long.class);
+        table.addField("STREET", String.class, 60);
+        table.addField("CITY", String.class, 40);
+        table.addField("POSTAL_CODE", String.class, 10);
+        return table;
+    }
+
+    public static TableDefinition buildEmployeeTable() {
+        TableDefinition table = new TableDefinition();
+        table.setName("ORM_EMPLOYEE");
+        table.addPrimaryKeyField("ID", Long.class);
+        table.addField("F_NAME", String.class, 40);
+        table.addField("L_NAME", String.class, 40);
+        table.addField("SALARY", BigDecimal.class, 15, 2);
+        table.addField("RANK", Integer.class);
+        table.addField("ADDRESS_ID", Long.class);
+        return table;
+    }
+}
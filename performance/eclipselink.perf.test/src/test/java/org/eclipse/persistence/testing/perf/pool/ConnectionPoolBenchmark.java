@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.pool;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.NonBlockingConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Contention benchmark for connection pool acquire/release.
+ * Many threads compete for a pool smaller than the number of threads,
+ * connections are stubbed so only the pool's allocation path is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConnectionPoolBenchmark {
+
+    public static final int THREADS = 64;
+    public static final int POOL_SIZE = 16;
+
+    @Param({"blocking", "non-blocking"})
+    public String poolType;
+
+    /** Amount of work done while holding a connection. */
+    @Param({"0", "100"})
+    public int work;
+
+    private ServerSession session;
+    private ConnectionPool pool;
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login = new DatabaseLogin();
+        this.session = (ServerSession) new Project(login).createServerSession(POOL_SIZE, POOL_SIZE);
+        if ("non-blocking".equals(this.poolType)) {
+            this.pool = new NonBlockingConnectionPool("benchmark", login, POOL_SIZE, POOL_SIZE, POOL_SIZE, this.session) {
+                @Override
+                protected Accessor buildConnection() {
+                    return buildStubConnection(this);
+                }
+            };
+        } else {
+            this.pool = new ConnectionPool("benchmark", login, POOL_SIZE, POOL_SIZE, POOL_SIZE, this.session) {
+                @Override
+                protected Accessor buildConnection() {
+                    return buildStubConnection(this);
+                }
+            };
+        }
+        this.pool.setWaitTimeout(0);
+        this.pool.startUp();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.pool.resetConnections();
+    }
+
+    /**
+     * Build an accessor that is never connected, so no database is required.
+     */
+    static Accessor buildStubConnection(ConnectionPool pool) {
+        DatabaseAccessor accessor = new DatabaseAccessor();
+        accessor.setPool(pool);
+        return accessor;
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public void testAcquireRelease(Blackhole bh) {
+        Accessor connection = this.pool.acquireConnection();
+        try {
+            Blackhole.consumeCPU(this.work);
+            bh.consume(connection);
+        } finally {
+            this.pool.releaseConnection(connection);
+        }
+    }
+}